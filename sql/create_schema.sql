@@ -27,6 +27,20 @@ CREATE INDEX IF NOT EXISTS idx_performance_tests_status ON performance_tests(sta
 CREATE INDEX IF NOT EXISTS idx_performance_tests_start_time ON performance_tests(start_time DESC);
 CREATE INDEX IF NOT EXISTS idx_performance_tests_created_at ON performance_tests(created_at DESC);
 
+-- AIDEV-NOTE: 테스트 이력 키셋 페이지 조회용 (ORDER BY start_time DESC, test_id DESC)
+-- 상태 필터가 없으면 종료된 테스트만 조회하므로 부분 인덱스로 구성
+CREATE INDEX IF NOT EXISTS idx_performance_tests_history
+    ON performance_tests(start_time DESC, test_id DESC)
+    WHERE status IN ('COMPLETED', 'FAILED', 'CANCELLED');
+CREATE INDEX IF NOT EXISTS idx_performance_tests_plan_history
+    ON performance_tests(plan_id, start_time DESC, test_id DESC)
+    WHERE status IN ('COMPLETED', 'FAILED', 'CANCELLED');
+CREATE INDEX IF NOT EXISTS idx_performance_tests_run_type_history
+    ON performance_tests(run_type, start_time DESC, test_id DESC)
+    WHERE status IN ('COMPLETED', 'FAILED', 'CANCELLED');
+CREATE INDEX IF NOT EXISTS idx_performance_tests_status_history
+    ON performance_tests(status, start_time DESC, test_id DESC);
+
 -- 2. 테스트 결과 요약 테이블
 CREATE TABLE IF NOT EXISTS test_results_summary (
     test_id VARCHAR(100) PRIMARY KEY,
@@ -72,6 +86,18 @@ CREATE TABLE IF NOT EXISTS test_metrics_history (
 CREATE INDEX IF NOT EXISTS idx_test_metrics_history_test_id ON test_metrics_history(test_id);
 CREATE INDEX IF NOT EXISTS idx_test_metrics_history_timestamp ON test_metrics_history(test_id, timestamp DESC);
 
+-- AIDEV-NOTE: 완료된 테스트 결과 번들 (gzip 압축된 JSON, 결과 저장 시 1회 생성)
+-- etag는 압축 전 JSON의 SHA-256
+CREATE TABLE IF NOT EXISTS test_result_bundles (
+    test_id VARCHAR(100) PRIMARY KEY,
+    etag VARCHAR(64) NOT NULL,
+    content BYTEA NOT NULL,
+    content_size INTEGER NOT NULL,
+    compressed_size INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (test_id) REFERENCES performance_tests(test_id) ON DELETE CASCADE
+);
+
 -- 4. 테스트 에러 로그 테이블
 CREATE TABLE IF NOT EXISTS test_error_logs (
     id BIGSERIAL PRIMARY KEY,
@@ -130,8 +156,75 @@ CREATE TABLE IF NOT EXISTS test_comparisons (
     compare_test_id VARCHAR(100) NOT NULL,
     comparison_result JSONB,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    FOREIGN KEY (base_test_id) REFERENCES performance_tests(test_id),
-    FOREIGN KEY (compare_test_id) REFERENCES performance_tests(test_id)
+    FOREIGN KEY (base_test_id) REFERENCES performance_tests(test_id) ON DELETE CASCADE,
+    FOREIGN KEY (compare_test_id) REFERENCES performance_tests(test_id) ON DELETE CASCADE
+);
+
+-- AIDEV-NOTE: 기준/비교 테스트 쌍으로 저장된 비교 결과 조회
+CREATE INDEX IF NOT EXISTS idx_test_comparisons_pair ON test_comparisons(base_test_id, compare_test_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_test_comparisons_compare ON test_comparisons(compare_test_id);
+
+-- 7-1. 회귀 판정 기준 테스트 (시험 계획/실행 유형별 1건)
+-- AIDEV-NOTE: thresholds는 기본 임계값(performance-test.regression-gate)을 덮어쓰는 값만 저장
+CREATE TABLE IF NOT EXISTS test_baselines (
+    id BIGSERIAL PRIMARY KEY,
+    plan_id BIGINT NOT NULL,
+    run_type VARCHAR(50) NOT NULL,
+    test_id VARCHAR(100) NOT NULL,
+    thresholds JSONB,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (plan_id, run_type),
+    FOREIGN KEY (test_id) REFERENCES performance_tests(test_id) ON DELETE CASCADE
+);
+
+-- 7-2. 테스트별 회귀 판정 결과 (PASSED, FAILED, NO_BASELINE, ERROR)
+CREATE TABLE IF NOT EXISTS test_regression_verdicts (
+    test_id VARCHAR(100) PRIMARY KEY,
+    baseline_test_id VARCHAR(100),
+    comparison_id BIGINT,
+    verdict VARCHAR(20) NOT NULL,
+    violations JSONB,
+    message VARCHAR(500),
+    evaluated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (test_id) REFERENCES performance_tests(test_id) ON DELETE CASCADE
+);
+
+-- 7-3. 시험 계획 추이 분석용 실행 요약 (완료된 테스트 1건당 1행, 결과 저장 시 갱신)
+-- AIDEV-NOTE: 추이 조회는 plan_id + 부하 수준(max_users) 파티션의 윈도 함수로 계산
+-- 인덱스 순서가 PARTITION BY max_users ORDER BY start_time, test_id와 같아 정렬 없이 스캔
+CREATE TABLE IF NOT EXISTS plan_run_summaries (
+    test_id VARCHAR(100) PRIMARY KEY,
+    plan_id BIGINT NOT NULL,
+    run_type VARCHAR(50),
+    start_time TIMESTAMP NOT NULL,
+    max_users INTEGER NOT NULL,
+    total_requests BIGINT,
+    error_rate DOUBLE PRECISION,
+    avg_response_time DOUBLE PRECISION,
+    p95_response_time DOUBLE PRECISION,
+    p99_response_time DOUBLE PRECISION,
+    avg_tps DOUBLE PRECISION,
+    peak_tps DOUBLE PRECISION,
+    tps_per_user DOUBLE PRECISION,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (test_id) REFERENCES performance_tests(test_id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_plan_run_summaries_trend
+    ON plan_run_summaries(plan_id, max_users, start_time, test_id);
+CREATE INDEX IF NOT EXISTS idx_plan_run_summaries_run_type
+    ON plan_run_summaries(plan_id, run_type, max_users, start_time, test_id);
+
+-- 7-4. 용량 탐색 결과 (CAPACITY_SEARCH 테스트 1건당 1행, 구간마다 갱신)
+-- AIDEV-NOTE: result에는 구간별 결과와 처리량 곡선을 포함한 CapacitySearchResult JSON 저장
+CREATE TABLE IF NOT EXISTS test_capacity_searches (
+    test_id VARCHAR(100) PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    sustainable_users INTEGER,
+    knee_users INTEGER,
+    result JSONB,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (test_id) REFERENCES performance_tests(test_id) ON DELETE CASCADE
 );
 
 -- 테이블 코멘트 추가
@@ -142,6 +235,8 @@ COMMENT ON TABLE test_error_logs IS '테스트 중 발생한 에러 로그';
 COMMENT ON TABLE test_endpoint_stats IS 'API 엔드포인트별 성능 통계';
 COMMENT ON TABLE test_scenarios IS '재사용 가능한 테스트 시나리오 설정';
 COMMENT ON TABLE test_comparisons IS '테스트 간 비교 분석 결과';
+COMMENT ON TABLE plan_run_summaries IS '시험 계획 추이 분석용 실행 요약';
+COMMENT ON TABLE test_capacity_searches IS '용량 탐색 구간별 결과와 최대 지속 가능 사용자 수';
 
 -- 권한 부여
 GRANT SELECT, INSERT, UPDATE, DELETE ON ALL TABLES IN SCHEMA public TO postgres;
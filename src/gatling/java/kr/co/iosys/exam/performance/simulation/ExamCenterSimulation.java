@@ -8,17 +8,32 @@ import static io.gatling.javaapi.core.CoreDsl.*;
 import static io.gatling.javaapi.http.HttpDsl.*;
 import static io.gatling.javaapi.jdbc.JdbcDsl.*;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.JsonNode;
+import kr.co.iosys.exam.performance.dto.CompactRoster;
+import kr.co.iosys.exam.performance.dto.ScenarioDefinition;
+import kr.co.iosys.exam.performance.dto.ScenarioMix;
+import kr.co.iosys.exam.performance.dto.ScenarioMix.Population;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.*;
-import java.sql.*;
-import java.text.SimpleDateFormat;
 
 /**
  * AIDEV-NOTE: Gatling 성능 테스트 시뮬레이션
  * PostgreSQL DB에서 사용자 조회 후 WebSocket 통신 테스트
  * 시스템 속성: plan_id, run_type, user_count 지원
+ * 시나리오 구성 (test.scenario + test.mix, ScenarioMix)
+ * - NORMAL_USER (기본): 수험자 시나리오만
+ * - PROCTOR_FANOUT: 감독관이 먼저 자기 그룹을 구독한 뒤 수험자 시나리오 실행, 수험자 STATUS_MSG가 감독관에게 도착하기까지의
+ *   전파 지연을 별도 지표로 측정 (PropagationProbe)
+ * - EXAM_SOAK: 시험 시간(test.examDurationMinutes) 동안 연결을 유지하며 진행 상태를 주기적으로 전송,
+ *   연결 끊김률과 시간대별 응답 지연 변화를 별도 지표로 측정 (SoakMonitor)
+ * - TRACE_REPLAY: 기록된 운영 트레이스(test.traceFile)의 세션 도착과 이벤트 간격을 그대로(또는 N배속으로) 재생 (TraceReplay)
+ * - EXAM_HERD: 모두 접속한 뒤 배리어에서 기다렸다가 같은 순간에 시험 시작, 일정 시간 후 같은 순간에 제출 (HerdBarrier)
+ *   집단 구간은 요청 이름을 따로 두어(집단 시험 시작/제출) 나머지 구간과 구분하고, 배리어별 구간 지표를 별도 파일로 저장
+ * - RECONNECT_STORM: 진행 상태를 보내던 연결 일부를 같은 순간에 끊고 클라이언트 백오프 정책으로 재연결,
+ *   재연결 성공률/처리량 회복 시간/지연 급증을 별도 지표로 측정 (StormMonitor)
+ * - DEFINED: test_scenarios에 저장한 정의(ScenarioDefinition)를 시작 시 한 번 체인으로 컴파일하여 실행 (ScenarioCompiler)
+ * - MIX: 수험자/지각 수험자/장시간 수험자/트레이스 재생/집단 시작/재연결 폭주/정의 시나리오 수험자/감독관/관리자를 가중치대로 섞어 한 번에 실행, 모집단마다 별도 주입과 시나리오
+ *   모집단이 둘 이상이면 모집단 이름의 그룹으로 감싸 리포트(stats.json)에서 모집단별로 구분
  */
 public class ExamCenterSimulation extends Simulation {
 
@@ -26,164 +41,157 @@ public class ExamCenterSimulation extends Simulation {
     private static final String PLAN_ID = System.getProperty("plan_id", "1");
     private static final String RUN_TYPE = System.getProperty("run_type", "TEST");
     private static final int USER_COUNT = Integer.parseInt(System.getProperty("user_count", "10"));
-    
-    private static final String DB_URL = "jdbc:postgresql://192.168.100.105:5432/exam_db";
-    private static final String DB_USER = "postgres";
-    private static final String DB_PASSWORD = "postgres";
-    
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-    
+    private static final InjectionProfile LOAD_PROFILE = InjectionProfile.fromSystemProperties(USER_COUNT);
+    private static final ScenarioMix MIX = ScenarioMix.parse(testProperty("scenario", ScenarioMix.NORMAL_USER),
+        testProperty("mix", null));
+    private static final Map<String, String> ROLE_CONFIG = roleConfig();
+
+    // 수험자 명단 (서버가 써 둔 스냅샷 또는 DB 서버 측 커서로 조회, 압축 저장 - ExamineeRoster 참고)
+    private static final CompactRoster ROSTER = ExamineeRoster.fromSystemProperties(Integer.parseInt(PLAN_ID), RUN_TYPE);
+    // 도착형 수험자 모집단이 모두 같은 피더를 나눠 씀 (같은 수험자가 동시에 두 번 접속하지 않도록)
+    private static final ExamineeFeeder EXAMINEE_FEEDER = ExamineeFeeder.fromSystemProperties(ROSTER);
+
+    /**
+     * AIDEV-NOTE: 장시간 수험자(soak) 설정 - 증가 구간 동안 한 번씩 접속하여 시험 시간 동안 연결 유지
+     * - test.examDurationMinutes: 연결 유지 시간 (기본 60분)
+     * - test.heartbeatSeconds: 진행 상태(TEST_0 진행 중) 전송 간격 (기본 30초, 가상 사용자마다 ±20% 분산)
+     * - test.soakIntervalSeconds: 지연 변화 집계 구간 (기본 300초), test.soakReport: 결과 파일 (서버가 지정)
+     * - test.localAddresses: 연결에 쓸 로컬 IP 목록 (쉼표 구분, 대상 포트 하나당 IP별 임시 포트 수 제한을 넘는 연결 수용)
+     * 발생기 튜닝: 대기 중인 연결은 타이머만 차지하도록 유지 구간에서는 pause만 쓰고, 쓰지 않는 피더 값은 세션에서 제거
+     * 힙은 test.generatorHeap(build.gradle, 기본 1024m), 5만 연결 기준 2g 이상과 ulimit -n 65536 이상 권장
+     */
+    private static final long EXAM_SECONDS = Math.round(Double.parseDouble(testProperty("examDurationMinutes", "60")) * 60);
+    private static final double HEARTBEAT_SECONDS = Double.parseDouble(testProperty("heartbeatSeconds", "30"));
+    private static final List<String> LOCAL_ADDRESSES = localAddresses();
+    private static final SoakMonitor SOAK = MIX.contains(Population.SOAK_EXAMINEE)
+        ? new SoakMonitor(Long.parseLong(testProperty("soakIntervalSeconds", "300")), EXAM_SECONDS, HEARTBEAT_SECONDS)
+        : null;
+
+    // 트레이스 재생 (test.traceFile: 세션 시작 순 JSON Lines, test.replaySpeed: 재생 배속, 기본 1.0) - 시작 시 도착 수만 훑음
+    private static final TraceReplay REPLAY = MIX.contains(Population.TRACE_REPLAY)
+        ? TraceReplay.scan(Path.of(testProperty("traceFile", "trace.jsonl")),
+            Double.parseDouble(testProperty("replaySpeed", "1")), RUN_TYPE, Integer.parseInt(PLAN_ID))
+        : null;
+
+    /**
+     * AIDEV-NOTE: 집단 시작 수험자 설정 - 증가 구간 동안 로그인/연결/SYSTEM_CHECK 후 배리어에서 대기
+     * - test.herdTimeoutSeconds: 첫 도착 후 최대 대기 (기본 120초, 지나면 도착한 인원만으로 해제)
+     * - test.herdExamSeconds: 시작 후 제출까지 (기본 60초), 제출도 배리어로 맞춤 (시작 배리어를 통과한 인원 기준)
+     * - test.herdStartAt: 시작 배리어 고정 해제 시각 (epoch ms, 여러 발생기를 같은 순간에 맞출 때)
+     * - test.herdReport: 결과 파일 (서버가 지정)
+     */
+    private static final long HERD_EXAM_SECONDS = Long.parseLong(testProperty("herdExamSeconds", "60"));
+    private static final Duration HERD_TIMEOUT = Duration.ofSeconds(Long.parseLong(testProperty("herdTimeoutSeconds", "120")));
+    private static final HerdBarrier HERD_START = MIX.contains(Population.HERD_EXAMINEE)
+        ? new HerdBarrier("시험 시작", HERD_TIMEOUT, Long.parseLong(testProperty("herdStartAt", "0")))
+        : null;
+    private static final HerdBarrier HERD_END = MIX.contains(Population.HERD_EXAMINEE)
+        ? new HerdBarrier("시험 제출", HERD_TIMEOUT, 0L)
+        : null;
+
+    /**
+     * AIDEV-NOTE: 재연결 폭주 수험자 설정 - 증가 구간 동안 접속, 증가+유지 구간 끝까지 진행 상태 전송
+     * - test.stormFraction: 끊을 연결 비율 (기본 0.3), test.stormAtSeconds: 첫 사용자 시작 후 폭주 시각 (기본 증가 구간 + 유지 구간 절반)
+     * - test.stormHeartbeatSeconds: 진행 상태 전송 간격 (기본 5초, 처리량 회복을 초 단위로 보기 위해 장시간 수험자보다 짧게)
+     * - test.stormIntervalSeconds / test.stormBaselineSeconds: 처리량 집계 구간 (기본 1초) / 폭주 직전 기준 구간 (기본 30초)
+     * - 재연결 정책: test.reconnectInitialMillis(1000) × test.reconnectMultiplier(2)^시도, 최대 test.reconnectMaxMillis(30000),
+     *   지터 test.reconnectJitter(FULL/EQUAL/NONE, 기본 FULL), 최대 test.reconnectMaxAttempts(10)회 - 실제 수험 클라이언트 값으로 맞춤
+     * - test.stormReport: 결과 파일 (서버가 지정)
+     */
+    private static final long STORM_HEARTBEAT_MILLIS =
+        (long) (Double.parseDouble(testProperty("stormHeartbeatSeconds", "5")) * 1000);
+    private static final long STORM_RUN_MILLIS = LOAD_PROFILE.totalSeconds() * 1000;
+    private static final StormMonitor STORM = MIX.contains(Population.STORM_EXAMINEE)
+        ? new StormMonitor(
+            Duration.ofMillis((long) (Double.parseDouble(testProperty("stormAtSeconds",
+                String.valueOf(LOAD_PROFILE.getRampUpSeconds() + LOAD_PROFILE.getHoldSeconds() / 2))) * 1000)),
+            Double.parseDouble(testProperty("stormFraction", "0.3")),
+            Duration.ofMillis((long) (Double.parseDouble(testProperty("stormIntervalSeconds", "1")) * 1000)),
+            Duration.ofSeconds(Long.parseLong(testProperty("stormBaselineSeconds", "30"))),
+            Duration.ofMillis(Long.parseLong(testProperty("reconnectInitialMillis", "1000"))),
+            Duration.ofMillis(Long.parseLong(testProperty("reconnectMaxMillis", "30000"))),
+            Double.parseDouble(testProperty("reconnectMultiplier", "2")),
+            StormMonitor.jitter(testProperty("reconnectJitter", "FULL")),
+            Integer.parseInt(testProperty("reconnectMaxAttempts", "10")))
+        : null;
+
+    /**
+     * AIDEV-NOTE: 정의 시나리오 수험자 설정 - 서버가 쓴 버전별 정의 스냅샷(test.scenarioDefinition)을 시작 시 한 번 해석
+     * 잘못된 정의는 서버가 시작 전에 거르므로 여기서 실패하면 시뮬레이션 시작 실패
+     */
+    private static final ScenarioDefinition DEFINITION = MIX.contains(Population.DEFINED)
+        ? ScenarioCompiler.read(testProperty("definition", null), testProperty("scenarioDefinition", null))
+        : null;
+
+    /**
+     * AIDEV-NOTE: 상주형 모집단(감독관/관리자) 설정 - 시작 시 접속하여 수험자 부하가 끝날 때까지 유지
+     * - test.proctorRole / test.adminRole: 명단 group_role (기본 PROCTOR / ADMIN), 명단은 역할별 스냅샷 또는 DB
+     * - test.proctorSubscribeMessage: 연결 후 보낼 그룹 구독 메시지 (Gatling EL, NONE이면 보내지 않음 - 연결만으로 구독되는 경우)
+     * - test.proctorLeadSeconds: 감독관 연결/구독 후 도착형 모집단 주입까지 대기 (기본 10초)
+     * - test.residentTailSeconds: 도착형 주입 종료 후 상주형 유지 (기본 proctorTailSeconds 또는 30초, 마지막 수험자 시나리오가 끝날 때까지)
+     * - test.adminPollPath: 관리자가 주기적으로 조회하는 현황 API (Gatling EL), test.adminPollSeconds: 조회 간격 (기본 5초)
+     * - test.propagationReport: 전파 지연 결과 파일 (서버가 지정)
+     */
+    private static final CompactRoster PROCTOR_ROSTER = MIX.contains(Population.PROCTOR)
+        ? ExamineeRoster.fromSystemProperties(Integer.parseInt(PLAN_ID), RUN_TYPE,
+            Population.PROCTOR.role(ROLE_CONFIG), Population.PROCTOR.getSnapshotKey())
+        : null;
+    private static final CompactRoster ADMIN_ROSTER = MIX.contains(Population.ADMIN)
+        ? ExamineeRoster.fromSystemProperties(Integer.parseInt(PLAN_ID), RUN_TYPE,
+            Population.ADMIN.role(ROLE_CONFIG), Population.ADMIN.getSnapshotKey())
+        : null;
+    private static final String PROCTOR_SUBSCRIBE_MESSAGE = testProperty("proctorSubscribeMessage",
+        "{\"name\":\"SUBSCRIBE_GROUP\",\"from\":\"#{userId}\",\"to\":[],\"payload\":{\"planId\":" + PLAN_ID
+            + ",\"runType\":\"" + RUN_TYPE + "\",\"groupId\":#{groupId}}}");
+    private static final long PROCTOR_LEAD_SECONDS = MIX.contains(Population.PROCTOR)
+        ? Long.parseLong(testProperty("proctorLeadSeconds", "10"))
+        : 0;
+    private static final long RESIDENT_TAIL_SECONDS = Long.parseLong(testProperty("residentTailSeconds",
+        testProperty("proctorTailSeconds", "30")));
+    private static final long RESIDENT_SECONDS = PROCTOR_LEAD_SECONDS + arrivalSeconds() + RESIDENT_TAIL_SECONDS;
+    private static final String ADMIN_POLL_PATH = testProperty("adminPollPath",
+        "/api/exam/plans/" + PLAN_ID + "/progress?runType=" + RUN_TYPE);
+    private static final double ADMIN_POLL_SECONDS = Double.parseDouble(testProperty("adminPollSeconds", "5"));
+    private static final PropagationProbe PROBE = MIX.contains(Population.PROCTOR)
+        ? new PropagationProbe(Integer.parseInt(testProperty("generatorIndex", "0")))
+        : null;
+
     // HTTP 설정
-    private HttpProtocolBuilder httpProtocol = http
+    private HttpProtocolBuilder httpProtocol = withLocalAddresses(http
         .baseUrl("http://localhost:8091")
         .acceptHeader("application/json")
         .contentTypeHeader("application/json")
-        .userAgentHeader("Gatling/시험센터");
-    
+        .userAgentHeader("Gatling/시험센터"));
+
     // WebSocket 설정
     private HttpProtocolBuilder wsProtocol = http
         .baseUrl("ws://localhost:8099");
 
     /**
-     * AIDEV-NOTE: PostgreSQL DB에서 exam_users 조회
-     * plan_id, run_type 기반으로 사용자 데이터 생성
+     * AIDEV-NOTE: STATUS_MSG 템플릿 (기존 multi-user-performance-test.js와 동일한 형식)
+     * 고정 부분은 시뮬레이션 로드 시 한 번만 만들고, sendText 시점에 userId/시각만 채워 생성
+     * 생성한 메시지는 세션에 저장하지 않음 (가상 사용자별 힙 사용량 감소)
      */
-    private Iterator<Map<String, Object>> getUsersFromDB() {
-        List<Map<String, Object>> users = new ArrayList<>();
-        
-        // 동적 쿼리 생성
-        String query = """
-            SELECT 
-                egm.user_id,
-                eu.user_name,
-                eu.access_key
-            FROM exam_group_members egm
-            JOIN exam_users eu ON egm.user_id = eu.user_id AND egm.plan_id = eu.plan_id
-            WHERE egm.plan_id = ? 
-                AND egm.run_type = ?
-                AND egm.group_role = 'EXAMINEE'
-                AND eu.access_key IS NOT NULL
-            ORDER BY egm.user_id
-            LIMIT 10000
-        """;
-        
-        try (Connection conn = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
-             PreparedStatement stmt = conn.prepareStatement(query)) {
-            
-            // 동적 매개변수 설정
-            stmt.setInt(1, Integer.parseInt(PLAN_ID));
-            stmt.setString(2, RUN_TYPE);
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    Map<String, Object> user = new HashMap<>();
-                    user.put("userId", rs.getString("user_id"));
-                    user.put("userName", rs.getString("user_name"));
-                    user.put("accessKey", rs.getString("access_key"));
-                    users.add(user);
-                }
-            }
-        } catch (SQLException e) {
-            System.err.println("❌ 데이터베이스 조회 실패: " + e.getMessage());
-            e.printStackTrace();
-            throw new RuntimeException("데이터베이스 연결 실패. PostgreSQL 드라이버를 확인하세요.", e);
-        }
-        
-        System.out.printf("✅ 데이터베이스 연결 성공: plan_id=%s, run_type=%s, 사용자 수=%d\n", 
-                         PLAN_ID, RUN_TYPE, users.size());
-        
-        return users.iterator();
-    }
+    private static final StatusMessageTemplate SYSTEM_CHECK_MSG =
+        StatusMessageTemplate.of(RUN_TYPE, Integer.parseInt(PLAN_ID), "SYSTEM_CHECK", "1", false);
+    private static final StatusMessageTemplate INFO_START_MSG =
+        StatusMessageTemplate.of(RUN_TYPE, Integer.parseInt(PLAN_ID), "INFO_0", "1", false);
+    private static final StatusMessageTemplate INFO_COMPLETE_MSG =
+        StatusMessageTemplate.of(RUN_TYPE, Integer.parseInt(PLAN_ID), "INFO_0", "2", true);
+    private static final StatusMessageTemplate TEST_START_MSG =
+        StatusMessageTemplate.of(RUN_TYPE, Integer.parseInt(PLAN_ID), "TEST_0", "1", false);
+    private static final StatusMessageTemplate TEST_COMPLETE_MSG =
+        StatusMessageTemplate.of(RUN_TYPE, Integer.parseInt(PLAN_ID), "TEST_0", "2", true);
 
-    /**
-     * AIDEV-NOTE: STATUS_MSG 형식 준수
-     * 기존 multi-user-performance-test.js와 동일한 방식
-     */
-    private String createStatusMessage(String userId, String stageKey, String stat, boolean isComplete) {
-        java.util.Date now = new java.util.Date();
-        
-        Map<String, Object> message = new HashMap<>();
-        message.put("name", "STATUS_MSG");
-        message.put("from", userId.toString());
-        message.put("to", new ArrayList<>());
-        
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("mode", RUN_TYPE);
-        payload.put("taskType", "UPDATE_EXAM_PROGRESS");
-        payload.put("planId", Integer.parseInt(PLAN_ID));
-        payload.put("userId", userId.toString());
-        payload.put("runType", RUN_TYPE);
-        payload.put("stageKey", stageKey);
-        
-        Map<String, Object> value = new HashMap<>();
-        value.put("stat", stat);
-        value.put("starttime", formatDate(now));
-        
-        if (isComplete) {
-            value.put("endtime", formatDate(now));
-            value.put("endflag", "Y");
-            if ("TEST_0".equals(stageKey)) {
-                value.put("examstat", "2");
-            }
-        }
-        
-        payload.put("value", value);
-        message.put("payload", payload);
-        
-        Map<String, Object> meta = new HashMap<>();
-        meta.put("timestampCliente", System.currentTimeMillis());
-        meta.put("timestampLocal", System.currentTimeMillis());
-        
-        List<Map<String, Object>> traceList = new ArrayList<>();
-        Map<String, Object> trace = new HashMap<>();
-        trace.put("actor", "Gatling부하테스트");
-        trace.put("action", "전송");
-        trace.put("datetime", toISOString(now));
-        traceList.add(trace);
-        meta.put("traceList", traceList);
-        
-        message.put("meta", meta);
-        
-        try {
-            return objectMapper.writeValueAsString(message);
-        } catch (Exception e) {
-            return "{}";
-        }
-    }
-    
-    private String createStatusMessage(String userId, String stageKey, String stat) {
-        return createStatusMessage(userId, stageKey, stat, false);
-    }
-    
-    /**
-     * AIDEV-NOTE: 날짜 포맷 함수 - yyyyMMddHHmmss
-     */
-    private String formatDate(java.util.Date date) {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMddHHmmss");
-        return sdf.format(date);
-    }
-    
-    /**
-     * AIDEV-NOTE: ISO 8601 형식으로 변환
-     */
-    private String toISOString(java.util.Date date) {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
-        sdf.setTimeZone(java.util.TimeZone.getTimeZone("UTC"));
-        return sdf.format(date);
-    }
+    // STATUS_MSG 서버 응답 대기 (test.wsAckMode, 기본 ECHO - 응답 확인 이름으로 왕복 지연 기록)
+    // 감독관이 있으면 상관 ID를 traceList에 넣어 전송
+    private static final StatusExchange STATUS_EXCHANGE = StatusExchange.fromSystemProperties().withProbe(PROBE);
 
     /**
-     * AIDEV-NOTE: 주요 시나리오 - SYSTEM_CHECK → INFO_0 → TEST_0
-     * Security API 호출, WebSocket 연결, STATUS_MSG 전송 순서
+     * AIDEV-NOTE: 수험자 입장/퇴장 (수험자, 지각 수험자 공통)
+     * Security API 인증 후 WebSocket 연결, 끝나면 연결 종료 후 로그아웃
      */
-    private ScenarioBuilder normalUserScenario = scenario("일반 사용자 시나리오")
-        .feed(getUsersFromDB())
-        
-        // 사용자별 랜덤 시작 지연 (0~2000ms)
-        .pause(Duration.ofMillis(0), Duration.ofMillis(2000))
-        
-        // 1. Security API - Access Key 인증
-        .exec(
+    private ChainBuilder examineeEntry = exec(
             http("보안 인증 - 액세스키 로그인")
                 .post("/security/auth/keyLogin")
                 .body(StringBody("{\"access_key\": \"#{accessKey}\"}"))
@@ -192,105 +200,574 @@ public class ExamCenterSimulation extends Simulation {
                 .check(jsonPath("$.body.examUserId").optional().saveAs("examUserId"))
         )
         .pause(Duration.ofMillis(500), Duration.ofMillis(1500))
-        
-        // 2. WebSocket 연결
         .exec(ws("웹소켓 연결")
             .connect("ws://localhost:8099/ws?authToken=#{authToken}&runType=" + RUN_TYPE)
         )
-        .pause(Duration.ofMillis(100), Duration.ofMillis(500))
-        
-        // 3. STATUS_MSG 시퀀스
-        // 3-1. SYSTEM_CHECK
-        .exec(session -> {
-            String userId = session.getString("userId");
-            String msg = createStatusMessage(userId, "SYSTEM_CHECK", "1");
-            return session.set("systemCheckMsg", msg);
-        })
-        .exec(ws("시스템 체크 메시지 전송")
-            .sendText("#{systemCheckMsg}")
-        )
-        .pause(Duration.ofMillis(200), Duration.ofMillis(800))
-        
-        // 3-2. INFO_0 시작
-        .exec(session -> {
-            String userId = session.getString("userId");
-            String msg = createStatusMessage(userId, "INFO_0", "1");
-            return session.set("infoStartMsg", msg);
-        })
-        .exec(ws("안내사항 시작 메시지 전송")
-            .sendText("#{infoStartMsg}")
-        )
-        .pause(Duration.ofMillis(500), Duration.ofMillis(1500))
-        
-        // 3-3. INFO_0 완료
-        .exec(session -> {
-            String userId = session.getString("userId");
-            String msg = createStatusMessage(userId, "INFO_0", "2", true);
-            return session.set("infoCompleteMsg", msg);
-        })
-        .exec(ws("안내사항 완료 메시지 전송")
-            .sendText("#{infoCompleteMsg}")
-        )
-        .pause(Duration.ofMillis(300), Duration.ofMillis(1000))
-        
-        // 3-4. TEST_0 시작
-        .exec(session -> {
-            String userId = session.getString("userId");
-            String msg = createStatusMessage(userId, "TEST_0", "1");
-            return session.set("testStartMsg", msg);
-        })
-        .exec(ws("시험 시작 메시지 전송")
-            .sendText("#{testStartMsg}")
-        )
-        .pause(Duration.ofMillis(1000), Duration.ofMillis(3000))
-        
-        // 3-5. TEST_0 완료
-        .exec(session -> {
-            String userId = session.getString("userId");
-            String msg = createStatusMessage(userId, "TEST_0", "2", true);
-            return session.set("testCompleteMsg", msg);
-        })
-        .exec(ws("시험 완료 메시지 전송")
-            .sendText("#{testCompleteMsg}")
-        )
-        .pause(Duration.ofMillis(500), Duration.ofMillis(1500))
-        
-        // 4. WebSocket 종료
-        .exec(ws("웹소켓 연결 종료").close())
-        
-        // 5. Security API 로그아웃
+        .pause(Duration.ofMillis(100), Duration.ofMillis(500));
+
+    private ChainBuilder examineeExit = exec(ws("웹소켓 연결 종료").close())
         .exec(
             http("보안 로그아웃")
                 .post("/security/auth/logout")
                 .header("Authorization", "Bearer #{authToken}")
         );
 
+    /**
+     * AIDEV-NOTE: 주요 시나리오 - SYSTEM_CHECK → INFO_0 → TEST_0
+     * Security API 호출, WebSocket 연결, STATUS_MSG 전송 순서
+     */
+    private ScenarioBuilder normalUserScenario = scenario("일반 사용자 시나리오")
+        // 피더 전략은 test.feederStrategy (기본 순환 - 유지 구간 동안 계속 도착)
+        .feed(EXAMINEE_FEEDER)
+
+        // 사용자별 랜덤 시작 지연 (0~2000ms)
+        .pause(Duration.ofMillis(0), Duration.ofMillis(2000))
+        .exec(inGroup(Population.EXAMINEE,
+            // 1. Security API - Access Key 인증, 2. WebSocket 연결
+            exec(examineeEntry)
+
+            // 3. STATUS_MSG 시퀀스 (단계마다 서버 응답까지 대기)
+            // 3-1. SYSTEM_CHECK
+            .exec(STATUS_EXCHANGE.send("시스템 체크 메시지 전송", "시스템 체크 응답", SYSTEM_CHECK_MSG))
+            .pause(Duration.ofMillis(200), Duration.ofMillis(800))
+
+            // 3-2. INFO_0 시작
+            .exec(STATUS_EXCHANGE.send("안내사항 시작 메시지 전송", "안내사항 시작 응답", INFO_START_MSG))
+            .pause(Duration.ofMillis(500), Duration.ofMillis(1500))
+
+            // 3-3. INFO_0 완료
+            .exec(STATUS_EXCHANGE.send("안내사항 완료 메시지 전송", "안내사항 완료 응답", INFO_COMPLETE_MSG))
+            .pause(Duration.ofMillis(300), Duration.ofMillis(1000))
+
+            // 3-4. TEST_0 시작
+            .exec(STATUS_EXCHANGE.send("시험 시작 메시지 전송", "시험 시작 응답", TEST_START_MSG))
+            .pause(Duration.ofMillis(1000), Duration.ofMillis(3000))
+
+            // 3-5. TEST_0 완료
+            .exec(STATUS_EXCHANGE.send("시험 완료 메시지 전송", "시험 완료 응답", TEST_COMPLETE_MSG))
+            .pause(Duration.ofMillis(500), Duration.ofMillis(1500))
+
+            // 4. WebSocket 종료, 5. Security API 로그아웃
+            .exec(examineeExit)
+        ));
+
+    /**
+     * AIDEV-NOTE: 지각 수험자 시나리오 - 시험 진행 중 입장하여 안내사항 없이 SYSTEM_CHECK → TEST_0
+     * 재접속/늦은 입장이 몰릴 때 인증과 연결 처리를 따로 보기 위한 모집단
+     */
+    private ScenarioBuilder lateJoinerScenario() {
+        return scenario("지각 수험자 시나리오")
+            .feed(EXAMINEE_FEEDER)
+            .exec(inGroup(Population.LATE_JOINER,
+                exec(examineeEntry)
+                .exec(STATUS_EXCHANGE.send("시스템 체크 메시지 전송", "시스템 체크 응답", SYSTEM_CHECK_MSG))
+                .pause(Duration.ofMillis(200), Duration.ofMillis(800))
+                .exec(STATUS_EXCHANGE.send("시험 시작 메시지 전송", "시험 시작 응답", TEST_START_MSG))
+                .pause(Duration.ofMillis(1000), Duration.ofMillis(3000))
+                .exec(STATUS_EXCHANGE.send("시험 완료 메시지 전송", "시험 완료 응답", TEST_COMPLETE_MSG))
+                .pause(Duration.ofMillis(500), Duration.ofMillis(1500))
+                .exec(examineeExit)
+            ));
+    }
+
+    /**
+     * AIDEV-NOTE: 장시간 수험자 시나리오 - SYSTEM_CHECK → TEST_0 시작 후 시험 시간 동안 진행 상태 전송 → TEST_0 완료
+     * 진행 상태 전송이 실패하거나 응답이 제한 시간 안에 오지 않으면 끊긴 연결로 기록하고 종료
+     */
+    private ScenarioBuilder soakScenario() {
+        boolean timed = STATUS_EXCHANGE.getMode() != StatusExchange.AckMode.NONE;
+        long heartbeatMillis = (long) (HEARTBEAT_SECONDS * 1000);
+        return scenario("장시간 수험자 시나리오")
+            .feed(EXAMINEE_FEEDER)
+            .pause(Duration.ofMillis(0), Duration.ofMillis(2000))
+            .exec(inGroup(Population.SOAK_EXAMINEE,
+                exec(examineeEntry)
+                .exitHereIfFailed()
+                // 연결 유지 동안 쓰지 않는 피더 값은 세션에서 제거 (가상 사용자당 힙 절감)
+                .exec(session -> {
+                    SOAK.connected();
+                    return session.removeAll("accessKey", "userName", "examUserId");
+                })
+                .exec(STATUS_EXCHANGE.send("시스템 체크 메시지 전송", "시스템 체크 응답", SYSTEM_CHECK_MSG))
+                .exec(STATUS_EXCHANGE.send("시험 시작 메시지 전송", "시험 시작 응답", TEST_START_MSG))
+                // 유지 구간의 실패만 끊김으로 판정
+                .exec(Session::markAsSucceeded)
+                .during(Duration.ofSeconds(EXAM_SECONDS)).on(
+                    pause(Duration.ofMillis(heartbeatMillis * 8 / 10), Duration.ofMillis(heartbeatMillis * 12 / 10))
+                    .exec(session -> session.set("heartbeatAt", System.currentTimeMillis()))
+                    // 진행 중 상태(TEST_0, stat 1)를 다시 보내 진행 상태 갱신
+                    .exec(STATUS_EXCHANGE.send("진행 상태 메시지 전송", "진행 상태 응답", TEST_START_MSG))
+                    .exec(session -> {
+                        long latency = timed ? System.currentTimeMillis() - session.getLong("heartbeatAt") : -1;
+                        SOAK.heartbeat(latency, session.isFailed());
+                        return session;
+                    })
+                    .exitHereIfFailed()
+                )
+                .exec(STATUS_EXCHANGE.send("시험 완료 메시지 전송", "시험 완료 응답", TEST_COMPLETE_MSG))
+                .exec(session -> {
+                    SOAK.completed();
+                    return session;
+                })
+                .exec(examineeExit)
+            ));
+    }
+
+    /**
+     * AIDEV-NOTE: 트레이스 재생 시나리오 - 세션 시작 시각까지 대기 후 로그인/연결, 이벤트를 기록된 간격대로 실행
+     * 합성 pause 없이 이벤트 시각까지만 대기 (로그인/연결 시간만큼 첫 이벤트가 밀릴 수 있음)
+     */
+    private ScenarioBuilder replayScenario() {
+        List<Choice.WithKey> actions = new ArrayList<>();
+        actions.add(onCase(TraceReplay.KIND_STATUS).then(STATUS_EXCHANGE.send("#{traceRequest}", "#{traceAck}",
+            session -> TraceReplay.current(session).template())));
+        for (String method : TraceReplay.HTTP_METHODS) {
+            HttpRequestActionBuilder request = http("#{traceRequest}")
+                .httpRequest(method, TraceReplay::path)
+                .header("Authorization", "Bearer #{authToken}");
+            if (!"GET".equals(method) && !"DELETE".equals(method)) {
+                request = request.body(StringBody(TraceReplay::body));
+            }
+            actions.add(onCase(method).then(exec(request)));
+        }
+        return scenario("트레이스 재생 시나리오")
+            .feed(EXAMINEE_FEEDER)
+            .feed(REPLAY.feeder())
+            .pause(REPLAY::untilStart)
+            .exec(REPLAY::markStart)
+            .exec(inGroup(Population.TRACE_REPLAY,
+                exec(
+                    http("보안 인증 - 액세스키 로그인")
+                        .post("/security/auth/keyLogin")
+                        .body(StringBody("{\"access_key\": \"#{accessKey}\"}"))
+                        .check(status().is(200))
+                        .check(jsonPath("$.body.accessToken").saveAs("authToken"))
+                )
+                .exec(ws("웹소켓 연결")
+                    .connect("ws://localhost:8099/ws?authToken=#{authToken}&runType=" + RUN_TYPE)
+                )
+                .exitHereIfFailed()
+                .exec(session -> session.removeAll("accessKey", "userName", "examUserId"))
+                .repeat(REPLAY::size, "traceIndex").on(
+                    pause(session -> REPLAY.untilEvent(session, "traceIndex"))
+                    .exec(session -> REPLAY.select(session, "traceIndex"))
+                    .doSwitch(session -> TraceReplay.current(session).kind()).on(actions)
+                )
+                .exec(examineeExit)
+            ));
+    }
+
+    /**
+     * AIDEV-NOTE: 집단 시작 수험자 시나리오 - 로그인/연결/SYSTEM_CHECK → 시작 배리어 → TEST_0 시작 → 제출 배리어 → TEST_0 완료
+     * 로그인/연결에 실패한 사용자는 배리어 인원에서 빼고 종료 (나머지가 기다리지 않도록)
+     */
+    private ScenarioBuilder herdScenario() {
+        boolean timed = STATUS_EXCHANGE.getMode() != StatusExchange.AckMode.NONE;
+        return scenario("집단 시작 수험자 시나리오")
+            .feed(EXAMINEE_FEEDER)
+            .exec(inGroup(Population.HERD_EXAMINEE,
+                exec(examineeEntry)
+                .exec(STATUS_EXCHANGE.send("시스템 체크 메시지 전송", "시스템 체크 응답", SYSTEM_CHECK_MSG))
+                .exec(session -> {
+                    if (session.isFailed()) {
+                        HERD_START.withdraw();
+                    } else {
+                        HERD_START.arrive();
+                    }
+                    return session;
+                })
+                .exitHereIfFailed()
+                .exec(herdPhase(HERD_START, "집단 시험 시작 메시지 전송", "집단 시험 시작 응답", TEST_START_MSG, timed))
+                .exec(session -> {
+                    HERD_END.expect(1);
+                    return session;
+                })
+                .pause(Duration.ofSeconds(HERD_EXAM_SECONDS))
+                .exec(session -> {
+                    HERD_END.arrive();
+                    return session;
+                })
+                .exec(herdPhase(HERD_END, "집단 시험 제출 메시지 전송", "집단 시험 제출 응답", TEST_COMPLETE_MSG, timed))
+                .pause(Duration.ofMillis(500), Duration.ofMillis(1500))
+                .exec(examineeExit)
+            ));
+    }
+
+    /**
+     * 배리어 해제까지 대기 후 같은 순간에 전송, 실제 전송 시각과 응답 지연을 배리어에 기록
+     */
+    private static ChainBuilder herdPhase(HerdBarrier barrier, String requestName, String ackName,
+                                          StatusMessageTemplate template, boolean timed) {
+        return asLongAs(session -> !barrier.isReleased()).on(pause(barrier.pollInterval()))
+            .pause(session -> barrier.untilRelease())
+            .exec(Session::markAsSucceeded)
+            .exec(session -> session.set("herdSentAt", barrier.fired()))
+            .exec(STATUS_EXCHANGE.send(requestName, ackName, template))
+            .exec(session -> {
+                long latency = timed ? System.currentTimeMillis() - session.getLong("herdSentAt") : -1;
+                barrier.replied(latency, session.isFailed());
+                return session.remove("herdSentAt");
+            });
+    }
+
+    /**
+     * AIDEV-NOTE: 재연결 폭주 수험자 시나리오 - SYSTEM_CHECK → TEST_0 시작 → 진행 상태 반복 → TEST_0 완료
+     * 폭주 대상은 폭주 시각에 정확히 깨어나 연결을 닫고, 백오프 대기 후 재연결 (최대 시도를 넘기면 포기하고 종료)
+     * 진행 상태 응답은 처리량/지연 집계에 쓰고 실패해도 계속 진행 (폭주 중 서버 지연이 그대로 보이도록)
+     */
+    private ScenarioBuilder stormScenario() {
+        boolean timed = STATUS_EXCHANGE.getMode() != StatusExchange.AckMode.NONE;
+        ChainBuilder reconnect = exec(ws("재연결 폭주 - 연결 강제 종료").close())
+            .exec(session -> session.set("stormClosedAt", STORM.closed()).set("reconnectAttempt", 0))
+            .asLongAs(session -> !session.contains("reconnectedAt")
+                    && session.getInt("reconnectAttempt") < STORM.getMaxAttempts()).on(
+                pause(session -> STORM.backoff(session.getInt("reconnectAttempt")))
+                .exec(Session::markAsSucceeded)
+                .exec(ws("재연결 폭주 - 웹소켓 재연결")
+                    .connect("ws://localhost:8099/ws?authToken=#{authToken}&runType=" + RUN_TYPE)
+                )
+                .exec(session -> {
+                    int attempt = session.getInt("reconnectAttempt") + 1;
+                    if (session.isFailed()) {
+                        return session.set("reconnectAttempt", attempt);
+                    }
+                    STORM.reconnected(session.getLong("stormClosedAt"), attempt);
+                    return session.set("reconnectAttempt", attempt).set("reconnectedAt", System.currentTimeMillis());
+                })
+            )
+            .exitHereIf(session -> {
+                if (session.contains("reconnectedAt")) {
+                    return false;
+                }
+                STORM.gaveUp(session.getInt("reconnectAttempt"));
+                return true;
+            });
+        ChainBuilder heartbeat = exec(session -> session.set("heartbeatAt", System.currentTimeMillis()))
+            .exec(STATUS_EXCHANGE.send("진행 상태 메시지 전송", "진행 상태 응답", TEST_START_MSG))
+            .exec(session -> {
+                long latency = timed ? System.currentTimeMillis() - session.getLong("heartbeatAt") : -1;
+                STORM.heartbeat(latency, session.isFailed());
+                return session.markAsSucceeded();
+            });
+        return scenario("재연결 폭주 수험자 시나리오")
+            .feed(EXAMINEE_FEEDER)
+            .exec(session -> session.set("stormVictim", STORM.begin()))
+            .exec(inGroup(Population.STORM_EXAMINEE,
+                exec(examineeEntry)
+                .exitHereIfFailed()
+                .exec(session -> session.removeAll("accessKey", "userName", "examUserId"))
+                .exec(STATUS_EXCHANGE.send("시스템 체크 메시지 전송", "시스템 체크 응답", SYSTEM_CHECK_MSG))
+                .exec(STATUS_EXCHANGE.send("시험 시작 메시지 전송", "시험 시작 응답", TEST_START_MSG))
+                .exec(Session::markAsSucceeded)
+                .asLongAs(session -> STORM.elapsedMillis() < STORM_RUN_MILLIS).on(
+                    pause(session -> STORM.nextWait(pendingStormVictim(session), STORM_HEARTBEAT_MILLIS))
+                    .doIfOrElse(session -> pendingStormVictim(session) && STORM.stormed())
+                    .then(reconnect)
+                    .orElse(heartbeat)
+                )
+                .exec(STATUS_EXCHANGE.send("시험 완료 메시지 전송", "시험 완료 응답", TEST_COMPLETE_MSG))
+                .exec(examineeExit)
+            ));
+    }
+
+    private static boolean pendingStormVictim(Session session) {
+        return session.getBoolean("stormVictim") && !session.contains("stormClosedAt");
+    }
+
+    /**
+     * AIDEV-NOTE: 정의 시나리오 수험자 시나리오 - 로그인/웹소켓 연결 → 정의 단계 → 연결 종료/로그아웃
+     * 단계 체인은 정의 버전마다 한 번만 컴파일 (모든 가상 사용자 공유), 세션 값(userId/authToken/examUserId)은 템플릿에서 사용
+     */
+    private ScenarioBuilder definedScenario() {
+        ChainBuilder steps = new ScenarioCompiler(STATUS_EXCHANGE, RUN_TYPE, Integer.parseInt(PLAN_ID)).compile(DEFINITION);
+        return scenario("정의 시나리오 - " + DEFINITION.getName())
+            .feed(EXAMINEE_FEEDER)
+            .pause(Duration.ofMillis(0), Duration.ofMillis(2000))
+            .exec(inGroup(Population.DEFINED,
+                exec(examineeEntry)
+                .exitHereIfFailed()
+                .exec(steps)
+                .exec(examineeExit)
+            ));
+    }
+
+    /**
+     * AIDEV-NOTE: 감독관 시나리오 - 로그인, WebSocket 연결, 그룹 구독 후 수험자 부하가 끝날 때까지 연결 유지
+     * 수신 메시지는 감독관 전용 프로토콜의 프레임 훅에서 PropagationProbe가 처리 (Gatling 요청 통계에는 연결/구독만 기록)
+     */
+    private ScenarioBuilder proctorScenario() {
+        ChainBuilder subscribe = "NONE".equalsIgnoreCase(PROCTOR_SUBSCRIBE_MESSAGE)
+            ? exec(session -> session)
+            : exec(ws("감독 그룹 구독").sendText(PROCTOR_SUBSCRIBE_MESSAGE));
+        return scenario("감독관 시나리오")
+            // 감독관은 그룹 소속마다 한 명씩 한 번만
+            .feed(new ExamineeFeeder(PROCTOR_ROSTER, ExamineeFeeder.Strategy.QUEUE))
+            .exec(inGroup(Population.PROCTOR,
+                exec(
+                    http("감독관 인증 - 액세스키 로그인")
+                        .post("/security/auth/keyLogin")
+                        .body(StringBody("{\"access_key\": \"#{accessKey}\"}"))
+                        .check(status().is(200))
+                        .check(jsonPath("$.body.accessToken").saveAs("authToken"))
+                )
+                .exec(ws("감독관 웹소켓 연결")
+                    .connect("ws://localhost:8099/ws?authToken=#{authToken}&runType=" + RUN_TYPE)
+                )
+                .exec(subscribe)
+                .exec(session -> {
+                    PROBE.proctorSubscribed(session.contains("groupId") ? session.getLong("groupId") : null);
+                    return session;
+                })
+                .pause(Duration.ofSeconds(RESIDENT_SECONDS))
+                .exec(ws("감독관 웹소켓 연결 종료").close())
+                .exec(
+                    http("감독관 로그아웃")
+                        .post("/security/auth/logout")
+                        .header("Authorization", "Bearer #{authToken}")
+                )
+            ));
+    }
+
+    /**
+     * AIDEV-NOTE: 관리자 시나리오 - 로그인 후 부하가 끝날 때까지 현황 API를 주기적으로 조회 (대시보드 폴링)
+     */
+    private ScenarioBuilder adminScenario() {
+        long pollMillis = (long) (ADMIN_POLL_SECONDS * 1000);
+        return scenario("관리자 시나리오")
+            .feed(new ExamineeFeeder(ADMIN_ROSTER, ExamineeFeeder.Strategy.CIRCULAR))
+            .exec(inGroup(Population.ADMIN,
+                exec(
+                    http("관리자 인증 - 액세스키 로그인")
+                        .post("/security/auth/keyLogin")
+                        .body(StringBody("{\"access_key\": \"#{accessKey}\"}"))
+                        .check(status().is(200))
+                        .check(jsonPath("$.body.accessToken").saveAs("authToken"))
+                )
+                .during(Duration.ofSeconds(RESIDENT_SECONDS)).on(
+                    exec(
+                        http("관리자 현황 조회")
+                            .get(ADMIN_POLL_PATH)
+                            .header("Authorization", "Bearer #{authToken}")
+                            .check(status().is(200))
+                    )
+                    // 관리자마다 조회 시점이 겹치지 않도록 간격의 ±20% 분산
+                    .pause(Duration.ofMillis(pollMillis * 8 / 10), Duration.ofMillis(pollMillis * 12 / 10))
+                )
+                .exec(
+                    http("관리자 로그아웃")
+                        .post("/security/auth/logout")
+                        .header("Authorization", "Bearer #{authToken}")
+                )
+            ));
+    }
+
+    /**
+     * 모집단이 둘 이상이면 모집단 이름의 그룹으로 감쌈 (단일 모집단은 기존 요청 이름 그대로 유지)
+     */
+    private static ChainBuilder inGroup(Population population, ChainBuilder chain) {
+        return MIX.isMixed() ? group(population.getLabel()).on(chain) : chain;
+    }
+
+    /**
+     * AIDEV-NOTE: 모집단별 주입
+     * - 수험자: 요청의 부하 모델 (구성에 부하 모델을 지정하면 그 모델), 감독관이 있으면 구독 대기 후 시작
+     * - 지각 수험자: 유지 구간 후반에 고르게 도착 (부하 모델을 지정하면 증가 구간 뒤에 그 모델로)
+     * - 장시간 수험자: 증가 구간 동안 한 명씩 한 번 접속 (각자 시험 시간 동안 유지, 부하 모델을 지정하면 그 모델로)
+     * - 트레이스 재생: 트레이스의 재생 초당 세션 시작 수대로
+     * - 집단 시작 수험자: 증가 구간 동안 접속 (시작/제출은 배리어로 동시에)
+     * - 재연결 폭주 수험자: 증가 구간 동안 접속 (끊기/재연결은 폭주 시각에)
+     * - 정의 시나리오 수험자: 수험자와 같이 요청의 부하 모델 (구성에 부하 모델을 지정하면 그 모델)
+     * - 감독관: 구독 대기 시간의 절반 동안 모두 접속, 관리자: 증가 구간 동안 접속 (상주형은 가중치 0이면 명단 전체)
+     */
+    private List<PopulationBuilder> populations() {
+        Map<Population, Integer> users = MIX.allocate(LOAD_PROFILE.getMaxUsers());
+        List<PopulationBuilder> populations = new ArrayList<>();
+        Duration lead = Duration.ofSeconds(PROCTOR_LEAD_SECONDS);
+        for (ScenarioMix.Share share : MIX.getShares()) {
+            Population population = share.population();
+            // 트레이스 재생은 트레이스의 세션 수만큼 (배분과 무관)
+            int count = population == Population.TRACE_REPLAY ? REPLAY.getSessions() : users.get(population);
+            switch (population) {
+                case EXAMINEE -> {
+                    if (count > 0) {
+                        populations.add(profileFor(share, count).inject(normalUserScenario, lead));
+                    }
+                }
+                case LATE_JOINER -> {
+                    if (count <= 0) {
+                        break;
+                    }
+                    Duration arrival = lead.plusSeconds(LOAD_PROFILE.getRampUpSeconds());
+                    if (share.profile() != null) {
+                        populations.add(profileFor(share, count).inject(lateJoinerScenario(), arrival));
+                    } else {
+                        long window = Math.max(1, LOAD_PROFILE.getHoldSeconds() / 2);
+                        populations.add(lateJoinerScenario().injectOpen(
+                            nothingFor(arrival.plusSeconds(LOAD_PROFILE.getHoldSeconds() - window)),
+                            rampUsers(count).during(Duration.ofSeconds(window))));
+                    }
+                }
+                case SOAK_EXAMINEE -> {
+                    if (count <= 0) {
+                        break;
+                    }
+                    if (share.profile() != null) {
+                        populations.add(profileFor(share, count).inject(soakScenario(), lead));
+                    } else {
+                        List<OpenInjectionStep> steps = new ArrayList<>();
+                        if (PROCTOR_LEAD_SECONDS > 0) {
+                            steps.add(nothingFor(lead));
+                        }
+                        steps.add(rampUsers(count).during(Duration.ofSeconds(Math.max(1, LOAD_PROFILE.getRampUpSeconds()))));
+                        populations.add(soakScenario().injectOpen(steps));
+                    }
+                }
+                case TRACE_REPLAY -> {
+                    if (count > 0) {
+                        populations.add(replayScenario().injectOpen(REPLAY.injectionSteps(lead)));
+                    }
+                }
+                case HERD_EXAMINEE -> {
+                    if (count > 0) {
+                        HERD_START.expect(count);
+                        List<OpenInjectionStep> steps = new ArrayList<>();
+                        if (PROCTOR_LEAD_SECONDS > 0) {
+                            steps.add(nothingFor(lead));
+                        }
+                        steps.add(rampUsers(count).during(Duration.ofSeconds(Math.max(1, LOAD_PROFILE.getRampUpSeconds()))));
+                        populations.add(herdScenario().injectOpen(steps));
+                    }
+                }
+                case STORM_EXAMINEE -> {
+                    if (count > 0) {
+                        List<OpenInjectionStep> steps = new ArrayList<>();
+                        if (PROCTOR_LEAD_SECONDS > 0) {
+                            steps.add(nothingFor(lead));
+                        }
+                        steps.add(rampUsers(count).during(Duration.ofSeconds(Math.max(1, LOAD_PROFILE.getRampUpSeconds()))));
+                        populations.add(stormScenario().injectOpen(steps));
+                    }
+                }
+                case DEFINED -> {
+                    if (count > 0) {
+                        populations.add(profileFor(share, count).inject(definedScenario(), lead));
+                    }
+                }
+                case PROCTOR -> {
+                    // 감독관은 한 명이 한 번씩만 구독 (명단보다 많이 배정되면 명단 수로 제한)
+                    int proctors = count < 0 ? PROCTOR_ROSTER.size() : Math.min(count, PROCTOR_ROSTER.size());
+                    if (proctors > 0) {
+                        HttpProtocolBuilder proctorProtocol = withLocalAddresses(http
+                            .baseUrl("http://localhost:8091")
+                            .acceptHeader("application/json")
+                            .contentTypeHeader("application/json")
+                            .userAgentHeader("Gatling/시험센터-감독관")
+                            .wsAutoReplyTextFrame(PROBE::onFrame));
+                        populations.add(proctorScenario()
+                            .injectOpen(rampUsers(proctors).during(Duration.ofSeconds(Math.max(1, PROCTOR_LEAD_SECONDS / 2))))
+                            .protocols(proctorProtocol));
+                    }
+                }
+                case ADMIN -> {
+                    int admins = count < 0 ? ADMIN_ROSTER.size() : count;
+                    if (admins > 0) {
+                        populations.add(adminScenario()
+                            .injectOpen(rampUsers(admins).during(Duration.ofSeconds(Math.max(1, LOAD_PROFILE.getRampUpSeconds())))));
+                    }
+                }
+            }
+            System.out.printf("👥 %s: %s명%s\n", population.getLabel(), count < 0 ? "명단 전체" : count,
+                             share.profile() != null ? " (" + share.profile() + ")" : "");
+        }
+        return populations;
+    }
+
+    private static InjectionProfile profileFor(ScenarioMix.Share share, int users) {
+        InjectionProfile.Type type = share.profile() != null
+            ? InjectionProfile.Type.valueOf(share.profile())
+            : LOAD_PROFILE.getType();
+        return LOAD_PROFILE.with(type, users);
+    }
+
     /**
      * AIDEV-NOTE: 시뮬레이션 설정 및 실행
-     * 동적 사용자 수 설정 지원
+     * 주입 단계는 요청의 부하 모델(test.loadProfile)과 증가/유지 시간으로 구성, 시나리오 구성의 가중치로 모집단별 사용자 수 배분
      */
     {
-        System.out.printf("🚀 Gatling 시뮬레이션 시작: plan_id=%s, run_type=%s, user_count=%d\n", 
-                         PLAN_ID, RUN_TYPE, USER_COUNT);
-        
-        setUp(
-            normalUserScenario.injectOpen(
-                // 점진적 증가로 서버 부담 감소
-                nothingFor(Duration.ofSeconds(2)),                    // 시작 전 2초 대기
-                atOnceUsers(Math.min(10, USER_COUNT)),               // 워밍업: 10명 또는 전체 사용자
-                nothingFor(Duration.ofSeconds(3)),                    // 3초 대기
-                rampUsers(Math.min(USER_COUNT / 2, 50)).during(Duration.ofSeconds(10)), // 10초간 절반 사용자 증가
-                nothingFor(Duration.ofSeconds(3)),                    // 3초 대기
-                rampUsers(USER_COUNT).during(Duration.ofSeconds(20)), // 20초간 전체 사용자 증가
-                nothingFor(Duration.ofSeconds(3)),                    // 3초 대기
-                constantUsersPerSec(2).during(Duration.ofSeconds(30)), // 30초간 초당 2명
-                nothingFor(Duration.ofSeconds(3)),                    // 3초 대기
-                rampUsers(Math.min(USER_COUNT / 2, 50)).during(Duration.ofSeconds(10))  // 10초간 절반 사용자 증가
-            )
-        ).protocols(httpProtocol)
+        System.out.printf("🚀 Gatling 시뮬레이션 시작: plan_id=%s, run_type=%s, user_count=%d, 시나리오=%s, 부하 모델=%s, 응답 대기=%s\n",
+                         PLAN_ID, RUN_TYPE, USER_COUNT, MIX, LOAD_PROFILE, STATUS_EXCHANGE);
+
+        setUp(populations()).protocols(httpProtocol)
          .assertions(
             global().responseTime().max().lt(10000),
             global().successfulRequests().percent().gt(85.0)  // 목표를 85%로 조정
         );
     }
-}
\ No newline at end of file
+
+    @Override
+    public void after() {
+        if (PROBE != null) {
+            String report = testProperty("propagationReport", null);
+            PROBE.writeReport(report != null ? Path.of(report) : null);
+        }
+        if (SOAK != null) {
+            String report = testProperty("soakReport", null);
+            SOAK.writeReport(report != null ? Path.of(report) : null);
+        }
+        if (REPLAY != null) {
+            REPLAY.printSummary();
+        }
+        if (HERD_START != null) {
+            String report = testProperty("herdReport", null);
+            HerdBarrier.writeReport(report != null ? Path.of(report) : null, HERD_START, HERD_END);
+        }
+        if (STORM != null) {
+            String report = testProperty("stormReport", null);
+            STORM.writeReport(report != null ? Path.of(report) : null);
+        }
+    }
+
+    /**
+     * 도착형 모집단의 주입~마지막 시나리오 종료까지 예상 시간 (장시간 수험자는 증가 구간 + 시험 시간)
+     */
+    private static long arrivalSeconds() {
+        long seconds = LOAD_PROFILE.totalSeconds();
+        if (MIX.contains(Population.SOAK_EXAMINEE)) {
+            seconds = Math.max(seconds, LOAD_PROFILE.getRampUpSeconds() + EXAM_SECONDS);
+        }
+        if (REPLAY != null) {
+            seconds = Math.max(seconds, REPLAY.durationSeconds());
+        }
+        if (MIX.contains(Population.HERD_EXAMINEE)) {
+            seconds = Math.max(seconds, LOAD_PROFILE.getRampUpSeconds() + HERD_EXAM_SECONDS + 30);
+        }
+        if (DEFINITION != null) {
+            seconds = Math.max(seconds, LOAD_PROFILE.totalSeconds() + DEFINITION.nominalSeconds());
+        }
+        return seconds;
+    }
+
+    private static HttpProtocolBuilder withLocalAddresses(HttpProtocolBuilder protocol) {
+        return LOCAL_ADDRESSES.isEmpty() ? protocol : protocol.localAddresses(LOCAL_ADDRESSES);
+    }
+
+    private static List<String> localAddresses() {
+        String value = testProperty("localAddresses", null);
+        if (value == null) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).filter(address -> !address.isEmpty()).toList();
+    }
+
+    private static Map<String, String> roleConfig() {
+        Map<String, String> config = new HashMap<>();
+        config.put("proctorRole", testProperty("proctorRole", null));
+        config.put("adminRole", testProperty("adminRole", null));
+        return config;
+    }
+
+    private static String testProperty(String key, String defaultValue) {
+        String value = System.getProperty("test." + key);
+        return value != null && !value.isBlank() && !"null".equals(value) ? value : defaultValue;
+    }
+}
@@ -0,0 +1,95 @@
+package kr.co.iosys.exam.performance.simulation;
+
+import kr.co.iosys.exam.performance.dto.CompactRoster;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AIDEV-NOTE: 수험자 명단 피더 (Gatling feed(Iterator)용)
+ * 레코드 Map은 가상 사용자가 꺼낼 때만 생성, 명단 자체는 CompactRoster의 압축 배열을 그대로 사용
+ * 전략 (test.feederStrategy, 기본 CIRCULAR - 유지 구간 동안 계속 도착하므로 순환)
+ * - QUEUE: 명단 순서대로 한 번씩, 다 쓰면 종료 (Gatling이 피더 소진으로 실행 중단)
+ * - CIRCULAR: 명단 순서대로 반복
+ * - RANDOM: 매번 임의 선택 (중복 허용)
+ * - SHUFFLE: 한 번 섞은 순서대로 한 번씩, 다 쓰면 종료
+ */
+public final class ExamineeFeeder implements Iterator<Map<String, Object>> {
+
+    public enum Strategy {
+        QUEUE,
+        CIRCULAR,
+        RANDOM,
+        SHUFFLE
+    }
+
+    private final CompactRoster roster;
+    private final Strategy strategy;
+    // SHUFFLE 순서 (다른 전략은 null)
+    private final int[] order;
+    private final AtomicLong cursor = new AtomicLong();
+
+    public ExamineeFeeder(CompactRoster roster, Strategy strategy) {
+        if (roster.size() == 0) {
+            throw new IllegalStateException("수험자 명단이 비어 있습니다 (plan_id/run_type, 발생기 분할 설정 확인)");
+        }
+        this.roster = roster;
+        this.strategy = strategy;
+        this.order = strategy == Strategy.SHUFFLE ? shuffledOrder(roster.size()) : null;
+    }
+
+    /**
+     * test.feederStrategy 시스템 속성으로 생성
+     */
+    public static ExamineeFeeder fromSystemProperties(CompactRoster roster) {
+        String value = System.getProperty("test.feederStrategy");
+        Strategy strategy = value != null && !value.isBlank() && !"null".equals(value)
+                ? Strategy.valueOf(value.trim().toUpperCase(Locale.ROOT))
+                : Strategy.CIRCULAR;
+        return new ExamineeFeeder(roster, strategy);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return switch (strategy) {
+            case QUEUE, SHUFFLE -> cursor.get() < roster.size();
+            default -> true;
+        };
+    }
+
+    @Override
+    public Map<String, Object> next() {
+        int size = roster.size();
+        int row = switch (strategy) {
+            case RANDOM -> ThreadLocalRandom.current().nextInt(size);
+            case CIRCULAR -> (int) (cursor.getAndIncrement() % size);
+            case QUEUE, SHUFFLE -> {
+                long position = cursor.getAndIncrement();
+                if (position >= size) {
+                    throw new NoSuchElementException("수험자 명단을 모두 사용했습니다 (" + size + "명, " + strategy + ")");
+                }
+                yield order != null ? order[(int) position] : (int) position;
+            }
+        };
+        return roster.record(row);
+    }
+
+    private static int[] shuffledOrder(int size) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        return order;
+    }
+}
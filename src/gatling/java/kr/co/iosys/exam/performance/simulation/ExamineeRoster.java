@@ -0,0 +1,158 @@
+package kr.co.iosys.exam.performance.simulation;
+
+import kr.co.iosys.exam.performance.dto.CompactRoster;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * AIDEV-NOTE: 수험자/감독관 명단 로더 (저장 형식은 CompactRoster, 그룹 소속마다 한 행)
+ * 역할별 스냅샷 속성(수험자 test.rosterSnapshot, 감독관 test.proctorRosterSnapshot)이 있으면 서버가 써 둔 명단 스냅샷 파일을 바로 읽고 (DB 조회 없음), 없거나 읽지 못하면 DB에서 조회
+ *
+ * DB 조회는 서버 측 커서로 fetchSize씩 읽음 (PostgreSQL은 autoCommit=false + fetchSize일 때만 커서 사용)
+ * 여러 부하 발생기로 나눠 실행할 때는 user_id 순번을 generatorCount로 나눈 나머지가 generatorIndex인 행만 사용하여 겹치지 않음
+ * 시스템 속성 (GatlingRunnerService가 -Dtest.*로 전달)
+ * - test.rosterSnapshot, test.proctorRosterSnapshot: 역할별 명단 스냅샷 파일 경로 (RosterCacheService)
+ * - test.dbUrl, test.dbUsername: 애플리케이션의 performance-test.database와 같은 DB (비밀번호는 환경 변수 POSTGRES_PASSWORD)
+ * - test.generatorIndex, test.generatorCount: 부하 발생기 번호(0부터) / 전체 수 (기본 0 / 1)
+ * - test.feederFetchSize: 커서 한 번에 가져올 행 수 (기본 1000), test.feederMaxRows: 발생기당 최대 행 수 (0이면 제한 없음)
+ */
+public final class ExamineeRoster {
+
+    private static final String QUERY = """
+        SELECT user_id, user_name, access_key, group_id
+        FROM (
+            SELECT
+                egm.user_id,
+                eu.user_name,
+                eu.access_key,
+                egm.group_id,
+                ROW_NUMBER() OVER (ORDER BY egm.user_id, egm.group_id) - 1 AS row_index
+            FROM exam_group_members egm
+            JOIN exam_users eu ON egm.user_id = eu.user_id AND egm.plan_id = eu.plan_id
+            WHERE egm.plan_id = ?
+                AND egm.run_type = ?
+                AND egm.group_role = ?
+                AND eu.access_key IS NOT NULL
+        ) roster
+        WHERE MOD(row_index, ?) = ?
+        ORDER BY row_index
+    """;
+
+    public static final String ROLE_EXAMINEE = "EXAMINEE";
+
+    private ExamineeRoster() {
+    }
+
+    /**
+     * test.* 시스템 속성의 스냅샷/DB/발생기 설정으로 수험자 명단 조회
+     */
+    public static CompactRoster fromSystemProperties(int planId, String runType) {
+        return fromSystemProperties(planId, runType, ROLE_EXAMINEE, "rosterSnapshot");
+    }
+
+    /**
+     * 역할의 명단 조회
+     *
+     * @param snapshotKey 스냅샷 파일 경로 속성 (test. 제외)
+     */
+    public static CompactRoster fromSystemProperties(int planId, String runType, String role, String snapshotKey) {
+        int generatorCount = Math.max(1, intProperty("generatorCount", 1));
+        int generatorIndex = intProperty("generatorIndex", 0);
+        if (generatorIndex < 0 || generatorIndex >= generatorCount) {
+            throw new IllegalArgumentException(String.format(
+                    "test.generatorIndex는 0 이상 %d 미만이어야 합니다: %d", generatorCount, generatorIndex));
+        }
+        // 발생기당 최대 행 수는 수험자 명단에만 적용
+        int maxRows = ROLE_EXAMINEE.equals(role) ? Math.max(0, intProperty("feederMaxRows", 0)) : 0;
+
+        String snapshot = property(snapshotKey, null);
+        if (snapshot != null) {
+            long started = System.nanoTime();
+            try {
+                CompactRoster roster = CompactRoster.readSnapshot(Path.of(snapshot), planId, runType, role)
+                        .stripe(generatorIndex, generatorCount, maxRows);
+                System.out.printf("✅ %s 명단 스냅샷 사용: %s, 발생기 %d/%d, 사용자 수=%d (%dms)%n",
+                        role, snapshot, generatorIndex + 1, generatorCount, roster.size(),
+                        (System.nanoTime() - started) / 1_000_000);
+                return roster;
+            } catch (IOException e) {
+                System.err.printf("⚠️ 명단 스냅샷 읽기 실패, DB에서 조회: %s (%s)%n", snapshot, e.getMessage());
+            }
+        }
+        return fromDatabase(planId, runType, role, generatorIndex, generatorCount, maxRows);
+    }
+
+    private static CompactRoster fromDatabase(int planId, String runType, String role, int generatorIndex,
+                                              int generatorCount, int maxRows) {
+        String url = property("dbUrl", String.format("jdbc:postgresql://%s:%s/%s",
+                env("POSTGRES_HOST", "172.27.0.90"), env("POSTGRES_PORT", "5432"), env("POSTGRES_DATABASE", "exam_db")));
+        String username = property("dbUsername", env("POSTGRES_USERNAME", "postgres"));
+        String password = env("POSTGRES_PASSWORD", "postgres");
+
+        long started = System.nanoTime();
+        try (Connection conn = DriverManager.getConnection(url, username, password)) {
+            CompactRoster roster = load(conn, planId, runType, role, generatorIndex, generatorCount,
+                    Math.max(1, intProperty("feederFetchSize", 1000)), maxRows);
+            System.out.printf("✅ %s 명단 조회: plan_id=%d, run_type=%s, 발생기 %d/%d, 사용자 수=%d (%dms)%n",
+                    role, planId, runType, generatorIndex + 1, generatorCount, roster.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+            return roster;
+        } catch (SQLException e) {
+            System.err.println("❌ 데이터베이스 조회 실패: " + e.getMessage());
+            throw new RuntimeException("데이터베이스 연결 실패. PostgreSQL 드라이버와 test.dbUrl을 확인하세요.", e);
+        }
+    }
+
+    static CompactRoster load(Connection conn, int planId, String runType, String role, int generatorIndex,
+                               int generatorCount, int fetchSize, int maxRows) throws SQLException {
+        CompactRoster roster = new CompactRoster();
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try (PreparedStatement stmt = conn.prepareStatement(QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            stmt.setFetchSize(fetchSize);
+            if (maxRows > 0) {
+                stmt.setMaxRows(maxRows);
+            }
+            stmt.setInt(1, planId);
+            stmt.setString(2, runType);
+            stmt.setString(3, role);
+            stmt.setInt(4, generatorCount);
+            stmt.setInt(5, generatorIndex);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    long groupId = rs.getLong(4);
+                    roster.add(rs.getString(1), rs.getString(2), rs.getString(3), rs.wasNull() ? null : groupId);
+                }
+            }
+        } finally {
+            conn.rollback();
+            conn.setAutoCommit(autoCommit);
+        }
+        return roster.compact();
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isBlank() ? value : defaultValue;
+    }
+
+    private static String property(String key, String defaultValue) {
+        String value = System.getProperty("test." + key);
+        return value != null && !value.isBlank() && !"null".equals(value) ? value : defaultValue;
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        try {
+            return Integer.parseInt(property(key, String.valueOf(defaultValue)).trim());
+        } catch (NumberFormatException e) {
+            System.err.printf("⚠️ 잘못된 test.%s 값, 기본값 %d 사용%n", key, defaultValue);
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package kr.co.iosys.exam.performance.simulation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AIDEV-NOTE: 집단 동시 이벤트 배리어 (시험 시작/제출을 모든 수험자가 같은 순간에 전송)
+ * Gatling 가상 사용자 스레드는 막을 수 없으므로 대기는 pause로만 함
+ * - 도착한 사용자는 해제 전까지 POLL 간격으로 확인하고, 해제되면 해제 시각(모두 도착한 시각 + MARGIN)까지 정확히 pause
+ *   MARGIN이 POLL보다 길어 모든 대기자가 같은 해제 시각에 깨어남
+ * - 기대 인원이 모두 도착하거나(접속 실패로 빠진 인원 제외) 첫 도착 후 timeout이 지나면 해제 (시간 초과 여부 기록)
+ * - 해제 시각을 고정(releaseAt)하면 인원과 관계없이 그 시각에 해제 (여러 발생기를 벽시계로 맞출 때)
+ * 해제 시각부터 마지막 응답까지를 집단 구간으로 보고, 실제 전송 시각의 퍼짐과 전송~응답 지연을 따로 기록
+ * 발생기마다 따로 동작 (발생기 사이의 동기화는 고정 해제 시각으로만)
+ */
+public final class HerdBarrier {
+
+    public static final String METRIC_NAME = "집단 동시 이벤트";
+
+    // 해제 확인 간격, 해제 시각 여유 (여유 > 간격)
+    private static final Duration POLL = Duration.ofMillis(200);
+    private static final long MARGIN_MS = 500L;
+    private static final long MAX_TRACKABLE_MS = 60_000L;
+
+    private final String phase;
+    private final long timeoutMillis;
+    private final AtomicInteger expected = new AtomicInteger();
+    private final AtomicInteger arrived = new AtomicInteger();
+    private final AtomicInteger withdrawn = new AtomicInteger();
+    private final AtomicLong firstArrival = new AtomicLong();
+    private final AtomicLong releaseAt;
+    private volatile boolean timedOut;
+
+    private final Histogram latency = new ConcurrentHistogram(MAX_TRACKABLE_MS, 3);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicLong firstSend = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong lastSend = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong lastReply = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param releaseAt 고정 해제 시각 (epoch ms, 0이면 인원이 모두 도착할 때)
+     */
+    public HerdBarrier(String phase, Duration timeout, long releaseAt) {
+        this.phase = phase;
+        this.timeoutMillis = timeout.toMillis();
+        this.releaseAt = new AtomicLong(releaseAt);
+    }
+
+    /**
+     * 기대 인원 추가 (주입 인원, 또는 앞 배리어를 통과한 인원)
+     */
+    public void expect(int users) {
+        expected.addAndGet(users);
+    }
+
+    public void arrive() {
+        long now = System.currentTimeMillis();
+        firstArrival.compareAndSet(0L, now);
+        arrived.incrementAndGet();
+        releaseIfComplete(now);
+    }
+
+    /**
+     * 배리어까지 오지 못하는 사용자 (로그인/연결 실패)
+     */
+    public void withdraw() {
+        withdrawn.incrementAndGet();
+        releaseIfComplete(System.currentTimeMillis());
+    }
+
+    /**
+     * 해제 여부 (첫 도착 후 제한 시간이 지났으면 여기서 해제)
+     */
+    public boolean isReleased() {
+        if (releaseAt.get() != 0L) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        long first = firstArrival.get();
+        if (first != 0L && now - first >= timeoutMillis && releaseAt.compareAndSet(0L, now + MARGIN_MS)) {
+            timedOut = true;
+        }
+        return releaseAt.get() != 0L;
+    }
+
+    public Duration pollInterval() {
+        return POLL;
+    }
+
+    /**
+     * 해제 시각까지 남은 시간
+     */
+    public Duration untilRelease() {
+        return Duration.ofMillis(Math.max(0L, releaseAt.get() - System.currentTimeMillis()));
+    }
+
+    /**
+     * 실제 전송 시각 기록 (전송 직전)
+     */
+    public long fired() {
+        long now = System.currentTimeMillis();
+        firstSend.accumulateAndGet(now, Math::min);
+        lastSend.accumulateAndGet(now, Math::max);
+        sent.increment();
+        return now;
+    }
+
+    /**
+     * 응답 결과 기록
+     *
+     * @param latencyMs 전송~응답 지연 (응답을 기다리지 않으면 음수, 기록하지 않음)
+     */
+    public void replied(long latencyMs, boolean failure) {
+        lastReply.accumulateAndGet(System.currentTimeMillis(), Math::max);
+        if (failure) {
+            failed.increment();
+        } else if (latencyMs >= 0) {
+            latency.recordValue(Math.min(MAX_TRACKABLE_MS, latencyMs));
+        }
+    }
+
+    /**
+     * 배리어들의 결과 파일 쓰기 및 요약 출력
+     */
+    public static void writeReport(Path file, HerdBarrier... barriers) {
+        List<Map<String, Object>> phases = new ArrayList<>();
+        for (HerdBarrier barrier : barriers) {
+            Map<String, Object> phase = barrier.report();
+            phases.add(phase);
+            System.out.printf("🐃 %s(%s): 도착 %d/%d%s, 전송 %d (실패 %d), 전송 퍼짐 %sms, 구간 %sms, p95=%sms, 최대=%sms%n",
+                    METRIC_NAME, phase.get("phase"), phase.get("arrived"), phase.get("expected"),
+                    Boolean.TRUE.equals(phase.get("timedOut")) ? " (시간 초과 해제)" : "", phase.get("sent"),
+                    phase.get("failed"), phase.get("sendSpreadMs"), phase.get("windowMs"), phase.get("p95LatencyMs"),
+                    phase.get("maxLatencyMs"));
+        }
+        if (file == null) {
+            return;
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("metric", METRIC_NAME);
+        report.put("phases", phases);
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        } catch (IOException e) {
+            System.err.printf("⚠️ 집단 이벤트 결과 저장 실패: %s (%s)%n", file, e.getMessage());
+        }
+    }
+
+    Map<String, Object> report() {
+        Histogram snapshot = latency.copy();
+        boolean empty = snapshot.getTotalCount() == 0;
+        long release = releaseAt.get();
+        boolean fired = sent.sum() > 0;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("phase", phase);
+        report.put("expected", expected.get());
+        report.put("arrived", arrived.get());
+        report.put("withdrawn", withdrawn.get());
+        report.put("timedOut", timedOut);
+        report.put("sent", sent.sum());
+        report.put("failed", failed.sum());
+        // 실제 전송 시각의 퍼짐 (첫 전송~마지막 전송), 집단 구간 (해제 시각~마지막 응답)
+        report.put("sendSpreadMs", fired ? lastSend.get() - firstSend.get() : 0L);
+        report.put("windowMs", fired && release != 0L && lastReply.get() != Long.MIN_VALUE
+                ? Math.max(0L, lastReply.get() - release) : 0L);
+        report.put("minLatencyMs", empty ? 0L : snapshot.getMinValue());
+        report.put("meanLatencyMs", empty ? 0.0 : Math.round(snapshot.getMean() * 100.0) / 100.0);
+        report.put("p50LatencyMs", snapshot.getValueAtPercentile(50.0));
+        report.put("p95LatencyMs", snapshot.getValueAtPercentile(95.0));
+        report.put("p99LatencyMs", snapshot.getValueAtPercentile(99.0));
+        report.put("maxLatencyMs", snapshot.getMaxValue());
+        return report;
+    }
+
+    private void releaseIfComplete(long now) {
+        int target = expected.get() - withdrawn.get();
+        if (target > 0 && arrived.get() >= target) {
+            releaseAt.compareAndSet(0L, now + MARGIN_MS);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return phase;
+    }
+}
@@ -0,0 +1,229 @@
+package kr.co.iosys.exam.performance.simulation;
+
+import io.gatling.javaapi.core.*;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * AIDEV-NOTE: 테스트 요청으로 구성하는 부하 모델 (서버의 LoadProfile과 같은 이름)
+ * GatlingRunnerService가 넘긴 test.* 시스템 속성에서 읽음
+ * - test.maxUsers: 목표 동시 사용자 수 (없으면 user_count)
+ * - test.rampUpDurationSeconds: 증가 구간, test.testDurationSeconds: 목표 부하 유지 구간
+ *   전체 주입 시간 = 증가 + 유지 (대시보드 예상 소요 시간 계산과 같음)
+ * - 개방형 모델의 도착률 = maxUsers / test.sessionSeconds (Little's law, 한 사용자 시나리오의 평균 소요 시간)
+ * - 모델별 세부 값: test.steps, test.spikeMultiplier, test.spikeSeconds, test.soakLoadRatio
+ */
+public final class InjectionProfile {
+
+    public enum Type {
+        RAMP_HOLD,
+        STEP,
+        SPIKE,
+        SOAK,
+        CLOSED
+    }
+
+    // 급증 전후 증가/감소 구간 (초)
+    private static final long SPIKE_EDGE_SECONDS = 5;
+
+    private final Type type;
+    private final int maxUsers;
+    private final long rampUpSeconds;
+    private final long holdSeconds;
+    private final double sessionSeconds;
+    private final int steps;
+    private final double spikeMultiplier;
+    private final long spikeSeconds;
+    private final double soakLoadRatio;
+
+    InjectionProfile(Type type, int maxUsers, long rampUpSeconds, long holdSeconds, double sessionSeconds,
+                     int steps, double spikeMultiplier, long spikeSeconds, double soakLoadRatio) {
+        this.type = type;
+        this.maxUsers = Math.max(1, maxUsers);
+        this.rampUpSeconds = Math.max(0, rampUpSeconds);
+        this.holdSeconds = Math.max(1, holdSeconds);
+        this.sessionSeconds = sessionSeconds > 0 ? sessionSeconds : 10.0;
+        this.steps = Math.max(1, steps);
+        this.spikeMultiplier = Math.max(1.0, spikeMultiplier);
+        this.spikeSeconds = Math.max(1, spikeSeconds);
+        this.soakLoadRatio = soakLoadRatio > 0 ? soakLoadRatio : 0.7;
+    }
+
+    /**
+     * test.* 시스템 속성으로 생성 (test.loadProfile 생략 시 RAMP_HOLD)
+     */
+    public static InjectionProfile fromSystemProperties(int defaultUsers) {
+        Type type = Type.valueOf(property("loadProfile", Type.RAMP_HOLD.name()).trim().toUpperCase(Locale.ROOT));
+        long holdSeconds = longProperty("testDurationSeconds", 300);
+        return new InjectionProfile(
+                type,
+                (int) longProperty("maxUsers", defaultUsers),
+                longProperty("rampUpDurationSeconds", 60),
+                holdSeconds,
+                doubleProperty("sessionSeconds", 10.0),
+                (int) longProperty("steps", 5),
+                doubleProperty("spikeMultiplier", 3.0),
+                longProperty("spikeSeconds", Math.min(30, Math.max(1, holdSeconds / 3))),
+                doubleProperty("soakLoadRatio", 0.7));
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getMaxUsers() {
+        return maxUsers;
+    }
+
+    public long getRampUpSeconds() {
+        return rampUpSeconds;
+    }
+
+    public long getHoldSeconds() {
+        return holdSeconds;
+    }
+
+    /**
+     * 같은 시간 설정으로 사용자 수/부하 모델만 바꾼 프로필 (시나리오 구성의 모집단별 주입)
+     */
+    public InjectionProfile with(Type type, int users) {
+        return new InjectionProfile(type, users, rampUpSeconds, holdSeconds, sessionSeconds,
+                steps, spikeMultiplier, spikeSeconds, soakLoadRatio);
+    }
+
+    /**
+     * 목표 도착률 (초당 사용자, 동시 사용자 maxUsers에 해당)
+     */
+    public double arrivalRate() {
+        return maxUsers / sessionSeconds;
+    }
+
+    /**
+     * 전체 주입 시간 (초)
+     */
+    public long totalSeconds() {
+        return rampUpSeconds + holdSeconds;
+    }
+
+    /**
+     * 시나리오에 부하 모델 주입 단계 적용
+     */
+    public PopulationBuilder inject(ScenarioBuilder scenario) {
+        return inject(scenario, Duration.ZERO);
+    }
+
+    /**
+     * 시작 지연 후 부하 모델 주입 (다른 모집단이 먼저 준비되어야 하는 경우, 예: 감독관 구독)
+     */
+    public PopulationBuilder inject(ScenarioBuilder scenario, Duration delay) {
+        if (type == Type.CLOSED) {
+            List<ClosedInjectionStep> steps = closedSteps();
+            if (!delay.isZero()) {
+                steps.add(0, constantConcurrentUsers(0).during(delay));
+            }
+            return scenario.injectClosed(steps);
+        }
+        List<OpenInjectionStep> steps = openSteps();
+        if (!delay.isZero()) {
+            steps.add(0, nothingFor(delay));
+        }
+        return scenario.injectOpen(steps);
+    }
+
+    List<OpenInjectionStep> openSteps() {
+        double rate = arrivalRate();
+        List<OpenInjectionStep> injection = new ArrayList<>();
+        switch (type) {
+            case STEP -> {
+                // 도착률을 steps 단계로 올림, 증가 구간은 단계 사이 램프로, 유지 구간은 단계별 유지로 나눔
+                double increment = rate / steps;
+                long rampEach = rampUpSeconds / steps;
+                long levelSeconds = Math.max(1, holdSeconds / steps);
+                OpenInjectionStep.Stairs.Composite stairs = incrementUsersPerSec(increment)
+                        .times(steps)
+                        .eachLevelLasting(Duration.ofSeconds(levelSeconds))
+                        .startingFrom(increment);
+                injection.add(rampEach > 0 ? stairs.separatedByRampsLasting(Duration.ofSeconds(rampEach)) : stairs);
+            }
+            case SPIKE -> {
+                // 기본 도착률 유지 중간에 spikeSeconds 동안 spikeMultiplier배로 급증
+                double peak = rate * spikeMultiplier;
+                long spike = Math.min(spikeSeconds, holdSeconds);
+                long edge = Math.min(SPIKE_EDGE_SECONDS, (holdSeconds - spike) / 2);
+                long steady = holdSeconds - spike - 2 * edge;
+                long before = steady / 2;
+                rampUp(injection, rate);
+                hold(injection, rate, before);
+                if (edge > 0) {
+                    injection.add(rampUsersPerSec(rate).to(peak).during(Duration.ofSeconds(edge)));
+                }
+                hold(injection, peak, spike);
+                if (edge > 0) {
+                    injection.add(rampUsersPerSec(peak).to(rate).during(Duration.ofSeconds(edge)));
+                }
+                hold(injection, rate, steady - before);
+            }
+            case SOAK -> {
+                double soakRate = rate * soakLoadRatio;
+                rampUp(injection, soakRate);
+                hold(injection, soakRate, holdSeconds);
+            }
+            default -> {
+                rampUp(injection, rate);
+                hold(injection, rate, holdSeconds);
+            }
+        }
+        return injection;
+    }
+
+    List<ClosedInjectionStep> closedSteps() {
+        List<ClosedInjectionStep> injection = new ArrayList<>();
+        if (rampUpSeconds > 0) {
+            injection.add(rampConcurrentUsers(0).to(maxUsers).during(Duration.ofSeconds(rampUpSeconds)));
+        }
+        injection.add(constantConcurrentUsers(maxUsers).during(Duration.ofSeconds(holdSeconds)));
+        return injection;
+    }
+
+    private void rampUp(List<OpenInjectionStep> injection, double rate) {
+        if (rampUpSeconds > 0) {
+            injection.add(rampUsersPerSec(0).to(rate).during(Duration.ofSeconds(rampUpSeconds)));
+        }
+    }
+
+    private static void hold(List<OpenInjectionStep> injection, double rate, long seconds) {
+        if (seconds > 0) {
+            // 일정 도착률은 포아송 도착으로 분산 (동시 도착 몰림 방지)
+            injection.add(constantUsersPerSec(rate).during(Duration.ofSeconds(seconds)).randomized());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(users=%d, rampUp=%ds, hold=%ds, rate=%.2f/s)",
+                type, maxUsers, rampUpSeconds, holdSeconds, type == Type.CLOSED ? 0.0 : arrivalRate());
+    }
+
+    private static String property(String key, String defaultValue) {
+        String value = System.getProperty("test." + key);
+        return value != null && !value.isBlank() && !"null".equals(value) ? value : defaultValue;
+    }
+
+    private static long longProperty(String key, long defaultValue) {
+        return (long) doubleProperty(key, defaultValue);
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        try {
+            return Double.parseDouble(property(key, String.valueOf(defaultValue)));
+        } catch (NumberFormatException e) {
+            System.err.printf("⚠️ 잘못된 test.%s 값, 기본값 %s 사용%n", key, defaultValue);
+            return defaultValue;
+        }
+    }
+}
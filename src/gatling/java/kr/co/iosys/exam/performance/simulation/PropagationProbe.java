@@ -0,0 +1,190 @@
+package kr.co.iosys.exam.performance.simulation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AIDEV-NOTE: 감독관 전파 지연 측정 (수험자 STATUS_MSG 전송 → 같은 그룹 감독관 수신)
+ * 수험자는 traceList에 상관 ID "p{발생기}-{groupId}-{순번}-{전송 epoch ms}"를 넣어 보내고,
+ * 감독관 연결의 수신 프레임마다(wsAutoReplyTextFrame 훅) 상관 ID의 전송 시각과 수신 시각 차이를 히스토그램에 기록
+ * - Gatling 요청 통계와 별도 지표 (요청/응답 쌍이 아니라 다른 가상 사용자 사이의 전파라서 stats.json에 넣을 수 없음)
+ * - 그룹별 전송 수 × 구독 감독관 수 = 기대 수신 수, 실제 수신 수와 비교하여 전달률 계산
+ * - 종료 시 propagation-latency.json으로 저장 (서버가 결과 디렉토리로 옮겨 결과 번들에 포함)
+ * - 전송 시각은 보낸 발생기의 시계 기준이라 발생기를 나눠 실행하면 발생기 간 시계 차이만큼 오차 (음수는 0으로 기록)
+ */
+public final class PropagationProbe {
+
+    public static final String METRIC_NAME = "상태 전파 지연";
+
+    private static final String CORRELATION_KEY = "\"correlationId\"";
+    private static final long NO_GROUP = 0L;
+    // 기록 가능한 최대 지연 (ms), 유효 숫자 3자리
+    private static final long MAX_TRACKABLE_MS = 3_600_000L;
+
+    private final String prefix;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Histogram latency = new ConcurrentHistogram(MAX_TRACKABLE_MS, 3);
+    private final ConcurrentHashMap<Long, GroupCounters> groups = new ConcurrentHashMap<>();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final AtomicInteger proctors = new AtomicInteger();
+
+    public PropagationProbe(int generatorIndex) {
+        this.prefix = "p" + generatorIndex + "-";
+    }
+
+    /**
+     * 수험자 전송 시 상관 ID 발급 (그룹 전송 수 증가)
+     */
+    public String nextCorrelationId(Long groupId, long epochMillis) {
+        long group = groupId != null ? groupId : NO_GROUP;
+        sent.increment();
+        counters(group).sent.increment();
+        return prefix + group + "-" + sequence.incrementAndGet() + "-" + epochMillis;
+    }
+
+    /**
+     * 감독관 그룹 구독 완료
+     */
+    public void proctorSubscribed(Long groupId) {
+        proctors.incrementAndGet();
+        counters(groupId != null ? groupId : NO_GROUP).proctors.incrementAndGet();
+    }
+
+    /**
+     * 감독관 연결 수신 프레임 처리 (wsAutoReplyTextFrame용, 자동 응답하지 않도록 항상 null 반환)
+     */
+    public String onFrame(String text) {
+        long now = System.currentTimeMillis();
+        int from = 0;
+        while ((from = text.indexOf(CORRELATION_KEY, from)) >= 0) {
+            from += CORRELATION_KEY.length();
+            int start = valueStart(text, from);
+            int end = start >= 0 ? text.indexOf('"', start) : -1;
+            if (end > start) {
+                record(text, start, end, now);
+                from = end;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 결과 파일 쓰기 및 요약 출력
+     */
+    public void writeReport(Path file) {
+        Map<String, Object> report = report();
+        System.out.printf("📡 %s: 수신 %d/%d (전달률 %.2f%%), p50=%sms, p95=%sms, p99=%sms, 최대=%sms, 감독관 %d명/그룹 %d개%n",
+                METRIC_NAME, report.get("received"), report.get("expectedDeliveries"), report.get("deliveryRate"),
+                report.get("p50LatencyMs"), report.get("p95LatencyMs"), report.get("p99LatencyMs"),
+                report.get("maxLatencyMs"), report.get("proctors"), report.get("groups"));
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        } catch (IOException e) {
+            System.err.printf("⚠️ 전파 지연 결과 저장 실패: %s (%s)%n", file, e.getMessage());
+        }
+    }
+
+    Map<String, Object> report() {
+        long expected = 0;
+        int subscribedGroups = 0;
+        int incompleteGroups = 0;
+        double minGroupRate = 100.0;
+        for (GroupCounters counters : groups.values()) {
+            if (counters.proctors.get() == 0) {
+                continue;
+            }
+            subscribedGroups++;
+            long groupExpected = counters.sent.sum() * counters.proctors.get();
+            long groupReceived = counters.received.sum();
+            expected += groupExpected;
+            if (groupExpected > 0) {
+                double rate = Math.min(100.0, groupReceived * 100.0 / groupExpected);
+                minGroupRate = Math.min(minGroupRate, rate);
+                if (groupReceived < groupExpected) {
+                    incompleteGroups++;
+                }
+            }
+        }
+        long receivedCount = received.sum();
+        Histogram snapshot = latency.copy();
+        boolean empty = snapshot.getTotalCount() == 0;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("metric", METRIC_NAME);
+        report.put("sent", sent.sum());
+        report.put("proctors", proctors.get());
+        report.put("groups", subscribedGroups);
+        report.put("expectedDeliveries", expected);
+        report.put("received", receivedCount);
+        report.put("deliveryRate", expected > 0 ? Math.min(100.0, receivedCount * 100.0 / expected) : 0.0);
+        report.put("incompleteGroups", incompleteGroups);
+        report.put("minGroupDeliveryRate", subscribedGroups > 0 ? minGroupRate : 0.0);
+        report.put("minLatencyMs", empty ? 0 : snapshot.getMinValue());
+        report.put("meanLatencyMs", empty ? 0.0 : Math.round(snapshot.getMean() * 100.0) / 100.0);
+        report.put("p50LatencyMs", snapshot.getValueAtPercentile(50.0));
+        report.put("p75LatencyMs", snapshot.getValueAtPercentile(75.0));
+        report.put("p95LatencyMs", snapshot.getValueAtPercentile(95.0));
+        report.put("p99LatencyMs", snapshot.getValueAtPercentile(99.0));
+        report.put("maxLatencyMs", snapshot.getMaxValue());
+        return report;
+    }
+
+    /**
+     * 상관 ID 하나 기록 (이 측정기 형식이 아니면 무시)
+     */
+    private void record(String text, int start, int end, long receivedAt) {
+        int prefixEnd = text.indexOf('-', start);
+        int groupEnd = prefixEnd >= 0 ? text.indexOf('-', prefixEnd + 1) : -1;
+        int timeStart = text.lastIndexOf('-', end - 1);
+        if (text.charAt(start) != 'p' || prefixEnd >= end || groupEnd < 0 || timeStart <= groupEnd) {
+            return;
+        }
+        try {
+            long group = Long.parseLong(text, prefixEnd + 1, groupEnd, 10);
+            long sentAt = Long.parseLong(text, timeStart + 1, end, 10);
+            latency.recordValue(Math.min(MAX_TRACKABLE_MS, Math.max(0L, receivedAt - sentAt)));
+            received.increment();
+            counters(group).received.increment();
+        } catch (NumberFormatException e) {
+            // 다른 형식의 상관 ID
+        }
+    }
+
+    /**
+     * "key" 뒤의 공백/콜론/여는 따옴표를 건너뛴 값 시작 위치 (문자열 값이 아니면 -1)
+     */
+    private static int valueStart(String text, int from) {
+        int i = from;
+        while (i < text.length() && (text.charAt(i) == ' ' || text.charAt(i) == ':')) {
+            i++;
+        }
+        return i < text.length() && text.charAt(i) == '"' ? i + 1 : -1;
+    }
+
+    private GroupCounters counters(long groupId) {
+        return groups.computeIfAbsent(groupId, id -> new GroupCounters());
+    }
+
+    private static final class GroupCounters {
+        final LongAdder sent = new LongAdder();
+        final LongAdder received = new LongAdder();
+        final AtomicInteger proctors = new AtomicInteger();
+    }
+}
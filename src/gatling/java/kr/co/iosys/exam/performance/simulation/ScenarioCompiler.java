@@ -0,0 +1,144 @@
+package kr.co.iosys.exam.performance.simulation;
+
+import io.gatling.javaapi.core.*;
+import io.gatling.javaapi.http.*;
+import kr.co.iosys.exam.performance.dto.ScenarioDefinition;
+import kr.co.iosys.exam.performance.dto.ScenarioDefinition.Check;
+import kr.co.iosys.exam.performance.dto.ScenarioDefinition.During;
+import kr.co.iosys.exam.performance.dto.ScenarioDefinition.Http;
+import kr.co.iosys.exam.performance.dto.ScenarioDefinition.Pause;
+import kr.co.iosys.exam.performance.dto.ScenarioDefinition.Repeat;
+import kr.co.iosys.exam.performance.dto.ScenarioDefinition.Send;
+import kr.co.iosys.exam.performance.dto.ScenarioDefinition.Status;
+import kr.co.iosys.exam.performance.dto.ScenarioDefinition.Step;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AIDEV-NOTE: 데이터 정의 시나리오(ScenarioDefinition)를 Gatling 체인으로 컴파일
+ * 정의 버전(이름@내용 CRC32)마다 한 번만 컴파일하여 모든 가상 사용자가 같은 체인을 공유 (가상 사용자별 해석 비용 없음)
+ * - status: 시작 시 만든 STATUS_MSG 템플릿을 StatusExchange로 전송 (응답 판정/지연 기록은 다른 시나리오와 같음)
+ * - send/http의 이름/payload/path/body는 Gatling EL 문자열 그대로 넘김 (Gatling이 컴파일 시 한 번 해석)
+ * - send의 check는 matching으로 대기 (다른 사용자의 방송 메시지는 건너뜀)
+ * - 세션에는 정의가 저장한 값(saveAs)과 반복 번호만 추가
+ */
+public final class ScenarioCompiler {
+
+    // 정의 버전별 컴파일 결과 (한 발생기 안에서 같은 정의를 다시 해석하지 않음)
+    private static final Map<String, ChainBuilder> COMPILED = new ConcurrentHashMap<>();
+
+    private final StatusExchange exchange;
+    private final String runType;
+    private final int planId;
+
+    public ScenarioCompiler(StatusExchange exchange, String runType, int planId) {
+        this.exchange = exchange;
+        this.runType = runType;
+        this.planId = planId;
+    }
+
+    /**
+     * 서버가 쓴 정의 스냅샷 파일 읽기 (test.scenarioDefinition, 이름은 test.definition)
+     *
+     * @throws IllegalArgumentException 파일이 없거나 정의가 잘못된 경우
+     */
+    public static ScenarioDefinition read(String name, String file) {
+        if (file == null) {
+            throw new IllegalArgumentException("정의 시나리오 파일(test.scenarioDefinition)이 지정되지 않았습니다");
+        }
+        try {
+            return ScenarioDefinition.parse(name != null ? name : Path.of(file).getFileName().toString(),
+                    Files.readString(Path.of(file), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("정의 시나리오 파일을 읽을 수 없습니다: " + file, e);
+        }
+    }
+
+    /**
+     * 정의의 단계 체인 (버전마다 한 번 컴파일)
+     */
+    public ChainBuilder compile(ScenarioDefinition definition) {
+        return COMPILED.computeIfAbsent(definition.toString(), key -> chain(definition.getSteps()));
+    }
+
+    private ChainBuilder chain(List<Step> steps) {
+        ChainBuilder chain = step(steps.get(0));
+        for (int i = 1; i < steps.size(); i++) {
+            chain = chain.exec(step(steps.get(i)));
+        }
+        return chain;
+    }
+
+    private ChainBuilder step(Step step) {
+        if (step instanceof Status status) {
+            String name = status.stageKey() + "/" + status.stat();
+            return exchange.send("진행 상태 " + name + " 전송", "진행 상태 " + name + " 응답",
+                    StatusMessageTemplate.of(runType, planId, status.stageKey(), status.stat(), status.complete()));
+        }
+        if (step instanceof Send send) {
+            WsSendTextActionBuilder action = ws(send.name()).sendText(send.payload());
+            if (send.check() == null) {
+                return exec(action);
+            }
+            return exec(action.await(Duration.ofMillis((long) (send.timeoutSeconds() * 1000))).on(
+                    ws.checkTextMessage(send.name() + " 응답").matching(wsCheck(send.check()))));
+        }
+        if (step instanceof Http request) {
+            HttpRequestActionBuilder action = http(request.name())
+                    .httpRequest(request.method(), request.path())
+                    .header("Authorization", "Bearer #{authToken}")
+                    .check(status().is(request.status()));
+            if (request.body() != null) {
+                action = action.body(StringBody(request.body()));
+            }
+            if (request.check() != null) {
+                action = action.check(httpCheck(request.check()));
+            }
+            return exec(action);
+        }
+        if (step instanceof Pause pause) {
+            return pause.minSeconds() == pause.maxSeconds()
+                    ? exec(pause(millis(pause.minSeconds())))
+                    : exec(pause(millis(pause.minSeconds()), millis(pause.maxSeconds())));
+        }
+        if (step instanceof Repeat repeat) {
+            return repeat.counter() != null
+                    ? repeat(repeat.times(), repeat.counter()).on(chain(repeat.steps()))
+                    : repeat(repeat.times()).on(chain(repeat.steps()));
+        }
+        During during = (During) step;
+        return during(millis(during.seconds())).on(chain(during.steps()));
+    }
+
+    private static CheckBuilder wsCheck(Check check) {
+        if (check.substring() != null) {
+            return substring(check.substring()).exists();
+        }
+        return check.is() != null ? jsonPath(check.jsonPath()).is(check.is()) : jsonPath(check.jsonPath()).exists();
+    }
+
+    private static CheckBuilder httpCheck(Check check) {
+        if (check.substring() != null) {
+            return substring(check.substring()).exists();
+        }
+        CheckBuilder.Final jsonPath = check.is() != null
+                ? jsonPath(check.jsonPath()).is(check.is())
+                : jsonPath(check.jsonPath()).exists();
+        return check.saveAs() != null ? jsonPath.saveAs(check.saveAs()) : jsonPath;
+    }
+
+    private static Duration millis(double seconds) {
+        return Duration.ofMillis(Math.round(seconds * 1000));
+    }
+}
@@ -0,0 +1,165 @@
+package kr.co.iosys.exam.performance.simulation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AIDEV-NOTE: 장시간 연결 유지(soak) 측정 - 연결 끊김률과 시간대별 진행 상태 응답 지연 변화
+ * - 연결 수/정상 종료 수/끊김 수와 현재 유지 중인 연결 수 (끊김 = 진행 상태 전송 실패 또는 응답 대기 시간 초과)
+ * - 진행 상태 전송~응답 왕복 지연을 시간 구간(test.soakIntervalSeconds, 기본 300초)별 히스토그램에 기록
+ * - 첫 구간과 마지막 구간의 p95 차이/비율을 지연 변화(drift)로 보고 (연결이 오래 유지될수록 서버가 느려지는지)
+ * - 종료 시 soak-report.json으로 저장 (서버가 결과 디렉토리로 옮겨 결과 번들에 포함)
+ * 히스토그램은 구간당 하나 (유효 숫자 2자리, 최대 60초)라 연결 수와 관계없이 메모리 사용량이 일정
+ */
+public final class SoakMonitor {
+
+    public static final String METRIC_NAME = "장시간 연결 유지";
+
+    // 기록 가능한 최대 지연 (ms, 응답 대기 시간 초과보다 길 수 없음)
+    private static final long MAX_TRACKABLE_MS = 60_000L;
+
+    private final long startedAt = System.currentTimeMillis();
+    private final long bucketMillis;
+    private final long examSeconds;
+    private final double heartbeatSeconds;
+    private final ConcurrentHashMap<Integer, Bucket> buckets = new ConcurrentHashMap<>();
+    private final LongAdder connected = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger peakActive = new AtomicInteger();
+
+    public SoakMonitor(long bucketSeconds, long examSeconds, double heartbeatSeconds) {
+        this.bucketMillis = Math.max(1, bucketSeconds) * 1000L;
+        this.examSeconds = examSeconds;
+        this.heartbeatSeconds = heartbeatSeconds;
+    }
+
+    /**
+     * 웹소켓 연결 완료
+     */
+    public void connected() {
+        connected.increment();
+        peakActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+    }
+
+    /**
+     * 진행 상태 전송 결과
+     *
+     * @param latencyMs 왕복 지연 (응답을 기다리지 않으면 음수, 기록하지 않음)
+     * @param failed 전송 실패 또는 응답 시간 초과 (끊김으로 처리)
+     */
+    public void heartbeat(long latencyMs, boolean failed) {
+        Bucket bucket = bucket(System.currentTimeMillis());
+        if (failed) {
+            bucket.failures.increment();
+            dropped.increment();
+            active.decrementAndGet();
+            return;
+        }
+        bucket.heartbeats.increment();
+        if (latencyMs >= 0) {
+            bucket.latency.recordValue(Math.min(MAX_TRACKABLE_MS, latencyMs));
+        }
+    }
+
+    /**
+     * 시험 시간을 채우고 정상 종료
+     */
+    public void completed() {
+        completed.increment();
+        active.decrementAndGet();
+    }
+
+    /**
+     * 결과 파일 쓰기 및 요약 출력
+     */
+    public void writeReport(Path file) {
+        Map<String, Object> report = report();
+        System.out.printf("⏳ %s: 연결 %d, 정상 종료 %d, 끊김 %d (%.2f%%), 최대 동시 %d, p95 변화 %sms (%s배)%n",
+                METRIC_NAME, report.get("connected"), report.get("completed"), report.get("dropped"),
+                report.get("dropRate"), report.get("peakConnections"), report.get("p95DriftMs"),
+                report.get("p95DriftRatio"));
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        } catch (IOException e) {
+            System.err.printf("⚠️ 장시간 연결 결과 저장 실패: %s (%s)%n", file, e.getMessage());
+        }
+    }
+
+    Map<String, Object> report() {
+        List<Map<String, Object>> intervals = new ArrayList<>();
+        Histogram first = null;
+        Histogram last = null;
+        int lastIndex = buckets.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1);
+        for (int i = 0; i <= lastIndex; i++) {
+            Bucket bucket = buckets.get(i);
+            Histogram snapshot = bucket != null ? bucket.latency.copy() : null;
+            boolean empty = snapshot == null || snapshot.getTotalCount() == 0;
+            Map<String, Object> interval = new LinkedHashMap<>();
+            interval.put("startSecond", i * bucketMillis / 1000);
+            interval.put("heartbeats", bucket != null ? bucket.heartbeats.sum() : 0L);
+            interval.put("drops", bucket != null ? bucket.failures.sum() : 0L);
+            interval.put("meanLatencyMs", empty ? 0.0 : Math.round(snapshot.getMean() * 100.0) / 100.0);
+            interval.put("p50LatencyMs", empty ? 0L : snapshot.getValueAtPercentile(50.0));
+            interval.put("p95LatencyMs", empty ? 0L : snapshot.getValueAtPercentile(95.0));
+            interval.put("p99LatencyMs", empty ? 0L : snapshot.getValueAtPercentile(99.0));
+            interval.put("maxLatencyMs", empty ? 0L : snapshot.getMaxValue());
+            intervals.add(interval);
+            if (!empty) {
+                if (first == null) {
+                    first = snapshot;
+                }
+                last = snapshot;
+            }
+        }
+        long connectedCount = connected.sum();
+        long firstP95 = first != null ? first.getValueAtPercentile(95.0) : 0L;
+        long lastP95 = last != null ? last.getValueAtPercentile(95.0) : 0L;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("metric", METRIC_NAME);
+        report.put("examSeconds", examSeconds);
+        report.put("heartbeatSeconds", heartbeatSeconds);
+        report.put("intervalSeconds", bucketMillis / 1000);
+        report.put("connected", connectedCount);
+        report.put("completed", completed.sum());
+        report.put("dropped", dropped.sum());
+        report.put("dropRate", connectedCount > 0 ? dropped.sum() * 100.0 / connectedCount : 0.0);
+        report.put("peakConnections", peakActive.get());
+        report.put("firstP95LatencyMs", firstP95);
+        report.put("lastP95LatencyMs", lastP95);
+        report.put("p95DriftMs", lastP95 - firstP95);
+        report.put("p95DriftRatio", firstP95 > 0 ? Math.round(lastP95 * 100.0 / firstP95) / 100.0 : 0.0);
+        report.put("intervals", intervals);
+        return report;
+    }
+
+    private Bucket bucket(long now) {
+        int index = (int) (Math.max(0L, now - startedAt) / bucketMillis);
+        return buckets.computeIfAbsent(index, i -> new Bucket());
+    }
+
+    private static final class Bucket {
+        final Histogram latency = new ConcurrentHistogram(MAX_TRACKABLE_MS, 2);
+        final LongAdder heartbeats = new LongAdder();
+        final LongAdder failures = new LongAdder();
+    }
+}
@@ -0,0 +1,118 @@
+package kr.co.iosys.exam.performance.simulation;
+
+import io.gatling.javaapi.core.*;
+import io.gatling.javaapi.http.*;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * AIDEV-NOTE: STATUS_MSG 전송 + 서버 응답 대기 (왕복 지연 측정)
+ * 응답을 기다리면 Gatling이 응답 확인 이름(ackName)으로 전송~수신 시간을 요청 통계에 기록 (결과 요약/엔드포인트 통계에 반영)
+ * 응답 판정 (test.wsAckMode)
+ * - ECHO (기본): 서버가 되돌려 준 같은 사용자/단계/상태의 STATUS_MSG (payload.userId, payload.stageKey, payload.value.stat 일치)
+ *   다른 사용자 메시지나 이전 단계 메시지가 먼저 와도 무시하고 계속 대기
+ * - ANY: 전송 후 처음 받은 텍스트 메시지 (서버가 별도 형식의 확인 응답만 보내는 경우)
+ * - NONE: 응답을 기다리지 않음 (이전 방식, 지연 기록 없음)
+ * test.wsAckTimeoutSeconds (기본 5초) 안에 응답이 없으면 응답 확인 요청이 KO
+ * 전파 측정기(PropagationProbe)를 붙이면 메시지마다 세션의 groupId로 상관 ID를 발급하여 traceList에 넣음
+ */
+public final class StatusExchange {
+
+    public enum AckMode {
+        ECHO,
+        ANY,
+        NONE
+    }
+
+    private final AckMode mode;
+    private final Duration timeout;
+    private final PropagationProbe probe;
+
+    public StatusExchange(AckMode mode, Duration timeout) {
+        this(mode, timeout, null);
+    }
+
+    private StatusExchange(AckMode mode, Duration timeout, PropagationProbe probe) {
+        this.mode = mode;
+        this.timeout = timeout;
+        this.probe = probe;
+    }
+
+    public static StatusExchange fromSystemProperties() {
+        String mode = System.getProperty("test.wsAckMode");
+        String timeout = System.getProperty("test.wsAckTimeoutSeconds");
+        return new StatusExchange(
+                mode != null && !mode.isBlank() && !"null".equals(mode)
+                        ? AckMode.valueOf(mode.trim().toUpperCase(Locale.ROOT)) : AckMode.ECHO,
+                Duration.ofMillis((long) (parseSeconds(timeout, 5.0) * 1000)));
+    }
+
+    public AckMode getMode() {
+        return mode;
+    }
+
+    /**
+     * 상관 ID를 발급할 전파 측정기 지정 (null이면 상관 ID 없음)
+     */
+    public StatusExchange withProbe(PropagationProbe probe) {
+        return new StatusExchange(mode, timeout, probe);
+    }
+
+    /**
+     * 메시지 전송 (응답 판정 모드에 따라 응답 대기)
+     *
+     * @param requestName 전송 요청 이름
+     * @param ackName 응답 확인 이름 (왕복 지연이 이 이름으로 기록됨)
+     */
+    public ChainBuilder send(String requestName, String ackName, StatusMessageTemplate template) {
+        return send(requestName, ackName, session -> template);
+    }
+
+    /**
+     * 세션마다 템플릿이 다른 메시지 전송 (트레이스 재생, 이름은 Gatling EL 가능)
+     */
+    public ChainBuilder send(String requestName, String ackName, Function<Session, StatusMessageTemplate> template) {
+        WsSendTextActionBuilder send = ws(requestName).sendText(session -> render(session, template.apply(session)));
+        return switch (mode) {
+            case NONE -> exec(send);
+            case ANY -> exec(send.await(timeout).on(ws.checkTextMessage(ackName)));
+            case ECHO -> exec(send.await(timeout).on(
+                    ws.checkTextMessage(ackName).matching(
+                            jsonPath("$.payload.userId").is(session -> session.getString("userId")),
+                            jsonPath("$.payload.stageKey").is(session -> template.apply(session).stageKey()),
+                            jsonPath("$.payload.value.stat").is(session -> template.apply(session).stat()))));
+        };
+    }
+
+    private String render(Session session, StatusMessageTemplate template) {
+        String userId = session.getString("userId");
+        if (probe == null) {
+            return template.render(userId);
+        }
+        long now = System.currentTimeMillis();
+        Long groupId = session.contains("groupId") ? session.getLong("groupId") : null;
+        return template.render(userId, now, probe.nextCorrelationId(groupId, now));
+    }
+
+    @Override
+    public String toString() {
+        return mode == AckMode.NONE ? mode.name() : mode + "(" + timeout.toMillis() + "ms)";
+    }
+
+    private static double parseSeconds(String value, double defaultValue) {
+        if (value == null || value.isBlank() || "null".equals(value)) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.printf("⚠️ 잘못된 test.wsAckTimeoutSeconds 값, 기본값 %s 사용%n", defaultValue);
+            return defaultValue;
+        }
+    }
+}
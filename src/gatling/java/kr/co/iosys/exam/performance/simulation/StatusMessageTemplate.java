@@ -0,0 +1,161 @@
+package kr.co.iosys.exam.performance.simulation;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * AIDEV-NOTE: 미리 컴파일한 STATUS_MSG 템플릿
+ * 고정 부분(mode, taskType, planId, runType, stageKey, stat, trace actor 등)은 생성 시 JSON 조각으로 한 번만 만들고
+ * 전송 시에는 userId와 시각 필드만 StringBuilder 하나에 이어 붙임 (Map/ObjectMapper/SimpleDateFormat 할당 없음)
+ * - 메시지 구조는 기존 createStatusMessage(multi-user-performance-test.js와 동일)와 같음
+ * - DateTimeFormatter는 불변이라 가상 사용자 간 공유, 초 단위 포맷 결과는 불변 객체로 캐시하여 같은 초 안에서는 재사용
+ * - 상관 ID(correlationId)를 주면 traceList 항목에 넣음 (감독관 전파 지연 측정, PropagationProbe)
+ * - 한글 고정 문자열은 JSON 유니코드 이스케이프로 바꿔 메시지 전체를 LATIN1 문자열로 유지 (UTF-16 대비 절반 크기)
+ */
+public final class StatusMessageTemplate {
+
+    // 기존 formatDate (yyyyMMddHHmmss, 시스템 시간대)
+    private static final DateTimeFormatter LOCAL_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMddHHmmss").withZone(ZoneId.systemDefault());
+
+    // 기존 toISOString (UTC, 밀리초) - 초까지만 포맷하고 밀리초는 직접 붙임
+    private static final DateTimeFormatter ISO_SECOND_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.").withZone(ZoneOffset.UTC);
+
+    private static final JsonStringEncoder ENCODER = JsonStringEncoder.getInstance();
+
+    // 마지막으로 포맷한 초 (모든 템플릿 공유)
+    private static volatile FormattedSecond lastSecond = new FormattedSecond(Long.MIN_VALUE, null, null);
+
+    private final String head;
+    private final String afterFrom;
+    private final String afterUserId;
+    private final String endtimeKey;
+    private final String afterValue;
+    private final String afterTimestampCliente;
+    private final String afterTimestampLocal;
+    private final String afterDatetime;
+    private final String correlationKey;
+    private final String tail;
+    private final String stageKey;
+    private final String stat;
+    private final boolean complete;
+    private final int estimatedLength;
+
+    private StatusMessageTemplate(String runType, int planId, String stageKey, String stat, boolean complete) {
+        String mode = quote(runType);
+        this.stageKey = stageKey;
+        this.stat = stat;
+        this.complete = complete;
+        this.head = "{\"name\":\"STATUS_MSG\",\"from\":\"";
+        this.afterFrom = "\",\"to\":[],\"payload\":{\"mode\":" + mode
+                + ",\"taskType\":\"UPDATE_EXAM_PROGRESS\",\"planId\":" + planId + ",\"userId\":\"";
+        this.afterUserId = "\",\"runType\":" + mode + ",\"stageKey\":" + quote(stageKey)
+                + ",\"value\":{\"stat\":" + quote(stat) + ",\"starttime\":\"";
+        this.endtimeKey = "\",\"endtime\":\"";
+        this.afterValue = (complete ? "\",\"endflag\":\"Y\"" + ("TEST_0".equals(stageKey) ? ",\"examstat\":\"2\"" : "") : "\"")
+                + "}},\"meta\":{\"timestampCliente\":";
+        this.afterTimestampCliente = ",\"timestampLocal\":";
+        this.afterTimestampLocal = ",\"traceList\":[{\"actor\":" + quote("Gatling부하테스트")
+                + ",\"action\":" + quote("전송") + ",\"datetime\":\"";
+        this.afterDatetime = "Z\"";
+        this.correlationKey = ",\"correlationId\":\"";
+        this.tail = "}]}}";
+        this.estimatedLength = head.length() + afterFrom.length() + afterUserId.length() + endtimeKey.length()
+                + afterValue.length() + afterTimestampCliente.length() + afterTimestampLocal.length()
+                + afterDatetime.length() + correlationKey.length() + tail.length() + 192;
+    }
+
+    /**
+     * @param complete 완료 메시지 여부 (endtime, endflag 포함, TEST_0이면 examstat=2)
+     */
+    public static StatusMessageTemplate of(String runType, int planId, String stageKey, String stat, boolean complete) {
+        return new StatusMessageTemplate(runType, planId, stageKey, stat, complete);
+    }
+
+    public String stageKey() {
+        return stageKey;
+    }
+
+    public String stat() {
+        return stat;
+    }
+
+    /**
+     * 현재 시각으로 메시지 생성
+     */
+    public String render(String userId) {
+        return render(userId, System.currentTimeMillis());
+    }
+
+    public String render(String userId, long epochMillis) {
+        return render(userId, epochMillis, null);
+    }
+
+    /**
+     * @param correlationId traceList 항목의 상관 ID (null이면 생략)
+     */
+    public String render(String userId, long epochMillis, String correlationId) {
+        FormattedSecond second = formattedSecond(epochMillis);
+        String localTime = second.localTime;
+
+        StringBuilder sb = new StringBuilder(estimatedLength);
+        sb.append(head);
+        ENCODER.quoteAsString(userId, sb);
+        sb.append(afterFrom);
+        ENCODER.quoteAsString(userId, sb);
+        sb.append(afterUserId).append(localTime);
+        if (complete) {
+            sb.append(endtimeKey).append(localTime);
+        }
+        sb.append(afterValue).append(epochMillis)
+          .append(afterTimestampCliente).append(epochMillis)
+          .append(afterTimestampLocal).append(second.isoPrefix);
+        int millis = (int) Math.floorMod(epochMillis, 1000L);
+        if (millis < 100) {
+            sb.append(millis < 10 ? "00" : "0");
+        }
+        sb.append(millis).append(afterDatetime);
+        if (correlationId != null) {
+            sb.append(correlationKey);
+            ENCODER.quoteAsString(correlationId, sb);
+            sb.append('"');
+        }
+        return sb.append(tail).toString();
+    }
+
+    private static FormattedSecond formattedSecond(long epochMillis) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000L);
+        FormattedSecond cached = lastSecond;
+        if (cached.epochSecond == epochSecond) {
+            return cached;
+        }
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        FormattedSecond formatted = new FormattedSecond(epochSecond,
+                LOCAL_FORMAT.format(instant), ISO_SECOND_FORMAT.format(instant));
+        lastSecond = formatted;
+        return formatted;
+    }
+
+    /**
+     * JSON 문자열 리터럴 (ASCII 밖의 문자는 유니코드 이스케이프)
+     */
+    private static String quote(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (char c : ENCODER.quoteAsString(value)) {
+            if (c < 0x80) {
+                sb.append(c);
+            } else {
+                sb.append(String.format("\\u%04x", (int) c));
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private record FormattedSecond(long epochSecond, String localTime, String isoPrefix) {
+    }
+}
@@ -0,0 +1,287 @@
+package kr.co.iosys.exam.performance.simulation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AIDEV-NOTE: 재연결 폭주(reconnect storm) 측정
+ * 첫 사용자 시작 기준 stormAt에 접속 중인 수험자 중 fraction 비율의 연결을 동시에 끊고, 클라이언트 재연결 정책(지수 백오프)으로 재연결
+ * - 재연결 성공률 (끊은 연결 중 최대 시도 안에 다시 연결된 비율), 시도 횟수, 끊김~재연결 시간 분포
+ * - 진행 상태 응답 처리량을 구간(bucketSeconds)별로 세어, 폭주 직전 기준 구간(baselineSeconds) 평균의 RECOVERY_RATIO 이상으로
+ *   돌아온 첫 구간까지를 회복 시간으로 보고 (끝까지 돌아오지 않으면 -1)
+ * - 응답 지연 급증: 기준 구간 p95 대비 폭주 이후 구간별 p95의 최댓값과 배율
+ * - 종료 시 storm-report.json으로 저장 (서버가 결과 디렉토리로 옮겨 결과 번들에 포함)
+ * 연결 끊기는 클라이언트 쪽 close (Gatling은 TCP 연결을 비정상 종료할 수 없음) - 서버는 네트워크 단절 대신 정상 종료를 받음
+ */
+public final class StormMonitor {
+
+    public static final String METRIC_NAME = "재연결 폭주";
+
+    public enum Jitter {
+        // 0 ~ 지연 (AWS 권장 full jitter), 지연/2 ~ 지연, 고정
+        FULL,
+        EQUAL,
+        NONE
+    }
+
+    // 기준 처리량 대비 이 비율 이상이면 회복
+    private static final double RECOVERY_RATIO = 0.9;
+    private static final long MAX_TRACKABLE_MS = 60_000L;
+
+    private final long stormAtMillis;
+    private final double fraction;
+    private final long bucketMillis;
+    private final long baselineMillis;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final double multiplier;
+    private final Jitter jitter;
+    private final int maxAttempts;
+
+    private final AtomicLong origin = new AtomicLong();
+    private final ConcurrentHashMap<Integer, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Histogram reconnectTime = new ConcurrentHistogram(3_600_000L, 3);
+    private final LongAdder closed = new LongAdder();
+    private final LongAdder reconnected = new LongAdder();
+    private final LongAdder gaveUp = new LongAdder();
+    private final LongAdder attempts = new LongAdder();
+    private final AtomicLong firstClose = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong lastClose = new AtomicLong(Long.MIN_VALUE);
+
+    public StormMonitor(Duration stormAt, double fraction, Duration bucket, Duration baseline,
+                        Duration initialBackoff, Duration maxBackoff, double multiplier, Jitter jitter, int maxAttempts) {
+        this.stormAtMillis = stormAt.toMillis();
+        this.fraction = fraction;
+        this.bucketMillis = Math.max(1L, bucket.toMillis());
+        this.baselineMillis = baseline.toMillis();
+        this.initialBackoffMillis = initialBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public static Jitter jitter(String value) {
+        return Jitter.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * 사용자 시작 (첫 사용자 시작 시각이 기준), 폭주 대상 여부 추첨
+     */
+    public boolean begin() {
+        origin.compareAndSet(0L, System.currentTimeMillis());
+        return ThreadLocalRandom.current().nextDouble() < fraction;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * 다음 진행 상태 전송까지 대기 (폭주 전 대상자는 폭주 시각에 정확히 깨어남)
+     */
+    public Duration nextWait(boolean pendingVictim, long heartbeatMillis) {
+        long wait = ThreadLocalRandom.current().nextLong(heartbeatMillis * 8 / 10, heartbeatMillis * 12 / 10 + 1);
+        if (pendingVictim) {
+            wait = Math.min(wait, Math.max(0L, stormAt() - System.currentTimeMillis()));
+        }
+        return Duration.ofMillis(wait);
+    }
+
+    /**
+     * 첫 사용자 시작 후 경과 시간 (ms)
+     */
+    public long elapsedMillis() {
+        return System.currentTimeMillis() - origin.get();
+    }
+
+    /**
+     * 폭주 시각이 지났는지
+     */
+    public boolean stormed() {
+        return origin.get() != 0L && System.currentTimeMillis() >= stormAt();
+    }
+
+    /**
+     * 연결 강제 종료 기록, 종료 시각 반환
+     */
+    public long closed() {
+        long now = System.currentTimeMillis();
+        closed.increment();
+        firstClose.accumulateAndGet(now, Math::min);
+        lastClose.accumulateAndGet(now, Math::max);
+        return now;
+    }
+
+    /**
+     * 재연결 시도 전 대기 (attempt는 0부터, 지수 백오프 + 지터)
+     */
+    public Duration backoff(int attempt) {
+        double base = Math.min(maxBackoffMillis, initialBackoffMillis * Math.pow(multiplier, attempt));
+        long delay = switch (jitter) {
+            case FULL -> (long) (ThreadLocalRandom.current().nextDouble() * base);
+            case EQUAL -> (long) (base / 2 + ThreadLocalRandom.current().nextDouble() * base / 2);
+            case NONE -> (long) base;
+        };
+        return Duration.ofMillis(delay);
+    }
+
+    public void reconnected(long closedAt, int attemptCount) {
+        reconnected.increment();
+        attempts.add(attemptCount);
+        reconnectTime.recordValue(Math.min(3_600_000L, Math.max(0L, System.currentTimeMillis() - closedAt)));
+    }
+
+    public void gaveUp(int attemptCount) {
+        gaveUp.increment();
+        attempts.add(attemptCount);
+    }
+
+    /**
+     * 진행 상태 전송 결과 (성공한 응답만 처리량에 포함)
+     *
+     * @param latencyMs 전송~응답 지연 (응답을 기다리지 않으면 음수)
+     */
+    public void heartbeat(long latencyMs, boolean failed) {
+        long start = origin.get();
+        int index = (int) (Math.max(0L, System.currentTimeMillis() - start) / bucketMillis);
+        Bucket bucket = buckets.computeIfAbsent(index, i -> new Bucket());
+        if (failed) {
+            bucket.failures.increment();
+            return;
+        }
+        bucket.replies.increment();
+        if (latencyMs >= 0) {
+            bucket.latency.recordValue(Math.min(MAX_TRACKABLE_MS, latencyMs));
+        }
+    }
+
+    /**
+     * 결과 파일 쓰기 및 요약 출력
+     */
+    public void writeReport(Path file) {
+        Map<String, Object> report = report();
+        System.out.printf("🌩️ %s: 끊음 %d, 재연결 %d (%.2f%%), 포기 %d, 재연결 p95=%sms, 회복 %s초, p95 %sms → %sms (%s배)%n",
+                METRIC_NAME, report.get("closed"), report.get("reconnected"), report.get("reconnectSuccessRate"),
+                report.get("gaveUp"), report.get("p95ReconnectMs"), report.get("recoverySeconds"),
+                report.get("baselineP95LatencyMs"), report.get("peakP95LatencyMs"), report.get("latencySpikeRatio"));
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        } catch (IOException e) {
+            System.err.printf("⚠️ 재연결 폭주 결과 저장 실패: %s (%s)%n", file, e.getMessage());
+        }
+    }
+
+    Map<String, Object> report() {
+        int stormIndex = (int) (stormAtMillis / bucketMillis);
+        int baselineFrom = (int) Math.max(0L, (stormAtMillis - baselineMillis) / bucketMillis);
+        int lastIndex = buckets.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1);
+
+        // 기준 구간 (폭주 직전): 처리량 평균과 지연 p95
+        Histogram baselineLatency = new Histogram(MAX_TRACKABLE_MS, 2);
+        long baselineReplies = 0;
+        int baselineBuckets = 0;
+        for (int i = baselineFrom; i < stormIndex; i++) {
+            Bucket bucket = buckets.get(i);
+            baselineBuckets++;
+            if (bucket != null) {
+                baselineReplies += bucket.replies.sum();
+                baselineLatency.add(bucket.latency.copy());
+            }
+        }
+        double baselineThroughput = baselineBuckets > 0 ? baselineReplies / (double) baselineBuckets : 0.0;
+        long baselineP95 = baselineLatency.getValueAtPercentile(95.0);
+
+        // 폭주 이후: 회복 구간, 구간별 p95 최댓값
+        int recoveryIndex = -1;
+        long peakP95 = 0;
+        long minReplies = Long.MAX_VALUE;
+        List<Map<String, Object>> intervals = new ArrayList<>();
+        for (int i = baselineFrom; i <= lastIndex; i++) {
+            Bucket bucket = buckets.get(i);
+            long replies = bucket != null ? bucket.replies.sum() : 0L;
+            Histogram snapshot = bucket != null ? bucket.latency.copy() : null;
+            long p95 = snapshot != null ? snapshot.getValueAtPercentile(95.0) : 0L;
+            if (i >= stormIndex) {
+                peakP95 = Math.max(peakP95, p95);
+                minReplies = Math.min(minReplies, replies);
+                if (recoveryIndex < 0 && i > stormIndex && baselineThroughput > 0
+                        && replies >= baselineThroughput * RECOVERY_RATIO) {
+                    recoveryIndex = i;
+                }
+            }
+            Map<String, Object> interval = new LinkedHashMap<>();
+            interval.put("startSecond", i * bucketMillis / 1000.0);
+            interval.put("replies", replies);
+            interval.put("failures", bucket != null ? bucket.failures.sum() : 0L);
+            interval.put("p95LatencyMs", p95);
+            intervals.add(interval);
+        }
+
+        long closedCount = closed.sum();
+        long reconnectedCount = reconnected.sum();
+        Histogram reconnects = reconnectTime.copy();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("metric", METRIC_NAME);
+        report.put("stormAtSeconds", stormAtMillis / 1000.0);
+        report.put("fraction", fraction);
+        report.put("backoff", String.format("%s(%dms×%.1f, 최대 %dms, %d회)", jitter, initialBackoffMillis, multiplier,
+                maxBackoffMillis, maxAttempts));
+        report.put("closed", closedCount);
+        report.put("closeSpreadMs", closedCount > 0 ? lastClose.get() - firstClose.get() : 0L);
+        report.put("reconnected", reconnectedCount);
+        report.put("gaveUp", gaveUp.sum());
+        report.put("reconnectSuccessRate", closedCount > 0 ? reconnectedCount * 100.0 / closedCount : 0.0);
+        report.put("meanAttempts", reconnectedCount + gaveUp.sum() > 0
+                ? Math.round(attempts.sum() * 100.0 / (reconnectedCount + gaveUp.sum())) / 100.0 : 0.0);
+        report.put("p50ReconnectMs", reconnects.getValueAtPercentile(50.0));
+        report.put("p95ReconnectMs", reconnects.getValueAtPercentile(95.0));
+        report.put("p99ReconnectMs", reconnects.getValueAtPercentile(99.0));
+        report.put("maxReconnectMs", reconnects.getMaxValue());
+        report.put("intervalSeconds", bucketMillis / 1000.0);
+        report.put("baselineThroughput", Math.round(baselineThroughput * 100.0) / 100.0);
+        report.put("minThroughput", minReplies == Long.MAX_VALUE ? 0L : minReplies);
+        report.put("recoverySeconds", recoveryIndex >= 0 ? (recoveryIndex - stormIndex) * bucketMillis / 1000.0 : -1.0);
+        report.put("baselineP95LatencyMs", baselineP95);
+        report.put("peakP95LatencyMs", peakP95);
+        report.put("latencySpikeRatio", baselineP95 > 0 ? Math.round(peakP95 * 100.0 / baselineP95) / 100.0 : 0.0);
+        report.put("intervals", intervals);
+        return report;
+    }
+
+    private long stormAt() {
+        return origin.get() + stormAtMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.0f%% @%ds", fraction * 100, stormAtMillis / 1000);
+    }
+
+    private static final class Bucket {
+        final Histogram latency = new ConcurrentHistogram(MAX_TRACKABLE_MS, 2);
+        final LongAdder replies = new LongAdder();
+        final LongAdder failures = new LongAdder();
+    }
+}
@@ -0,0 +1,423 @@
+package kr.co.iosys.exam.performance.simulation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gatling.javaapi.core.OpenInjectionStep;
+import io.gatling.javaapi.core.Session;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * AIDEV-NOTE: 운영 트레이스 재생 (test.traceFile, 세션 시작 시각 순으로 정렬된 JSON Lines)
+ * 한 줄이 사용자 세션 하나 - 시작 시각(epoch ms)과 시작 기준 상대 시각(at, ms)의 이벤트 목록
+ * <pre>
+ * {"user":"prod-1","start":1718000000000,"events":[
+ *   {"at":0,"type":"STATUS","stageKey":"SYSTEM_CHECK","stat":"1"},
+ *   {"at":5300,"type":"HTTP","method":"GET","path":"/api/exam/questions/1","name":"문항 조회"},
+ *   {"at":61000,"type":"STATUS","stageKey":"TEST_0","stat":"2"}]}
+ * </pre>
+ * - 파일 전체를 메모리에 올리지 않음: 시작 시 한 번 훑어 세션 수/초당 도착 수만 세고, 재생 중에는 피더가 한 줄씩 읽음
+ * - 세션의 이벤트는 시각(int)과 동작 번호(int) 배열, HTTP 경로/본문 배열로 보관 (세션이 끝나면 함께 해제)
+ * - 동작(STATUS 템플릿/HTTP 요청 이름)은 같은 내용끼리 공유 - HTTP는 메서드와 요청 이름으로만 구분하고,
+ *   이름이 없으면 숫자/UUID 경로 구간을 {id}로 바꾼 경로로 만듦 (사용자별 경로가 동작/통계 항목을 늘리지 않음)
+ *   동작 종류가 MAX_ACTIONS를 넘으면 이후 새 이름은 메서드별 "기타" 동작으로 묶음
+ * - HTTP body는 문자열이면 그대로, JSON 객체/배열이면 JSON 문자열로 전송
+ * - 재생 속도 test.replaySpeed (기본 1.0, 2.0이면 모든 간격을 절반으로), 사용자는 명단 피더의 수험자로 로그인
+ * - 도착은 재생 초마다 그 초에 시작하는 세션 수만큼 주입하고, 초 안의 나머지는 pause로 맞춤
+ * - 일정보다 늦게 실행된 이벤트(발생기 과부하) 수와 최대 지연을 종료 시 출력
+ * STATUS의 complete는 생략 시 stat이 "2"이면 true (TEST_0 완료면 examstat=2 포함, StatusMessageTemplate 참고)
+ */
+public final class TraceReplay {
+
+    public static final String KIND_STATUS = "STATUS";
+    public static final List<String> HTTP_METHODS = List.of("GET", "POST", "PUT", "PATCH", "DELETE");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Pattern ID_SEGMENT =
+            Pattern.compile("\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9a-fA-F]{16,}");
+    private static final String TRACE_KEY = "trace";
+    private static final String DUE_KEY = "traceDue";
+    private static final String ACTION_KEY = "traceAction";
+    private static final String PATH_KEY = "tracePath";
+    private static final String BODY_KEY = "traceBody";
+    // 공유 동작 최대 종류 수 (트레이스 크기와 관계없이 메모리 상한)
+    private static final int MAX_ACTIONS = 10_000;
+    // 이보다 늦게 실행되면 지연 재생으로 집계 (ms)
+    private static final long LATE_THRESHOLD_MS = 1000L;
+
+    private final Path file;
+    private final double speed;
+    private final String runType;
+    private final int planId;
+    private final int sessions;
+    private final long events;
+    private final int[] arrivalsPerSecond;
+    private final long durationMillis;
+
+    private final Map<String, Integer> actionIds = new ConcurrentHashMap<>();
+    private final List<Action> actions = new ArrayList<>();
+    private final AtomicLong origin = new AtomicLong();
+    private final LongAdder lateEvents = new LongAdder();
+    private final AtomicLong maxLagMs = new AtomicLong();
+
+    private TraceReplay(Path file, double speed, String runType, int planId, int sessions, long events,
+                        int[] arrivalsPerSecond, long durationMillis) {
+        this.file = file;
+        this.speed = speed;
+        this.runType = runType;
+        this.planId = planId;
+        this.sessions = sessions;
+        this.events = events;
+        this.arrivalsPerSecond = arrivalsPerSecond;
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * 트레이스 파일을 한 번 훑어 세션 수와 재생 초당 도착 수 계산 (세션 내용은 보관하지 않음)
+     *
+     * @throws IllegalStateException 파일을 읽을 수 없거나 형식/정렬이 잘못된 경우
+     */
+    public static TraceReplay scan(Path file, double speed, String runType, int planId) {
+        if (!(speed > 0)) {
+            throw new IllegalStateException("재생 속도는 0보다 커야 합니다: " + speed);
+        }
+        List<Integer> arrivals = new ArrayList<>();
+        long firstStart = Long.MIN_VALUE;
+        long previousStart = Long.MIN_VALUE;
+        int sessions = 0;
+        long events = 0;
+        long durationMillis = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode node = MAPPER.readTree(line);
+                if (!node.hasNonNull("start") || !node.path("events").isArray()) {
+                    throw new IllegalStateException("트레이스 " + lineNumber + "번째 줄에 start/events가 없습니다");
+                }
+                long start = node.get("start").asLong();
+                if (start < previousStart) {
+                    throw new IllegalStateException("트레이스는 start 순으로 정렬되어야 합니다 (" + lineNumber + "번째 줄)");
+                }
+                if (firstStart == Long.MIN_VALUE) {
+                    firstStart = start;
+                }
+                previousStart = start;
+                int second = (int) (scale(start - firstStart, speed) / 1000);
+                while (arrivals.size() <= second) {
+                    arrivals.add(0);
+                }
+                arrivals.set(second, arrivals.get(second) + 1);
+                sessions++;
+                long lastAt = 0;
+                for (JsonNode event : node.get("events")) {
+                    lastAt = Math.max(lastAt, event.path("at").asLong());
+                    events++;
+                }
+                durationMillis = Math.max(durationMillis, scale(start - firstStart, speed) + scale(lastAt, speed));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("트레이스 파일을 읽을 수 없습니다: " + file + " (" + e.getMessage() + ")", e);
+        }
+        return new TraceReplay(file, speed, runType, planId, sessions, events,
+                arrivals.stream().mapToInt(Integer::intValue).toArray(), durationMillis);
+    }
+
+    public int getSessions() {
+        return sessions;
+    }
+
+    /**
+     * 원래 시간 간격대로 도착하는 주입 단계 (세션이 없는 초는 묶어서 대기)
+     */
+    public List<OpenInjectionStep> injectionSteps(Duration delay) {
+        List<OpenInjectionStep> steps = new ArrayList<>();
+        long idleSeconds = delay.toSeconds();
+        for (int count : arrivalsPerSecond) {
+            if (count == 0) {
+                idleSeconds++;
+                continue;
+            }
+            if (idleSeconds > 0) {
+                steps.add(nothingFor(Duration.ofSeconds(idleSeconds)));
+                idleSeconds = 0;
+            }
+            steps.add(rampUsers(count).during(Duration.ofSeconds(1)));
+        }
+        return steps;
+    }
+
+    /**
+     * 재생 시간 (초, 마지막 세션의 마지막 이벤트까지)
+     */
+    public long durationSeconds() {
+        return (durationMillis + 999) / 1000;
+    }
+
+    /**
+     * 세션을 한 줄씩 읽는 피더 (주입 순서 = 파일 순서, 세션 수만큼만 주입하므로 끝에 도달하지 않음)
+     */
+    public Iterator<Map<String, Object>> feeder() {
+        return new Iterator<>() {
+            private BufferedReader reader;
+            private String next;
+            private long firstStart = Long.MIN_VALUE;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    next = readLine();
+                }
+                return next != null;
+            }
+
+            @Override
+            public Map<String, Object> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("트레이스 세션을 모두 재생했습니다");
+                }
+                String line = next;
+                next = null;
+                try {
+                    JsonNode node = MAPPER.readTree(line);
+                    long start = node.get("start").asLong();
+                    if (firstStart == Long.MIN_VALUE) {
+                        firstStart = start;
+                    }
+                    return Map.of(TRACE_KEY, parseSession(node, scale(start - firstStart, speed)));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            private String readLine() {
+                try {
+                    if (reader == null) {
+                        reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+                    }
+                    String line;
+                    while ((line = reader.readLine()) != null && line.isBlank()) {
+                        // 빈 줄 건너뜀
+                    }
+                    if (line == null) {
+                        reader.close();
+                    }
+                    return line;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * 세션 시작 시각까지 대기 (첫 세션 실행 시각을 재생 기준으로 삼음), 이벤트 기준 시각을 세션에 저장
+     */
+    public Duration untilStart(Session session) {
+        TraceSession trace = session.get(TRACE_KEY);
+        long now = System.currentTimeMillis();
+        origin.compareAndSet(0L, now - trace.offsetMillis());
+        return Duration.ofMillis(Math.max(0L, origin.get() + trace.offsetMillis() - now));
+    }
+
+    public Session markStart(Session session) {
+        TraceSession trace = session.get(TRACE_KEY);
+        return session.set(DUE_KEY, origin.get() + trace.offsetMillis());
+    }
+
+    public int size(Session session) {
+        TraceSession trace = session.get(TRACE_KEY);
+        return trace.at().length;
+    }
+
+    /**
+     * 다음 이벤트 시각까지 대기 (늦었으면 바로 실행하고 지연 집계)
+     */
+    public Duration untilEvent(Session session, String indexKey) {
+        TraceSession trace = session.get(TRACE_KEY);
+        long due = session.getLong(DUE_KEY) + trace.at()[session.getInt(indexKey)];
+        long wait = due - System.currentTimeMillis();
+        if (wait < -LATE_THRESHOLD_MS) {
+            lateEvents.increment();
+            maxLagMs.accumulateAndGet(-wait, Math::max);
+        }
+        return Duration.ofMillis(Math.max(0L, wait));
+    }
+
+    /**
+     * 현재 이벤트의 동작과 HTTP 경로/본문을 세션에 지정 (분기와 요청 이름 EL #{traceRequest}, #{traceAck}에서 사용, 문자열은 동작과 공유)
+     */
+    public Session select(Session session, String indexKey) {
+        TraceSession trace = session.get(TRACE_KEY);
+        int index = session.getInt(indexKey);
+        Action action = action(trace.actions()[index]);
+        Session selected = session.set(ACTION_KEY, action).set("traceRequest", action.requestName());
+        if (action.ackName() != null) {
+            selected = selected.set("traceAck", action.ackName());
+        }
+        if (trace.paths()[index] != null) {
+            selected = selected.set(PATH_KEY, trace.paths()[index]);
+        }
+        return trace.bodies()[index] != null ? selected.set(BODY_KEY, trace.bodies()[index]) : selected.remove(BODY_KEY);
+    }
+
+    public static Action current(Session session) {
+        return session.get(ACTION_KEY);
+    }
+
+    /**
+     * 현재 HTTP 이벤트의 경로
+     */
+    public static String path(Session session) {
+        return session.getString(PATH_KEY);
+    }
+
+    /**
+     * 현재 HTTP 이벤트의 본문 (없으면 빈 문자열)
+     */
+    public static String body(Session session) {
+        return session.contains(BODY_KEY) ? session.getString(BODY_KEY) : "";
+    }
+
+    /**
+     * 재생 요약 출력
+     */
+    public void printSummary() {
+        System.out.printf("🎞️ 트레이스 재생: 세션 %d, 이벤트 %d, 동작 %d종, 속도 %.2fx, 지연 재생 %d건 (최대 %dms)%n",
+                sessions, events, actions.size(), speed, lateEvents.sum(), maxLagMs.get());
+    }
+
+    @Override
+    public String toString() {
+        return file.getFileName() + "(" + sessions + "세션, " + speed + "x)";
+    }
+
+    private TraceSession parseSession(JsonNode node, long offsetMillis) {
+        JsonNode events = node.get("events");
+        int[] at = new int[events.size()];
+        int[] ids = new int[events.size()];
+        String[] paths = new String[events.size()];
+        String[] bodies = new String[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            JsonNode event = events.get(i);
+            at[i] = (int) Math.min(Integer.MAX_VALUE, scale(event.path("at").asLong(), speed));
+            String type = event.path("type").asText(KIND_STATUS).toUpperCase(Locale.ROOT);
+            if (KIND_STATUS.equals(type)) {
+                ids[i] = statusActionId(event);
+            } else {
+                paths[i] = event.path("path").asText();
+                bodies[i] = bodyOf(event.get("body"));
+                ids[i] = httpActionId(event, paths[i]);
+            }
+        }
+        return new TraceSession(offsetMillis, at, ids, paths, bodies);
+    }
+
+    private int statusActionId(JsonNode event) {
+        String stageKey = event.path("stageKey").asText();
+        String stat = event.path("stat").asText("1");
+        boolean complete = event.path("complete").asBoolean("2".equals(stat));
+        return actionId(KIND_STATUS + '\n' + stageKey + '\n' + stat + '\n' + complete, () -> {
+            String name = "재생 " + stageKey + "/" + stat;
+            return new Action(KIND_STATUS, name + " 전송", name + " 응답",
+                    StatusMessageTemplate.of(runType, planId, stageKey, stat, complete));
+        });
+    }
+
+    private int httpActionId(JsonNode event, String path) {
+        String method = event.path("method").asText("GET").toUpperCase(Locale.ROOT);
+        if (!HTTP_METHODS.contains(method)) {
+            throw new IllegalStateException("재생할 수 없는 HTTP 메서드입니다: " + method);
+        }
+        String name = event.hasNonNull("name") ? event.get("name").asText() : "재생 " + method + " " + templatePath(path);
+        String key = method + '\n' + name;
+        if (!actionIds.containsKey(key) && actionIds.size() >= MAX_ACTIONS) {
+            name = "재생 " + method + " 기타";
+            key = method + '\n' + name;
+        }
+        String requestName = name;
+        return actionId(key, () -> new Action(method, requestName, null, null));
+    }
+
+    private int actionId(String key, Supplier<Action> factory) {
+        Integer id = actionIds.get(key);
+        if (id != null) {
+            return id;
+        }
+        synchronized (actions) {
+            return actionIds.computeIfAbsent(key, k -> {
+                actions.add(factory.get());
+                return actions.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * 요청 이름용 경로 (쿼리 제외, 숫자/UUID/긴 16진수 구간은 {id})
+     */
+    static String templatePath(String path) {
+        int query = path.indexOf('?');
+        String[] segments = (query >= 0 ? path.substring(0, query) : path).split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            if (ID_SEGMENT.matcher(segments[i]).matches()) {
+                segments[i] = "{id}";
+            }
+        }
+        return String.join("/", segments);
+    }
+
+    /**
+     * 이벤트 본문 (문자열은 그대로, JSON 객체/배열은 JSON 문자열, 없으면 null)
+     */
+    static String bodyOf(JsonNode body) {
+        if (body == null || body.isNull()) {
+            return null;
+        }
+        return body.isTextual() ? body.asText() : body.toString();
+    }
+
+    private Action action(int id) {
+        synchronized (actions) {
+            return actions.get(id);
+        }
+    }
+
+    private static long scale(long millis, double speed) {
+        return Math.round(millis / speed);
+    }
+
+    /**
+     * 세션 하나 (재생 기준 시작 오프셋, 이벤트별 시작 기준 시각과 동작 번호 - 모두 재생 속도 반영, HTTP 이벤트별 경로/본문)
+     */
+    record TraceSession(long offsetMillis, int[] at, int[] actions, String[] paths, String[] bodies) {
+    }
+
+    /**
+     * 재생 동작 (kind는 STATUS 또는 HTTP 메서드, 같은 STATUS 내용/같은 HTTP 요청 이름의 이벤트끼리 공유)
+     */
+    public record Action(String kind, String requestName, String ackName, StatusMessageTemplate template) {
+    }
+}
@@ -0,0 +1,191 @@
+package kr.co.iosys.exam.performance.config;
+
+import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
+import kr.co.iosys.exam.performance.dashboard.service.RealtimeMonitoringService;
+
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 실시간 데이터(메트릭, 상태, 로그)용 Redis 값 직렬화기
+ * 쓰기 형식(WriteFormat)에 따라 기존 이중 인코딩 JSON 또는 버전 헤더 + CBOR 바이너리로 저장, 읽기는 두 형식 모두 지원
+ *
+ * AIDEV-NOTE: 바이너리 형식 [0xB7 매직][버전][타입][CBOR 페이로드]
+ * - 타입은 값의 클래스로 결정 (TestMetrics, StatusPayload, LogEntry) - 일반 Map은 상태로 보지 않고 JSON으로 저장
+ * - JSON 쓰기는 이전 노드와 같은 형식 (JSON 문자열을 다시 JSON 문자열로 저장) - 이전 노드도 읽을 수 있음
+ * - 읽을 때 첫 바이트로 형식 판별: 매직(0xB7, JSON의 첫 바이트로 나올 수 없음)이면 바이너리, 아니면 JSON
+ *   이중 인코딩된 JSON 문자열은 convert/convertStatus가 한 번 더 파싱, 타입 정보 없는 JSON 객체는 Map으로 읽음
+ * - 이전 노드는 바이너리를 읽지 못하므로 전환 순서: JSON 쓰기(기본)로 읽기 지원을 모든 노드에 배포 → 다음 배포에서 CBOR 쓰기
+ *   새 버전 추가도 같은 순서 (읽기 지원을 먼저 배포한 뒤 쓰기 버전을 올림)
+ * - 대상이 아닌 값(테스트 ID 등)은 기존 JSON 직렬화기에 위임
+ */
+public class LiveDataRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xB7;
+    static final byte CURRENT_VERSION = 1;
+
+    // 페이로드 타입
+    static final byte TYPE_METRICS = 1;
+    static final byte TYPE_STATUS = 2;
+    static final byte TYPE_LOG = 3;
+
+    private static final int HEADER_LENGTH = 3;
+
+    /**
+     * 실시간 값 쓰기 형식
+     * JSON: 이전 노드와 같은 이중 인코딩 JSON (롤링 배포 중 기본) | CBOR: 버전 헤더 + 바이너리
+     */
+    public enum WriteFormat {
+        JSON,
+        CBOR
+    }
+
+    /**
+     * 테스트 상태 값 (바이너리 상태 타입으로 저장할 Map임을 명시, 읽으면 Map으로 반환)
+     */
+    public record StatusPayload(Map<String, Object> fields) {
+    }
+
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final RedisSerializer<Object> fallback = new GenericJackson2JsonRedisSerializer();
+    private final WriteFormat writeFormat;
+
+    public LiveDataRedisSerializer() {
+        this(WriteFormat.JSON);
+    }
+
+    public LiveDataRedisSerializer(WriteFormat writeFormat) {
+        this.writeFormat = writeFormat;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte type;
+        Object payloadValue = value;
+        if (value instanceof TestMetrics) {
+            type = TYPE_METRICS;
+        } else if (value instanceof StatusPayload status) {
+            type = TYPE_STATUS;
+            payloadValue = status.fields();
+        } else if (value instanceof RealtimeMonitoringService.LogEntry) {
+            type = TYPE_LOG;
+        } else {
+            return fallback.serialize(value);
+        }
+
+        try {
+            if (writeFormat == WriteFormat.JSON) {
+                return fallback.serialize(jsonMapper.writeValueAsString(payloadValue));
+            }
+            byte[] payload = cborMapper.writeValueAsBytes(payloadValue);
+            byte[] bytes = new byte[HEADER_LENGTH + payload.length];
+            bytes[0] = MAGIC;
+            bytes[1] = CURRENT_VERSION;
+            bytes[2] = type;
+            System.arraycopy(payload, 0, bytes, HEADER_LENGTH, payload.length);
+            return bytes;
+        } catch (SerializationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SerializationException("실시간 데이터 직렬화 실패: " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return deserializeJson(bytes);
+        }
+        if (bytes.length < HEADER_LENGTH) {
+            throw new SerializationException("실시간 데이터 헤더 손상: length=" + bytes.length);
+        }
+
+        byte version = bytes[1];
+        if (version != CURRENT_VERSION) {
+            throw new SerializationException("지원하지 않는 실시간 데이터 버전: " + version);
+        }
+
+        byte[] payload = Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+        try {
+            switch (bytes[2]) {
+                case TYPE_METRICS:
+                    return cborMapper.readValue(payload, TestMetrics.class);
+                case TYPE_STATUS:
+                    return cborMapper.readValue(payload, new TypeReference<LinkedHashMap<String, Object>>() {});
+                case TYPE_LOG:
+                    return cborMapper.readValue(payload, RealtimeMonitoringService.LogEntry.class);
+                default:
+                    throw new SerializationException("알 수 없는 실시간 데이터 타입: " + bytes[2]);
+            }
+        } catch (SerializationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SerializationException("실시간 데이터 역직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 매직 바이트가 없는 값 (이전 노드의 JSON 또는 위임한 값)
+     * 타입 정보(@class)가 있거나 문자열이면 기존 직렬화기로, 타입 정보 없는 JSON 객체는 Map으로 읽음
+     */
+    private Object deserializeJson(byte[] bytes) {
+        try {
+            return fallback.deserialize(bytes);
+        } catch (SerializationException e) {
+            if (bytes[0] != '{') {
+                throw e;
+            }
+            try {
+                return jsonMapper.readValue(bytes, new TypeReference<LinkedHashMap<String, Object>>() {});
+            } catch (Exception parseError) {
+                throw new SerializationException("실시간 데이터 JSON 역직렬화 실패", parseError);
+            }
+        }
+    }
+
+    /**
+     * Redis에서 읽은 값을 지정 타입으로 변환
+     * 바이너리 형식은 이미 변환된 객체, 이전 JSON 문자열 형식은 파싱, 타입 정보 없는 JSON 객체(Map)는 변환하여 반환
+     */
+    public static <T> T convert(Object data, Class<T> type, ObjectMapper objectMapper) throws Exception {
+        if (data == null) {
+            return null;
+        }
+        if (type.isInstance(data)) {
+            return type.cast(data);
+        }
+        if (data instanceof Map) {
+            return objectMapper.convertValue(data, type);
+        }
+        return objectMapper.readValue(data.toString(), type);
+    }
+
+    /**
+     * Redis에서 읽은 테스트 상태 값을 Map으로 변환
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> convertStatus(Object data, ObjectMapper objectMapper) throws Exception {
+        if (data == null) {
+            return null;
+        }
+        if (data instanceof Map) {
+            return (Map<String, Object>) data;
+        }
+        return objectMapper.readValue(data.toString(), new TypeReference<Map<String, Object>>() {});
+    }
+}
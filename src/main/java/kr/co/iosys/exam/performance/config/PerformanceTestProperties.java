@@ -8,6 +8,8 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+import java.time.Duration;
+
 /**
  * AIDEV-NOTE: 성능 테스트 관련 설정 프로퍼티
  * application.yml의 performance-test 섹션과 매핑
@@ -23,6 +25,33 @@ public class PerformanceTestProperties {
     @NotNull
     private Database database = new Database();
 
+    @NotNull
+    private LiveState liveState = new LiveState();
+
+    @NotNull
+    private ResultCache resultCache = new ResultCache();
+
+    @NotNull
+    private ResultBundle resultBundle = new ResultBundle();
+
+    @NotNull
+    private Comparison comparison = new Comparison();
+
+    @NotNull
+    private RegressionGate regressionGate = new RegressionGate();
+
+    @NotNull
+    private Trend trend = new Trend();
+
+    @NotNull
+    private CapacitySearch capacitySearch = new CapacitySearch();
+
+    @NotNull
+    private Roster roster = new Roster();
+
+    @NotNull
+    private Scenarios scenarios = new Scenarios();
+
     @Data
     public static class Gatling {
         @NotBlank
@@ -84,4 +113,170 @@ public class PerformanceTestProperties {
             return String.format("jdbc:postgresql://%s:%d/%s", host, port, database);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 실시간 상태 저장소 설정
+     * store: redis (기본, 다중 노드 공유) | memory (단일 노드, Redis 불필요)
+     * valueFormat: Redis 실시간 값 쓰기 형식 (json 기본, 모든 노드가 바이너리 읽기를 지원한 뒤 cbor로 전환)
+     */
+    @Data
+    public static class LiveState {
+        @NotBlank
+        private String store = "redis";
+
+        @NotNull
+        private LiveDataRedisSerializer.WriteFormat valueFormat = LiveDataRedisSerializer.WriteFormat.JSON;
+    }
+
+    /**
+     * 완료된 테스트 조회 캐시 설정
+     */
+    @Data
+    public static class ResultCache {
+        // 결과/리포트 URL/설정값 최대 항목 수
+        @Min(1)
+        private long maximumSize = 5000;
+
+        // 메트릭 히스토리 최대 가중치 (데이터 포인트 수 합계)
+        @Min(1)
+        private long maximumHistoryWeight = 300_000;
+    }
+
+    /**
+     * 완료된 테스트 결과 번들 설정
+     */
+    @Data
+    public static class ResultBundle {
+        // 번들에 담는 메트릭 히스토리 최대 포인트 수
+        @Min(10)
+        private int historyPoints = 300;
+
+        // 번들 API 응답의 Cache-Control max-age
+        @NotNull
+        private Duration cacheMaxAge = Duration.ofDays(7);
+    }
+
+    /**
+     * 테스트 실행 비교 설정
+     */
+    @Data
+    public static class Comparison {
+        // 유의성 검정 유의수준
+        private double significanceLevel = 0.05;
+
+        // 엔드포인트 p95 회귀 기준 (증가율 %, 최소 증가량 ms - 둘 다 넘어야 회귀)
+        private double endpointRegressionPercent = 10.0;
+        private double endpointRegressionMinMs = 5.0;
+
+        // 엔드포인트 에러율 회귀 기준 (%p 증가)
+        private double errorRateIncrease = 1.0;
+    }
+
+    /**
+     * 기준 테스트 대비 회귀 판정 기본 임계값 (기준 테스트별로 덮어쓰기 가능)
+     */
+    @Data
+    public static class RegressionGate {
+        // 결과 저장 시 자동 판정 여부
+        private boolean enabled = true;
+
+        // p95/p99 응답시간 허용 증가율 (%)
+        private double p95IncreasePercent = 10.0;
+        private double p99IncreasePercent = 15.0;
+
+        // 이 값(ms) 미만의 응답시간 증가는 허용
+        private double minIncreaseMs = 5.0;
+
+        // 에러율 허용 증가량 (%p)
+        private double errorRateIncrease = 1.0;
+
+        // 최대 TPS 허용 감소율 (%)
+        private double peakTpsDecreasePercent = 10.0;
+
+        // 엔드포인트별 판정 여부
+        private boolean perEndpoint = true;
+    }
+
+    /**
+     * 시험 계획 실행 추이 설정
+     */
+    @Data
+    public static class Trend {
+        // 이동 통계 창 기본/최대 크기 (실행 수)
+        @Min(2)
+        private int defaultWindow = 5;
+        @Min(2)
+        private int maxWindow = 50;
+
+        // 표준점수 계산에 필요한 최소 이전 실행 수
+        @Min(2)
+        private int minPriorRuns = 3;
+
+        // 이상 실행 판정 표준점수 임계값
+        private double anomalyZScore = 3.0;
+    }
+
+    /**
+     * 용량 탐색(CAPACITY_SEARCH) 기본값 (테스트 요청의 additionalConfig 같은 이름 키로 덮어쓰기 가능)
+     */
+    @Data
+    public static class CapacitySearch {
+        // 첫 구간 동시 사용자 수, 실패 전까지 구간마다 곱하는 배수
+        @Min(1)
+        private int startUsers = 10;
+        private double growthFactor = 2.0;
+
+        // 통과/실패 구간 사이가 이 값 이하로 좁혀지면 종료
+        @Min(1)
+        private int resolutionUsers = 10;
+
+        // 최대 구간 수 (탐색 전체 시간 상한)
+        @Min(1)
+        private int maxPlateaus = 12;
+
+        // 구간별 증가/유지 시간 (초)
+        private int plateauRampSeconds = 10;
+        @Min(1)
+        private int plateauSeconds = 60;
+
+        // 구간 통과 조건: p95 응답 시간(ms), 실패 요청 비율(%)
+        private double sloP95Ms = 1000.0;
+        private double sloErrorRate = 1.0;
+    }
+
+    /**
+     * 수험자 명단 캐시/스냅샷 설정
+     */
+    @Data
+    public static class Roster {
+        // 캐시 유지 시간 (만료 후 다시 조회, 내용이 같으면 기존 스냅샷 파일 재사용)
+        @NotNull
+        private Duration cacheTtl = Duration.ofMinutes(10);
+
+        // 캐시 최대 명단 수 (계획/실행 유형/역할 조합)
+        @Min(1)
+        private long maximumSize = 50;
+
+        // 조회 커서 fetch size
+        @Min(1)
+        private int fetchSize = 1000;
+
+        // 시뮬레이션이 읽는 명단 스냅샷 파일 디렉토리
+        @NotBlank
+        private String snapshotDirectory = "./build/roster-snapshots";
+    }
+
+    /**
+     * 데이터 정의 시나리오(test_scenarios) 캐시/스냅샷 설정
+     */
+    @Data
+    public static class Scenarios {
+        // 캐시 최대 정의 수 (이름/버전 조합)
+        @Min(1)
+        private long maximumSize = 100;
+
+        // 시뮬레이션이 읽는 정의 스냅샷 파일 디렉토리
+        @NotBlank
+        private String snapshotDirectory = "./build/scenario-definitions";
+    }
+}
@@ -40,16 +40,20 @@ public class RedisConfig {
     }
     
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       PerformanceTestProperties properties) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         
         StringRedisSerializer stringSerializer = new StringRedisSerializer();
         GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+        // AIDEV-NOTE: 실시간 메트릭/상태/로그 값은 설정된 형식(json 기본, cbor)으로 저장, 그 외 값은 JSON
+        LiveDataRedisSerializer liveDataSerializer =
+                new LiveDataRedisSerializer(properties.getLiveState().getValueFormat());
         
         template.setKeySerializer(stringSerializer);
         template.setHashKeySerializer(stringSerializer);
-        template.setValueSerializer(jsonSerializer);
+        template.setValueSerializer(liveDataSerializer);
         template.setHashValueSerializer(jsonSerializer);
         
         template.afterPropertiesSet();
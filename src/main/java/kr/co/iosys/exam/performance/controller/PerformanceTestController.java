@@ -4,8 +4,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.co.iosys.exam.performance.dashboard.dto.CapacitySearchResult;
+import kr.co.iosys.exam.performance.dashboard.dto.RegressionVerdict;
+import kr.co.iosys.exam.performance.dashboard.service.RegressionGateService;
 import kr.co.iosys.exam.performance.dto.PerformanceTestRequest;
 import kr.co.iosys.exam.performance.dto.PerformanceTestResponse;
+import kr.co.iosys.exam.performance.exception.PerformanceTestException;
 import kr.co.iosys.exam.performance.model.ExamGroup;
 import kr.co.iosys.exam.performance.model.ExamPlan;
 import kr.co.iosys.exam.performance.service.DatabaseService;
@@ -34,6 +38,7 @@ public class PerformanceTestController {
 
     private final GatlingRunnerService gatlingRunnerService;
     private final DatabaseService databaseService;
+    private final RegressionGateService regressionGateService;
 
     @Operation(summary = "성능 테스트 시작", description = "새로운 성능 테스트를 시작합니다")
     @ApiResponse(responseCode = "200", description = "테스트 시작 성공")
@@ -86,6 +91,44 @@ public class PerformanceTestController {
         return response;
     }
 
+    @Operation(summary = "회귀 판정 조회",
+            description = "기준 테스트 대비 회귀 판정을 조회합니다. 후처리 전에는 PENDING, 회귀 시 FAILED (CI에서 폴링)")
+    @ApiResponse(responseCode = "200", description = "판정 조회 성공")
+    @ApiResponse(responseCode = "404", description = "테스트를 찾을 수 없음")
+    @GetMapping("/tests/{testId}/verdict")
+    public RegressionVerdict getTestVerdict(
+            @Parameter(description = "테스트 ID", required = true)
+            @PathVariable @NotBlank String testId) {
+        
+        log.debug("회귀 판정 조회 요청: {}", testId);
+        
+        try {
+            RegressionVerdict verdict = regressionGateService.getVerdict(testId);
+            log.debug("회귀 판정 조회 완료: {} - {}", testId, verdict.getVerdict());
+            return verdict;
+        } catch (IllegalArgumentException e) {
+            throw new PerformanceTestException(e.getMessage(), "TEST_NOT_FOUND");
+        }
+    }
+
+    @Operation(summary = "용량 탐색 결과 조회",
+            description = "CAPACITY_SEARCH로 실행한 테스트의 구간별 결과, 최대 지속 가능 사용자 수, 처리량 꺾임 지점을 조회합니다 (탐색 중에는 진행된 구간까지)")
+    @ApiResponse(responseCode = "200", description = "결과 조회 성공")
+    @ApiResponse(responseCode = "404", description = "용량 탐색 결과를 찾을 수 없음")
+    @GetMapping("/tests/{testId}/capacity")
+    public CapacitySearchResult getCapacitySearch(
+            @Parameter(description = "테스트 ID", required = true)
+            @PathVariable @NotBlank String testId) {
+        
+        log.debug("용량 탐색 결과 조회 요청: {}", testId);
+        
+        try {
+            return gatlingRunnerService.getCapacitySearch(testId);
+        } catch (IllegalArgumentException e) {
+            throw new PerformanceTestException(e.getMessage(), "TEST_NOT_FOUND");
+        }
+    }
+
     @Operation(summary = "테스트 중단", description = "실행 중인 테스트를 중단합니다")
     @ApiResponse(responseCode = "200", description = "테스트 중단 성공")
     @ApiResponse(responseCode = "404", description = "테스트를 찾을 수 없음")
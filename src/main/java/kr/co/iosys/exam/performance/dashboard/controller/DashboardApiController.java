@@ -1,20 +1,38 @@
 package kr.co.iosys.exam.performance.dashboard.controller;
 
+import kr.co.iosys.exam.performance.config.PerformanceTestProperties;
+import kr.co.iosys.exam.performance.dashboard.dto.PlanTrend;
+import kr.co.iosys.exam.performance.dashboard.dto.RegressionBaseline;
+import kr.co.iosys.exam.performance.dashboard.dto.RegressionThresholds;
+import kr.co.iosys.exam.performance.dashboard.dto.RegressionVerdict;
+import kr.co.iosys.exam.performance.dashboard.dto.TestComparisonResult;
+import kr.co.iosys.exam.performance.dashboard.dto.TestHistoryPage;
 import kr.co.iosys.exam.performance.dashboard.dto.TestRequest;
 import kr.co.iosys.exam.performance.dashboard.dto.TestResult;
 import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
+import kr.co.iosys.exam.performance.dashboard.entity.TestResultBundle;
 import kr.co.iosys.exam.performance.dashboard.service.DashboardService;
+import kr.co.iosys.exam.performance.dashboard.service.DashboardStatsService;
+import kr.co.iosys.exam.performance.dashboard.service.PlanTrendService;
 import kr.co.iosys.exam.performance.dashboard.service.RealtimeMonitoringService;
+import kr.co.iosys.exam.performance.dashboard.service.RegressionGateService;
+import kr.co.iosys.exam.performance.dashboard.service.ResultBundleService;
+import kr.co.iosys.exam.performance.dashboard.service.TestComparisonService;
 import kr.co.iosys.exam.performance.model.ExamPlan;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,8 +50,17 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class DashboardApiController {
     
+    // gzip 본문 ETag 접미어
+    private static final String GZIP_ETAG_SUFFIX = "-gz";
+    
     private final DashboardService dashboardService;
+    private final DashboardStatsService dashboardStatsService;
     private final RealtimeMonitoringService realtimeMonitoringService;
+    private final ResultBundleService resultBundleService;
+    private final TestComparisonService testComparisonService;
+    private final RegressionGateService regressionGateService;
+    private final PlanTrendService planTrendService;
+    private final PerformanceTestProperties properties;
     
     /**
      * 시스템 헬스 체크
@@ -66,46 +93,13 @@ public class DashboardApiController {
     /**
      * 대시보드 통계 조회
      * GET /api/dashboard/stats
+     * 
+     * AIDEV-NOTE: 생명주기 이벤트로 증분 갱신되는 읽기 모델을 조회 (테스트 수와 무관하게 O(1))
      */
     @GetMapping("/stats")
     public ResponseEntity<ApiResponse<Map<String, Object>>> getDashboardStats() {
         try {
-            Map<String, Object> stats = new java.util.HashMap<>();
-            
-            // 실행 중인 테스트 수
-            List<TestResult> activeTests = dashboardService.getActiveTests();
-            stats.put("activeTests", activeTests.size());
-            
-            // 최근 완료된 테스트 수
-            List<TestResult> recentTests = dashboardService.getRecentResults();
-            stats.put("completedTests", recentTests.size());
-            
-            // 성공률 계산
-            long successCount = recentTests.stream()
-                    .filter(t -> "COMPLETED".equals(t.getStatus()))
-                    .count();
-            double successRate = recentTests.isEmpty() ? 0 : 
-                    (double) successCount / recentTests.size() * 100;
-            stats.put("successRate", Math.round(successRate * 100.0) / 100.0);
-            
-            // 평균 응답 시간 (최근 테스트들의 평균)
-            double avgResponseTime = recentTests.stream()
-                    .filter(t -> t.getAvgResponseTime() != null)
-                    .mapToDouble(TestResult::getAvgResponseTime)
-                    .average()
-                    .orElse(0.0);
-            stats.put("avgResponseTime", Math.round(avgResponseTime * 100.0) / 100.0);
-            
-            // 평균 TPS (최근 테스트들의 평균)
-            double avgTps = recentTests.stream()
-                    .filter(t -> t.getAvgTps() != null)
-                    .mapToDouble(TestResult::getAvgTps)
-                    .average()
-                    .orElse(0.0);
-            stats.put("avgTps", Math.round(avgTps * 100.0) / 100.0);
-            
-            // 총 테스트 수
-            stats.put("totalTests", activeTests.size() + recentTests.size());
+            Map<String, Object> stats = dashboardStatsService.getStats();
             
             log.debug("대시보드 통계 조회 완료");
             return ResponseEntity.ok(ApiResponse.success(stats));
@@ -136,6 +130,36 @@ public class DashboardApiController {
         }
     }
     
+    /**
+     * 시험 계획 실행 추이 조회 (완료된 실행, 부하 수준별 이동 통계/주별 집계)
+     * GET /api/dashboard/plans/{planId}/trends?runType=&from=&to=&window=
+     * 
+     * AIDEV-NOTE: window는 이동 통계에 쓰는 같은 부하 수준의 최근 실행 수 (기본 performance-test.trend.default-window)
+     */
+    @GetMapping("/plans/{planId}/trends")
+    public ResponseEntity<ApiResponse<PlanTrend>> getPlanTrend(
+            @PathVariable Long planId,
+            @RequestParam(required = false) String runType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Integer window) {
+        try {
+            PlanTrend trend = planTrendService.getPlanTrend(planId, runType, from, to, window);
+            log.debug("시험 계획 추이 조회 완료: plan={}, {}개 실행", planId, trend.getRuns().size());
+            
+            return ResponseEntity.ok(ApiResponse.success(trend));
+            
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 시험 계획 추이 조회 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("시험 계획 추이 조회 실패: plan={}", planId, e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.error("시험 계획 추이 조회 실패: " + e.getMessage()));
+        }
+    }
+    
     /**
      * 모든 테스트 목록 조회
      * GET /api/dashboard/tests
@@ -194,18 +218,30 @@ public class DashboardApiController {
     }
     
     /**
-     * 테스트 이력 조회 (시계열 데이터)
-     * GET /api/dashboard/tests/history
+     * 테스트 이력 조회 (키셋 페이지네이션)
+     * GET /api/dashboard/tests/history?planId=&status=&runType=&from=&to=&cursor=&size=
+     * 
+     * AIDEV-NOTE: 다음 페이지는 응답의 nextCursor를 cursor로 전달, status 생략 시 종료된 테스트 전체
      */
     @GetMapping("/tests/history")
-    public ResponseEntity<ApiResponse<List<TestResult>>> getTestHistory() {
+    public ResponseEntity<ApiResponse<TestHistoryPage>> getTestHistory(
+            @RequestParam(required = false) Long planId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String runType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         try {
-            // 최근 테스트 결과를 이력으로 사용 (향후 시계열 데이터로 확장 가능)
-            List<TestResult> history = dashboardService.getRecentResults();
-            log.debug("테스트 이력 조회 완료: {}개", history.size());
+            TestHistoryPage history = dashboardService.getTestHistory(planId, status, runType, from, to, cursor, size);
+            log.debug("테스트 이력 조회 완료: {}개, hasNext={}", history.getData().size(), history.isHasNext());
             
             return ResponseEntity.ok(ApiResponse.success(history));
             
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 테스트 이력 조회 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             log.error("테스트 이력 조회 실패", e);
             return ResponseEntity.internalServerError()
@@ -315,6 +351,258 @@ public class DashboardApiController {
         }
     }
     
+    /**
+     * 완료된 테스트 결과 번들 조회 (요약 + 메트릭 히스토리 + 엔드포인트 통계 + 리포트 URL)
+     * GET /api/dashboard/tests/{testId}/bundle
+     * 
+     * AIDEV-NOTE: 저장된 번들 JSON을 ApiResponse로 감싸지 않고 그대로 반환
+     * - gzip을 받는 클라이언트에는 저장된 압축 본문을 그대로 전송 (Accept-Encoding q 값 해석, q=0은 거부)
+     * - strong ETag + 긴 Cache-Control, If-None-Match 일치 시 본문 조회 없이 304
+     *   gzip 본문은 ETag에 -gz 접미어를 붙여 압축하지 않은 본문과 구분 (RFC 9110, 내용 인코딩이 다르면 strong ETag도 달라야 함)
+     * - 실행 중이거나 없는 테스트는 404 (기존 개별 API 사용)
+     */
+    @GetMapping("/tests/{testId}/bundle")
+    public ResponseEntity<?> getResultBundle(
+            @PathVariable String testId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        try {
+            CacheControl cacheControl = CacheControl
+                    .maxAge(properties.getResultBundle().getCacheMaxAge())
+                    .cachePublic()
+                    .noTransform();
+            boolean gzip = acceptsGzip(acceptEncoding);
+            
+            if (ifNoneMatch != null) {
+                Optional<String> etag = resultBundleService.findEtag(testId);
+                if (etag.isPresent() && etagMatches(ifNoneMatch, etag.get())) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                            .eTag(encodedEtag(etag.get(), gzip))
+                            .cacheControl(cacheControl)
+                            .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                            .build();
+                }
+            }
+            
+            Optional<TestResultBundle> bundle = resultBundleService.findBundle(testId);
+            if (bundle.isEmpty()) {
+                log.debug("결과 번들 없음: {}", testId);
+                return ResponseEntity.notFound().build();
+            }
+            
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .eTag(encodedEtag(bundle.get().getEtag(), gzip))
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING);
+            if (gzip) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .body(bundle.get().getContent());
+            }
+            return response.body(ResultBundleService.uncompressed(bundle.get()));
+            
+        } catch (Exception e) {
+            log.error("결과 번들 조회 실패: {}", testId, e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.error("결과 번들 조회 실패: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 응답 본문 인코딩별 ETag (gzip 본문은 -gz 접미어)
+     */
+    static String encodedEtag(String etag, boolean gzip) {
+        return gzip ? etag + GZIP_ETAG_SUFFIX : etag;
+    }
+    
+    /**
+     * Accept-Encoding이 gzip을 허용하는지 (q=0은 거부, gzip이 없으면 * 항목을 따름)
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().toLowerCase();
+                if (param.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0.0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+    
+    /**
+     * If-None-Match 헤더와 ETag 비교 (목록, W/ 접두어, * 허용, 압축/비압축 ETag 모두 일치로 봄)
+     */
+    static boolean etagMatches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*")) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                value = value.substring(1, value.length() - 1);
+            }
+            if (value.equals(etag) || value.equals(etag + GZIP_ETAG_SUFFIX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * 두 테스트 실행 비교 (testId 기준)
+     * GET /api/dashboard/tests/{testId}/compare/{compareTestId}?refresh=false
+     * 
+     * AIDEV-NOTE: 저장된 비교 결과가 최신이면 재사용, refresh=true면 강제 재계산
+     */
+    @GetMapping("/tests/{testId}/compare/{compareTestId}")
+    public ResponseEntity<ApiResponse<TestComparisonResult>> compareTests(
+            @PathVariable String testId,
+            @PathVariable String compareTestId,
+            @RequestParam(defaultValue = "false") boolean refresh) {
+        try {
+            TestComparisonResult comparison = testComparisonService.compare(testId, compareTestId, refresh);
+            log.debug("테스트 비교 조회 완료: {} vs {}", testId, compareTestId);
+            return ResponseEntity.ok(ApiResponse.success(comparison));
+            
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 테스트 비교 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("테스트 비교 실패: {} vs {}", testId, compareTestId, e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.error("테스트 비교 실패: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 테스트가 포함된 저장된 비교 결과 목록
+     * GET /api/dashboard/tests/{testId}/comparisons
+     */
+    @GetMapping("/tests/{testId}/comparisons")
+    public ResponseEntity<ApiResponse<List<TestComparisonResult>>> getTestComparisons(@PathVariable String testId) {
+        try {
+            List<TestComparisonResult> comparisons = testComparisonService.getComparisons(testId);
+            log.debug("비교 결과 목록 조회 완료: {} ({}개)", testId, comparisons.size());
+            return ResponseEntity.ok(ApiResponse.success(comparisons));
+            
+        } catch (Exception e) {
+            log.error("비교 결과 목록 조회 실패: {}", testId, e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.error("비교 결과 목록 조회 실패: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 테스트를 시험 계획/실행 유형의 회귀 판정 기준으로 지정
+     * PUT /api/dashboard/tests/{testId}/baseline
+     * 
+     * AIDEV-NOTE: 본문(RegressionThresholds)은 선택, 지정한 임계값만 기본값을 덮어씀
+     */
+    @PutMapping("/tests/{testId}/baseline")
+    public ResponseEntity<ApiResponse<RegressionBaseline>> setBaseline(
+            @PathVariable String testId,
+            @RequestBody(required = false) RegressionThresholds thresholds) {
+        try {
+            RegressionBaseline baseline = regressionGateService.setBaseline(testId, thresholds);
+            return ResponseEntity.ok(ApiResponse.success(baseline));
+            
+        } catch (IllegalArgumentException e) {
+            log.warn("회귀 판정 기준 지정 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("회귀 판정 기준 지정 실패: {}", testId, e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.error("회귀 판정 기준 지정 실패: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 시험 계획/실행 유형의 회귀 판정 기준 조회
+     * GET /api/dashboard/baselines?planId={planId}&runType={runType}
+     */
+    @GetMapping("/baselines")
+    public ResponseEntity<ApiResponse<RegressionBaseline>> getBaseline(
+            @RequestParam Long planId,
+            @RequestParam(required = false) String runType) {
+        try {
+            Optional<RegressionBaseline> baseline = regressionGateService.getBaseline(planId, runType);
+            if (baseline.isEmpty()) {
+                log.debug("회귀 판정 기준 없음: plan={}, runType={}", planId, runType);
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(ApiResponse.success(baseline.get()));
+            
+        } catch (Exception e) {
+            log.error("회귀 판정 기준 조회 실패: plan={}, runType={}", planId, runType, e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.error("회귀 판정 기준 조회 실패: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 테스트 회귀 판정 조회 (후처리 전이면 PENDING)
+     * GET /api/dashboard/tests/{testId}/verdict
+     */
+    @GetMapping("/tests/{testId}/verdict")
+    public ResponseEntity<ApiResponse<RegressionVerdict>> getVerdict(@PathVariable String testId) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(regressionGateService.getVerdict(testId)));
+            
+        } catch (IllegalArgumentException e) {
+            log.debug("회귀 판정 조회 대상 없음: {}", testId);
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            log.error("회귀 판정 조회 실패: {}", testId, e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.error("회귀 판정 조회 실패: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 테스트 회귀 재판정 (기준 변경 후 등)
+     * POST /api/dashboard/tests/{testId}/verdict
+     */
+    @PostMapping("/tests/{testId}/verdict")
+    public ResponseEntity<ApiResponse<RegressionVerdict>> evaluateVerdict(@PathVariable String testId) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(regressionGateService.evaluate(testId)));
+            
+        } catch (IllegalArgumentException e) {
+            log.debug("회귀 판정 대상 없음: {}", testId);
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            log.error("회귀 재판정 실패: {}", testId, e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.error("회귀 재판정 실패: " + e.getMessage()));
+        }
+    }
+    
     /**
      * 테스트 리포트 URL 조회
      * GET /api/dashboard/tests/{testId}/report-url
@@ -391,22 +679,34 @@ public class DashboardApiController {
     
     /**
      * 시계열 메트릭 데이터 조회 (차트용)
-     * GET /api/dashboard/tests/{testId}/timeline?type={metricType}&minutes={minutes}
+     * GET /api/dashboard/tests/{testId}/timeline?type={metricType}&minutes={minutes}&step={seconds}&agg={avg|max|p95|sum}
+     * step을 지정하면 서버에서 고정 구간으로 집계하여 반환
      */
     @GetMapping("/tests/{testId}/timeline")
     public ResponseEntity<ApiResponse<List<RealtimeMonitoringService.TimeseriesData>>> getTimelineData(
             @PathVariable String testId,
             @RequestParam String type,
-            @RequestParam(defaultValue = "5") int minutes) {
+            @RequestParam(defaultValue = "5") int minutes,
+            @RequestParam(required = false) Integer step,
+            @RequestParam(defaultValue = "avg") String agg) {
         try {
-            List<RealtimeMonitoringService.TimeseriesData> timeline = 
-                    realtimeMonitoringService.getTimelineData(testId, type, minutes);
+            List<RealtimeMonitoringService.TimeseriesData> timeline;
+            if (step != null && step > 0) {
+                RealtimeMonitoringService.Aggregation aggregation = RealtimeMonitoringService.Aggregation.from(agg);
+                timeline = realtimeMonitoringService.getAggregatedTimelineData(testId, type, minutes, step, aggregation);
+            } else {
+                timeline = realtimeMonitoringService.getTimelineData(testId, type, minutes);
+            }
             
-            log.debug("시계열 데이터 조회 성공: testId={}, type={}, points={}", 
-                    testId, type, timeline.size());
+            log.debug("시계열 데이터 조회 성공: testId={}, type={}, step={}, agg={}, points={}", 
+                    testId, type, step, agg, timeline.size());
             
             return ResponseEntity.ok(ApiResponse.success(timeline));
             
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 시계열 조회 요청: testId={}, agg={}", testId, agg);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             log.error("시계열 데이터 조회 실패: testId={}, type={}", testId, type, e);
             return ResponseEntity.internalServerError()
@@ -1,9 +1,11 @@
 package kr.co.iosys.exam.performance.dashboard.controller;
 
+import kr.co.iosys.exam.performance.dashboard.dto.ResultBundle;
 import kr.co.iosys.exam.performance.dashboard.dto.TestRequest;
 import kr.co.iosys.exam.performance.dashboard.dto.TestResult;
 import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
 import kr.co.iosys.exam.performance.dashboard.service.DashboardService;
+import kr.co.iosys.exam.performance.dashboard.service.ResultBundleService;
 import kr.co.iosys.exam.performance.model.ExamPlan;
 
 import lombok.RequiredArgsConstructor;
@@ -31,6 +33,7 @@ import java.util.Optional;
 public class DashboardController {
     
     private final DashboardService dashboardService;
+    private final ResultBundleService resultBundleService;
     
     /**
      * 메인 대시보드 페이지 - Vue 버전으로 완전 전환
@@ -94,7 +97,14 @@ public class DashboardController {
             model.addAttribute("scenarios", List.of(
                     new ScenarioOption("BASIC", "기본 테스트", "핵심 기능만 테스트하는 가벼운 시나리오"),
                     new ScenarioOption("COMPLETE", "완전 테스트", "모든 기능을 포함하는 포괄적인 시나리오"),
-                    new ScenarioOption("STRESS", "스트레스 테스트", "시스템 한계를 테스트하는 고강도 시나리오")
+                    new ScenarioOption("STRESS", "스트레스 테스트", "시스템 한계를 테스트하는 고강도 시나리오"),
+                    new ScenarioOption("PROCTOR_FANOUT", "감독관 전파 테스트", "수험자 상태 메시지가 그룹 감독관에게 도착하기까지의 지연 측정"),
+                    new ScenarioOption("EXAM_SOAK", "장시간 연결 테스트", "시험 시간 동안 연결을 유지하며 진행 상태를 보내 연결 끊김률과 지연 변화 측정"),
+                    new ScenarioOption("TRACE_REPLAY", "트레이스 재생", "운영에서 기록한 수험자 세션(traceFile)을 원래 시간 간격대로 재생"),
+                    new ScenarioOption("EXAM_HERD", "집단 시작 테스트", "모든 수험자가 같은 순간에 시험을 시작하고 제출할 때의 지연을 따로 측정"),
+                    new ScenarioOption("RECONNECT_STORM", "재연결 폭주 테스트", "진행 중인 연결 일부를 동시에 끊고 재연결시켜 재연결 성공률/회복 시간/지연 급증 측정"),
+                    new ScenarioOption("DEFINED", "정의 시나리오", "test_scenarios에 저장한 단계 정의(additionalConfig.definition)를 실행"),
+                    new ScenarioOption("MIX", "혼합 테스트", "수험자/지각 수험자/감독관/관리자를 가중치대로 섞어 모집단별로 측정")
             ));
             
             // 실행 타입 옵션
@@ -204,7 +214,20 @@ public class DashboardController {
         log.info("테스트 결과 페이지 요청 - Vue 버전으로 전환 - testId: {}", testId);
         
         try {
-            // 테스트 결과 조회
+            // 완료된 테스트는 결과 번들 한 건으로 렌더링
+            Optional<ResultBundle> bundle = resultBundleService.getBundle(testId);
+            if (bundle.isPresent()) {
+                ResultBundle resultBundle = bundle.get();
+                model.addAttribute("testResult", resultBundle.getSummary());
+                model.addAttribute("metricsHistory", resultBundle.getHistory());
+                model.addAttribute("summary", createResultSummary(resultBundle.getSummary()));
+                model.addAttribute("reportUrl", resultBundle.getReportUrl());
+                model.addAttribute("pageTitle", "테스트 결과 - " + testId);
+                model.addAttribute("currentPage", "results");
+                return "dashboard/results-vue";
+            }
+            
+            // 테스트 결과 조회 (실행 중이거나 번들 생성 불가)
             Optional<TestResult> testResult = dashboardService.getTestResult(testId);
             if (testResult.isEmpty()) {
                 log.warn("테스트 결과를 찾을 수 없음: {}", testId);
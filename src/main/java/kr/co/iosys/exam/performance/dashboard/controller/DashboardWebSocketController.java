@@ -1,20 +1,18 @@
 package kr.co.iosys.exam.performance.dashboard.controller;
 
 import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
+import kr.co.iosys.exam.performance.dashboard.repository.LiveStateRepository;
 import kr.co.iosys.exam.performance.dashboard.service.DashboardService;
 import kr.co.iosys.exam.performance.dashboard.service.MetricsBroadcastService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.messaging.handler.annotation.*;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import java.util.Map;
 import java.util.Optional;
 
@@ -32,11 +30,7 @@ public class DashboardWebSocketController {
     private final DashboardService dashboardService;
     private final MetricsBroadcastService metricsBroadcastService;
     private final SimpMessagingTemplate messagingTemplate;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper = new ObjectMapper();
-    
-    // Redis 키 패턴
-    private static final String REDIS_KEY_TEST_STATUS = "test:status:%s";
+    private final LiveStateRepository liveStateRepository;
     
     /**
      * 테스트 메트릭 구독 요청 처리
@@ -77,26 +71,24 @@ public class DashboardWebSocketController {
         try {
             log.info("테스트 상태 구독 요청: testId={}", testId);
             
-            // Redis에서 현재 상태 조회
-            String statusKey = String.format(REDIS_KEY_TEST_STATUS, testId);
-            Object statusData = redisTemplate.opsForValue().get(statusKey);
+            // 실시간 상태 저장소에서 현재 상태 조회
+            Map<String, Object> statusMap = liveStateRepository.findStatus(testId);
             
-            if (statusData != null) {
+            if (statusMap != null) {
                 try {
-                    // JSON 파싱하여 상태 정보 추출
-                    Map<String, Object> statusMap = objectMapper.readValue(statusData.toString(), Map.class);
+                    // 상태 정보 추출
                     String status = (String) statusMap.getOrDefault("status", "UNKNOWN");
                     String statusMessage = (String) statusMap.getOrDefault("message", "상태 정보 조회됨");
                     
-                    log.debug("Redis에서 테스트 상태 조회 완료: testId={}, status={}", testId, status);
+                    log.debug("테스트 상태 조회 완료: testId={}, status={}", testId, status);
                     return new StatusMessage(testId, status, statusMessage, System.currentTimeMillis());
                     
                 } catch (Exception parseEx) {
-                    log.error("Redis 상태 데이터 파싱 실패: {}", testId, parseEx);
+                    log.error("상태 데이터 파싱 실패: {}", testId, parseEx);
                     return new StatusMessage(testId, "PARSE_ERROR", "상태 데이터 파싱 오류", System.currentTimeMillis());
                 }
             } else {
-                log.info("Redis에 테스트 상태 정보 없음: testId={}", testId);
+                log.info("테스트 상태 정보 없음: testId={}", testId);
                 return new StatusMessage(testId, "NOT_FOUND", "테스트 상태 정보를 찾을 수 없습니다.", System.currentTimeMillis());
             }
             
@@ -0,0 +1,90 @@
+package kr.co.iosys.exam.performance.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 용량 탐색(CAPACITY_SEARCH) 결과
+ *
+ * AIDEV-NOTE: 한 testId 안에서 동시 사용자 수를 바꿔 가며 구간(plateau)을 실행하고 SLO 통과 여부로 최대 지속 가능 사용자 수를 좁힘
+ * - sustainableUsers: SLO를 통과한 가장 높은 동시 사용자 수 (통과 구간이 없으면 null)
+ * - kneeUsers: 처리량-동시 사용자 곡선에서 증가가 꺾이는 지점 (Kneedle, 구간이 3개 미만이거나 꺾임이 없으면 null)
+ * - plateaus는 실행 순서, curve는 동시 사용자 오름차순
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CapacitySearchResult {
+
+    /**
+     * 탐색 상태
+     */
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+
+    private String testId;
+    private Status status;
+
+    // 탐색 조건
+    private int startUsers;
+    private int maxUsers;
+    private double growthFactor;
+    private int resolutionUsers;
+    private int maxPlateaus;
+    // 구간별 증가/유지 시간 (초)
+    private int plateauRampSeconds;
+    private int plateauSeconds;
+    private double sloP95Ms;
+    // 허용 실패 요청 비율 (%)
+    private double sloErrorRate;
+
+    private Integer sustainableUsers;
+    // 지속 가능 사용자 수가 maxUsers에 도달 (실제 한계는 더 높을 수 있음)
+    private boolean limitReached;
+
+    private Integer kneeUsers;
+    private Double kneeTps;
+
+    @Builder.Default
+    private List<Plateau> plateaus = new ArrayList<>();
+
+    @Builder.Default
+    private List<Plateau> curve = new ArrayList<>();
+
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Plateau {
+        // 실행 순서 (1부터)
+        private int index;
+        private int users;
+
+        private long totalRequests;
+        private long failedRequests;
+        // 실패 요청 비율 (%)
+        private double errorRate;
+        private double meanResponseTime;
+        private double p95ResponseTime;
+        private double p99ResponseTime;
+        private double tps;
+
+        private boolean passed;
+        // SLO 위반 사유 (통과 시 null)
+        private String violation;
+        private String resultDirectory;
+    }
+}
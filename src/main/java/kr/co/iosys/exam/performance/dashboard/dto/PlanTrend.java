@@ -0,0 +1,101 @@
+package kr.co.iosys.exam.performance.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 시험 계획의 실행 추이 (완료된 실행만)
+ *
+ * AIDEV-NOTE: 부하 수준(maxUsers)이 다른 실행끼리는 비교하지 않음
+ * 이동 통계/직전 대비 변화/주별 집계 모두 같은 maxUsers 안에서 계산, TPS는 사용자당 TPS로 정규화
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlanTrend {
+
+    private Long planId;
+    private String runType;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    /**
+     * 이동 통계 창 크기 (실행 수)
+     */
+    private int window;
+
+    /**
+     * 조회 구간에 있는 부하 수준 목록 (오름차순)
+     */
+    private List<Integer> loadLevels;
+
+    /**
+     * 실행별 추이 (시작 시간 순)
+     */
+    private List<RunPoint> runs;
+
+    /**
+     * 주별/부하 수준별 집계 (주 시작 순)
+     */
+    private List<WeeklyPoint> weekly;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RunPoint {
+        private String testId;
+        private LocalDateTime startTime;
+        private String runType;
+        private Integer maxUsers;
+
+        private Double p95ResponseTime;
+        private Double p99ResponseTime;
+        private Double avgTps;
+        private Double peakTps;
+        private Double tpsPerUser;
+        // 실패 요청 비율 (%)
+        private Double errorRate;
+
+        // 이 실행을 포함한 최근 window건 평균
+        private Double rollingP95;
+        private Double rollingTpsPerUser;
+        private Double rollingErrorRate;
+
+        // 같은 부하 수준 직전 실행 대비 변화율 (%, 직전 실행이 없거나 0이면 null)
+        private Double p95ChangePercent;
+        private Double tpsPerUserChangePercent;
+
+        // 이전 window건 분포 대비 표준점수 (이전 실행이 부족하거나 편차가 0이면 null)
+        private Double p95ZScore;
+        private Double tpsPerUserZScore;
+
+        // p95 상승 또는 사용자당 TPS 하락이 표준점수 임계값을 넘은 실행
+        private boolean anomaly;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class WeeklyPoint {
+        // 주 시작 (월요일 00:00)
+        private LocalDateTime weekStart;
+        private Integer maxUsers;
+        private long runs;
+        private Double avgP95ResponseTime;
+        private Double medianP95ResponseTime;
+        private Double avgTpsPerUser;
+        private Double avgErrorRate;
+
+        // 같은 부하 수준에서 실행이 있었던 직전 주 대비 변화율 (%)
+        private Double p95ChangePercent;
+        private Double tpsPerUserChangePercent;
+    }
+}
@@ -0,0 +1,29 @@
+package kr.co.iosys.exam.performance.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시험 계획/실행 유형별 회귀 판정 기준 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RegressionBaseline {
+
+    private Long planId;
+    private String runType;
+    private String testId;
+
+    /**
+     * 적용 임계값 (기본값과 병합된 값)
+     */
+    private RegressionThresholds thresholds;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,46 @@
+package kr.co.iosys.exam.performance.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 회귀 판정 임계값
+ * 기준 테스트 등록 시 일부만 지정 가능, 지정하지 않은 값(null)은 performance-test.regression-gate 기본값 사용
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RegressionThresholds {
+
+    /**
+     * p95/p99 응답시간 허용 증가율 (%)
+     */
+    private Double p95IncreasePercent;
+    private Double p99IncreasePercent;
+
+    /**
+     * 응답시간 증가가 이 값(ms) 미만이면 증가율과 관계없이 허용 (짧은 요청의 잡음 제외)
+     */
+    private Double minIncreaseMs;
+
+    /**
+     * 에러율 허용 증가량 (%p)
+     */
+    private Double errorRateIncrease;
+
+    /**
+     * 최대 TPS 허용 감소율 (%)
+     */
+    private Double peakTpsDecreasePercent;
+
+    /**
+     * 엔드포인트별로도 p95/p99/에러율 판정
+     */
+    private Boolean perEndpoint;
+}
@@ -0,0 +1,61 @@
+package kr.co.iosys.exam.performance.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기준 테스트 대비 회귀 판정 결과 DTO
+ *
+ * AIDEV-NOTE: CI는 테스트 시작 후 verdict가 PENDING이 아닐 때까지 폴링, FAILED면 파이프라인 실패 처리
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RegressionVerdict {
+
+    public enum Status {
+        // 테스트 실행 중이거나 후처리 전
+        PENDING,
+        PASSED,
+        FAILED,
+        // 계획/실행 유형에 기준 테스트가 없음 (또는 자신이 기준)
+        NO_BASELINE,
+        // 비교 불가 (결과 없음 등)
+        ERROR
+    }
+
+    private String testId;
+    private String baselineTestId;
+    private Long comparisonId;
+    private Status verdict;
+    private List<Violation> violations;
+    private String message;
+    private LocalDateTime evaluatedAt;
+
+    /**
+     * 임계값 위반 항목
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Violation {
+        // TEST(전체) 또는 엔드포인트 이름
+        private String scope;
+        private String metric;
+        private Double baseline;
+        private Double actual;
+        // 위반한 임계값 (증가율 %, 증가량 %p, 감소율 %)
+        private Double limit;
+        private String message;
+    }
+}
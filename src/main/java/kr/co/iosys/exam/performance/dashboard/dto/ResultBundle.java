@@ -0,0 +1,305 @@
+package kr.co.iosys.exam.performance.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 완료된 테스트 결과 번들 DTO
+ * 결과 페이지에 필요한 데이터(요약, 축약된 메트릭 히스토리, 엔드포인트별 통계, 리포트 URL)를 한 번에 제공
+ *
+ * AIDEV-NOTE: 결과 저장 시점에 한 번 생성되어 test_result_bundles에 gzip JSON으로 저장됨 (이후 변경 없음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ResultBundle {
+
+    /**
+     * 번들 형식 버전 (필드 구성 변경 시 증가)
+     */
+    private int version;
+
+    private String testId;
+
+    /**
+     * 번들 생성 시각
+     */
+    private LocalDateTime generatedAt;
+
+    /**
+     * 테스트 결과 요약 (performance_tests + test_results_summary)
+     */
+    private TestResult summary;
+
+    /**
+     * 차트용 메트릭 히스토리 (최대 포인트 수로 축약)
+     */
+    private List<TestMetrics> history;
+
+    /**
+     * 축약 전 메트릭 히스토리 포인트 수
+     */
+    private int historySourcePoints;
+
+    /**
+     * 엔드포인트(요청)별 통계 (Gatling stats.json 기준)
+     */
+    private List<EndpointStats> endpoints;
+
+    /**
+     * 모집단별 통계 (시나리오 구성에 모집단이 둘 이상일 때만, stats.json 최상위 그룹 기준)
+     */
+    private List<PopulationStats> populations;
+
+    /**
+     * 감독관 전파 지연 (PROCTOR_FANOUT 시나리오만, 없으면 null)
+     */
+    private PropagationStats propagation;
+
+    /**
+     * 장시간 연결 유지 통계 (장시간 수험자가 있는 시나리오만, 없으면 null)
+     */
+    private SoakStats soak;
+
+    /**
+     * 집단 동시 이벤트 통계 (집단 시작 수험자가 있는 시나리오만, 없으면 null)
+     */
+    private HerdStats herd;
+
+    /**
+     * 재연결 폭주 통계 (재연결 폭주 수험자가 있는 시나리오만, 없으면 null)
+     */
+    private StormStats storm;
+
+    private String reportUrl;
+
+    /**
+     * 테스트 설정값 (performance_tests)
+     */
+    private Integer maxUsers;
+    private Integer rampUpSeconds;
+
+    /**
+     * 엔드포인트별 통계
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class EndpointStats {
+        private String name;
+        private String group;
+        private long totalRequests;
+        private long successfulRequests;
+        private long failedRequests;
+        private double avgResponseTime;
+        private double minResponseTime;
+        private double maxResponseTime;
+        private double p95ResponseTime;
+        private double p99ResponseTime;
+    }
+
+    /**
+     * 모집단(수험자/지각 수험자/감독관/관리자)별 통계
+     * 세션 수/실패 세션 수는 그룹 실행 기준, 요청 수/응답 시간은 그룹 안 요청들의 합계/가중 평균 (p95는 가장 느린 요청 기준)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class PopulationStats {
+        private String name;
+        private long sessions;
+        private long failedSessions;
+        private long totalRequests;
+        private long failedRequests;
+        private double errorRate;
+        private double avgResponseTime;
+        private double maxP95ResponseTime;
+    }
+
+    /**
+     * 감독관 전파 지연 통계 (시뮬레이션의 PropagationProbe가 쓴 결과 파일)
+     * 수험자 STATUS_MSG 전송부터 같은 그룹 감독관 수신까지, 감독관별 수신 한 건이 표본 하나
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class PropagationStats {
+        public static final String FILE_NAME = "propagation-latency.json";
+
+        private String metric;
+        private long sent;
+        private int proctors;
+        private int groups;
+        // 그룹별 전송 수 × 구독 감독관 수의 합
+        private long expectedDeliveries;
+        private long received;
+        // 전달률 (%), 전달이 덜 된 그룹 수와 그룹별 최저 전달률
+        private double deliveryRate;
+        private int incompleteGroups;
+        private double minGroupDeliveryRate;
+        private double minLatencyMs;
+        private double meanLatencyMs;
+        private double p50LatencyMs;
+        private double p75LatencyMs;
+        private double p95LatencyMs;
+        private double p99LatencyMs;
+        private double maxLatencyMs;
+    }
+
+    /**
+     * 장시간 연결 유지 통계 (시뮬레이션의 SoakMonitor가 쓴 결과 파일)
+     * 끊김은 유지 구간의 진행 상태 전송 실패 또는 응답 시간 초과, 지연 변화는 첫 구간 대비 마지막 구간 p95
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class SoakStats {
+        public static final String FILE_NAME = "soak-report.json";
+
+        private String metric;
+        private long examSeconds;
+        private double heartbeatSeconds;
+        private long intervalSeconds;
+        private long connected;
+        private long completed;
+        private long dropped;
+        // 끊김률 (%, 끊김 / 연결)
+        private double dropRate;
+        private int peakConnections;
+        private double firstP95LatencyMs;
+        private double lastP95LatencyMs;
+        private double p95DriftMs;
+        private double p95DriftRatio;
+        private List<SoakInterval> intervals;
+    }
+
+    /**
+     * 집단 동시 이벤트 통계 (시뮬레이션의 HerdBarrier가 쓴 결과 파일, 시험 시작/제출 배리어별)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class HerdStats {
+        public static final String FILE_NAME = "herd-report.json";
+
+        private String metric;
+        private List<HerdPhase> phases;
+    }
+
+    /**
+     * 배리어 하나의 집단 구간 (해제 시각~마지막 응답), 지연은 전송~응답
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class HerdPhase {
+        private String phase;
+        private int expected;
+        private int arrived;
+        private int withdrawn;
+        // 첫 도착 후 제한 시간이 지나 도착한 인원만으로 해제됨
+        private boolean timedOut;
+        private long sent;
+        private long failed;
+        private double sendSpreadMs;
+        private double windowMs;
+        private double minLatencyMs;
+        private double meanLatencyMs;
+        private double p50LatencyMs;
+        private double p95LatencyMs;
+        private double p99LatencyMs;
+        private double maxLatencyMs;
+    }
+
+    /**
+     * 장시간 연결 유지 집계 구간 (시작 후 경과 초 기준)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class SoakInterval {
+        private long startSecond;
+        private long heartbeats;
+        private long drops;
+        private double meanLatencyMs;
+        private double p50LatencyMs;
+        private double p95LatencyMs;
+        private double p99LatencyMs;
+        private double maxLatencyMs;
+    }
+
+    /**
+     * 재연결 폭주 통계 (시뮬레이션의 StormMonitor가 쓴 결과 파일)
+     * 회복 시간은 폭주 후 진행 상태 처리량이 폭주 직전 기준의 90% 이상으로 돌아온 첫 구간까지 (돌아오지 않으면 -1)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class StormStats {
+        public static final String FILE_NAME = "storm-report.json";
+
+        private String metric;
+        private double stormAtSeconds;
+        private double fraction;
+        // 재연결 정책 요약 (지터, 초기 지연×배수, 최대 지연, 최대 시도)
+        private String backoff;
+        private long closed;
+        private double closeSpreadMs;
+        private long reconnected;
+        private long gaveUp;
+        private double reconnectSuccessRate;
+        private double meanAttempts;
+        private double p50ReconnectMs;
+        private double p95ReconnectMs;
+        private double p99ReconnectMs;
+        private double maxReconnectMs;
+        private double intervalSeconds;
+        private double baselineThroughput;
+        private double minThroughput;
+        private double recoverySeconds;
+        private double baselineP95LatencyMs;
+        private double peakP95LatencyMs;
+        private double latencySpikeRatio;
+        private List<StormInterval> intervals;
+    }
+
+    /**
+     * 재연결 폭주 집계 구간 (첫 사용자 시작 후 경과 초 기준, 응답 수 = 처리량)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class StormInterval {
+        private double startSecond;
+        private long replies;
+        private long failures;
+        private double p95LatencyMs;
+    }
+}
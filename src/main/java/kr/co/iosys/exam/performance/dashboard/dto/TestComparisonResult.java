@@ -0,0 +1,110 @@
+package kr.co.iosys.exam.performance.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 두 테스트 실행 비교 결과 DTO
+ * 기준(base) 대비 비교(compare) 실행의 백분위/처리량 변화, 엔드포인트별 회귀, 통계적 유의성
+ *
+ * AIDEV-NOTE: test_comparisons.comparison_result에 JSON으로 저장
+ * baseEtag/compareEtag가 현재 결과 번들의 ETag와 다르면 재계산
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TestComparisonResult {
+
+    private Long comparisonId;
+    private String baseTestId;
+    private String compareTestId;
+    private String baseEtag;
+    private String compareEtag;
+    private LocalDateTime generatedAt;
+
+    /**
+     * 응답시간 지표 변화 (avg, p50, p75, p95, p99, max)
+     */
+    private List<MetricDelta> latency;
+
+    /**
+     * 처리량/에러 지표 변화 (avgTps, maxTps, peakTps, totalRequests, errorRate)
+     * peakTps는 초당 시계열의 최대 TPS
+     */
+    private List<MetricDelta> throughput;
+
+    /**
+     * 엔드포인트별 비교 (양쪽 실행에 모두 있는 요청만)
+     */
+    private List<EndpointDelta> endpoints;
+
+    private int regressedEndpoints;
+
+    /**
+     * 초당 시계열 기반 유의성 검정 (응답시간, TPS)
+     */
+    private Significance responseTimeSignificance;
+    private Significance tpsSignificance;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class MetricDelta {
+        private String metric;
+        private Double base;
+        private Double compare;
+        private Double delta;
+        // 기준값이 0이면 null
+        private Double deltaPercent;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class EndpointDelta {
+        private String name;
+        private String group;
+        private double baseP95;
+        private double compareP95;
+        private Double p95DeltaPercent;
+        private double baseP99;
+        private double compareP99;
+        private Double p99DeltaPercent;
+        private double baseAvg;
+        private double compareAvg;
+        private double baseErrorRate;
+        private double compareErrorRate;
+        private boolean regression;
+    }
+
+    /**
+     * Mann-Whitney U 검정 결과 (정규 근사, 양측)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Significance {
+        private String metric;
+        private String test;
+        private int baseSamples;
+        private int compareSamples;
+        private Double u;
+        private Double z;
+        private Double pValue;
+        private boolean significant;
+        // HIGHER | LOWER | NONE (비교 실행 기준)
+        private String direction;
+    }
+}
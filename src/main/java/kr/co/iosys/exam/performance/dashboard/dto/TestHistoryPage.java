@@ -0,0 +1,45 @@
+package kr.co.iosys.exam.performance.dashboard.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * 테스트 이력 페이지
+ * 
+ * AIDEV-NOTE: 목록 필드명이 data인 것은 기존 대시보드(loadTestHistory)가 응답의 data 필드를 목록으로 읽기 때문
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TestHistoryPage {
+    
+    /**
+     * 테스트 이력 목록 (시작 시간 최신 순)
+     */
+    @JsonProperty("data")
+    private List<TestResult> data;
+    
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    @JsonProperty("nextCursor")
+    private String nextCursor;
+    
+    /**
+     * 다음 페이지 존재 여부
+     */
+    @JsonProperty("hasNext")
+    private boolean hasNext;
+    
+    /**
+     * 요청 페이지 크기
+     */
+    @JsonProperty("size")
+    private int size;
+}
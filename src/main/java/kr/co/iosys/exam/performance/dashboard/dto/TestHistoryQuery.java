@@ -0,0 +1,53 @@
+package kr.co.iosys.exam.performance.dashboard.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테스트 이력 조회 조건
+ * 필터와 키셋(seek) 페이지 위치
+ * 
+ * AIDEV-NOTE: 정렬은 (start_time DESC, test_id DESC) 고정, 이전 페이지 마지막 행 이후부터 조회
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TestHistoryQuery {
+    
+    /**
+     * 시험 계획 ID (null이면 전체)
+     */
+    private Long planId;
+    
+    /**
+     * 테스트 상태 (null이면 종료된 테스트 전체: COMPLETED, FAILED, CANCELLED)
+     */
+    private String status;
+    
+    /**
+     * 실행 타입 (null이면 전체)
+     */
+    private String runType;
+    
+    /**
+     * 시작 시간 범위 (from 이상, to 미만)
+     */
+    private LocalDateTime from;
+    private LocalDateTime to;
+    
+    /**
+     * 이전 페이지 마지막 행의 시작 시간/테스트 ID (첫 페이지는 null)
+     */
+    private LocalDateTime afterStartTime;
+    private String afterTestId;
+    
+    /**
+     * 페이지 크기
+     */
+    private int size;
+}
@@ -60,13 +60,18 @@ public class TestRequest {
     @NotBlank(message = "테스트 시나리오는 필수입니다")
     private String scenario;
     
+    /**
+     * 부하 모델 (RAMP_HOLD, STEP, SPIKE, SOAK, CLOSED, 생략 시 RAMP_HOLD)
+     */
+    private String loadProfile;
+    
     /**
      * 테스트 이름 (선택사항)
      */
     private String testName;
     
     /**
-     * 추가 설정 (JSON 형태의 문자열)
+     * 추가 설정 (JSON 형태의 문자열, 부하 모델 세부 값 포함)
      */
     private String additionalConfig;
 }
\ No newline at end of file
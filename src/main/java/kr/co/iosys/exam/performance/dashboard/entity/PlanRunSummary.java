@@ -0,0 +1,73 @@
+package kr.co.iosys.exam.performance.dashboard.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시험 계획별 추이 분석용 실행 요약 (완료된 테스트 1건당 1행)
+ *
+ * AIDEV-NOTE: 갱신/조회는 PlanTrendQueryRepository 네이티브 SQL로만 수행
+ * 결과 저장 이벤트마다 performance_tests + test_results_summary + test_metrics_history에서 다시 계산하여 upsert
+ * - error_rate: 실패 요청 비율 (%)
+ * - peak_tps: 초당 시계열의 최대 TPS (시계열이 없으면 결과 요약의 max_tps)
+ * - tps_per_user: 부하 수준(max_users)으로 정규화한 평균 TPS
+ */
+@Entity
+@Table(name = "plan_run_summaries", indexes = {
+        @Index(name = "idx_plan_run_summaries_trend", columnList = "plan_id, max_users, start_time, test_id"),
+        @Index(name = "idx_plan_run_summaries_run_type", columnList = "plan_id, run_type, max_users, start_time, test_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanRunSummary {
+
+    @Id
+    @Column(name = "test_id", length = 100)
+    private String testId;
+
+    @Column(name = "plan_id", nullable = false)
+    private Long planId;
+
+    @Column(name = "run_type", length = 50)
+    private String runType;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(name = "max_users", nullable = false)
+    private Integer maxUsers;
+
+    @Column(name = "total_requests")
+    private Long totalRequests;
+
+    @Column(name = "error_rate")
+    private Double errorRate;
+
+    @Column(name = "avg_response_time")
+    private Double avgResponseTime;
+
+    @Column(name = "p95_response_time")
+    private Double p95ResponseTime;
+
+    @Column(name = "p99_response_time")
+    private Double p99ResponseTime;
+
+    @Column(name = "avg_tps")
+    private Double avgTps;
+
+    @Column(name = "peak_tps")
+    private Double peakTps;
+
+    @Column(name = "tps_per_user")
+    private Double tpsPerUser;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
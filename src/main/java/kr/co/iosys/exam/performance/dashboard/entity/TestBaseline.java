@@ -0,0 +1,46 @@
+package kr.co.iosys.exam.performance.dashboard.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시험 계획/실행 유형별 회귀 판정 기준 테스트
+ * thresholds에는 기본값을 덮어쓰는 RegressionThresholds JSON 저장 (없으면 설정 기본값)
+ */
+@Entity
+@Table(name = "test_baselines",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"plan_id", "run_type"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestBaseline {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "plan_id", nullable = false)
+    private Long planId;
+
+    @Column(name = "run_type", nullable = false, length = 50)
+    private String runType;
+
+    @Column(name = "test_id", nullable = false, length = 100)
+    private String testId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "thresholds")
+    private String thresholds;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
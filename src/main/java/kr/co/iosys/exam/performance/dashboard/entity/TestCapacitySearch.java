@@ -0,0 +1,45 @@
+package kr.co.iosys.exam.performance.dashboard.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테스트별 용량 탐색 결과
+ * result에는 CapacitySearchResult 전체 JSON 저장 (구간마다 갱신)
+ */
+@Entity
+@Table(name = "test_capacity_searches")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCapacitySearch {
+
+    @Id
+    @Column(name = "test_id", length = 100)
+    private String testId;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "sustainable_users")
+    private Integer sustainableUsers;
+
+    @Column(name = "knee_users")
+    private Integer kneeUsers;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "result")
+    private String result;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,52 @@
+package kr.co.iosys.exam.performance.dashboard.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테스트 비교 분석 결과
+ * comparison_result에는 TestComparisonResult JSON 저장
+ */
+@Entity
+@Table(name = "test_comparisons")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestComparison {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "comparison_name", nullable = false, length = 200)
+    private String comparisonName;
+
+    @Column(name = "base_test_id", nullable = false, length = 100)
+    private String baseTestId;
+
+    @Column(name = "compare_test_id", nullable = false, length = 100)
+    private String compareTestId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "comparison_result")
+    private String comparisonResult;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package kr.co.iosys.exam.performance.dashboard.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테스트별 회귀 판정 결과
+ * violations에는 RegressionVerdict.Violation 목록 JSON 저장
+ */
+@Entity
+@Table(name = "test_regression_verdicts")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestRegressionVerdict {
+
+    @Id
+    @Column(name = "test_id", length = 100)
+    private String testId;
+
+    @Column(name = "baseline_test_id", length = 100)
+    private String baselineTestId;
+
+    @Column(name = "comparison_id")
+    private Long comparisonId;
+
+    @Column(name = "verdict", nullable = false, length = 20)
+    private String verdict;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "violations")
+    private String violations;
+
+    @Column(name = "message", length = 500)
+    private String message;
+
+    @Column(name = "evaluated_at", nullable = false)
+    private LocalDateTime evaluatedAt;
+}
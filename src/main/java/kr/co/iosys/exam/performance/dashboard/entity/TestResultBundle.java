@@ -0,0 +1,42 @@
+package kr.co.iosys.exam.performance.dashboard.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 완료된 테스트 결과 번들 (gzip 압축된 ResultBundle JSON)
+ *
+ * AIDEV-NOTE: etag는 압축 전 JSON의 SHA-256, 응답 시 그대로 strong ETag로 사용
+ */
+@Entity
+@Table(name = "test_result_bundles")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestResultBundle {
+
+    @Id
+    @Column(name = "test_id", length = 100)
+    private String testId;
+
+    @Column(name = "etag", nullable = false, length = 64)
+    private String etag;
+
+    @Column(name = "content", nullable = false)
+    private byte[] content;
+
+    @Column(name = "content_size", nullable = false)
+    private Integer contentSize;
+
+    @Column(name = "compressed_size", nullable = false)
+    private Integer compressedSize;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,104 @@
+package kr.co.iosys.exam.performance.dashboard.repository;
+
+import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
+import kr.co.iosys.exam.performance.dashboard.service.RealtimeMonitoringService;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 실시간 테스트 상태 저장소
+ * 활성 테스트 목록, 현재 메트릭, 상태, 시계열, 로그를 관리
+ *
+ * AIDEV-NOTE: performance-test.live-state.store 설정으로 구현 선택
+ * - redis (기본): 여러 노드가 공유하는 Redis 저장소
+ * - memory: 단일 노드용 프로세스 내 저장소 (Redis 불필요, 동일한 TTL/트리밍 동작)
+ */
+public interface LiveStateRepository {
+
+    // === 활성 테스트 목록 ===
+
+    void addActiveTest(String testId);
+
+    void removeActiveTest(String testId);
+
+    Set<String> findActiveTestIds();
+
+    // === 현재 메트릭 ===
+
+    /**
+     * 현재 메트릭 저장 (ttl이 null이면 만료 없음)
+     */
+    void saveCurrentMetrics(String testId, TestMetrics metrics, Duration ttl);
+
+    TestMetrics findCurrentMetrics(String testId);
+
+    void deleteCurrentMetrics(String testId);
+
+    // === 테스트 상태 ===
+
+    void saveStatus(String testId, Map<String, Object> status, Duration ttl);
+
+    Map<String, Object> findStatus(String testId);
+
+    /**
+     * 여러 테스트 상태 일괄 조회 (상태가 없는 테스트는 결과에서 제외)
+     */
+    Map<String, Map<String, Object>> findStatuses(Collection<String> testIds);
+
+    // === 시계열 ===
+
+    /**
+     * 시계열 엔트리 추가
+     * 최대 maxLength개로 트리밍, TTL은 시계열이 처음 생성될 때 설정
+     */
+    void appendTimeline(String testId, Map<String, String> fields, long maxLength, Duration ttl);
+
+    /**
+     * 기록 시각(밀리초) 기준 구간 조회, 오래된 순
+     */
+    List<TimelineEntry> findTimeline(String testId, long startTime, long endTime);
+
+    void expireTimeline(String testId, Duration ttl);
+
+    // === 로그 ===
+
+    /**
+     * 로그 추가 (최신이 앞), 최대 maxSize개 유지, 추가할 때마다 TTL 갱신
+     */
+    void pushLog(String testId, RealtimeMonitoringService.LogEntry logEntry, int maxSize, Duration ttl);
+
+    /**
+     * 최근 로그 조회 (최신 순)
+     */
+    List<RealtimeMonitoringService.LogEntry> findRecentLogs(String testId, int count);
+
+    // === 정리 ===
+
+    /**
+     * 테스트 관련 실시간 데이터 전체 삭제
+     */
+    void deleteTestData(String testId);
+
+    /**
+     * 시계열 엔트리
+     */
+    class TimelineEntry {
+        private final long timestamp;
+        private final Map<String, String> fields;
+
+        public TimelineEntry(long timestamp, Map<String, String> fields) {
+            this.timestamp = timestamp;
+            this.fields = fields;
+        }
+
+        /**
+         * 기록 시각 (밀리초)
+         */
+        public long getTimestamp() { return timestamp; }
+        public Map<String, String> getFields() { return fields; }
+    }
+}
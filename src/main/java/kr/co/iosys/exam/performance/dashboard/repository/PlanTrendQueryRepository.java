@@ -0,0 +1,40 @@
+package kr.co.iosys.exam.performance.dashboard.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 시험 계획별 실행 추이 조회 (plan_run_summaries 기반)
+ */
+public interface PlanTrendQueryRepository {
+
+    /**
+     * 완료된 테스트의 실행 요약 생성/갱신 (완료 상태가 아니거나 용량 탐색 실행이면 0)
+     */
+    int upsertRunSummary(String testId);
+
+    /**
+     * 실행 요약이 없는 완료된 테스트 일괄 생성 (남아 있는 용량 탐색 실행 요약은 삭제)
+     */
+    int backfillRunSummaries();
+
+    int deleteRunSummary(String testId);
+
+    /**
+     * 실행별 추이 (시작 시간 순, 같은 부하 수준 안에서 이동 통계)
+     * [test_id, start_time, run_type, max_users, p95, p99, avg_tps, peak_tps, tps_per_user, error_rate,
+     *  최근 window건 평균 p95, 평균 tps_per_user, 평균 error_rate,
+     *  이전 window건 평균 p95, 표준편차 p95, 평균 tps_per_user, 표준편차 tps_per_user, 이전 건수,
+     *  직전 실행 p95, 직전 실행 tps_per_user]
+     *
+     * @param from 이 시각 이전 실행도 이동 통계에는 포함되며 결과에서만 제외
+     */
+    List<Object[]> findRunTrend(Long planId, String runType, LocalDateTime from, LocalDateTime to, int window);
+
+    /**
+     * 주별/부하 수준별 집계 (주 시작 순)
+     * [week_start, max_users, runs, avg p95, median p95, avg tps_per_user, avg error_rate,
+     *  전주 avg p95, 전주 avg tps_per_user]
+     */
+    List<Object[]> findWeeklyTrend(Long planId, String runType, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,25 @@
+package kr.co.iosys.exam.performance.dashboard.repository;
+
+import kr.co.iosys.exam.performance.dashboard.entity.TestBaseline;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface TestBaselineRepository extends JpaRepository<TestBaseline, Long> {
+
+    Optional<TestBaseline> findByPlanIdAndRunType(Long planId, String runType);
+
+    /**
+     * 기준 테스트가 삭제되면 해당 기준 해제
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TestBaseline b WHERE b.testId = :testId")
+    int deleteByTestId(@Param("testId") String testId);
+}
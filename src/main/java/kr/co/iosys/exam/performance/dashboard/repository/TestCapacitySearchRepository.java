@@ -0,0 +1,9 @@
+package kr.co.iosys.exam.performance.dashboard.repository;
+
+import kr.co.iosys.exam.performance.dashboard.entity.TestCapacitySearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TestCapacitySearchRepository extends JpaRepository<TestCapacitySearch, String> {
+}
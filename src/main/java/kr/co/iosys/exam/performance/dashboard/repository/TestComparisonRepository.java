@@ -0,0 +1,29 @@
+package kr.co.iosys.exam.performance.dashboard.repository;
+
+import kr.co.iosys.exam.performance.dashboard.entity.TestComparison;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TestComparisonRepository extends JpaRepository<TestComparison, Long> {
+
+    Optional<TestComparison> findFirstByBaseTestIdAndCompareTestIdOrderByCreatedAtDesc(String baseTestId,
+                                                                                      String compareTestId);
+
+    List<TestComparison> findByBaseTestIdOrCompareTestIdOrderByCreatedAtDesc(String baseTestId, String compareTestId);
+
+    /**
+     * 테스트가 기준/비교 대상인 비교 결과 삭제 (테스트 삭제 전 FK 정리)
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TestComparison c WHERE c.baseTestId = :testId OR c.compareTestId = :testId")
+    int deleteByTestId(@Param("testId") String testId);
+}
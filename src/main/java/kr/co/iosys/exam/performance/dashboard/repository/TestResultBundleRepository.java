@@ -0,0 +1,19 @@
+package kr.co.iosys.exam.performance.dashboard.repository;
+
+import kr.co.iosys.exam.performance.dashboard.entity.TestResultBundle;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TestResultBundleRepository extends JpaRepository<TestResultBundle, String> {
+
+    /**
+     * 조건부 요청(If-None-Match) 확인용, 본문 없이 ETag만 조회
+     */
+    @Query("SELECT b.etag FROM TestResultBundle b WHERE b.testId = :testId")
+    Optional<String> findEtagByTestId(@Param("testId") String testId);
+}
@@ -1,5 +1,7 @@
 package kr.co.iosys.exam.performance.dashboard.repository;
 
+import kr.co.iosys.exam.performance.dashboard.dto.TestHistoryQuery;
+
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -15,4 +17,16 @@ public interface TestResultQueryRepository {
     List<Object[]> findActiveTests();
     
     List<Object[]> findByDateRange(LocalDateTime startDate, LocalDateTime endDate);
+    
+    /**
+     * 테스트 이력 키셋 페이지 조회 (findRecentResults와 같은 컬럼 순서)
+     * 다음 페이지 존재 여부 확인을 위해 size + 1개까지 반환
+     */
+    List<Object[]> findHistory(TestHistoryQuery historyQuery);
+    
+    /**
+     * 종료된 테스트의 상태별 집계
+     * [status, count, avg_response_time 개수, avg_response_time 합, avg_tps 개수, avg_tps 합]
+     */
+    List<Object[]> findFinishedStatusAggregates();
 }
\ No newline at end of file
@@ -0,0 +1,260 @@
+package kr.co.iosys.exam.performance.dashboard.repository.impl;
+
+import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
+import kr.co.iosys.exam.performance.dashboard.repository.LiveStateRepository;
+import kr.co.iosys.exam.performance.dashboard.service.RealtimeMonitoringService.LogEntry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내 실시간 상태 저장소 (단일 노드용)
+ * 대시보드와 부하 발생기가 같은 호스트에서 실행될 때 Redis 왕복 없이 동작
+ *
+ * AIDEV-NOTE: Redis 구현과 같은 TTL/트리밍 동작을 유지
+ * - 만료는 조회 시 확인하고, 1분마다 만료 항목을 정리
+ * - 저장/조회 시 메트릭과 상태를 복사하여 호출자 간 가변 객체 공유를 방지
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "performance-test.live-state.store", havingValue = "memory")
+public class InMemoryLiveStateRepository implements LiveStateRepository {
+
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final Set<String> activeTests = ConcurrentHashMap.newKeySet();
+    private final Map<String, Expiring<TestMetrics>> currentMetrics = new ConcurrentHashMap<>();
+    private final Map<String, Expiring<Map<String, Object>>> statuses = new ConcurrentHashMap<>();
+    private final Map<String, Expiring<Deque<TimelineEntry>>> timelines = new ConcurrentHashMap<>();
+    private final Map<String, Expiring<Deque<LogEntry>>> logs = new ConcurrentHashMap<>();
+
+    public InMemoryLiveStateRepository() {
+        log.info("프로세스 내 실시간 상태 저장소 사용 (Redis 미사용)");
+    }
+
+    @Override
+    public void addActiveTest(String testId) {
+        activeTests.add(testId);
+    }
+
+    @Override
+    public void removeActiveTest(String testId) {
+        activeTests.remove(testId);
+    }
+
+    @Override
+    public Set<String> findActiveTestIds() {
+        return new LinkedHashSet<>(activeTests);
+    }
+
+    @Override
+    public void saveCurrentMetrics(String testId, TestMetrics metrics, Duration ttl) {
+        currentMetrics.put(testId, new Expiring<>(copyOf(metrics), expiresAt(ttl)));
+    }
+
+    @Override
+    public TestMetrics findCurrentMetrics(String testId) {
+        TestMetrics metrics = valueOf(currentMetrics, testId);
+        return metrics != null ? copyOf(metrics) : null;
+    }
+
+    @Override
+    public void deleteCurrentMetrics(String testId) {
+        currentMetrics.remove(testId);
+    }
+
+    @Override
+    public void saveStatus(String testId, Map<String, Object> status, Duration ttl) {
+        statuses.put(testId, new Expiring<>(new LinkedHashMap<>(status), expiresAt(ttl)));
+    }
+
+    @Override
+    public Map<String, Object> findStatus(String testId) {
+        Map<String, Object> status = valueOf(statuses, testId);
+        return status != null ? new LinkedHashMap<>(status) : null;
+    }
+
+    @Override
+    public Map<String, Map<String, Object>> findStatuses(Collection<String> testIds) {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (String testId : testIds) {
+            Map<String, Object> status = findStatus(testId);
+            if (status != null) {
+                result.put(testId, status);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void appendTimeline(String testId, Map<String, String> fields, long maxLength, Duration ttl) {
+        // TTL은 만료 시각이 없을 때만 설정 (Redis 구현과 동일, expireTimeline으로 줄인 TTL은 유지)
+        Expiring<Deque<TimelineEntry>> timeline = timelines.compute(testId, (key, current) -> {
+            if (current == null || current.isExpired()) {
+                return new Expiring<>(new ArrayDeque<>(), expiresAt(ttl));
+            }
+            if (current.expiresAt == NO_EXPIRY) {
+                current.expiresAt = expiresAt(ttl);
+            }
+            return current;
+        });
+
+        Deque<TimelineEntry> entries = timeline.value;
+        synchronized (entries) {
+            entries.addLast(new TimelineEntry(System.currentTimeMillis(), new LinkedHashMap<>(fields)));
+            while (entries.size() > maxLength) {
+                entries.pollFirst();
+            }
+        }
+    }
+
+    @Override
+    public List<TimelineEntry> findTimeline(String testId, long startTime, long endTime) {
+        List<TimelineEntry> result = new ArrayList<>();
+        Deque<TimelineEntry> entries = valueOf(timelines, testId);
+        if (entries == null) {
+            return result;
+        }
+        synchronized (entries) {
+            for (TimelineEntry entry : entries) {
+                if (entry.getTimestamp() >= startTime && entry.getTimestamp() <= endTime) {
+                    result.add(entry);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void expireTimeline(String testId, Duration ttl) {
+        // 이미 만료된 시계열은 되살리지 않음 (Redis EXPIRE는 없는 키에 아무 동작도 하지 않음)
+        timelines.computeIfPresent(testId, (key, current) -> {
+            if (current.isExpired()) {
+                return null;
+            }
+            current.expiresAt = expiresAt(ttl);
+            return current;
+        });
+    }
+
+    @Override
+    public void pushLog(String testId, LogEntry logEntry, int maxSize, Duration ttl) {
+        Expiring<Deque<LogEntry>> logList = logs.compute(testId, (key, current) ->
+                current != null && !current.isExpired() ? current : new Expiring<>(new ArrayDeque<>(), NO_EXPIRY));
+
+        Deque<LogEntry> entries = logList.value;
+        synchronized (entries) {
+            entries.addFirst(logEntry);
+            while (entries.size() > maxSize) {
+                entries.pollLast();
+            }
+        }
+        logList.expiresAt = expiresAt(ttl);
+    }
+
+    @Override
+    public List<LogEntry> findRecentLogs(String testId, int count) {
+        List<LogEntry> result = new ArrayList<>();
+        Deque<LogEntry> entries = valueOf(logs, testId);
+        if (entries == null) {
+            return result;
+        }
+        synchronized (entries) {
+            Iterator<LogEntry> iterator = entries.iterator();
+            while (iterator.hasNext() && result.size() < count) {
+                result.add(iterator.next());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void deleteTestData(String testId) {
+        activeTests.remove(testId);
+        currentMetrics.remove(testId);
+        statuses.remove(testId);
+        timelines.remove(testId);
+        logs.remove(testId);
+    }
+
+    /**
+     * 만료 항목 정리 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        currentMetrics.values().removeIf(Expiring::isExpired);
+        statuses.values().removeIf(Expiring::isExpired);
+        timelines.values().removeIf(Expiring::isExpired);
+        logs.values().removeIf(Expiring::isExpired);
+    }
+
+    // === Private Methods ===
+
+    private static <T> T valueOf(Map<String, Expiring<T>> store, String testId) {
+        Expiring<T> holder = store.get(testId);
+        if (holder == null) {
+            return null;
+        }
+        if (holder.isExpired()) {
+            store.remove(testId, holder);
+            return null;
+        }
+        return holder.value;
+    }
+
+    private static long expiresAt(Duration ttl) {
+        return ttl != null ? System.currentTimeMillis() + ttl.toMillis() : NO_EXPIRY;
+    }
+
+    private static TestMetrics copyOf(TestMetrics metrics) {
+        return TestMetrics.builder()
+                .testId(metrics.getTestId())
+                .timestamp(metrics.getTimestamp())
+                .activeUsers(metrics.getActiveUsers())
+                .tps(metrics.getTps())
+                .avgResponseTime(metrics.getAvgResponseTime())
+                .minResponseTime(metrics.getMinResponseTime())
+                .maxResponseTime(metrics.getMaxResponseTime())
+                .p95ResponseTime(metrics.getP95ResponseTime())
+                .p99ResponseTime(metrics.getP99ResponseTime())
+                .successCount(metrics.getSuccessCount())
+                .errorCount(metrics.getErrorCount())
+                .errorRate(metrics.getErrorRate())
+                .progress(metrics.getProgress())
+                .totalRequests(metrics.getTotalRequests())
+                .build();
+    }
+
+    /**
+     * 만료 시각을 가진 값
+     */
+    private static class Expiring<T> {
+        private final T value;
+        private volatile long expiresAt;
+
+        Expiring(T value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
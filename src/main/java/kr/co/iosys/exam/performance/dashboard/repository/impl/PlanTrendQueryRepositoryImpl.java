@@ -0,0 +1,210 @@
+package kr.co.iosys.exam.performance.dashboard.repository.impl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import kr.co.iosys.exam.performance.dashboard.repository.PlanTrendQueryRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AIDEV-NOTE: 실행 요약 upsert는 INSERT ... SELECT ... ON CONFLICT 한 번으로 처리 (PostgreSQL)
+ * 추이 조회는 부하 수준(max_users)별 파티션 윈도 함수로 계산
+ * - window 크기는 서비스에서 검증한 정수라 프레임 절에 직접 넣음
+ * - from 조건은 이동 통계 계산 후 바깥 쿼리에서 적용 (구간 앞쪽 실행도 이전 실행 통계를 가짐)
+ * - 용량 탐색 실행은 요약에서 제외 (max_users가 탐색 상한이고 결과가 여러 사용자 수 구간의 합이라 부하 수준별 비교가 불가)
+ */
+@Repository
+public class PlanTrendQueryRepositoryImpl implements PlanTrendQueryRepository {
+
+    private static final String SUMMARY_SELECT = """
+            INSERT INTO plan_run_summaries (
+                test_id, plan_id, run_type, start_time, max_users,
+                total_requests, error_rate, avg_response_time, p95_response_time, p99_response_time,
+                avg_tps, peak_tps, tps_per_user, updated_at
+            )
+            SELECT
+                pt.test_id,
+                pt.plan_id,
+                pt.run_type,
+                pt.start_time,
+                pt.max_users,
+                trs.total_requests,
+                CASE WHEN trs.total_requests > 0 THEN trs.failed_requests * 100.0 / trs.total_requests END,
+                trs.avg_response_time,
+                trs.p95_response_time,
+                trs.p99_response_time,
+                trs.avg_tps,
+                COALESCE((SELECT MAX(tmh.tps) FROM test_metrics_history tmh WHERE tmh.test_id = pt.test_id),
+                         trs.max_tps),
+                trs.avg_tps / NULLIF(pt.max_users, 0),
+                CURRENT_TIMESTAMP
+            FROM performance_tests pt
+            JOIN test_results_summary trs ON pt.test_id = trs.test_id
+            WHERE pt.status = 'COMPLETED'
+              AND NOT EXISTS (SELECT 1 FROM test_capacity_searches tcs WHERE tcs.test_id = pt.test_id)
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int upsertRunSummary(String testId) {
+        String sql = SUMMARY_SELECT + """
+              AND pt.test_id = :testId
+            ON CONFLICT (test_id) DO UPDATE SET
+                plan_id = EXCLUDED.plan_id,
+                run_type = EXCLUDED.run_type,
+                start_time = EXCLUDED.start_time,
+                max_users = EXCLUDED.max_users,
+                total_requests = EXCLUDED.total_requests,
+                error_rate = EXCLUDED.error_rate,
+                avg_response_time = EXCLUDED.avg_response_time,
+                p95_response_time = EXCLUDED.p95_response_time,
+                p99_response_time = EXCLUDED.p99_response_time,
+                avg_tps = EXCLUDED.avg_tps,
+                peak_tps = EXCLUDED.peak_tps,
+                tps_per_user = EXCLUDED.tps_per_user,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setParameter("testId", testId);
+        return query.executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int backfillRunSummaries() {
+        // 이전에 요약된 용량 탐색 실행 정리
+        entityManager.createNativeQuery("""
+            DELETE FROM plan_run_summaries
+            WHERE test_id IN (SELECT test_id FROM test_capacity_searches)
+            """).executeUpdate();
+
+        String sql = SUMMARY_SELECT + """
+              AND NOT EXISTS (SELECT 1 FROM plan_run_summaries prs WHERE prs.test_id = pt.test_id)
+            ON CONFLICT (test_id) DO NOTHING
+            """;
+
+        return entityManager.createNativeQuery(sql).executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int deleteRunSummary(String testId) {
+        Query query = entityManager.createNativeQuery("DELETE FROM plan_run_summaries WHERE test_id = :testId");
+        query.setParameter("testId", testId);
+        return query.executeUpdate();
+    }
+
+    @Override
+    public List<Object[]> findRunTrend(Long planId, String runType, LocalDateTime from, LocalDateTime to, int window) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        String filter = planFilter(planId, runType, to, params);
+
+        String sql = """
+            SELECT t.* FROM (
+                SELECT
+                    s.test_id,
+                    s.start_time,
+                    s.run_type,
+                    s.max_users,
+                    s.p95_response_time,
+                    s.p99_response_time,
+                    s.avg_tps,
+                    s.peak_tps,
+                    s.tps_per_user,
+                    s.error_rate,
+                    AVG(s.p95_response_time) OVER recent AS rolling_p95,
+                    AVG(s.tps_per_user) OVER recent AS rolling_tps_per_user,
+                    AVG(s.error_rate) OVER recent AS rolling_error_rate,
+                    AVG(s.p95_response_time) OVER prior AS prior_p95_avg,
+                    STDDEV_SAMP(s.p95_response_time) OVER prior AS prior_p95_stddev,
+                    AVG(s.tps_per_user) OVER prior AS prior_tps_per_user_avg,
+                    STDDEV_SAMP(s.tps_per_user) OVER prior AS prior_tps_per_user_stddev,
+                    COUNT(s.p95_response_time) OVER prior AS prior_runs,
+                    LAG(s.p95_response_time) OVER load_level AS previous_p95,
+                    LAG(s.tps_per_user) OVER load_level AS previous_tps_per_user
+                FROM plan_run_summaries s
+            """ + filter + """
+                WINDOW load_level AS (PARTITION BY s.max_users ORDER BY s.start_time, s.test_id),
+                       recent AS (load_level ROWS BETWEEN %d PRECEDING AND CURRENT ROW),
+                       prior AS (load_level ROWS BETWEEN %d PRECEDING AND 1 PRECEDING)
+            ) t
+            """.formatted(window - 1, window)
+                + (from != null ? " WHERE t.start_time >= :fromTime" : "")
+                + " ORDER BY t.start_time, t.test_id";
+        if (from != null) {
+            params.put("fromTime", from);
+        }
+
+        Query query = entityManager.createNativeQuery(sql);
+        params.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Object[]> findWeeklyTrend(Long planId, String runType, LocalDateTime from, LocalDateTime to) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        String filter = planFilter(planId, runType, to, params);
+
+        String sql = """
+            SELECT w.* FROM (
+                SELECT
+                    g.week_start,
+                    g.max_users,
+                    g.runs,
+                    g.avg_p95,
+                    g.median_p95,
+                    g.avg_tps_per_user,
+                    g.avg_error_rate,
+                    LAG(g.avg_p95) OVER load_level AS previous_avg_p95,
+                    LAG(g.avg_tps_per_user) OVER load_level AS previous_avg_tps_per_user
+                FROM (
+                    SELECT
+                        date_trunc('week', s.start_time) AS week_start,
+                        s.max_users,
+                        COUNT(*) AS runs,
+                        AVG(s.p95_response_time) AS avg_p95,
+                        PERCENTILE_CONT(0.5) WITHIN GROUP (ORDER BY s.p95_response_time) AS median_p95,
+                        AVG(s.tps_per_user) AS avg_tps_per_user,
+                        AVG(s.error_rate) AS avg_error_rate
+                    FROM plan_run_summaries s
+            """ + filter + """
+                    GROUP BY date_trunc('week', s.start_time), s.max_users
+                ) g
+                WINDOW load_level AS (PARTITION BY g.max_users ORDER BY g.week_start)
+            ) w
+            """
+                + (from != null ? " WHERE w.week_start >= date_trunc('week', CAST(:fromTime AS TIMESTAMP))" : "")
+                + " ORDER BY w.week_start, w.max_users";
+        if (from != null) {
+            params.put("fromTime", from);
+        }
+
+        Query query = entityManager.createNativeQuery(sql);
+        params.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    private String planFilter(Long planId, String runType, LocalDateTime to, Map<String, Object> params) {
+        StringBuilder filter = new StringBuilder(" WHERE s.plan_id = :planId");
+        params.put("planId", planId);
+        if (runType != null) {
+            filter.append(" AND s.run_type = :runType");
+            params.put("runType", runType);
+        }
+        if (to != null) {
+            filter.append(" AND s.start_time < :toTime");
+            params.put("toTime", to);
+        }
+        return filter.append('\n').toString();
+    }
+}
@@ -0,0 +1,239 @@
+package kr.co.iosys.exam.performance.dashboard.repository.impl;
+
+import kr.co.iosys.exam.performance.config.LiveDataRedisSerializer;
+import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
+import kr.co.iosys.exam.performance.dashboard.repository.LiveStateRepository;
+import kr.co.iosys.exam.performance.dashboard.service.RealtimeMonitoringService.LogEntry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 기반 실시간 상태 저장소 (기본)
+ *
+ * AIDEV-NOTE: 키 구조는 docs/redis-schema.md 참고
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "performance-test.live-state.store", havingValue = "redis", matchIfMissing = true)
+public class RedisLiveStateRepository implements LiveStateRepository {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // Redis 키 패턴
+    private static final String REDIS_KEY_ACTIVE_TESTS = "tests:active";
+    private static final String REDIS_KEY_CURRENT_METRICS = "metrics:current:%s";
+    private static final String REDIS_KEY_TEST_STATUS = "test:status:%s";
+    private static final String REDIS_KEY_TIMELINE = "timeline:%s";
+    private static final String REDIS_KEY_LOGS = "logs:%s";
+
+    // 시계열 기록: XADD와 TTL 설정(TTL이 없을 때만, EXPIRE NX와 같은 효과)을 한 번의 왕복으로 실행
+    // ARGV: [최대 길이, TTL(초), 필드1, 값1, ...]
+    private static final RedisScript<Long> APPEND_TIMELINE_SCRIPT = RedisScript.of("""
+            redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*', unpack(ARGV, 3))
+            if redis.call('TTL', KEYS[1]) == -1 then
+                redis.call('EXPIRE', KEYS[1], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    @Override
+    public void addActiveTest(String testId) {
+        redisTemplate.opsForSet().add(REDIS_KEY_ACTIVE_TESTS, testId);
+    }
+
+    @Override
+    public void removeActiveTest(String testId) {
+        redisTemplate.opsForSet().remove(REDIS_KEY_ACTIVE_TESTS, testId);
+    }
+
+    @Override
+    public Set<String> findActiveTestIds() {
+        Set<Object> members = redisTemplate.opsForSet().members(REDIS_KEY_ACTIVE_TESTS);
+        Set<String> testIds = new LinkedHashSet<>();
+        if (members != null) {
+            for (Object member : members) {
+                testIds.add(member.toString());
+            }
+        }
+        return testIds;
+    }
+
+    @Override
+    public void saveCurrentMetrics(String testId, TestMetrics metrics, Duration ttl) {
+        String metricsKey = String.format(REDIS_KEY_CURRENT_METRICS, testId);
+        if (ttl != null) {
+            redisTemplate.opsForValue().set(metricsKey, metrics, ttl);
+        } else {
+            redisTemplate.opsForValue().set(metricsKey, metrics);
+        }
+    }
+
+    @Override
+    public TestMetrics findCurrentMetrics(String testId) {
+        Object data = redisTemplate.opsForValue().get(String.format(REDIS_KEY_CURRENT_METRICS, testId));
+        try {
+            return LiveDataRedisSerializer.convert(data, TestMetrics.class, objectMapper);
+        } catch (Exception e) {
+            log.warn("현재 메트릭 파싱 실패: {}", testId);
+            return null;
+        }
+    }
+
+    @Override
+    public void deleteCurrentMetrics(String testId) {
+        redisTemplate.delete(String.format(REDIS_KEY_CURRENT_METRICS, testId));
+    }
+
+    @Override
+    public void saveStatus(String testId, Map<String, Object> status, Duration ttl) {
+        redisTemplate.opsForValue().set(String.format(REDIS_KEY_TEST_STATUS, testId),
+                new LiveDataRedisSerializer.StatusPayload(status), ttl);
+    }
+
+    @Override
+    public Map<String, Object> findStatus(String testId) {
+        Object data = redisTemplate.opsForValue().get(String.format(REDIS_KEY_TEST_STATUS, testId));
+        try {
+            return LiveDataRedisSerializer.convertStatus(data, objectMapper);
+        } catch (Exception e) {
+            log.warn("테스트 상태 파싱 실패: {}", testId);
+            return null;
+        }
+    }
+
+    /**
+     * AIDEV-NOTE: 테스트 수와 관계없이 MGET 한 번으로 조회
+     */
+    @Override
+    public Map<String, Map<String, Object>> findStatuses(Collection<String> testIds) {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        if (testIds.isEmpty()) {
+            return result;
+        }
+
+        List<String> ids = new ArrayList<>(testIds);
+        List<String> keys = new ArrayList<>(ids.size());
+        for (String testId : ids) {
+            keys.add(String.format(REDIS_KEY_TEST_STATUS, testId));
+        }
+
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return result;
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            Object data = values.get(i);
+            if (data == null) {
+                continue;
+            }
+            try {
+                result.put(ids.get(i), LiveDataRedisSerializer.convertStatus(data, objectMapper));
+            } catch (Exception e) {
+                log.warn("테스트 상태 파싱 실패: {}", ids.get(i));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void appendTimeline(String testId, Map<String, String> fields, long maxLength, Duration ttl) {
+        // 필드/값은 opsForStream()과 같은 해시 직렬화기로 인코딩 (findTimeline이 그대로 읽음)
+        RedisSerializer<Object> hashKeySerializer = (RedisSerializer<Object>) redisTemplate.getHashKeySerializer();
+        RedisSerializer<Object> hashValueSerializer = (RedisSerializer<Object>) redisTemplate.getHashValueSerializer();
+        List<byte[]> args = new ArrayList<>(2 + fields.size() * 2);
+        args.add(String.valueOf(maxLength).getBytes(StandardCharsets.UTF_8));
+        args.add(String.valueOf(Math.max(1, ttl.toSeconds())).getBytes(StandardCharsets.UTF_8));
+        fields.forEach((field, value) -> {
+            args.add(hashKeySerializer.serialize(field));
+            args.add(hashValueSerializer.serialize(value));
+        });
+
+        // TTL이 없는 Stream(새로 만들어졌거나 삭제 후 재생성)에만 설정, 종료 시 줄인 TTL은 유지
+        redisTemplate.execute(APPEND_TIMELINE_SCRIPT, RedisSerializer.byteArray(), null,
+                List.of(String.format(REDIS_KEY_TIMELINE, testId)), args.toArray());
+    }
+
+    /**
+     * AIDEV-NOTE: 엔트리 ID의 밀리초 부분으로 구간을 지정하므로 한 번의 XRANGE로 전체 필드를 가져옴
+     */
+    @Override
+    public List<TimelineEntry> findTimeline(String testId, long startTime, long endTime) {
+        String timelineKey = String.format(REDIS_KEY_TIMELINE, testId);
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .range(timelineKey, Range.closed(String.valueOf(startTime), String.valueOf(endTime)));
+
+        List<TimelineEntry> entries = new ArrayList<>();
+        if (records != null) {
+            for (MapRecord<String, Object, Object> record : records) {
+                Map<String, String> fields = new LinkedHashMap<>();
+                record.getValue().forEach((key, value) -> fields.put(key.toString(), String.valueOf(value)));
+                entries.add(new TimelineEntry(record.getId().getTimestamp(), fields));
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public void expireTimeline(String testId, Duration ttl) {
+        redisTemplate.expire(String.format(REDIS_KEY_TIMELINE, testId), ttl);
+    }
+
+    @Override
+    public void pushLog(String testId, LogEntry logEntry, int maxSize, Duration ttl) {
+        String logsKey = String.format(REDIS_KEY_LOGS, testId);
+        redisTemplate.opsForList().leftPush(logsKey, logEntry);
+        redisTemplate.opsForList().trim(logsKey, 0, maxSize - 1);
+        redisTemplate.expire(logsKey, ttl);
+    }
+
+    @Override
+    public List<LogEntry> findRecentLogs(String testId, int count) {
+        List<Object> logData = redisTemplate.opsForList().range(String.format(REDIS_KEY_LOGS, testId), 0, count - 1);
+
+        List<LogEntry> logs = new ArrayList<>();
+        if (logData != null) {
+            for (Object logItem : logData) {
+                try {
+                    logs.add(LiveDataRedisSerializer.convert(logItem, LogEntry.class, objectMapper));
+                } catch (Exception e) {
+                    log.warn("로그 파싱 실패: {}", logItem);
+                }
+            }
+        }
+        return logs;
+    }
+
+    @Override
+    public void deleteTestData(String testId) {
+        removeActiveTest(testId);
+        redisTemplate.delete(List.of(
+                String.format(REDIS_KEY_CURRENT_METRICS, testId),
+                String.format(REDIS_KEY_TEST_STATUS, testId),
+                String.format(REDIS_KEY_TIMELINE, testId),
+                String.format(REDIS_KEY_LOGS, testId)));
+    }
+}
@@ -3,11 +3,14 @@ package kr.co.iosys.exam.performance.dashboard.repository.impl;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
+import kr.co.iosys.exam.performance.dashboard.dto.TestHistoryQuery;
 import kr.co.iosys.exam.performance.dashboard.repository.TestResultQueryRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -164,4 +167,96 @@ public class TestResultQueryRepositoryImpl implements TestResultQueryRepository
         query.setParameter("endDate", endDate);
         return query.getResultList();
     }
-}
\ No newline at end of file
+    
+    @Override
+    public List<Object[]> findFinishedStatusAggregates() {
+        String sql = """
+            SELECT 
+                pt.status,
+                COUNT(*),
+                COUNT(trs.avg_response_time),
+                COALESCE(SUM(trs.avg_response_time), 0),
+                COUNT(trs.avg_tps),
+                COALESCE(SUM(trs.avg_tps), 0)
+            FROM performance_tests pt
+            LEFT JOIN test_results_summary trs ON pt.test_id = trs.test_id
+            WHERE pt.status IN ('COMPLETED', 'FAILED', 'CANCELLED')
+            GROUP BY pt.status
+            """;
+        
+        Query query = entityManager.createNativeQuery(sql);
+        return query.getResultList();
+    }
+    
+    /**
+     * AIDEV-NOTE: (start_time, test_id) 행 비교로 이전 페이지 이후를 찾으므로 페이지 깊이와 관계없이 인덱스 범위 스캔
+     * - 상태 필터가 없으면 종료된 테스트만 조회 (부분 인덱스 idx_performance_tests_*_history 사용)
+     * - 인덱스 정의는 sql/create_schema.sql 참고
+     */
+    @Override
+    public List<Object[]> findHistory(TestHistoryQuery historyQuery) {
+        StringBuilder sql = new StringBuilder("""
+            SELECT 
+                pt.test_id,
+                pt.test_name,
+                pt.plan_id,
+                pt.status,
+                pt.start_time,
+                pt.end_time,
+                trs.total_requests,
+                trs.successful_requests,
+                trs.failed_requests,
+                trs.success_rate,
+                trs.avg_response_time,
+                trs.min_response_time,
+                trs.max_response_time,
+                trs.p50_response_time,
+                trs.p75_response_time,
+                trs.p95_response_time,
+                trs.p99_response_time,
+                trs.max_tps,
+                trs.avg_tps,
+                pt.test_duration_seconds,
+                trs.max_concurrent_users,
+                pt.result_path,
+                pt.error_message
+            FROM performance_tests pt
+            LEFT JOIN test_results_summary trs ON pt.test_id = trs.test_id
+            """);
+        Map<String, Object> params = new LinkedHashMap<>();
+        
+        if (historyQuery.getStatus() != null) {
+            sql.append(" WHERE pt.status = :status");
+            params.put("status", historyQuery.getStatus());
+        } else {
+            sql.append(" WHERE pt.status IN ('COMPLETED', 'FAILED', 'CANCELLED')");
+        }
+        if (historyQuery.getPlanId() != null) {
+            sql.append(" AND pt.plan_id = :planId");
+            params.put("planId", historyQuery.getPlanId());
+        }
+        if (historyQuery.getRunType() != null) {
+            sql.append(" AND pt.run_type = :runType");
+            params.put("runType", historyQuery.getRunType());
+        }
+        if (historyQuery.getFrom() != null) {
+            sql.append(" AND pt.start_time >= :fromTime");
+            params.put("fromTime", historyQuery.getFrom());
+        }
+        if (historyQuery.getTo() != null) {
+            sql.append(" AND pt.start_time < :toTime");
+            params.put("toTime", historyQuery.getTo());
+        }
+        if (historyQuery.getAfterStartTime() != null && historyQuery.getAfterTestId() != null) {
+            sql.append(" AND (pt.start_time, pt.test_id) < (:afterStartTime, :afterTestId)");
+            params.put("afterStartTime", historyQuery.getAfterStartTime());
+            params.put("afterTestId", historyQuery.getAfterTestId());
+        }
+        sql.append(" ORDER BY pt.start_time DESC, pt.test_id DESC LIMIT :limit");
+        params.put("limit", historyQuery.getSize() + 1);
+        
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,83 @@
+package kr.co.iosys.exam.performance.dashboard.service;
+
+import kr.co.iosys.exam.performance.dashboard.dto.CapacitySearchResult;
+
+/**
+ * 용량 탐색 구간 계획
+ *
+ * AIDEV-NOTE: 구간 결과(통과/실패)만으로 다음 동시 사용자 수를 정함
+ * - 첫 실패 전: startUsers부터 growthFactor배씩 늘림 (maxUsers에서 멈춤)
+ * - 첫 실패 후: 최고 통과 수와 최저 실패 수 사이를 이분 탐색, 간격이 resolutionUsers 이하가 되면 종료
+ * - maxPlateaus 구간을 넘지 않음
+ */
+public class CapacitySearchPlanner {
+
+    private final int startUsers;
+    private final int maxUsers;
+    private final double growthFactor;
+    private final int resolutionUsers;
+    private final int maxPlateaus;
+
+    // 최고 통과 / 최저 실패 동시 사용자 수 (없으면 null)
+    private Integer highestPassed;
+    private Integer lowestFailed;
+    private int plateaus;
+
+    public CapacitySearchPlanner(int startUsers, int maxUsers, double growthFactor, int resolutionUsers, int maxPlateaus) {
+        this.maxUsers = Math.max(1, maxUsers);
+        this.startUsers = Math.min(Math.max(1, startUsers), this.maxUsers);
+        this.growthFactor = growthFactor > 1.0 ? growthFactor : 2.0;
+        this.resolutionUsers = Math.max(1, resolutionUsers);
+        this.maxPlateaus = Math.max(1, maxPlateaus);
+    }
+
+    public static CapacitySearchPlanner of(CapacitySearchResult search) {
+        return new CapacitySearchPlanner(search.getStartUsers(), search.getMaxUsers(), search.getGrowthFactor(),
+                search.getResolutionUsers(), search.getMaxPlateaus());
+    }
+
+    /**
+     * 다음 구간 동시 사용자 수 (탐색이 끝났으면 null)
+     */
+    public Integer nextUsers() {
+        if (plateaus >= maxPlateaus) {
+            return null;
+        }
+        if (lowestFailed == null) {
+            if (highestPassed == null) {
+                return startUsers;
+            }
+            if (highestPassed >= maxUsers) {
+                return null;
+            }
+            int grown = (int) Math.ceil(highestPassed * growthFactor);
+            return Math.min(maxUsers, Math.max(grown, highestPassed + 1));
+        }
+        int lower = highestPassed != null ? highestPassed : 0;
+        if (lowestFailed - lower <= resolutionUsers) {
+            return null;
+        }
+        return lower + (lowestFailed - lower) / 2;
+    }
+
+    /**
+     * 구간 결과 반영
+     */
+    public void record(int users, boolean passed) {
+        plateaus++;
+        if (passed) {
+            if (highestPassed == null || users > highestPassed) {
+                highestPassed = users;
+            }
+        } else if (lowestFailed == null || users < lowestFailed) {
+            lowestFailed = users;
+        }
+    }
+
+    /**
+     * SLO를 통과한 가장 높은 동시 사용자 수 (없으면 null)
+     */
+    public Integer sustainableUsers() {
+        return highestPassed;
+    }
+}
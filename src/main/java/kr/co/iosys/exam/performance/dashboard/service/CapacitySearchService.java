@@ -0,0 +1,318 @@
+package kr.co.iosys.exam.performance.dashboard.service;
+
+import kr.co.iosys.exam.performance.config.PerformanceTestProperties;
+import kr.co.iosys.exam.performance.dashboard.dto.CapacitySearchResult;
+import kr.co.iosys.exam.performance.dashboard.dto.CapacitySearchResult.Plateau;
+import kr.co.iosys.exam.performance.dashboard.entity.TestCapacitySearch;
+import kr.co.iosys.exam.performance.dashboard.repository.TestCapacitySearchRepository;
+import kr.co.iosys.exam.performance.dto.TestLifecycleEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 용량 탐색 결과 서비스
+ * 구간별 Gatling 통계로 SLO 통과 여부를 판정하고, 최대 지속 가능 사용자 수와 처리량 꺾임 지점을 계산하여 저장
+ *
+ * AIDEV-NOTE: 구간 실행은 GatlingRunnerService가 담당, 여기서는 판정/집계/저장만 처리
+ * - 구간이 끝날 때마다 저장하여 탐색 중에도 진행 상황 조회 가능
+ * - 탐색 조건은 performance-test.capacity-search 기본값을 테스트 설정(additionalConfig)의 같은 이름 키로 덮어씀
+ * - 판정은 유지 구간만 사용 (simulation.log에서 첫 사용자 시작 + 증가 시간 이후에 시작한 요청) - 0명부터의 증가 구간 요청이 p95/에러율을 희석하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CapacitySearchService {
+
+    private final TestCapacitySearchRepository capacitySearchRepository;
+    private final PerformanceTestProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 삭제 시 탐색 결과 정리
+     */
+    @EventListener
+    public void onLifecycleEvent(TestLifecycleEvent event) {
+        try {
+            if (event.getType() == TestLifecycleEvent.Type.DELETED) {
+                capacitySearchRepository.deleteById(event.getTestId());
+            }
+        } catch (Exception e) {
+            log.error("용량 탐색 결과 정리 실패: {}", event.getTestId(), e);
+        }
+    }
+
+    /**
+     * 새 탐색 시작 (조건 확정 후 RUNNING으로 저장)
+     *
+     * @param maxUsers 탐색 상한 (테스트 요청의 maxUsers)
+     * @param testConfig 테스트 설정 (덮어쓸 탐색 조건 포함 가능)
+     */
+    public CapacitySearchResult start(String testId, int maxUsers, Map<String, Object> testConfig) {
+        CapacitySearchResult search = newSearch(testId, maxUsers, testConfig, properties.getCapacitySearch());
+        save(search);
+        log.info("용량 탐색 시작: {} (시작 {}명, 상한 {}명, p95 ≤ {}ms, 에러율 ≤ {}%)", testId,
+                search.getStartUsers(), search.getMaxUsers(), search.getSloP95Ms(), search.getSloErrorRate());
+        return search;
+    }
+
+    /**
+     * 구간 결과 반영 후 저장
+     */
+    public CapacitySearchResult record(CapacitySearchResult search, Plateau plateau) {
+        search.getPlateaus().add(plateau);
+        summarize(search);
+        save(search);
+        log.info("용량 탐색 구간 {}: {}명 → {} (p95 {}ms, 에러율 {}%, TPS {})", plateau.getIndex(), plateau.getUsers(),
+                plateau.isPassed() ? "통과" : "실패 - " + plateau.getViolation(),
+                plateau.getP95ResponseTime(), plateau.getErrorRate(), plateau.getTps());
+        return search;
+    }
+
+    /**
+     * 탐색 종료 상태 저장
+     */
+    public CapacitySearchResult finish(CapacitySearchResult search, CapacitySearchResult.Status status) {
+        search.setStatus(status);
+        summarize(search);
+        save(search);
+        log.info("용량 탐색 종료: {} {} (지속 가능 {}명, 꺾임 {}명)", search.getTestId(), status,
+                search.getSustainableUsers(), search.getKneeUsers());
+        return search;
+    }
+
+    /**
+     * 탐색 결과 조회
+     *
+     * @throws IllegalArgumentException 용량 탐색으로 실행한 테스트가 아닌 경우
+     */
+    public CapacitySearchResult getResult(String testId) {
+        TestCapacitySearch stored = capacitySearchRepository.findById(testId)
+                .orElseThrow(() -> new IllegalArgumentException("용량 탐색 결과가 없습니다: " + testId));
+        try {
+            return objectMapper.readValue(stored.getResult(), CapacitySearchResult.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("용량 탐색 결과 파싱 실패: " + testId, e);
+        }
+    }
+
+    static CapacitySearchResult newSearch(String testId, int maxUsers, Map<String, Object> testConfig,
+                                          PerformanceTestProperties.CapacitySearch defaults) {
+        return CapacitySearchResult.builder()
+                .testId(testId)
+                .status(CapacitySearchResult.Status.RUNNING)
+                .startUsers(Math.min(maxUsers, intValue(testConfig, "startUsers", defaults.getStartUsers())))
+                .maxUsers(maxUsers)
+                .growthFactor(doubleValue(testConfig, "growthFactor", defaults.getGrowthFactor()))
+                .resolutionUsers(intValue(testConfig, "resolutionUsers", defaults.getResolutionUsers()))
+                .maxPlateaus(intValue(testConfig, "maxPlateaus", defaults.getMaxPlateaus()))
+                .plateauRampSeconds(intValue(testConfig, "plateauRampSeconds", defaults.getPlateauRampSeconds()))
+                .plateauSeconds(intValue(testConfig, "plateauSeconds", defaults.getPlateauSeconds()))
+                .sloP95Ms(doubleValue(testConfig, "sloP95Ms", defaults.getSloP95Ms()))
+                .sloErrorRate(doubleValue(testConfig, "sloErrorRate", defaults.getSloErrorRate()))
+                .build();
+    }
+
+    /**
+     * 구간 simulation.log에서 유지 구간 요청만 집계한 통계 (stats.json의 stats 노드와 같은 구조)
+     * 유지 구간 = 첫 사용자 시작 + 증가 시간부터 마지막 응답까지
+     *
+     * @return 로그가 없거나 유지 구간 요청이 없으면 null (실패 구간)
+     */
+    public static JsonNode holdStats(Path simulationLog, int rampSeconds) throws IOException {
+        if (!Files.exists(simulationLog)) {
+            return null;
+        }
+        long firstUserStart = Long.MAX_VALUE;
+        List<long[]> requests = new ArrayList<>();
+        try (var lines = Files.lines(simulationLog)) {
+            for (String line : (Iterable<String>) lines::iterator) {
+                String[] parts = line.split("\t");
+                if (parts.length >= 4 && "USER".equals(parts[0]) && "START".equals(parts[2])) {
+                    firstUserStart = Math.min(firstUserStart, Long.parseLong(parts[3]));
+                } else if (parts.length >= 6 && "REQUEST".equals(parts[0])) {
+                    // 시작, 종료, 성공 여부(1/0)
+                    requests.add(new long[] {Long.parseLong(parts[3]), Long.parseLong(parts[4]), "OK".equals(parts[5]) ? 1 : 0});
+                }
+            }
+        }
+        if (firstUserStart == Long.MAX_VALUE) {
+            return null;
+        }
+
+        long holdStart = firstUserStart + rampSeconds * 1000L;
+        long holdEnd = holdStart;
+        long failed = 0;
+        long sum = 0;
+        List<Long> responseTimes = new ArrayList<>();
+        for (long[] request : requests) {
+            if (request[0] < holdStart) {
+                continue;
+            }
+            long responseTime = request[1] - request[0];
+            responseTimes.add(responseTime);
+            sum += responseTime;
+            failed += 1 - request[2];
+            holdEnd = Math.max(holdEnd, request[1]);
+        }
+        if (responseTimes.isEmpty()) {
+            return null;
+        }
+
+        responseTimes.sort(null);
+        int total = responseTimes.size();
+        ObjectNode stats = JsonNodeFactory.instance.objectNode();
+        stats.putObject("numberOfRequests").put("total", total).put("ok", total - failed).put("ko", failed);
+        stats.putObject("meanResponseTime").put("total", (double) sum / total);
+        stats.putObject("percentiles3").put("total", percentile(responseTimes, 0.95));
+        stats.putObject("percentiles4").put("total", percentile(responseTimes, 0.99));
+        stats.putObject("meanNumberOfRequestsPerSecond").put("total", total / Math.max(1.0, (holdEnd - holdStart) / 1000.0));
+        return stats;
+    }
+
+    private static long percentile(List<Long> sorted, double quantile) {
+        return sorted.get(Math.max(0, (int) Math.ceil(quantile * sorted.size()) - 1));
+    }
+
+    /**
+     * 구간 통계(holdStats 또는 stats.json의 stats 노드와 같은 구조)로 SLO 판정
+     *
+     * @param stats 통계가 없으면 null (실패 구간)
+     */
+    public static Plateau evaluate(CapacitySearchResult search, int index, int users, JsonNode stats, String resultDirectory) {
+        Plateau plateau = Plateau.builder()
+                .index(index)
+                .users(users)
+                .resultDirectory(resultDirectory)
+                .build();
+        if (stats == null || stats.path("numberOfRequests").path("total").asLong(0) == 0) {
+            plateau.setViolation("구간 통계 없음");
+            return plateau;
+        }
+
+        long total = stats.path("numberOfRequests").path("total").asLong(0);
+        long failed = stats.path("numberOfRequests").path("ko").asLong(0);
+        plateau.setTotalRequests(total);
+        plateau.setFailedRequests(failed);
+        plateau.setErrorRate(failed * 100.0 / total);
+        plateau.setMeanResponseTime(stats.path("meanResponseTime").path("total").asDouble(0));
+        plateau.setP95ResponseTime(stats.path("percentiles3").path("total").asDouble(0));
+        plateau.setP99ResponseTime(stats.path("percentiles4").path("total").asDouble(0));
+        plateau.setTps(stats.path("meanNumberOfRequestsPerSecond").path("total").asDouble(0));
+
+        List<String> violations = new ArrayList<>();
+        if (plateau.getP95ResponseTime() > search.getSloP95Ms()) {
+            violations.add(String.format("p95 %.0fms > %.0fms", plateau.getP95ResponseTime(), search.getSloP95Ms()));
+        }
+        if (plateau.getErrorRate() > search.getSloErrorRate()) {
+            violations.add(String.format("에러율 %.2f%% > %.2f%%", plateau.getErrorRate(), search.getSloErrorRate()));
+        }
+        plateau.setPassed(violations.isEmpty());
+        plateau.setViolation(violations.isEmpty() ? null : String.join(", ", violations));
+        return plateau;
+    }
+
+    /**
+     * 지속 가능 사용자 수, 처리량 곡선, 꺾임 지점 갱신
+     */
+    static void summarize(CapacitySearchResult search) {
+        List<Plateau> curve = new ArrayList<>(search.getPlateaus());
+        curve.sort(Comparator.comparingInt(Plateau::getUsers).thenComparingInt(Plateau::getIndex));
+        search.setCurve(curve);
+
+        Integer sustainable = curve.stream().filter(Plateau::isPassed)
+                .map(Plateau::getUsers).max(Integer::compare).orElse(null);
+        search.setSustainableUsers(sustainable);
+        search.setLimitReached(sustainable != null && sustainable >= search.getMaxUsers());
+
+        Plateau knee = findKnee(curve);
+        search.setKneeUsers(knee != null ? knee.getUsers() : null);
+        search.setKneeTps(knee != null ? knee.getTps() : null);
+        search.setUpdatedAt(LocalDateTime.now());
+    }
+
+    /**
+     * 처리량-동시 사용자 곡선의 꺾임 지점 (Kneedle)
+     * 두 축을 0~1로 정규화한 뒤 대각선(처음과 끝을 잇는 직선) 위로 가장 멀리 있는 점
+     *
+     * @param curve 동시 사용자 오름차순
+     * @return 점이 3개 미만이거나 곡선이 대각선 위로 볼록하지 않으면 null
+     */
+    static Plateau findKnee(List<Plateau> curve) {
+        List<Plateau> points = curve.stream().filter(p -> p.getTotalRequests() > 0).toList();
+        if (points.size() < 3) {
+            return null;
+        }
+        double minX = points.get(0).getUsers();
+        double rangeX = points.get(points.size() - 1).getUsers() - minX;
+        double minY = points.stream().mapToDouble(Plateau::getTps).min().orElse(0);
+        double rangeY = points.stream().mapToDouble(Plateau::getTps).max().orElse(0) - minY;
+        if (rangeX <= 0 || rangeY <= 0) {
+            return null;
+        }
+
+        Plateau knee = null;
+        double best = 0;
+        for (Plateau point : points) {
+            double difference = (point.getTps() - minY) / rangeY - (point.getUsers() - minX) / rangeX;
+            if (difference > best) {
+                best = difference;
+                knee = point;
+            }
+        }
+        return knee;
+    }
+
+    private void save(CapacitySearchResult search) {
+        try {
+            capacitySearchRepository.save(TestCapacitySearch.builder()
+                    .testId(search.getTestId())
+                    .status(search.getStatus().name())
+                    .sustainableUsers(search.getSustainableUsers())
+                    .kneeUsers(search.getKneeUsers())
+                    .result(objectMapper.writeValueAsString(search))
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        } catch (Exception e) {
+            log.error("용량 탐색 결과 저장 실패: {}", search.getTestId(), e);
+        }
+    }
+
+    private static int intValue(Map<String, Object> config, String key, int defaultValue) {
+        return (int) doubleValue(config, key, defaultValue);
+    }
+
+    private static double doubleValue(Map<String, Object> config, String key, double defaultValue) {
+        Object value = config != null ? config.get(key) : null;
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value != null) {
+            try {
+                return Double.parseDouble(String.valueOf(value).trim());
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 용량 탐색 설정 {}={}, 기본값 {} 사용", key, value, defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -0,0 +1,137 @@
+package kr.co.iosys.exam.performance.dashboard.service;
+
+import kr.co.iosys.exam.performance.config.PerformanceTestProperties;
+import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
+import kr.co.iosys.exam.performance.dashboard.dto.TestResult;
+import kr.co.iosys.exam.performance.dto.TestLifecycleEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 완료된 테스트 조회 캐시 (프로세스 내)
+ * 종료된 테스트의 결과, 리포트 URL, 설정값, 메트릭 히스토리는 바뀌지 않으므로 DB 조회 없이 재사용
+ *
+ * AIDEV-NOTE: 종료 상태(COMPLETED, FAILED, CANCELLED) 테스트만 캐시
+ * - 값 캐시는 항목 수, 메트릭 히스토리 캐시는 데이터 포인트 수(가중치) 기준으로 제거
+ * - 종료/결과 저장/삭제 생명주기 이벤트에서 해당 테스트 항목 무효화
+ * - 적중/실패 메트릭: /actuator/metrics/cache.gets?tag=cache:completed-tests
+ */
+@Slf4j
+@Component
+public class CompletedTestCache {
+
+    private static final Set<String> COMPLETED_STATUSES = Set.of("COMPLETED", "FAILED", "CANCELLED");
+
+    /**
+     * 캐시 항목 종류
+     */
+    public enum Kind {
+        RESULT, REPORT_URL, RAMP_UP_SECONDS, MAX_USERS
+    }
+
+    // 값은 null 저장이 불가하므로 Optional로 감쌈
+    private final Cache<String, Optional<Object>> valueCache;
+    private final Cache<String, List<TestMetrics>> historyCache;
+
+    public CompletedTestCache(PerformanceTestProperties properties, MeterRegistry meterRegistry) {
+        PerformanceTestProperties.ResultCache config = properties.getResultCache();
+
+        this.valueCache = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .recordStats()
+                .build();
+        this.historyCache = Caffeine.newBuilder()
+                .maximumWeight(config.getMaximumHistoryWeight())
+                .weigher((String key, List<TestMetrics> value) -> value.size() + 1)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, valueCache, "completed-tests");
+        CaffeineCacheMetrics.monitor(meterRegistry, historyCache, "completed-test-history");
+    }
+
+    public static boolean isCompleted(TestResult result) {
+        return result != null && COMPLETED_STATUSES.contains(result.getStatus());
+    }
+
+    /**
+     * 캐시된 테스트 결과 조회 (없으면 null)
+     */
+    public TestResult getResult(String testId) {
+        Optional<Object> cached = valueCache.getIfPresent(key(testId, Kind.RESULT));
+        return cached != null ? (TestResult) cached.orElse(null) : null;
+    }
+
+    /**
+     * 테스트 결과 조회, 없으면 loader 결과 반환 (종료된 테스트만 저장)
+     * loader는 캐시 계산 안에서 실행되므로 진행 중 무효화가 오래된 결과를 다시 넣지 않음
+     */
+    public TestResult getResult(String testId, Supplier<TestResult> loader) {
+        TestResult[] loaded = new TestResult[1];
+        Optional<Object> cached = valueCache.get(key(testId, Kind.RESULT), k -> {
+            loaded[0] = loader.get();
+            return isCompleted(loaded[0]) ? Optional.of(loaded[0]) : null;
+        });
+        return cached != null ? (TestResult) cached.orElse(null) : loaded[0];
+    }
+
+    /**
+     * 값 조회, 없으면 loader 결과를 저장 (null도 저장)
+     * 호출자는 종료된 테스트인지 먼저 확인해야 함
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String testId, Kind kind, Supplier<T> loader) {
+        return (T) valueCache.get(key(testId, kind), k -> Optional.ofNullable(loader.get())).orElse(null);
+    }
+
+    /**
+     * 메트릭 히스토리 조회, 없으면 loader 결과를 저장
+     * 호출자는 종료된 테스트인지 먼저 확인해야 함
+     */
+    public List<TestMetrics> getMetricsHistory(String testId, Supplier<List<TestMetrics>> loader) {
+        return historyCache.get(testId, k -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * 테스트 관련 캐시 항목 전체 무효화
+     */
+    public void invalidate(String testId) {
+        for (Kind kind : Kind.values()) {
+            valueCache.invalidate(key(testId, kind));
+        }
+        historyCache.invalidate(testId);
+    }
+
+    /**
+     * 생명주기 이벤트로 무효화 (시작은 아직 캐시 대상이 아니므로 제외)
+     * 다른 리스너(결과 번들 생성 등)가 최신 값을 읽도록 가장 먼저 실행
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onLifecycleEvent(TestLifecycleEvent event) {
+        if (event.getType() != TestLifecycleEvent.Type.STARTED) {
+            invalidate(event.getTestId());
+            log.debug("완료 테스트 캐시 무효화: {} ({})", event.getTestId(), event.getType());
+        }
+    }
+
+    private static String key(String testId, Kind kind) {
+        return kind.name() + ":" + testId;
+    }
+}
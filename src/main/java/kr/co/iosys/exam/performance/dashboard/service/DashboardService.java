@@ -1,11 +1,15 @@
 package kr.co.iosys.exam.performance.dashboard.service;
 
+import kr.co.iosys.exam.performance.dashboard.dto.TestHistoryPage;
+import kr.co.iosys.exam.performance.dashboard.dto.TestHistoryQuery;
 import kr.co.iosys.exam.performance.dashboard.dto.TestRequest;
 import kr.co.iosys.exam.performance.dashboard.dto.TestResult;
 import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
 import kr.co.iosys.exam.performance.dashboard.entity.TestMetricsHistory;
+import kr.co.iosys.exam.performance.dashboard.repository.LiveStateRepository;
 import kr.co.iosys.exam.performance.dashboard.repository.TestResultQueryRepository;
 import kr.co.iosys.exam.performance.dashboard.repository.TestMetricsQueryRepository;
+import kr.co.iosys.exam.performance.dashboard.repository.TestComparisonRepository;
 import kr.co.iosys.exam.performance.dashboard.repository.TestMetricsHistoryRepository;
 import kr.co.iosys.exam.performance.model.ExamPlan;
 import kr.co.iosys.exam.performance.repository.ExamPlanRepository;
@@ -13,18 +17,21 @@ import kr.co.iosys.exam.performance.repository.PerformanceTestRepository;
 import kr.co.iosys.exam.performance.service.GatlingRunnerService;
 import kr.co.iosys.exam.performance.dto.PerformanceTestRequest;
 import kr.co.iosys.exam.performance.dto.PerformanceTestResponse;
+import kr.co.iosys.exam.performance.dto.TestLifecycleEvent;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -33,7 +40,7 @@ import java.util.concurrent.CompletableFuture;
  * 대시보드 핵심 서비스
  * 테스트 관리, 결과 조회, 실시간 데이터 처리
  * 
- * AIDEV-NOTE: PostgreSQL과 Redis를 함께 사용하는 하이브리드 아키텍처
+ * AIDEV-NOTE: PostgreSQL과 실시간 상태 저장소(기본 Redis)를 함께 사용하는 하이브리드 아키텍처
  */
 @Slf4j
 @Service
@@ -43,16 +50,28 @@ public class DashboardService {
     private final TestResultQueryRepository testResultRepository;
     private final TestMetricsQueryRepository testMetricsRepository;
     private final TestMetricsHistoryRepository testMetricsHistoryRepository;
+    private final TestComparisonRepository testComparisonRepository;
     private final PerformanceTestRepository performanceTestRepository;
     private final GatlingRunnerService gatlingRunnerService;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final LiveStateRepository liveStateRepository;
     private final ExamPlanRepository examPlanRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CompletedTestCache completedTestCache;
+    private final ObjectMapper objectMapper;
+    
+    // 테스트 상태 TTL
+    private static final Duration STATUS_TTL = Duration.ofHours(1);
+    
+    // 테스트 이력 페이지 크기
+    private static final int HISTORY_DEFAULT_PAGE_SIZE = 20;
+    private static final int HISTORY_MAX_PAGE_SIZE = 100;
+    
+    // 활성 테스트 스냅샷 유효 시간 (동시 대시보드 요청 간 공유)
+    private static final long ACTIVE_TESTS_SNAPSHOT_TTL_MS = 1000;
     
-    // Redis 키 패턴 상수
-    private static final String REDIS_KEY_ACTIVE_TESTS = "tests:active";
-    private static final String REDIS_KEY_CURRENT_METRICS = "metrics:current:%s";
-    private static final String REDIS_KEY_TEST_STATUS = "test:status:%s";
+    // 활성 테스트 스냅샷 (null이면 다음 조회 시 다시 로드)
+    private volatile ActiveTestsSnapshot activeTestsSnapshot;
+    private final Object activeTestsLock = new Object();
     
     /**
      * 시험 계획 목록 조회
@@ -71,29 +90,50 @@ public class DashboardService {
     }
     
     /**
-     * 실행 중인 테스트 목록 조회 (Redis + Database)
+     * 실행 중인 테스트 목록 조회 (실시간 상태 저장소)
+     * 
+     * AIDEV-NOTE: 짧은 TTL의 프로세스 내 스냅샷을 동시 요청 간 공유
+     * - 스냅샷이 만료되면 한 요청만 다시 로드하고 나머지는 그 결과를 사용
+     * - 테스트 시작/중단/삭제 시 즉시 무효화
      */
     public List<TestResult> getActiveTests() {
+        ActiveTestsSnapshot snapshot = activeTestsSnapshot;
+        if (snapshot == null || snapshot.isExpired()) {
+            synchronized (activeTestsLock) {
+                snapshot = activeTestsSnapshot;
+                if (snapshot == null || snapshot.isExpired()) {
+                    snapshot = new ActiveTestsSnapshot(loadActiveTests());
+                    activeTestsSnapshot = snapshot;
+                }
+            }
+        }
+        return new ArrayList<>(snapshot.tests);
+    }
+    
+    /**
+     * 활성 테스트 목록 로드
+     * 활성 목록 1회 + 상태 일괄 조회 1회 (Redis: SMEMBERS + MGET)
+     */
+    private List<TestResult> loadActiveTests() {
         log.info("실행 중인 테스트 목록 조회");
         try {
-            // Redis에서 활성 테스트 ID 목록 조회
-            Set<Object> activeTestIds = redisTemplate.opsForSet().members(REDIS_KEY_ACTIVE_TESTS);
+            // 활성 테스트 ID 목록 조회
+            Set<String> activeTestIds = liveStateRepository.findActiveTestIds();
             
-            if (activeTestIds == null || activeTestIds.isEmpty()) {
+            if (activeTestIds.isEmpty()) {
                 log.info("현재 실행 중인 테스트가 없습니다");
                 return new ArrayList<>();
             }
             
+            // 상태 일괄 조회
+            Map<String, Map<String, Object>> statuses = liveStateRepository.findStatuses(activeTestIds);
+            
             List<TestResult> activeTests = new ArrayList<>();
-            for (Object testIdObj : activeTestIds) {
-                String testId = testIdObj.toString();
-                
-                // Redis에서 현재 상태 조회
-                String statusKey = String.format(REDIS_KEY_TEST_STATUS, testId);
-                Object statusData = redisTemplate.opsForValue().get(statusKey);
+            for (String testId : activeTestIds) {
+                Map<String, Object> statusMap = statuses.get(testId);
                 
-                if (statusData != null) {
-                    TestResult testResult = parseTestStatusFromRedis(testId, statusData.toString());
+                if (statusMap != null) {
+                    TestResult testResult = parseTestStatus(testId, statusMap);
                     if (testResult != null) {
                         activeTests.add(testResult);
                     }
@@ -109,6 +149,13 @@ public class DashboardService {
         }
     }
     
+    /**
+     * 활성 테스트 스냅샷 무효화
+     */
+    private void invalidateActiveTests() {
+        activeTestsSnapshot = null;
+    }
+    
     /**
      * 최근 테스트 결과 조회
      */
@@ -123,6 +170,83 @@ public class DashboardService {
         }
     }
     
+    /**
+     * 테스트 이력 페이지 조회 (키셋 페이지네이션)
+     * 
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @throws IllegalArgumentException 잘못된 상태값 또는 커서
+     */
+    public TestHistoryPage getTestHistory(Long planId, String status, String runType,
+                                          LocalDateTime from, LocalDateTime to, String cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? HISTORY_DEFAULT_PAGE_SIZE : Math.min(size, HISTORY_MAX_PAGE_SIZE);
+        
+        String normalizedStatus = null;
+        if (status != null && !status.isBlank()) {
+            normalizedStatus = status.trim().toUpperCase();
+            try {
+                PerformanceTestResponse.TestStatus.valueOf(normalizedStatus);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 테스트 상태: " + status);
+            }
+        }
+        
+        TestHistoryQuery.TestHistoryQueryBuilder query = TestHistoryQuery.builder()
+                .planId(planId)
+                .status(normalizedStatus)
+                .runType(runType != null && !runType.isBlank() ? runType.trim() : null)
+                .from(from)
+                .to(to)
+                .size(pageSize);
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeHistoryCursor(cursor);
+            query.afterStartTime(LocalDateTime.parse(position[0])).afterTestId(position[1]);
+        }
+        
+        List<TestResult> results = convertToTestResults(testResultRepository.findHistory(query.build()));
+        boolean hasNext = results.size() > pageSize;
+        if (hasNext) {
+            results = new ArrayList<>(results.subList(0, pageSize));
+        }
+        
+        String nextCursor = null;
+        if (hasNext && !results.isEmpty()) {
+            TestResult last = results.get(results.size() - 1);
+            nextCursor = encodeHistoryCursor(last.getStartTime(), last.getTestId());
+        }
+        
+        log.debug("테스트 이력 조회: planId={}, status={}, runType={}, count={}, hasNext={}", 
+                planId, normalizedStatus, runType, results.size(), hasNext);
+        return TestHistoryPage.builder()
+                .data(results)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .build();
+    }
+    
+    /**
+     * 이력 커서 생성 (시작 시간|테스트 ID를 URL-safe Base64로 인코딩)
+     */
+    private static String encodeHistoryCursor(LocalDateTime startTime, String testId) {
+        String raw = startTime + "|" + testId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static String[] decodeHistoryCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException();
+            }
+            String[] position = { raw.substring(0, separator), raw.substring(separator + 1) };
+            LocalDateTime.parse(position[0]);
+            return position;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("잘못된 이력 커서: " + cursor);
+        }
+    }
+    
     /**
      * 모든 테스트 목록 조회 (실행 중 + 최근 완료)
      */
@@ -166,10 +290,11 @@ public class DashboardService {
      * 특정 테스트 결과 상세 조회
      */
     public Optional<TestResult> getTestResult(String testId) {
-        log.info("테스트 결과 상세 조회: {}", testId);
         try {
-            Optional<Object[]> result = testResultRepository.findByTestId(testId);
-            return result.map(this::convertToTestResult);
+            return Optional.ofNullable(completedTestCache.getResult(testId, () -> {
+                log.info("테스트 결과 상세 조회: {}", testId);
+                return testResultRepository.findByTestId(testId).map(this::convertToTestResult).orElse(null);
+            }));
         } catch (Exception e) {
             log.error("테스트 결과 조회 중 오류 발생: {}", testId, e);
             return Optional.empty();
@@ -178,11 +303,15 @@ public class DashboardService {
     
     /**
      * 테스트 시작
+     * 
+     * @throws IllegalArgumentException 추가 설정이 JSON 객체가 아닌 경우
      */
     public CompletableFuture<String> startTest(TestRequest request) {
         log.info("성능 테스트 시작: plan={}, users={}, duration={}초", 
                 request.getPlanId(), request.getMaxUsers(), request.getTestDurationSeconds());
         
+        Map<String, Object> additionalConfig = parseAdditionalConfig(request.getAdditionalConfig());
+        
         return CompletableFuture.supplyAsync(() -> {
             try {
                 // TestRequest를 PerformanceTestRequest로 변환
@@ -194,16 +323,21 @@ public class DashboardService {
                 performanceRequest.setScenario(request.getScenario());
                 performanceRequest.setRampUpDurationSeconds(request.getRampUpSeconds());
                 performanceRequest.setTestDurationSeconds(request.getTestDurationSeconds());
+                if (request.getLoadProfile() != null && !request.getLoadProfile().isBlank()) {
+                    performanceRequest.setLoadProfile(request.getLoadProfile());
+                }
+                performanceRequest.setAdditionalConfig(additionalConfig);
                 
                 // Gatling 테스트 실행
                 PerformanceTestResponse response = gatlingRunnerService.startPerformanceTest(performanceRequest);
                 String testId = response.getTestId();
                 
-                // Redis에 활성 테스트로 등록
-                redisTemplate.opsForSet().add(REDIS_KEY_ACTIVE_TESTS, testId);
+                // 활성 테스트로 등록
+                liveStateRepository.addActiveTest(testId);
                 
                 // 테스트 상태 초기화
                 initializeTestStatus(testId, request);
+                invalidateActiveTests();
                 
                 log.info("성능 테스트 시작 완료: {}", testId);
                 return testId;
@@ -215,6 +349,20 @@ public class DashboardService {
         });
     }
     
+    /**
+     * 대시보드 추가 설정(JSON 문자열)을 Gatling 설정 맵으로 변환 (부하 모델 세부 값 등)
+     */
+    private Map<String, Object> parseAdditionalConfig(String additionalConfig) {
+        if (additionalConfig == null || additionalConfig.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(additionalConfig, new TypeReference<Map<String, Object>>() {});
+        } catch (Exception e) {
+            throw new IllegalArgumentException("추가 설정은 JSON 객체여야 합니다: " + e.getMessage());
+        }
+    }
+    
     /**
      * 테스트 중단
      */
@@ -224,11 +372,12 @@ public class DashboardService {
             // Gatling 프로세스 중단
             gatlingRunnerService.cancelTest(testId);
             
-            // Redis에서 활성 테스트 목록에서 제거
-            redisTemplate.opsForSet().remove(REDIS_KEY_ACTIVE_TESTS, testId);
+            // 활성 테스트 목록에서 제거
+            liveStateRepository.removeActiveTest(testId);
             
             // 테스트 상태 업데이트
             updateTestStatus(testId, "CANCELLED", "사용자에 의해 중단됨");
+            invalidateActiveTests();
             
             log.info("테스트 중단 완료: {}", testId);
             return true;
@@ -240,18 +389,11 @@ public class DashboardService {
     }
     
     /**
-     * 실시간 메트릭 조회 (Redis)
+     * 실시간 메트릭 조회 (실시간 상태 저장소)
      */
     public Optional<TestMetrics> getCurrentMetrics(String testId) {
         try {
-            String metricsKey = String.format(REDIS_KEY_CURRENT_METRICS, testId);
-            Object metricsData = redisTemplate.opsForValue().get(metricsKey);
-            
-            if (metricsData != null) {
-                TestMetrics metrics = objectMapper.readValue(metricsData.toString(), TestMetrics.class);
-                return Optional.of(metrics);
-            }
-            
+            return Optional.ofNullable(liveStateRepository.findCurrentMetrics(testId));
         } catch (Exception e) {
             log.error("실시간 메트릭 조회 실패: {}", testId, e);
         }
@@ -263,53 +405,70 @@ public class DashboardService {
      * 테스트 메트릭 히스토리 조회
      */
     public List<TestMetrics> getMetricsHistory(String testId) {
-        log.info("테스트 메트릭 히스토리 조회: {}", testId);
         try {
-            List<TestMetricsHistory> historyList = testMetricsHistoryRepository.findByTestIdOrderByTimestamp(testId);
-            
-            // TestMetricsHistory 엔티티를 TestMetrics DTO로 변환
-            List<TestMetrics> metricsList = new ArrayList<>();
-            for (TestMetricsHistory history : historyList) {
-                TestMetrics metrics = TestMetrics.builder()
-                        .testId(history.getTestId())
-                        .timestamp(history.getTimestamp() != null ? 
-                                 history.getTimestamp().atZone(java.time.ZoneId.systemDefault()).toInstant().toEpochMilli() : null)
-                        .activeUsers(history.getActiveUsers())
-                        .tps(history.getTps() != null ? history.getTps().doubleValue() : null)
-                        .avgResponseTime(history.getAvgResponseTime() != null ? history.getAvgResponseTime().doubleValue() : null)
-                        .minResponseTime(history.getMinResponseTime() != null ? history.getMinResponseTime().doubleValue() : null)
-                        .maxResponseTime(history.getMaxResponseTime() != null ? history.getMaxResponseTime().doubleValue() : null)
-                        .p95ResponseTime(history.getP95ResponseTime() != null ? history.getP95ResponseTime().doubleValue() : null)
-                        .p99ResponseTime(history.getP99ResponseTime() != null ? history.getP99ResponseTime().doubleValue() : null)
-                        .successCount(history.getSuccessCount())
-                        .errorCount(history.getErrorCount())
-                        .errorRate(history.getErrorRate() != null ? history.getErrorRate().doubleValue() : null)
-                        .build();
-                metricsList.add(metrics);
-            }
-            
-            // 최대 300개만 반환 (최신 데이터)
-            if (metricsList.size() > 300) {
-                return metricsList.subList(metricsList.size() - 300, metricsList.size());
+            if (isCompleted(testId)) {
+                return completedTestCache.getMetricsHistory(testId, () -> loadMetricsHistory(testId));
             }
-            
-            return metricsList;
+            return loadMetricsHistory(testId);
         } catch (Exception e) {
             log.error("메트릭 히스토리 조회 실패: {}", testId, e);
             return new ArrayList<>();
         }
     }
     
+    private List<TestMetrics> loadMetricsHistory(String testId) {
+        log.info("테스트 메트릭 히스토리 조회: {}", testId);
+        List<TestMetricsHistory> historyList = testMetricsHistoryRepository.findByTestIdOrderByTimestamp(testId);
+        
+        // TestMetricsHistory 엔티티를 TestMetrics DTO로 변환
+        List<TestMetrics> metricsList = new ArrayList<>();
+        for (TestMetricsHistory history : historyList) {
+            metricsList.add(toTestMetrics(history));
+        }
+        
+        // 최대 300개만 반환 (최신 데이터)
+        if (metricsList.size() > 300) {
+            return metricsList.subList(metricsList.size() - 300, metricsList.size());
+        }
+        
+        return metricsList;
+    }
+    
+    /**
+     * 메트릭 히스토리 엔티티를 TestMetrics DTO로 변환
+     */
+    static TestMetrics toTestMetrics(TestMetricsHistory history) {
+        return TestMetrics.builder()
+                .testId(history.getTestId())
+                .timestamp(history.getTimestamp() != null ? 
+                         history.getTimestamp().atZone(java.time.ZoneId.systemDefault()).toInstant().toEpochMilli() : null)
+                .activeUsers(history.getActiveUsers())
+                .tps(history.getTps() != null ? history.getTps().doubleValue() : null)
+                .avgResponseTime(history.getAvgResponseTime() != null ? history.getAvgResponseTime().doubleValue() : null)
+                .minResponseTime(history.getMinResponseTime() != null ? history.getMinResponseTime().doubleValue() : null)
+                .maxResponseTime(history.getMaxResponseTime() != null ? history.getMaxResponseTime().doubleValue() : null)
+                .p95ResponseTime(history.getP95ResponseTime() != null ? history.getP95ResponseTime().doubleValue() : null)
+                .p99ResponseTime(history.getP99ResponseTime() != null ? history.getP99ResponseTime().doubleValue() : null)
+                .successCount(history.getSuccessCount())
+                .errorCount(history.getErrorCount())
+                .errorRate(history.getErrorRate() != null ? history.getErrorRate().doubleValue() : null)
+                .build();
+    }
+    
+    /**
+     * 종료된 테스트 여부 (종료된 테스트의 결과는 캐시되어 있으므로 추가 조회 없음)
+     */
+    private boolean isCompleted(String testId) {
+        return getTestResult(testId).map(CompletedTestCache::isCompleted).orElse(false);
+    }
+    
     // === Private Methods ===
     
     /**
-     * Redis 테스트 상태 데이터를 TestResult로 변환
+     * 테스트 상태 데이터를 TestResult로 변환
      */
-    private TestResult parseTestStatusFromRedis(String testId, String statusData) {
+    private TestResult parseTestStatus(String testId, Map<String, Object> statusMap) {
         try {
-            // JSON 파싱하여 TestResult 객체 생성
-            Map<String, Object> statusMap = objectMapper.readValue(statusData, Map.class);
-            
             return TestResult.builder()
                     .testId(testId)
                     .status((String) statusMap.get("status"))
@@ -324,7 +483,7 @@ public class DashboardService {
                                        ((Number) statusMap.get("targetUsers")).intValue() : null)
                     .build();
         } catch (Exception e) {
-            log.error("Redis 상태 데이터 파싱 실패: {}", testId, e);
+            log.error("테스트 상태 데이터 파싱 실패: {}", testId, e);
             return null;
         }
     }
@@ -334,9 +493,7 @@ public class DashboardService {
      */
     private void initializeTestStatus(String testId, TestRequest request) {
         try {
-            String statusKey = String.format(REDIS_KEY_TEST_STATUS, testId);
-            
-            // 상태 정보 JSON 생성
+            // 상태 정보 생성
             Map<String, Object> statusMap = new HashMap<>();
             statusMap.put("testId", testId);
             statusMap.put("status", "RUNNING");
@@ -346,13 +503,10 @@ public class DashboardService {
             statusMap.put("progress", 0.0);
             statusMap.put("message", "테스트 시작 중...");
             
-            String statusJson = objectMapper.writeValueAsString(statusMap);
-            
-            // Redis에 저장 (1시간 TTL)
-            redisTemplate.opsForValue().set(statusKey, statusJson, 
-                java.time.Duration.ofHours(1));
+            // 저장 (1시간 TTL)
+            liveStateRepository.saveStatus(testId, statusMap, STATUS_TTL);
                 
-        } catch (JsonProcessingException e) {
+        } catch (Exception e) {
             log.error("테스트 상태 초기화 실패: {}", testId, e);
         }
     }
@@ -362,20 +516,15 @@ public class DashboardService {
      */
     private void updateTestStatus(String testId, String status, String message) {
         try {
-            String statusKey = String.format(REDIS_KEY_TEST_STATUS, testId);
-            
             Map<String, Object> statusMap = new HashMap<>();
             statusMap.put("testId", testId);
             statusMap.put("status", status);
             statusMap.put("message", message);
             statusMap.put("updatedAt", System.currentTimeMillis());
             
-            String statusJson = objectMapper.writeValueAsString(statusMap);
-            
-            redisTemplate.opsForValue().set(statusKey, statusJson, 
-                java.time.Duration.ofHours(1));
+            liveStateRepository.saveStatus(testId, statusMap, STATUS_TTL);
                 
-        } catch (JsonProcessingException e) {
+        } catch (Exception e) {
             log.error("테스트 상태 업데이트 실패: {}", testId, e);
         }
     }
@@ -493,7 +642,7 @@ public class DashboardService {
     
     /**
      * 테스트 삭제
-     * 데이터베이스, Redis, 리포트 파일 삭제
+     * 데이터베이스, 실시간 상태, 리포트 파일 삭제
      */
     @Transactional
     public boolean deleteTest(String testId) {
@@ -510,8 +659,8 @@ public class DashboardService {
             Object[] data = result.get();
             String reportPath = (String) data[21]; // report_path 컬럼
             
-            // 2. Redis에서 관련 데이터 삭제
-            deleteRedisData(testId);
+            // 2. 실시간 상태 저장소에서 관련 데이터 삭제
+            deleteLiveData(testId);
             
             // 3. 리포트 파일 삭제
             if (reportPath != null && !reportPath.isEmpty()) {
@@ -519,8 +668,11 @@ public class DashboardService {
             }
             
             // 4. 데이터베이스에서 삭제
+            // 비교 결과는 기존 스키마에서 CASCADE가 없으므로 먼저 삭제
+            testComparisonRepository.deleteByTestId(testId);
             // performance_tests 테이블 삭제 (CASCADE로 관련 테이블도 삭제됨)
             performanceTestRepository.deleteById(testId);
+            eventPublisher.publishEvent(toDeletedEvent(testId, data));
             
             log.info("테스트 삭제 완료: {}", testId);
             return true;
@@ -532,28 +684,31 @@ public class DashboardService {
     }
     
     /**
-     * Redis에서 테스트 관련 데이터 삭제
+     * 삭제 이벤트 생성 (상태, 평균 응답시간, 평균 TPS 포함)
      */
-    private void deleteRedisData(String testId) {
+    private TestLifecycleEvent toDeletedEvent(String testId, Object[] data) {
+        PerformanceTestResponse.TestStatus status = null;
         try {
-            // 활성 테스트 목록에서 제거
-            redisTemplate.opsForSet().remove(REDIS_KEY_ACTIVE_TESTS, testId);
-            
-            // 테스트 메트릭 데이터 삭제
-            String metricsKey = "test:metrics:" + testId;
-            redisTemplate.delete(metricsKey);
-            
-            // 실시간 데이터 삭제
-            String realtimeKey = "test:realtime:" + testId;
-            redisTemplate.delete(realtimeKey);
-            
-            // 테스트 상태 데이터 삭제
-            String statusKey = "test:status:" + testId;
-            redisTemplate.delete(statusKey);
-            
-            log.info("Redis 데이터 삭제 완료: {}", testId);
+            status = data[3] != null ? PerformanceTestResponse.TestStatus.valueOf((String) data[3]) : null;
+        } catch (IllegalArgumentException e) {
+            log.warn("알 수 없는 테스트 상태: {}", data[3]);
+        }
+        return TestLifecycleEvent.deleted(testId, status,
+                data[10] != null ? ((Number) data[10]).doubleValue() : null,
+                data[18] != null ? ((Number) data[18]).doubleValue() : null);
+    }
+    
+    /**
+     * 실시간 상태 저장소에서 테스트 관련 데이터 삭제
+     * (활성 목록, 현재 메트릭, 상태, 시계열, 로그)
+     */
+    private void deleteLiveData(String testId) {
+        try {
+            liveStateRepository.deleteTestData(testId);
+            invalidateActiveTests();
+            log.info("실시간 데이터 삭제 완료: {}", testId);
         } catch (Exception e) {
-            log.error("Redis 데이터 삭제 실패: {}", testId, e);
+            log.error("실시간 데이터 삭제 실패: {}", testId, e);
         }
     }
     
@@ -596,42 +751,49 @@ public class DashboardService {
      * Gatling 리포트 경로 반환
      */
     public String getReportUrl(String testId) {
-        log.info("테스트 리포트 URL 조회: {}", testId);
         try {
-            Optional<Object[]> result = testResultRepository.findByTestId(testId);
-            if (result.isPresent()) {
-                Object[] data = result.get();
-                // result_path는 인덱스 21 (reportPath)
-                String reportPath = (String) data[21];
-                if (reportPath != null && !reportPath.isEmpty()) {
-                    // AIDEV-NOTE: Gatling 리포트 경로를 올바른 URL로 변환
-                    String fullUrl;
-                    if (reportPath.startsWith("build/reports/gatling/")) {
-                        // build/reports/gatling/test-xxx -> /performance/reports/gatling/test-xxx/index.html
-                        String gatlingPath = reportPath.substring("build/reports/gatling/".length());
-                        fullUrl = "/performance/reports/gatling/" + gatlingPath + "/index.html";
-                    } else if (reportPath.startsWith("local-reports/")) {
-                        // local-reports/path -> /performance/reports/path/index.html
-                        fullUrl = "/performance/reports/" + reportPath.substring("local-reports/".length()) + "/index.html";
-                    } else if (reportPath.startsWith("/")) {
-                        // 절대 경로인 경우 그대로 사용
-                        fullUrl = reportPath;
-                    } else {
-                        // 상대 경로인 경우 reports 경로 추가
-                        fullUrl = "/performance/reports/" + reportPath + "/index.html";
-                    }
-                    log.info("리포트 경로 조회 완료: {} -> {}", reportPath, fullUrl);
-                    return fullUrl;
+            if (isCompleted(testId)) {
+                return completedTestCache.get(testId, CompletedTestCache.Kind.REPORT_URL, () -> loadReportUrl(testId));
+            }
+            return loadReportUrl(testId);
+        } catch (Exception e) {
+            log.error("리포트 URL 조회 실패: {}", testId, e);
+            return null;
+        }
+    }
+    
+    private String loadReportUrl(String testId) {
+        log.info("테스트 리포트 URL 조회: {}", testId);
+        Optional<Object[]> result = testResultRepository.findByTestId(testId);
+        if (result.isPresent()) {
+            Object[] data = result.get();
+            // result_path는 인덱스 21 (reportPath)
+            String reportPath = (String) data[21];
+            if (reportPath != null && !reportPath.isEmpty()) {
+                // AIDEV-NOTE: Gatling 리포트 경로를 올바른 URL로 변환
+                String fullUrl;
+                if (reportPath.startsWith("build/reports/gatling/")) {
+                    // build/reports/gatling/test-xxx -> /performance/reports/gatling/test-xxx/index.html
+                    String gatlingPath = reportPath.substring("build/reports/gatling/".length());
+                    fullUrl = "/performance/reports/gatling/" + gatlingPath + "/index.html";
+                } else if (reportPath.startsWith("local-reports/")) {
+                    // local-reports/path -> /performance/reports/path/index.html
+                    fullUrl = "/performance/reports/" + reportPath.substring("local-reports/".length()) + "/index.html";
+                } else if (reportPath.startsWith("/")) {
+                    // 절대 경로인 경우 그대로 사용
+                    fullUrl = reportPath;
                 } else {
-                    log.warn("리포트 경로가 비어있음: {}", testId);
-                    return null;
+                    // 상대 경로인 경우 reports 경로 추가
+                    fullUrl = "/performance/reports/" + reportPath + "/index.html";
                 }
+                log.info("리포트 경로 조회 완료: {} -> {}", reportPath, fullUrl);
+                return fullUrl;
             } else {
-                log.warn("테스트 결과를 찾을 수 없음: {}", testId);
+                log.warn("리포트 경로가 비어있음: {}", testId);
                 return null;
             }
-        } catch (Exception e) {
-            log.error("리포트 URL 조회 실패: {}", testId, e);
+        } else {
+            log.warn("테스트 결과를 찾을 수 없음: {}", testId);
             return null;
         }
     }
@@ -645,6 +807,10 @@ public class DashboardService {
      */
     public Integer getRampUpSeconds(String testId) {
         try {
+            if (isCompleted(testId)) {
+                return completedTestCache.get(testId, CompletedTestCache.Kind.RAMP_UP_SECONDS, () ->
+                        performanceTestRepository.findById(testId).map(test -> test.getRampUpSeconds()).orElse(null));
+            }
             return performanceTestRepository.findById(testId)
                     .map(test -> test.getRampUpSeconds())
                     .orElse(null);
@@ -663,6 +829,10 @@ public class DashboardService {
      */
     public Integer getMaxUsers(String testId) {
         try {
+            if (isCompleted(testId)) {
+                return completedTestCache.get(testId, CompletedTestCache.Kind.MAX_USERS, () ->
+                        performanceTestRepository.findById(testId).map(test -> test.getMaxUsers()).orElse(null));
+            }
             return performanceTestRepository.findById(testId)
                     .map(test -> test.getMaxUsers())
                     .orElse(null);
@@ -671,4 +841,20 @@ public class DashboardService {
             return null;
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * 활성 테스트 스냅샷
+     */
+    private static class ActiveTestsSnapshot {
+        private final List<TestResult> tests;
+        private final long loadedAt = System.currentTimeMillis();
+        
+        ActiveTestsSnapshot(List<TestResult> tests) {
+            this.tests = List.copyOf(tests);
+        }
+        
+        boolean isExpired() {
+            return System.currentTimeMillis() - loadedAt > ACTIVE_TESTS_SNAPSHOT_TTL_MS;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package kr.co.iosys.exam.performance.dashboard.service;
+
+import kr.co.iosys.exam.performance.dashboard.repository.LiveStateRepository;
+import kr.co.iosys.exam.performance.dashboard.repository.TestResultQueryRepository;
+import kr.co.iosys.exam.performance.dto.PerformanceTestResponse.TestStatus;
+import kr.co.iosys.exam.performance.dto.TestLifecycleEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대시보드 통계 읽기 모델
+ * 테스트 생명주기 이벤트로 카운터와 누적 합계를 증분 갱신하여 /api/dashboard/stats를 O(1)로 제공
+ *
+ * AIDEV-NOTE: 기동 시 한 번만 DB 상태별 집계로 초기화, 이후에는 이벤트만 반영
+ * - 초기화 전에 들어온 이벤트는 버림 (초기화 시 DB 집계에 이미 포함됨)
+ * - 초기화 실패 시 다음 조회에서 다시 시도
+ * - 평균은 합계/개수로 보관하여 삭제 시에도 되돌릴 수 있음
+ * - 실행 중 삭제된 테스트는 삭제 시 활성 수에서 빼고, 이후 오는 종료/결과 저장 이벤트는 무시 (중복 감소/완료 집계 방지)
+ *   기록은 결과 저장 또는 취소 종료(결과 없음) 시 제거, 결과 저장 없이 끝난 실패도 종료 후 보관 시간이 지나면 제거
+ * - 이벤트는 발행 트랜잭션 커밋 후 반영 (삭제가 롤백되면 카운터도 그대로, 트랜잭션 밖에서 발행된 이벤트는 바로 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardStatsService {
+
+    private final TestResultQueryRepository testResultRepository;
+    private final LiveStateRepository liveStateRepository;
+
+    private final Object lock = new Object();
+
+    // 현재 통계 (갱신 시 통째로 교체, 조회는 잠금 없음)
+    private volatile Counters counters;
+
+    // 실행 중 삭제 기록 보관 시간 (삭제 후 종료까지 / 종료 후 결과 저장까지)
+    private static final long DELETED_RUNNING_RETENTION_MS = Duration.ofHours(24).toMillis();
+    private static final long FINISHED_RETENTION_MS = Duration.ofMinutes(10).toMillis();
+
+    // 실행 중 삭제된 테스트 → 기록 만료 시각 (lock 안에서만 접근)
+    private final Map<String, Long> deletedWhileActive = new HashMap<>();
+
+    /**
+     * 기동 완료 시 DB 집계로 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        synchronized (lock) {
+            if (counters == null) {
+                counters = loadFromDatabase();
+            }
+        }
+    }
+
+    /**
+     * 테스트 생명주기 이벤트 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLifecycleEvent(TestLifecycleEvent event) {
+        synchronized (lock) {
+            if (counters == null) {
+                return;
+            }
+            if (isOrphaned(event)) {
+                log.debug("삭제된 테스트의 이벤트 무시: {}", event);
+                return;
+            }
+            counters = counters.apply(event);
+        }
+        log.debug("대시보드 통계 갱신: {}", event);
+    }
+
+    /**
+     * 실행 중 삭제된 테스트의 이후 종료/결과 저장 이벤트 여부 (삭제 기록도 여기서 관리)
+     */
+    private boolean isOrphaned(TestLifecycleEvent event) {
+        long now = System.currentTimeMillis();
+        deletedWhileActive.values().removeIf(expiresAt -> expiresAt <= now);
+        String testId = event.getTestId();
+        switch (event.getType()) {
+            case DELETED:
+                if (!TestLifecycleEvent.isTerminal(event.getStatus())) {
+                    deletedWhileActive.put(testId, now + DELETED_RUNNING_RETENTION_MS);
+                }
+                return false;
+            case FINISHED:
+                if (!deletedWhileActive.containsKey(testId)) {
+                    return false;
+                }
+                // 취소는 결과를 저장하지 않으므로 바로 제거, 그 밖에는 결과 저장 이벤트를 잠시 기다림
+                if (event.getStatus() == TestStatus.CANCELLED) {
+                    deletedWhileActive.remove(testId);
+                } else {
+                    deletedWhileActive.put(testId, now + FINISHED_RETENTION_MS);
+                }
+                return true;
+            case RESULT_SAVED:
+                return deletedWhileActive.remove(testId) != null;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 실행 중 삭제 기록 수 (테스트용)
+     */
+    int deletedWhileActiveCount() {
+        synchronized (lock) {
+            return deletedWhileActive.size();
+        }
+    }
+
+    /**
+     * 대시보드 통계 조회
+     */
+    public Map<String, Object> getStats() {
+        Counters current = counters;
+        if (current == null) {
+            initialize();
+            current = counters;
+        }
+        if (current == null) {
+            current = Counters.EMPTY;
+        }
+        return current.toMap();
+    }
+
+    private Counters loadFromDatabase() {
+        try {
+            long completed = 0, failed = 0, cancelled = 0;
+            long responseTimeCount = 0, tpsCount = 0;
+            double responseTimeSum = 0, tpsSum = 0;
+
+            List<Object[]> rows = testResultRepository.findFinishedStatusAggregates();
+            for (Object[] row : rows) {
+                String status = (String) row[0];
+                long count = ((Number) row[1]).longValue();
+                if ("COMPLETED".equals(status)) {
+                    completed = count;
+                } else if ("FAILED".equals(status)) {
+                    failed = count;
+                } else if ("CANCELLED".equals(status)) {
+                    cancelled = count;
+                }
+                responseTimeCount += ((Number) row[2]).longValue();
+                responseTimeSum += ((Number) row[3]).doubleValue();
+                tpsCount += ((Number) row[4]).longValue();
+                tpsSum += ((Number) row[5]).doubleValue();
+            }
+
+            long active = liveStateRepository.findActiveTestIds().size();
+
+            log.info("대시보드 통계 초기화: active={}, completed={}, failed={}, cancelled={}",
+                    active, completed, failed, cancelled);
+            return new Counters(active, completed, failed, cancelled,
+                    responseTimeCount, responseTimeSum, tpsCount, tpsSum);
+
+        } catch (Exception e) {
+            log.warn("대시보드 통계 초기화 실패, 다음 조회 시 재시도: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 통계 카운터 (불변)
+     */
+    private static class Counters {
+        static final Counters EMPTY = new Counters(0, 0, 0, 0, 0, 0, 0, 0);
+
+        final long active;
+        final long completed;
+        final long failed;
+        final long cancelled;
+        final long responseTimeCount;
+        final double responseTimeSum;
+        final long tpsCount;
+        final double tpsSum;
+
+        Counters(long active, long completed, long failed, long cancelled,
+                 long responseTimeCount, double responseTimeSum, long tpsCount, double tpsSum) {
+            this.active = active;
+            this.completed = completed;
+            this.failed = failed;
+            this.cancelled = cancelled;
+            this.responseTimeCount = responseTimeCount;
+            this.responseTimeSum = responseTimeSum;
+            this.tpsCount = tpsCount;
+            this.tpsSum = tpsSum;
+        }
+
+        Counters apply(TestLifecycleEvent event) {
+            switch (event.getType()) {
+                case STARTED:
+                    return new Counters(active + 1, completed, failed, cancelled,
+                            responseTimeCount, responseTimeSum, tpsCount, tpsSum);
+                case FINISHED:
+                    return withStatus(event.getStatus(), 1, Math.max(0, active - 1));
+                case RESULT_SAVED:
+                    return withResult(event.getAvgResponseTime(), event.getAvgTps(), 1);
+                case DELETED:
+                    if (!TestLifecycleEvent.isTerminal(event.getStatus())) {
+                        // 실행 중 삭제 - 활성 수에서 제외
+                        return new Counters(Math.max(0, active - 1), completed, failed, cancelled,
+                                responseTimeCount, responseTimeSum, tpsCount, tpsSum);
+                    }
+                    return withStatus(event.getStatus(), -1, active)
+                            .withResult(event.getAvgResponseTime(), event.getAvgTps(), -1);
+                default:
+                    return this;
+            }
+        }
+
+        private Counters withStatus(TestStatus status, int delta, long newActive) {
+            return new Counters(newActive,
+                    Math.max(0, completed + (status == TestStatus.COMPLETED ? delta : 0)),
+                    Math.max(0, failed + (status == TestStatus.FAILED ? delta : 0)),
+                    Math.max(0, cancelled + (status == TestStatus.CANCELLED ? delta : 0)),
+                    responseTimeCount, responseTimeSum, tpsCount, tpsSum);
+        }
+
+        private Counters withResult(Double avgResponseTime, Double avgTps, int delta) {
+            return new Counters(active, completed, failed, cancelled,
+                    responseTimeCount + (avgResponseTime != null ? delta : 0),
+                    responseTimeSum + (avgResponseTime != null ? delta * avgResponseTime : 0),
+                    tpsCount + (avgTps != null ? delta : 0),
+                    tpsSum + (avgTps != null ? delta * avgTps : 0));
+        }
+
+        Map<String, Object> toMap() {
+            long finished = completed + failed + cancelled;
+            double successRate = finished == 0 ? 0 : (double) completed / finished * 100;
+            double avgResponseTime = responseTimeCount == 0 ? 0 : responseTimeSum / responseTimeCount;
+            double avgTps = tpsCount == 0 ? 0 : tpsSum / tpsCount;
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("activeTests", active);
+            stats.put("completedTests", finished);
+            stats.put("successRate", Math.round(successRate * 100.0) / 100.0);
+            stats.put("avgResponseTime", Math.round(avgResponseTime * 100.0) / 100.0);
+            stats.put("avgTps", Math.round(avgTps * 100.0) / 100.0);
+            stats.put("totalTests", active + finished);
+            return stats;
+        }
+    }
+}
@@ -1,22 +1,20 @@
 package kr.co.iosys.exam.performance.dashboard.service;
 
 import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
+import kr.co.iosys.exam.performance.dashboard.repository.LiveStateRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import java.util.Set;
 
 /**
  * 실시간 메트릭 브로드캐스트 서비스
- * Redis에서 실시간 메트릭을 조회하여 WebSocket으로 클라이언트에 전송
+ * 실시간 상태 저장소에서 메트릭을 조회하여 WebSocket으로 클라이언트에 전송
  * 
  * AIDEV-NOTE: 1초마다 실행되는 스케줄러, 성능 최적화를 위해 활성 테스트만 처리
  */
@@ -26,12 +24,7 @@ import java.util.Set;
 public class MetricsBroadcastService {
 
     private final SimpMessagingTemplate messagingTemplate;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
-
-    // Redis 키 패턴
-    private static final String REDIS_KEY_ACTIVE_TESTS = "tests:active";
-    private static final String REDIS_KEY_CURRENT_METRICS = "metrics:current:%s";
+    private final LiveStateRepository liveStateRepository;
 
     // WebSocket 토픽 패턴
     private static final String WEBSOCKET_TOPIC_METRICS = "/topic/metrics/%s";
@@ -44,14 +37,13 @@ public class MetricsBroadcastService {
     @Scheduled(fixedDelay = 1000) // 1초마다 실행
     public void broadcastMetrics() {
         try {
-            Set<Object> activeTests = redisTemplate.opsForSet().members(REDIS_KEY_ACTIVE_TESTS);
+            Set<String> activeTests = liveStateRepository.findActiveTestIds();
 
-            if (activeTests == null || activeTests.isEmpty()) {
+            if (activeTests.isEmpty()) {
                 return; // 활성 테스트가 없으면 종료
             }
 
-            for (Object testIdObj : activeTests) {
-                String testId = testIdObj.toString();
+            for (String testId : activeTests) {
                 broadcastTestMetrics(testId);
             }
 
@@ -65,14 +57,10 @@ public class MetricsBroadcastService {
      */
     private void broadcastTestMetrics(String testId) {
         try {
-            // Redis에서 현재 메트릭 조회
-            String metricsKey = String.format(REDIS_KEY_CURRENT_METRICS, testId);
-            Object metricsData = redisTemplate.opsForValue().get(metricsKey);
-
-            if (metricsData != null) {
-                // JSON을 TestMetrics 객체로 변환
-                TestMetrics metrics = objectMapper.readValue(metricsData.toString(), TestMetrics.class);
+            // 현재 메트릭 조회
+            TestMetrics metrics = liveStateRepository.findCurrentMetrics(testId);
 
+            if (metrics != null) {
                 // WebSocket 토픽으로 전송
                 String topic = String.format(WEBSOCKET_TOPIC_METRICS, testId);
                 messagingTemplate.convertAndSend(topic, metrics);
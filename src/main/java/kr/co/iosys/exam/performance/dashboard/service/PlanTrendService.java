@@ -0,0 +1,189 @@
+package kr.co.iosys.exam.performance.dashboard.service;
+
+import kr.co.iosys.exam.performance.config.PerformanceTestProperties;
+import kr.co.iosys.exam.performance.dashboard.dto.PlanTrend;
+import kr.co.iosys.exam.performance.dashboard.dto.PlanTrend.RunPoint;
+import kr.co.iosys.exam.performance.dashboard.dto.PlanTrend.WeeklyPoint;
+import kr.co.iosys.exam.performance.dashboard.repository.PlanTrendQueryRepository;
+import kr.co.iosys.exam.performance.dto.TestLifecycleEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 시험 계획별 실행 추이 서비스
+ * 계획의 완료된 실행을 부하 수준별로 묶어 p95/사용자당 TPS/에러율의 이동 통계와 주별 변화를 제공
+ *
+ * AIDEV-NOTE: plan_run_summaries를 결과 저장 이벤트마다 갱신하여 조회 시 원본 테이블을 읽지 않음
+ * - 기동 시 요약이 없는 완료된 테스트를 한 번 채움 (도입 이전 실행, 이벤트 누락분)
+ * - 이동 통계는 DB 윈도 함수로 계산, 여기서는 변화율/표준점수만 계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlanTrendService {
+
+    private final PlanTrendQueryRepository planTrendRepository;
+    private final PerformanceTestProperties properties;
+
+    /**
+     * 기동 완료 시 누락된 실행 요약 채우기
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int inserted = planTrendRepository.backfillRunSummaries();
+            if (inserted > 0) {
+                log.info("계획 추이 실행 요약 {}건 생성", inserted);
+            }
+        } catch (Exception e) {
+            log.warn("계획 추이 실행 요약 채우기 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 결과 저장 시 실행 요약 갱신, 삭제 시 제거
+     */
+    @EventListener
+    public void onLifecycleEvent(TestLifecycleEvent event) {
+        try {
+            if (event.getType() == TestLifecycleEvent.Type.RESULT_SAVED) {
+                planTrendRepository.upsertRunSummary(event.getTestId());
+            } else if (event.getType() == TestLifecycleEvent.Type.DELETED) {
+                planTrendRepository.deleteRunSummary(event.getTestId());
+            }
+        } catch (Exception e) {
+            log.error("계획 추이 실행 요약 갱신 실패: {} ({})", event.getTestId(), event.getType(), e);
+        }
+    }
+
+    /**
+     * 시험 계획 실행 추이 조회
+     *
+     * @param window 이동 통계 창 크기 (null이면 기본값)
+     * @throws IllegalArgumentException 창 크기나 기간이 잘못된 경우
+     */
+    public PlanTrend getPlanTrend(Long planId, String runType, LocalDateTime from, LocalDateTime to, Integer window) {
+        PerformanceTestProperties.Trend config = properties.getTrend();
+        int size = window != null ? window : config.getDefaultWindow();
+        if (size < 2 || size > config.getMaxWindow()) {
+            throw new IllegalArgumentException("window는 2 이상 " + config.getMaxWindow() + " 이하여야 합니다: " + size);
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from은 to보다 이전이어야 합니다");
+        }
+        String type = runType != null && !runType.isBlank() ? runType : null;
+
+        List<RunPoint> runs = new ArrayList<>();
+        for (Object[] row : planTrendRepository.findRunTrend(planId, type, from, to, size)) {
+            runs.add(toRunPoint(row, config));
+        }
+        List<WeeklyPoint> weekly = new ArrayList<>();
+        for (Object[] row : planTrendRepository.findWeeklyTrend(planId, type, from, to)) {
+            weekly.add(toWeeklyPoint(row));
+        }
+
+        return PlanTrend.builder()
+                .planId(planId)
+                .runType(type)
+                .from(from)
+                .to(to)
+                .window(size)
+                .loadLevels(runs.stream().map(RunPoint::getMaxUsers).filter(Objects::nonNull)
+                        .distinct().sorted().toList())
+                .runs(runs)
+                .weekly(weekly)
+                .build();
+    }
+
+    /**
+     * PlanTrendQueryRepository.findRunTrend 행 변환
+     */
+    static RunPoint toRunPoint(Object[] row, PerformanceTestProperties.Trend config) {
+        Double p95 = toDouble(row[4]);
+        Double tpsPerUser = toDouble(row[8]);
+        long priorRuns = row[17] != null ? ((Number) row[17]).longValue() : 0;
+
+        Double p95ZScore = priorRuns >= config.getMinPriorRuns()
+                ? zScore(p95, toDouble(row[13]), toDouble(row[14])) : null;
+        Double tpsZScore = priorRuns >= config.getMinPriorRuns()
+                ? zScore(tpsPerUser, toDouble(row[15]), toDouble(row[16])) : null;
+        boolean anomaly = (p95ZScore != null && p95ZScore >= config.getAnomalyZScore())
+                || (tpsZScore != null && tpsZScore <= -config.getAnomalyZScore());
+
+        return RunPoint.builder()
+                .testId((String) row[0])
+                .startTime(toLocalDateTime(row[1]))
+                .runType((String) row[2])
+                .maxUsers(row[3] != null ? ((Number) row[3]).intValue() : null)
+                .p95ResponseTime(p95)
+                .p99ResponseTime(toDouble(row[5]))
+                .avgTps(toDouble(row[6]))
+                .peakTps(toDouble(row[7]))
+                .tpsPerUser(tpsPerUser)
+                .errorRate(toDouble(row[9]))
+                .rollingP95(toDouble(row[10]))
+                .rollingTpsPerUser(toDouble(row[11]))
+                .rollingErrorRate(toDouble(row[12]))
+                .p95ChangePercent(changePercent(toDouble(row[18]), p95))
+                .tpsPerUserChangePercent(changePercent(toDouble(row[19]), tpsPerUser))
+                .p95ZScore(p95ZScore)
+                .tpsPerUserZScore(tpsZScore)
+                .anomaly(anomaly)
+                .build();
+    }
+
+    /**
+     * PlanTrendQueryRepository.findWeeklyTrend 행 변환
+     */
+    static WeeklyPoint toWeeklyPoint(Object[] row) {
+        Double avgP95 = toDouble(row[3]);
+        Double avgTpsPerUser = toDouble(row[5]);
+        return WeeklyPoint.builder()
+                .weekStart(toLocalDateTime(row[0]))
+                .maxUsers(row[1] != null ? ((Number) row[1]).intValue() : null)
+                .runs(row[2] != null ? ((Number) row[2]).longValue() : 0)
+                .avgP95ResponseTime(avgP95)
+                .medianP95ResponseTime(toDouble(row[4]))
+                .avgTpsPerUser(avgTpsPerUser)
+                .avgErrorRate(toDouble(row[6]))
+                .p95ChangePercent(changePercent(toDouble(row[7]), avgP95))
+                .tpsPerUserChangePercent(changePercent(toDouble(row[8]), avgTpsPerUser))
+                .build();
+    }
+
+    static Double changePercent(Double previous, Double current) {
+        if (previous == null || current == null || previous == 0) {
+            return null;
+        }
+        return (current - previous) / previous * 100.0;
+    }
+
+    static Double zScore(Double value, Double mean, Double stddev) {
+        if (value == null || mean == null || stddev == null || stddev == 0) {
+            return null;
+        }
+        return (value - mean) / stddev;
+    }
+
+    private static Double toDouble(Object value) {
+        return value != null ? ((Number) value).doubleValue() : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
@@ -1,47 +1,51 @@
 package kr.co.iosys.exam.performance.dashboard.service;
 
 import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
+import kr.co.iosys.exam.performance.dashboard.repository.LiveStateRepository;
+import kr.co.iosys.exam.performance.dashboard.repository.LiveStateRepository.TimelineEntry;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * 실시간 모니터링 서비스
- * Redis 기반 실시간 데이터 저장 및 조회
+ * 실시간 상태 저장소(LiveStateRepository) 기반 데이터 저장 및 조회
  * 
- * AIDEV-NOTE: 시계열 데이터는 Sorted Set 사용, TTL 설정으로 메모리 관리
+ * AIDEV-NOTE: 시계열 데이터는 테스트별 단일 시계열 사용 (최대 길이 트리밍), TTL 설정으로 메모리 관리
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RealtimeMonitoringService {
     
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
-    
-    // Redis 키 패턴
-    private static final String REDIS_KEY_CURRENT_METRICS = "metrics:current:%s";
-    private static final String REDIS_KEY_TIMELINE = "timeline:%s:%s";
-    private static final String REDIS_KEY_LOGS = "logs:%s";
-    private static final String REDIS_KEY_TEST_STATUS = "test:status:%s";
+    private final LiveStateRepository liveStateRepository;
     
     // TTL 설정 (시간)
     private static final Duration CURRENT_METRICS_TTL = Duration.ofSeconds(10);
     private static final Duration TIMELINE_TTL = Duration.ofHours(24);
     private static final Duration LOGS_TTL = Duration.ofHours(1);
-    private static final Duration STATUS_TTL = Duration.ofHours(1);
+    private static final Duration CLEANUP_TIMELINE_TTL = Duration.ofMinutes(10);
+    
+    // 로그 최대 보관 개수
+    private static final int LOGS_MAX_SIZE = 1000;
+    
+    // 시계열 최대 길이 (1초 간격 기준 24시간, 근사 트리밍)
+    private static final long TIMELINE_MAX_LENGTH = 86_400;
+    private static final String TIMELINE_FIELD_TIMESTAMP = "ts";
+    
+    // 구간 집계 시 최대 구간 수 (차트 maxDataPoints와 동일)
+    private static final int MAX_TIMELINE_POINTS = 300;
     
     /**
      * 실시간 메트릭 저장
@@ -52,12 +56,10 @@ public class RealtimeMonitoringService {
             String testId = metrics.getTestId();
             long timestamp = metrics.getTimestamp() != null ? metrics.getTimestamp() : Instant.now().toEpochMilli();
             
-            // 1. 현재 메트릭 저장 (JSON)
-            String currentKey = String.format(REDIS_KEY_CURRENT_METRICS, testId);
-            String metricsJson = objectMapper.writeValueAsString(metrics);
-            redisTemplate.opsForValue().set(currentKey, metricsJson, CURRENT_METRICS_TTL);
+            // 1. 현재 메트릭 저장
+            liveStateRepository.saveCurrentMetrics(testId, metrics, CURRENT_METRICS_TTL);
             
-            // 2. 시계열 데이터 저장 (Sorted Set)
+            // 2. 시계열 데이터 저장
             saveTimelineData(testId, timestamp, metrics);
             
             log.debug("실시간 메트릭 저장 완료: testId={}", testId);
@@ -69,38 +71,27 @@ public class RealtimeMonitoringService {
     
     /**
      * 시계열 데이터 저장
-     * TPS, 응답시간, 활성사용자, 에러율을 각각 저장
+     * TPS, 응답시간, 활성사용자, 에러율을 하나의 시계열 엔트리로 저장
      */
     private void saveTimelineData(String testId, long timestamp, TestMetrics metrics) {
         try {
-            // TPS 저장
+            Map<String, String> fields = new LinkedHashMap<>();
+            fields.put(TIMELINE_FIELD_TIMESTAMP, String.valueOf(timestamp));
             if (metrics.getTps() != null) {
-                String tpsKey = String.format(REDIS_KEY_TIMELINE, testId, "tps");
-                redisTemplate.opsForZSet().add(tpsKey, metrics.getTps().toString(), timestamp);
-                redisTemplate.expire(tpsKey, TIMELINE_TTL);
+                fields.put("tps", metrics.getTps().toString());
             }
-            
-            // 평균 응답시간 저장
             if (metrics.getAvgResponseTime() != null) {
-                String responseTimeKey = String.format(REDIS_KEY_TIMELINE, testId, "response_time");
-                redisTemplate.opsForZSet().add(responseTimeKey, metrics.getAvgResponseTime().toString(), timestamp);
-                redisTemplate.expire(responseTimeKey, TIMELINE_TTL);
+                fields.put("response_time", metrics.getAvgResponseTime().toString());
             }
-            
-            // 활성 사용자 저장
             if (metrics.getActiveUsers() != null) {
-                String activeUsersKey = String.format(REDIS_KEY_TIMELINE, testId, "active_users");
-                redisTemplate.opsForZSet().add(activeUsersKey, metrics.getActiveUsers().toString(), timestamp);
-                redisTemplate.expire(activeUsersKey, TIMELINE_TTL);
+                fields.put("active_users", metrics.getActiveUsers().toString());
             }
-            
-            // 에러율 저장
             if (metrics.getErrorRate() != null) {
-                String errorRateKey = String.format(REDIS_KEY_TIMELINE, testId, "error_rate");
-                redisTemplate.opsForZSet().add(errorRateKey, metrics.getErrorRate().toString(), timestamp);
-                redisTemplate.expire(errorRateKey, TIMELINE_TTL);
+                fields.put("error_rate", metrics.getErrorRate().toString());
             }
             
+            liveStateRepository.appendTimeline(testId, fields, TIMELINE_MAX_LENGTH, TIMELINE_TTL);
+            
         } catch (Exception e) {
             log.error("시계열 데이터 저장 실패: {}", testId, e);
         }
@@ -111,13 +102,7 @@ public class RealtimeMonitoringService {
      */
     public TestMetrics getCurrentMetrics(String testId) {
         try {
-            String currentKey = String.format(REDIS_KEY_CURRENT_METRICS, testId);
-            Object metricsData = redisTemplate.opsForValue().get(currentKey);
-            
-            if (metricsData != null) {
-                return objectMapper.readValue(metricsData.toString(), TestMetrics.class);
-            }
-            
+            return liveStateRepository.findCurrentMetrics(testId);
         } catch (Exception e) {
             log.error("현재 메트릭 조회 실패: {}", testId, e);
         }
@@ -132,21 +117,21 @@ public class RealtimeMonitoringService {
         List<TimeseriesData> result = new ArrayList<>();
         
         try {
-            String timelineKey = String.format(REDIS_KEY_TIMELINE, testId, metricType);
             long endTime = Instant.now().toEpochMilli();
             long startTime = endTime - (minutes * 60 * 1000L);
             
-            Set<Object> dataPoints = redisTemplate.opsForZSet().rangeByScore(timelineKey, startTime, endTime);
-            
-            if (dataPoints != null) {
-                for (Object dataPoint : dataPoints) {
-                    try {
-                        Double value = Double.parseDouble(dataPoint.toString());
-                        Long timestamp = redisTemplate.opsForZSet().score(timelineKey, dataPoint).longValue();
-                        result.add(new TimeseriesData(timestamp, value));
-                    } catch (NumberFormatException e) {
-                        log.warn("시계열 데이터 파싱 실패: {}", dataPoint);
-                    }
+            for (TimelineEntry entry : liveStateRepository.findTimeline(testId, startTime, endTime)) {
+                Map<String, String> fields = entry.getFields();
+                String value = fields.get(metricType);
+                if (value == null) {
+                    continue;
+                }
+                try {
+                    String ts = fields.get(TIMELINE_FIELD_TIMESTAMP);
+                    Long timestamp = ts != null ? Long.parseLong(ts) : entry.getTimestamp();
+                    result.add(new TimeseriesData(timestamp, Double.parseDouble(value)));
+                } catch (NumberFormatException e) {
+                    log.warn("시계열 데이터 파싱 실패: {}", fields);
                 }
             }
             
@@ -160,23 +145,64 @@ public class RealtimeMonitoringService {
     }
     
     /**
-     * 테스트 로그 추가
+     * 구간 집계 시계열 데이터 조회 (최근 N분)
+     * 한 번의 구간 조회 결과를 step 초 단위 고정 구간으로 집계
+     * 
+     * AIDEV-NOTE: 구간 수는 MAX_TIMELINE_POINTS 이하로 제한 (step이 작으면 자동으로 늘림)
      */
-    public void addLogMessage(String testId, String level, String message) {
+    public List<TimeseriesData> getAggregatedTimelineData(String testId, String metricType, int minutes,
+                                                          int stepSeconds, Aggregation aggregation) {
+        List<TimeseriesData> result = new ArrayList<>();
+        
+        long endTime = Instant.now().toEpochMilli();
+        long rangeMillis = minutes * 60 * 1000L;
+        long startTime = endTime - rangeMillis;
+        long stepMillis = Math.max(stepSeconds * 1000L, 
+                (rangeMillis + MAX_TIMELINE_POINTS - 1) / MAX_TIMELINE_POINTS);
+        
         try {
-            String logsKey = String.format(REDIS_KEY_LOGS, testId);
+            // 구간 시작 시각(밀리초) -> 구간 내 값 목록
+            Map<Long, List<Double>> windows = new TreeMap<>();
+            for (TimelineEntry entry : liveStateRepository.findTimeline(testId, startTime, endTime)) {
+                Map<String, String> fields = entry.getFields();
+                String value = fields.get(metricType);
+                if (value == null) {
+                    continue;
+                }
+                try {
+                    String ts = fields.get(TIMELINE_FIELD_TIMESTAMP);
+                    long timestamp = ts != null ? Long.parseLong(ts) : entry.getTimestamp();
+                    long windowStart = (timestamp / stepMillis) * stepMillis;
+                    windows.computeIfAbsent(windowStart, k -> new ArrayList<>())
+                            .add(Double.parseDouble(value));
+                } catch (NumberFormatException e) {
+                    log.warn("시계열 데이터 파싱 실패: {}", fields);
+                }
+            }
             
-            LogEntry logEntry = new LogEntry(System.currentTimeMillis(), level, message);
-            String logJson = objectMapper.writeValueAsString(logEntry);
+            for (Map.Entry<Long, List<Double>> window : windows.entrySet()) {
+                result.add(new TimeseriesData(window.getKey(), aggregation.apply(window.getValue())));
+            }
             
-            // 리스트 앞쪽에 추가 (최신이 위에)
-            redisTemplate.opsForList().leftPush(logsKey, logJson);
+            log.debug("구간 집계 시계열 조회: testId={}, type={}, step={}ms, agg={}, windows={}", 
+                    testId, metricType, stepMillis, aggregation, result.size());
             
-            // 최대 1000개로 제한
-            redisTemplate.opsForList().trim(logsKey, 0, 999);
+        } catch (Exception e) {
+            log.error("구간 집계 시계열 조회 실패: testId={}, type={}", testId, metricType, e);
+        }
+        
+        return result;
+    }
+    
+    /**
+     * 테스트 로그 추가
+     */
+    public void addLogMessage(String testId, String level, String message) {
+        try {
+            LogEntry logEntry = new LogEntry(System.currentTimeMillis(), level, message);
             
-            // TTL 설정
-            redisTemplate.expire(logsKey, LOGS_TTL);
+            // 최신이 앞, 최대 1000개로 제한, TTL 갱신
+            liveStateRepository.pushLog(testId, logEntry, LOGS_MAX_SIZE, LOGS_TTL);
             
             log.debug("테스트 로그 추가: testId={}, level={}", testId, level);
             
@@ -192,19 +218,7 @@ public class RealtimeMonitoringService {
         List<LogEntry> logs = new ArrayList<>();
         
         try {
-            String logsKey = String.format(REDIS_KEY_LOGS, testId);
-            List<Object> logData = redisTemplate.opsForList().range(logsKey, 0, count - 1);
-            
-            if (logData != null) {
-                for (Object logItem : logData) {
-                    try {
-                        LogEntry logEntry = objectMapper.readValue(logItem.toString(), LogEntry.class);
-                        logs.add(logEntry);
-                    } catch (Exception e) {
-                        log.warn("로그 파싱 실패: {}", logItem);
-                    }
-                }
-            }
+            logs = liveStateRepository.findRecentLogs(testId, count);
             
             log.debug("테스트 로그 조회: testId={}, count={}", testId, logs.size());
             
@@ -221,15 +235,10 @@ public class RealtimeMonitoringService {
     public void cleanupTestData(String testId) {
         try {
             // 현재 메트릭 삭제
-            String currentKey = String.format(REDIS_KEY_CURRENT_METRICS, testId);
-            redisTemplate.delete(currentKey);
+            liveStateRepository.deleteCurrentMetrics(testId);
             
             // 시계열 데이터 삭제 (또는 TTL 단축)
-            String[] metricTypes = {"tps", "response_time", "active_users", "error_rate"};
-            for (String metricType : metricTypes) {
-                String timelineKey = String.format(REDIS_KEY_TIMELINE, testId, metricType);
-                redisTemplate.expire(timelineKey, Duration.ofMinutes(10)); // 10분 후 삭제
-            }
+            liveStateRepository.expireTimeline(testId, CLEANUP_TIMELINE_TTL); // 10분 후 삭제
             
             // 로그는 1시간 후 자동 삭제 (TTL 유지)
             
@@ -240,6 +249,41 @@ public class RealtimeMonitoringService {
         }
     }
     
+    /**
+     * 시계열 구간 집계 방식
+     */
+    public enum Aggregation {
+        AVG, MAX, P95, SUM;
+        
+        /**
+         * 요청 파라미터(avg, max, p95, sum)를 집계 방식으로 변환
+         */
+        public static Aggregation from(String value) {
+            try {
+                return Aggregation.valueOf(value.trim().toUpperCase());
+            } catch (Exception e) {
+                throw new IllegalArgumentException("지원하지 않는 집계 방식: " + value);
+            }
+        }
+        
+        double apply(List<Double> values) {
+            switch (this) {
+                case MAX:
+                    return values.stream().mapToDouble(Double::doubleValue).max().orElse(0);
+                case SUM:
+                    return values.stream().mapToDouble(Double::doubleValue).sum();
+                case P95:
+                    List<Double> sorted = new ArrayList<>(values);
+                    Collections.sort(sorted);
+                    int index = (int) Math.ceil(sorted.size() * 0.95) - 1;
+                    return sorted.get(Math.max(0, index));
+                case AVG:
+                default:
+                    return values.stream().mapToDouble(Double::doubleValue).average().orElse(0);
+            }
+        }
+    }
+    
     // DTO Classes
     
     /**
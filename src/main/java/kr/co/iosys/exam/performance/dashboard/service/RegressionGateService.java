@@ -0,0 +1,338 @@
+package kr.co.iosys.exam.performance.dashboard.service;
+
+import kr.co.iosys.exam.performance.config.PerformanceTestProperties;
+import kr.co.iosys.exam.performance.dashboard.dto.RegressionBaseline;
+import kr.co.iosys.exam.performance.dashboard.dto.RegressionThresholds;
+import kr.co.iosys.exam.performance.dashboard.dto.RegressionVerdict;
+import kr.co.iosys.exam.performance.dashboard.dto.RegressionVerdict.Violation;
+import kr.co.iosys.exam.performance.dashboard.dto.TestComparisonResult;
+import kr.co.iosys.exam.performance.dashboard.entity.TestBaseline;
+import kr.co.iosys.exam.performance.dashboard.entity.TestRegressionVerdict;
+import kr.co.iosys.exam.performance.dashboard.repository.TestBaselineRepository;
+import kr.co.iosys.exam.performance.dashboard.repository.TestRegressionVerdictRepository;
+import kr.co.iosys.exam.performance.dto.PerformanceTestResponse;
+import kr.co.iosys.exam.performance.dto.TestLifecycleEvent;
+import kr.co.iosys.exam.performance.model.PerformanceTest;
+import kr.co.iosys.exam.performance.repository.PerformanceTestRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 성능 회귀 판정 서비스
+ * 시험 계획/실행 유형별 기준 테스트를 두고, 후처리가 끝난 테스트를 기준과 비교하여 판정 저장
+ *
+ * AIDEV-NOTE: RESULT_SAVED 이벤트에서 자동 판정 (결과 번들 생성 리스너 다음에 실행)
+ * - 비교는 TestComparisonService 결과를 사용 (test_comparisons에도 저장됨)
+ * - 판정 항목: 전체 p95/p99 증가율, 에러율 증가량, 최대 TPS 감소율 + 엔드포인트별 p95/p99/에러율
+ * - COMPLETED가 아닌 테스트(FAILED, CANCELLED)는 기준과 관계없이 FAILED, 종료 이벤트에서 바로 판정
+ *   (결과 저장 전에 실패한 테스트는 RESULT_SAVED가 오지 않음 - 이후 RESULT_SAVED가 와도 그 판정 유지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegressionGateService {
+
+    private static final String DEFAULT_RUN_TYPE = "TEST";
+    private static final String SCOPE_TEST = "TEST";
+
+    private final TestBaselineRepository baselineRepository;
+    private final TestRegressionVerdictRepository verdictRepository;
+    private final PerformanceTestRepository performanceTestRepository;
+    private final TestComparisonService comparisonService;
+    private final PerformanceTestProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 결과 저장(실패/중단은 종료) 시 자동 판정, 삭제 시 판정/기준 정리
+     */
+    @EventListener
+    public void onLifecycleEvent(TestLifecycleEvent event) {
+        try {
+            boolean enabled = properties.getRegressionGate().isEnabled();
+            if (enabled && event.getType() == TestLifecycleEvent.Type.RESULT_SAVED) {
+                if (verdictRepository.existsById(event.getTestId())) {
+                    // 실패/중단으로 종료 시 이미 판정됨 (결과가 늦게 저장돼도 덮어쓰지 않음)
+                    log.debug("종료 시 판정된 테스트, 결과 저장 판정 생략: {}", event.getTestId());
+                } else {
+                    evaluate(event.getTestId());
+                }
+            } else if (enabled && event.getType() == TestLifecycleEvent.Type.FINISHED
+                    && event.getStatus() != PerformanceTestResponse.TestStatus.COMPLETED
+                    && TestLifecycleEvent.isTerminal(event.getStatus())) {
+                // 실패/중단된 테스트는 결과 저장 이벤트가 없을 수 있으므로 종료 시 판정 (DB 상태 갱신 전일 수 있음)
+                evaluate(event.getTestId(), event.getStatus().name());
+            } else if (event.getType() == TestLifecycleEvent.Type.DELETED) {
+                verdictRepository.deleteById(event.getTestId());
+                baselineRepository.deleteByTestId(event.getTestId());
+            }
+        } catch (Exception e) {
+            log.error("회귀 판정 처리 실패: {} ({})", event.getTestId(), event.getType(), e);
+        }
+    }
+
+    /**
+     * 테스트를 계획/실행 유형의 기준 테스트로 지정 (기존 기준 교체)
+     *
+     * @param thresholds 기본값을 덮어쓸 임계값 (null 가능)
+     * @throws IllegalArgumentException 테스트가 없거나 COMPLETED가 아닌 경우
+     */
+    public RegressionBaseline setBaseline(String testId, RegressionThresholds thresholds) {
+        PerformanceTest test = performanceTestRepository.findById(testId)
+                .orElseThrow(() -> new IllegalArgumentException("테스트를 찾을 수 없습니다: " + testId));
+        if (!"COMPLETED".equals(test.getStatus())) {
+            throw new IllegalArgumentException("완료된 테스트만 기준으로 지정할 수 있습니다: " + testId + " (" + test.getStatus() + ")");
+        }
+
+        String runType = normalizeRunType(test.getRunType());
+        TestBaseline baseline = baselineRepository.findByPlanIdAndRunType(test.getPlanId(), runType)
+                .orElseGet(() -> TestBaseline.builder().planId(test.getPlanId()).runType(runType).build());
+        baseline.setTestId(testId);
+        baseline.setThresholds(thresholds != null ? writeJson(thresholds) : null);
+        baseline.setUpdatedAt(LocalDateTime.now());
+        baseline = baselineRepository.save(baseline);
+
+        log.info("회귀 판정 기준 지정: plan={}, runType={}, testId={}", test.getPlanId(), runType, testId);
+        return toBaseline(baseline);
+    }
+
+    /**
+     * 계획/실행 유형의 기준 테스트 조회
+     */
+    public Optional<RegressionBaseline> getBaseline(Long planId, String runType) {
+        return baselineRepository.findByPlanIdAndRunType(planId, normalizeRunType(runType)).map(this::toBaseline);
+    }
+
+    /**
+     * 판정 조회 (아직 판정 전이면 PENDING)
+     *
+     * @throws IllegalArgumentException 테스트가 없는 경우
+     */
+    public RegressionVerdict getVerdict(String testId) {
+        Optional<TestRegressionVerdict> stored = verdictRepository.findById(testId);
+        if (stored.isPresent()) {
+            return toVerdict(stored.get());
+        }
+        if (!performanceTestRepository.existsById(testId)) {
+            throw new IllegalArgumentException("테스트를 찾을 수 없습니다: " + testId);
+        }
+        return RegressionVerdict.builder()
+                .testId(testId)
+                .verdict(RegressionVerdict.Status.PENDING)
+                .violations(List.of())
+                .build();
+    }
+
+    /**
+     * 테스트 판정 (기존 판정 덮어씀)
+     *
+     * @throws IllegalArgumentException 테스트가 없는 경우
+     */
+    public RegressionVerdict evaluate(String testId) {
+        return evaluate(testId, null);
+    }
+
+    private RegressionVerdict evaluate(String testId, String knownStatus) {
+        PerformanceTest test = performanceTestRepository.findById(testId)
+                .orElseThrow(() -> new IllegalArgumentException("테스트를 찾을 수 없습니다: " + testId));
+        String status = knownStatus != null ? knownStatus : test.getStatus();
+        String runType = normalizeRunType(test.getRunType());
+        Optional<TestBaseline> baseline = baselineRepository.findByPlanIdAndRunType(test.getPlanId(), runType);
+
+        TestRegressionVerdict.TestRegressionVerdictBuilder verdict = TestRegressionVerdict.builder()
+                .testId(testId)
+                .baselineTestId(baseline.map(TestBaseline::getTestId).orElse(null))
+                .evaluatedAt(LocalDateTime.now());
+        List<Violation> violations = new ArrayList<>();
+
+        if (!"COMPLETED".equals(status)) {
+            violations.add(Violation.builder()
+                    .scope(SCOPE_TEST)
+                    .metric("status")
+                    .message("테스트가 정상 완료되지 않음: " + status)
+                    .build());
+            verdict.verdict(RegressionVerdict.Status.FAILED.name());
+        } else if (baseline.isEmpty() || baseline.get().getTestId().equals(testId)) {
+            verdict.verdict(RegressionVerdict.Status.NO_BASELINE.name())
+                    .message("기준 테스트 없음: plan=" + test.getPlanId() + ", runType=" + runType);
+        } else {
+            try {
+                TestComparisonResult comparison = comparisonService.compare(baseline.get().getTestId(), testId, false);
+                violations.addAll(findViolations(comparison, resolveThresholds(baseline.get())));
+                verdict.comparisonId(comparison.getComparisonId())
+                        .verdict((violations.isEmpty() ? RegressionVerdict.Status.PASSED : RegressionVerdict.Status.FAILED).name());
+            } catch (IllegalArgumentException e) {
+                verdict.verdict(RegressionVerdict.Status.ERROR.name()).message(e.getMessage());
+            }
+        }
+
+        TestRegressionVerdict saved = verdictRepository.save(verdict.violations(writeJson(violations)).build());
+        log.info("회귀 판정: {} → {} (기준 {}, 위반 {}개)", testId, saved.getVerdict(),
+                saved.getBaselineTestId(), violations.size());
+        return toVerdict(saved);
+    }
+
+    /**
+     * 비교 결과에서 임계값 위반 항목 추출
+     */
+    static List<Violation> findViolations(TestComparisonResult comparison, RegressionThresholds thresholds) {
+        List<Violation> violations = new ArrayList<>();
+
+        checkIncrease(violations, SCOPE_TEST, "p95ResponseTime",
+                metric(comparison.getLatency(), "p95ResponseTime"), thresholds.getP95IncreasePercent(), thresholds);
+        checkIncrease(violations, SCOPE_TEST, "p99ResponseTime",
+                metric(comparison.getLatency(), "p99ResponseTime"), thresholds.getP99IncreasePercent(), thresholds);
+
+        TestComparisonResult.MetricDelta errorRate = metric(comparison.getThroughput(), "errorRate");
+        if (errorRate != null && errorRate.getDelta() != null && errorRate.getDelta() > thresholds.getErrorRateIncrease()) {
+            violations.add(violation(SCOPE_TEST, "errorRate", errorRate.getBase(), errorRate.getCompare(),
+                    thresholds.getErrorRateIncrease(), "에러율 %.2f%%p 증가"));
+        }
+
+        TestComparisonResult.MetricDelta peakTps = metric(comparison.getThroughput(), "peakTps");
+        if (peakTps != null && peakTps.getDeltaPercent() != null
+                && -peakTps.getDeltaPercent() > thresholds.getPeakTpsDecreasePercent()) {
+            violations.add(violation(SCOPE_TEST, "peakTps", peakTps.getBase(), peakTps.getCompare(),
+                    thresholds.getPeakTpsDecreasePercent(), "최대 TPS %.2f%% 감소"));
+        }
+
+        if (Boolean.TRUE.equals(thresholds.getPerEndpoint()) && comparison.getEndpoints() != null) {
+            for (TestComparisonResult.EndpointDelta endpoint : comparison.getEndpoints()) {
+                String scope = endpoint.getGroup() != null ? endpoint.getGroup() + " / " + endpoint.getName() : endpoint.getName();
+                checkIncrease(violations, scope, "p95ResponseTime",
+                        new TestComparisonResult.MetricDelta("p95ResponseTime", endpoint.getBaseP95(), endpoint.getCompareP95(),
+                                endpoint.getCompareP95() - endpoint.getBaseP95(), endpoint.getP95DeltaPercent()),
+                        thresholds.getP95IncreasePercent(), thresholds);
+                checkIncrease(violations, scope, "p99ResponseTime",
+                        new TestComparisonResult.MetricDelta("p99ResponseTime", endpoint.getBaseP99(), endpoint.getCompareP99(),
+                                endpoint.getCompareP99() - endpoint.getBaseP99(), endpoint.getP99DeltaPercent()),
+                        thresholds.getP99IncreasePercent(), thresholds);
+                double errorRateDelta = endpoint.getCompareErrorRate() - endpoint.getBaseErrorRate();
+                if (errorRateDelta > thresholds.getErrorRateIncrease()) {
+                    violations.add(violation(scope, "errorRate", endpoint.getBaseErrorRate(), endpoint.getCompareErrorRate(),
+                            thresholds.getErrorRateIncrease(), "에러율 %.2f%%p 증가"));
+                }
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * 응답시간 증가 판정 (증가율 초과 + 최소 증가량 이상일 때만 위반)
+     */
+    private static void checkIncrease(List<Violation> violations, String scope, String metric,
+                                      TestComparisonResult.MetricDelta delta, Double limitPercent,
+                                      RegressionThresholds thresholds) {
+        if (delta == null || delta.getDeltaPercent() == null || delta.getDelta() == null) {
+            return;
+        }
+        if (delta.getDeltaPercent() > limitPercent && delta.getDelta() >= thresholds.getMinIncreaseMs()) {
+            violations.add(violation(scope, metric, delta.getBase(), delta.getCompare(), limitPercent,
+                    metric + " %.2f%% 증가"));
+        }
+    }
+
+    private static Violation violation(String scope, String metric, Double baseline, Double actual,
+                                       Double limit, String format) {
+        double change;
+        if (metric.equals("errorRate")) {
+            change = actual - baseline;
+        } else {
+            change = baseline != null && baseline != 0 ? Math.abs(actual - baseline) / baseline * 100 : 0;
+        }
+        return Violation.builder()
+                .scope(scope)
+                .metric(metric)
+                .baseline(baseline)
+                .actual(actual)
+                .limit(limit)
+                .message(String.format(format, change) + String.format(" (허용 %.2f)", limit))
+                .build();
+    }
+
+    private static TestComparisonResult.MetricDelta metric(List<TestComparisonResult.MetricDelta> deltas, String name) {
+        if (deltas == null) {
+            return null;
+        }
+        return deltas.stream().filter(delta -> name.equals(delta.getMetric())).findFirst().orElse(null);
+    }
+
+    /**
+     * 기준에 저장된 임계값과 설정 기본값 병합
+     */
+    private RegressionThresholds resolveThresholds(TestBaseline baseline) {
+        RegressionThresholds custom = readJson(baseline.getThresholds(), new TypeReference<RegressionThresholds>() {});
+        return merge(custom, properties.getRegressionGate());
+    }
+
+    static RegressionThresholds merge(RegressionThresholds custom, PerformanceTestProperties.RegressionGate defaults) {
+        RegressionThresholds c = custom != null ? custom : new RegressionThresholds();
+        return RegressionThresholds.builder()
+                .p95IncreasePercent(c.getP95IncreasePercent() != null ? c.getP95IncreasePercent() : defaults.getP95IncreasePercent())
+                .p99IncreasePercent(c.getP99IncreasePercent() != null ? c.getP99IncreasePercent() : defaults.getP99IncreasePercent())
+                .minIncreaseMs(c.getMinIncreaseMs() != null ? c.getMinIncreaseMs() : defaults.getMinIncreaseMs())
+                .errorRateIncrease(c.getErrorRateIncrease() != null ? c.getErrorRateIncrease() : defaults.getErrorRateIncrease())
+                .peakTpsDecreasePercent(c.getPeakTpsDecreasePercent() != null ? c.getPeakTpsDecreasePercent() : defaults.getPeakTpsDecreasePercent())
+                .perEndpoint(c.getPerEndpoint() != null ? c.getPerEndpoint() : defaults.isPerEndpoint())
+                .build();
+    }
+
+    private static String normalizeRunType(String runType) {
+        return runType != null && !runType.isBlank() ? runType.trim() : DEFAULT_RUN_TYPE;
+    }
+
+    private RegressionBaseline toBaseline(TestBaseline baseline) {
+        return RegressionBaseline.builder()
+                .planId(baseline.getPlanId())
+                .runType(baseline.getRunType())
+                .testId(baseline.getTestId())
+                .thresholds(resolveThresholds(baseline))
+                .updatedAt(baseline.getUpdatedAt())
+                .build();
+    }
+
+    private RegressionVerdict toVerdict(TestRegressionVerdict verdict) {
+        List<Violation> violations = readJson(verdict.getViolations(), new TypeReference<List<Violation>>() {});
+        return RegressionVerdict.builder()
+                .testId(verdict.getTestId())
+                .baselineTestId(verdict.getBaselineTestId())
+                .comparisonId(verdict.getComparisonId())
+                .verdict(RegressionVerdict.Status.valueOf(verdict.getVerdict()))
+                .violations(violations != null ? violations : List.of())
+                .message(verdict.getMessage())
+                .evaluatedAt(verdict.getEvaluatedAt())
+                .build();
+    }
+
+    private String writeJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("회귀 판정 데이터 직렬화 실패", e);
+        }
+    }
+
+    private <T> T readJson(String json, TypeReference<T> type) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            log.warn("회귀 판정 데이터 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package kr.co.iosys.exam.performance.dashboard.service;
+
+import kr.co.iosys.exam.performance.config.PerformanceTestProperties;
+import kr.co.iosys.exam.performance.dashboard.dto.ResultBundle;
+import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
+import kr.co.iosys.exam.performance.dashboard.dto.TestResult;
+import kr.co.iosys.exam.performance.dashboard.entity.TestResultBundle;
+import kr.co.iosys.exam.performance.dashboard.repository.TestMetricsHistoryRepository;
+import kr.co.iosys.exam.performance.dashboard.repository.TestResultBundleRepository;
+import kr.co.iosys.exam.performance.dto.TestLifecycleEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 완료된 테스트 결과 번들 서비스
+ * 결과 저장(후처리) 시점에 결과 페이지용 데이터를 한 번 조립하여 gzip JSON으로 저장하고,
+ * 이후 조회는 번들 한 건만 읽음
+ *
+ * AIDEV-NOTE: RESULT_SAVED 이벤트에서 생성, DELETED 이벤트에서 삭제
+ * - 번들이 없는 기존 완료 테스트는 첫 조회 시 생성하여 저장 (백필)
+ * - 실행 중인 테스트는 번들을 만들지 않음 (호출자는 기존 조회 경로 사용)
+ * - 메트릭 히스토리는 전체 구간을 result-bundle.history-points 이하로 축약 (최근 N개 자르기 아님)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResultBundleService {
+
+    static final int BUNDLE_VERSION = 6;
+
+    private final DashboardService dashboardService;
+    private final TestMetricsHistoryRepository testMetricsHistoryRepository;
+    private final TestResultBundleRepository bundleRepository;
+    private final PerformanceTestProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 결과 저장 시 번들 생성, 삭제 시 번들 제거
+     * 캐시 무효화 다음, 번들을 읽는 리스너(회귀 판정 등)보다 먼저 실행
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE + 10)
+    public void onLifecycleEvent(TestLifecycleEvent event) {
+        try {
+            if (event.getType() == TestLifecycleEvent.Type.RESULT_SAVED) {
+                build(event.getTestId());
+            } else if (event.getType() == TestLifecycleEvent.Type.DELETED) {
+                bundleRepository.deleteById(event.getTestId());
+            }
+        } catch (Exception e) {
+            log.error("결과 번들 처리 실패: {} ({})", event.getTestId(), event.getType(), e);
+        }
+    }
+
+    /**
+     * 저장된 번들 조회 (없으면 완료된 테스트에 한해 생성)
+     */
+    public Optional<TestResultBundle> findBundle(String testId) {
+        Optional<TestResultBundle> stored = bundleRepository.findById(testId);
+        if (stored.isPresent()) {
+            return stored;
+        }
+        return build(testId);
+    }
+
+    /**
+     * 번들 ETag 조회 (조건부 요청용, 본문은 읽지 않음)
+     */
+    public Optional<String> findEtag(String testId) {
+        Optional<String> etag = bundleRepository.findEtagByTestId(testId);
+        if (etag.isPresent()) {
+            return etag;
+        }
+        return findBundle(testId).map(TestResultBundle::getEtag);
+    }
+
+    /**
+     * 번들 조회 (압축 해제 후 역직렬화)
+     */
+    public Optional<ResultBundle> getBundle(String testId) {
+        try {
+            return findBundle(testId).map(this::decode);
+        } catch (Exception e) {
+            log.error("결과 번들 조회 실패: {}", testId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 번들 생성 및 저장 (완료된 테스트만)
+     */
+    Optional<TestResultBundle> build(String testId) {
+        Optional<TestResult> result = dashboardService.getTestResult(testId);
+        if (result.isEmpty() || !CompletedTestCache.isCompleted(result.get())) {
+            return Optional.empty();
+        }
+        TestResult summary = result.get();
+
+        List<TestMetrics> history = new ArrayList<>();
+        testMetricsHistoryRepository.findByTestIdOrderByTimestamp(testId)
+                .forEach(entity -> history.add(DashboardService.toTestMetrics(entity)));
+
+        JsonNode stats = readStats(summary.getReportPath());
+        List<ResultBundle.EndpointStats> endpoints = new ArrayList<>();
+        if (stats != null) {
+            collectEndpointStats(stats, null, endpoints);
+        }
+
+        ResultBundle bundle = ResultBundle.builder()
+                .version(BUNDLE_VERSION)
+                .testId(testId)
+                .generatedAt(LocalDateTime.now())
+                .summary(summary)
+                .history(downsample(history, properties.getResultBundle().getHistoryPoints()))
+                .historySourcePoints(history.size())
+                .endpoints(endpoints)
+                .populations(stats != null ? summarizePopulations(stats, endpoints) : null)
+                .propagation(loadReport(summary.getReportPath(), ResultBundle.PropagationStats.FILE_NAME,
+                        ResultBundle.PropagationStats.class))
+                .soak(loadReport(summary.getReportPath(), ResultBundle.SoakStats.FILE_NAME, ResultBundle.SoakStats.class))
+                .herd(loadReport(summary.getReportPath(), ResultBundle.HerdStats.FILE_NAME, ResultBundle.HerdStats.class))
+                .storm(loadReport(summary.getReportPath(), ResultBundle.StormStats.FILE_NAME, ResultBundle.StormStats.class))
+                .reportUrl(dashboardService.getReportUrl(testId))
+                .maxUsers(dashboardService.getMaxUsers(testId))
+                .rampUpSeconds(dashboardService.getRampUpSeconds(testId))
+                .build();
+
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(bundle);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] compressed = gzip(json);
+
+        TestResultBundle entity = bundleRepository.save(TestResultBundle.builder()
+                .testId(testId)
+                .etag(sha256(json))
+                .content(compressed)
+                .contentSize(json.length)
+                .compressedSize(compressed.length)
+                .createdAt(bundle.getGeneratedAt())
+                .build());
+
+        log.info("결과 번들 생성: {} (history {}→{}, endpoints {}, {}B→{}B)", testId,
+                history.size(), bundle.getHistory().size(), bundle.getEndpoints().size(),
+                json.length, compressed.length);
+        return Optional.of(entity);
+    }
+
+    /**
+     * 저장된 번들을 DTO로 복원
+     */
+    public ResultBundle decode(TestResultBundle entity) {
+        try {
+            return objectMapper.readValue(gunzip(entity.getContent()), ResultBundle.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 압축 해제된 번들 JSON (gzip 미지원 클라이언트용)
+     */
+    public static byte[] uncompressed(TestResultBundle entity) {
+        return gunzip(entity.getContent());
+    }
+
+    /**
+     * 결과 디렉토리의 Gatling stats.json (없거나 읽지 못하면 null)
+     */
+    private JsonNode readStats(String resultPath) {
+        if (resultPath == null || resultPath.isEmpty()) {
+            return null;
+        }
+        try {
+            Path resultDir = Paths.get(resultPath);
+            Path statsFile = resultDir.resolve("js").resolve("stats.json");
+            if (!Files.exists(statsFile)) {
+                statsFile = resultDir.resolve("stats.json");
+            }
+            return Files.exists(statsFile) ? objectMapper.readTree(statsFile.toFile()) : null;
+        } catch (Exception e) {
+            log.warn("엔드포인트 통계 추출 실패: {} - {}", resultPath, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 최상위 그룹(모집단)별 통계 (그룹이 없으면 null)
+     */
+    static List<ResultBundle.PopulationStats> summarizePopulations(JsonNode root,
+                                                                   List<ResultBundle.EndpointStats> endpoints) {
+        List<ResultBundle.PopulationStats> populations = new ArrayList<>();
+        JsonNode contents = root.path("contents");
+        if (!contents.isObject()) {
+            return null;
+        }
+        for (JsonNode child : (Iterable<JsonNode>) contents::elements) {
+            if (!"GROUP".equals(child.path("type").asText())) {
+                continue;
+            }
+            String name = child.path("name").asText();
+            long requests = 0, failed = 0;
+            double responseTimeSum = 0, maxP95 = 0;
+            for (ResultBundle.EndpointStats endpoint : endpoints) {
+                String group = endpoint.getGroup();
+                if (group == null || !(group.equals(name) || group.startsWith(name + " / "))) {
+                    continue;
+                }
+                requests += endpoint.getTotalRequests();
+                failed += endpoint.getFailedRequests();
+                responseTimeSum += endpoint.getAvgResponseTime() * endpoint.getTotalRequests();
+                maxP95 = Math.max(maxP95, endpoint.getP95ResponseTime());
+            }
+            JsonNode sessions = child.path("stats").path("numberOfRequests");
+            populations.add(ResultBundle.PopulationStats.builder()
+                    .name(name)
+                    .sessions(sessions.path("total").asLong(0))
+                    .failedSessions(sessions.path("ko").asLong(0))
+                    .totalRequests(requests)
+                    .failedRequests(failed)
+                    .errorRate(requests > 0 ? failed * 100.0 / requests : 0.0)
+                    .avgResponseTime(requests > 0 ? responseTimeSum / requests : 0.0)
+                    .maxP95ResponseTime(maxP95)
+                    .build());
+        }
+        return populations.isEmpty() ? null : populations;
+    }
+
+    /**
+     * 결과 디렉토리의 시뮬레이션 부가 지표 파일 (전파 지연, 장시간 연결 유지, 집단 동시 이벤트, 재연결 폭주 - 없으면 null)
+     */
+    private <T> T loadReport(String resultPath, String fileName, Class<T> type) {
+        if (resultPath == null || resultPath.isEmpty()) {
+            return null;
+        }
+        Path file = Paths.get(resultPath).resolve(fileName);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(file.toFile(), type);
+        } catch (IOException e) {
+            log.warn("부가 지표 파일 읽기 실패: {} - {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * stats.json의 contents 트리를 순회하며 REQUEST 노드 수집 (GROUP은 재귀)
+     */
+    static void collectEndpointStats(JsonNode node, String group, List<ResultBundle.EndpointStats> endpoints) {
+        JsonNode contents = node.path("contents");
+        if (!contents.isObject()) {
+            return;
+        }
+        for (Map.Entry<String, JsonNode> entry : (Iterable<Map.Entry<String, JsonNode>>) contents::fields) {
+            JsonNode child = entry.getValue();
+            String name = child.path("name").asText(entry.getKey());
+            if ("GROUP".equals(child.path("type").asText())) {
+                collectEndpointStats(child, group != null ? group + " / " + name : name, endpoints);
+                continue;
+            }
+            JsonNode stats = child.path("stats");
+            endpoints.add(ResultBundle.EndpointStats.builder()
+                    .name(name)
+                    .group(group)
+                    .totalRequests(stats.path("numberOfRequests").path("total").asLong(0))
+                    .successfulRequests(stats.path("numberOfRequests").path("ok").asLong(0))
+                    .failedRequests(stats.path("numberOfRequests").path("ko").asLong(0))
+                    .avgResponseTime(stats.path("meanResponseTime").path("total").asDouble(0))
+                    .minResponseTime(stats.path("minResponseTime").path("total").asDouble(0))
+                    .maxResponseTime(stats.path("maxResponseTime").path("total").asDouble(0))
+                    .p95ResponseTime(stats.path("percentiles3").path("total").asDouble(0))
+                    .p99ResponseTime(stats.path("percentiles4").path("total").asDouble(0))
+                    .build());
+        }
+    }
+
+    /**
+     * 메트릭 히스토리 축약
+     * 연속 구간을 하나로 합침: 응답시간 평균/TPS는 평균, 최대/백분위는 최대, 건수는 합계
+     */
+    static List<TestMetrics> downsample(List<TestMetrics> history, int maxPoints) {
+        if (history.size() <= maxPoints) {
+            return new ArrayList<>(history);
+        }
+        int bucketSize = (history.size() + maxPoints - 1) / maxPoints;
+        List<TestMetrics> result = new ArrayList<>(maxPoints);
+        for (int from = 0; from < history.size(); from += bucketSize) {
+            result.add(merge(history.subList(from, Math.min(from + bucketSize, history.size()))));
+        }
+        return result;
+    }
+
+    private static TestMetrics merge(List<TestMetrics> bucket) {
+        TestMetrics first = bucket.get(0);
+        Integer activeUsers = null;
+        Double min = null, max = null, p95 = null, p99 = null;
+        double tpsSum = 0, responseTimeSum = 0;
+        int tpsCount = 0, responseTimeCount = 0;
+        long success = 0, errors = 0;
+        boolean hasCounts = false;
+
+        for (TestMetrics m : bucket) {
+            if (m.getActiveUsers() != null) {
+                activeUsers = activeUsers == null ? m.getActiveUsers() : Math.max(activeUsers, m.getActiveUsers());
+            }
+            if (m.getTps() != null) {
+                tpsSum += m.getTps();
+                tpsCount++;
+            }
+            if (m.getAvgResponseTime() != null) {
+                responseTimeSum += m.getAvgResponseTime();
+                responseTimeCount++;
+            }
+            min = minOf(min, m.getMinResponseTime());
+            max = maxOf(max, m.getMaxResponseTime());
+            p95 = maxOf(p95, m.getP95ResponseTime());
+            p99 = maxOf(p99, m.getP99ResponseTime());
+            if (m.getSuccessCount() != null || m.getErrorCount() != null) {
+                hasCounts = true;
+                success += m.getSuccessCount() != null ? m.getSuccessCount() : 0;
+                errors += m.getErrorCount() != null ? m.getErrorCount() : 0;
+            }
+        }
+
+        return TestMetrics.builder()
+                .testId(first.getTestId())
+                .timestamp(first.getTimestamp())
+                .activeUsers(activeUsers)
+                .tps(tpsCount > 0 ? tpsSum / tpsCount : null)
+                .avgResponseTime(responseTimeCount > 0 ? responseTimeSum / responseTimeCount : null)
+                .minResponseTime(min)
+                .maxResponseTime(max)
+                .p95ResponseTime(p95)
+                .p99ResponseTime(p99)
+                .successCount(hasCounts ? success : null)
+                .errorCount(hasCounts ? errors : null)
+                .errorRate(hasCounts && success + errors > 0 ? errors * 100.0 / (success + errors) : null)
+                .build();
+    }
+
+    private static Double minOf(Double current, Double value) {
+        if (value == null) {
+            return current;
+        }
+        return current == null ? value : Math.min(current, value);
+    }
+
+    private static Double maxOf(Double current, Double value) {
+        if (value == null) {
+            return current;
+        }
+        return current == null ? value : Math.max(current, value);
+    }
+
+    static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    static byte[] gunzip(byte[] data) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package kr.co.iosys.exam.performance.dashboard.service;
+
+import kr.co.iosys.exam.performance.config.PerformanceTestProperties;
+import kr.co.iosys.exam.performance.dashboard.dto.ResultBundle;
+import kr.co.iosys.exam.performance.dashboard.dto.TestComparisonResult;
+import kr.co.iosys.exam.performance.dashboard.dto.TestComparisonResult.EndpointDelta;
+import kr.co.iosys.exam.performance.dashboard.dto.TestComparisonResult.MetricDelta;
+import kr.co.iosys.exam.performance.dashboard.dto.TestComparisonResult.Significance;
+import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
+import kr.co.iosys.exam.performance.dashboard.dto.TestResult;
+import kr.co.iosys.exam.performance.dashboard.entity.TestComparison;
+import kr.co.iosys.exam.performance.dashboard.repository.TestComparisonRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 테스트 실행 비교 서비스
+ * 두 실행의 결과 번들(요약 백분위, 초당 시계열, 엔드포인트 통계)만으로 비교하여 test_comparisons에 저장
+ *
+ * AIDEV-NOTE: simulation.log/DB 히스토리를 다시 읽지 않고 결과 번들 두 건으로 계산 (ms 단위)
+ * - 저장된 비교 결과는 양쪽 번들 ETag가 그대로면 재사용, 번들이 다시 만들어졌으면 재계산 후 같은 행 갱신
+ * - 유의성 검정: 초당 평균 응답시간/TPS 시계열에 대한 Mann-Whitney U (정규 근사, 동순위 보정, 양측)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TestComparisonService {
+
+    private static final String MANN_WHITNEY = "MANN_WHITNEY_U";
+
+    private final ResultBundleService resultBundleService;
+    private final TestComparisonRepository comparisonRepository;
+    private final PerformanceTestProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 두 테스트 실행 비교 (저장된 결과가 유효하면 재사용)
+     *
+     * @param refresh true면 저장된 결과를 무시하고 재계산
+     * @throws IllegalArgumentException 같은 테스트이거나 완료된 결과가 없는 경우
+     */
+    public TestComparisonResult compare(String baseTestId, String compareTestId, boolean refresh) {
+        if (baseTestId.equals(compareTestId)) {
+            throw new IllegalArgumentException("같은 테스트끼리는 비교할 수 없습니다: " + baseTestId);
+        }
+        String baseEtag = resultBundleService.findEtag(baseTestId)
+                .orElseThrow(() -> new IllegalArgumentException("완료된 테스트 결과가 없습니다: " + baseTestId));
+        String compareEtag = resultBundleService.findEtag(compareTestId)
+                .orElseThrow(() -> new IllegalArgumentException("완료된 테스트 결과가 없습니다: " + compareTestId));
+
+        Optional<TestComparison> stored =
+                comparisonRepository.findFirstByBaseTestIdAndCompareTestIdOrderByCreatedAtDesc(baseTestId, compareTestId);
+        if (stored.isPresent() && !refresh) {
+            TestComparisonResult cached = readResult(stored.get());
+            if (cached != null && baseEtag.equals(cached.getBaseEtag()) && compareEtag.equals(cached.getCompareEtag())) {
+                cached.setComparisonId(stored.get().getId());
+                return cached;
+            }
+        }
+
+        ResultBundle base = resultBundleService.getBundle(baseTestId)
+                .orElseThrow(() -> new IllegalArgumentException("완료된 테스트 결과가 없습니다: " + baseTestId));
+        ResultBundle compare = resultBundleService.getBundle(compareTestId)
+                .orElseThrow(() -> new IllegalArgumentException("완료된 테스트 결과가 없습니다: " + compareTestId));
+
+        long started = System.nanoTime();
+        TestComparisonResult result = compute(base, compare, properties.getComparison());
+        result.setBaseEtag(baseEtag);
+        result.setCompareEtag(compareEtag);
+
+        TestComparison entity = stored.orElseGet(() -> TestComparison.builder()
+                .baseTestId(baseTestId)
+                .compareTestId(compareTestId)
+                .build());
+        entity.setComparisonName(baseTestId + " vs " + compareTestId);
+        entity.setComparisonResult(writeResult(result));
+        entity.setCreatedAt(result.getGeneratedAt());
+        entity = comparisonRepository.save(entity);
+        result.setComparisonId(entity.getId());
+
+        log.info("테스트 비교 계산: {} vs {} ({}ms, 회귀 엔드포인트 {}개)", baseTestId, compareTestId,
+                (System.nanoTime() - started) / 1_000_000, result.getRegressedEndpoints());
+        return result;
+    }
+
+    /**
+     * 테스트가 포함된 저장된 비교 결과 목록
+     */
+    public List<TestComparisonResult> getComparisons(String testId) {
+        List<TestComparisonResult> results = new ArrayList<>();
+        for (TestComparison comparison : comparisonRepository.findByBaseTestIdOrCompareTestIdOrderByCreatedAtDesc(testId, testId)) {
+            TestComparisonResult result = readResult(comparison);
+            if (result != null) {
+                result.setComparisonId(comparison.getId());
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 두 결과 번들 비교 계산
+     */
+    static TestComparisonResult compute(ResultBundle base, ResultBundle compare,
+                                        PerformanceTestProperties.Comparison config) {
+        TestResult b = base.getSummary();
+        TestResult c = compare.getSummary();
+
+        List<MetricDelta> latency = List.of(
+                delta("avgResponseTime", b.getAvgResponseTime(), c.getAvgResponseTime()),
+                delta("p50ResponseTime", b.getP50ResponseTime(), c.getP50ResponseTime()),
+                delta("p75ResponseTime", b.getP75ResponseTime(), c.getP75ResponseTime()),
+                delta("p95ResponseTime", b.getP95ResponseTime(), c.getP95ResponseTime()),
+                delta("p99ResponseTime", b.getP99ResponseTime(), c.getP99ResponseTime()),
+                delta("maxResponseTime", b.getMaxResponseTime(), c.getMaxResponseTime()));
+
+        List<MetricDelta> throughput = List.of(
+                delta("avgTps", b.getAvgTps(), c.getAvgTps()),
+                delta("maxTps", b.getMaxTps(), c.getMaxTps()),
+                delta("peakTps", peak(base.getHistory(), TestMetrics::getTps), peak(compare.getHistory(), TestMetrics::getTps)),
+                delta("totalRequests", toDouble(b.getTotalRequests()), toDouble(c.getTotalRequests())),
+                delta("errorRate", errorRate(b.getFailedRequests(), b.getTotalRequests()),
+                        errorRate(c.getFailedRequests(), c.getTotalRequests())));
+
+        List<EndpointDelta> endpoints = compareEndpoints(base.getEndpoints(), compare.getEndpoints(), config);
+        int regressed = (int) endpoints.stream().filter(EndpointDelta::isRegression).count();
+
+        return TestComparisonResult.builder()
+                .baseTestId(base.getTestId())
+                .compareTestId(compare.getTestId())
+                .generatedAt(LocalDateTime.now())
+                .latency(latency)
+                .throughput(throughput)
+                .endpoints(endpoints)
+                .regressedEndpoints(regressed)
+                .responseTimeSignificance(mannWhitney("avgResponseTime",
+                        series(base.getHistory(), TestMetrics::getAvgResponseTime),
+                        series(compare.getHistory(), TestMetrics::getAvgResponseTime),
+                        config.getSignificanceLevel()))
+                .tpsSignificance(mannWhitney("tps",
+                        series(base.getHistory(), TestMetrics::getTps),
+                        series(compare.getHistory(), TestMetrics::getTps),
+                        config.getSignificanceLevel()))
+                .build();
+    }
+
+    /**
+     * 엔드포인트별 비교 (그룹+이름이 같은 요청끼리)
+     * p95가 비율/절대값 기준을 모두 넘게 늘었거나 에러율이 기준 이상 늘면 회귀
+     */
+    static List<EndpointDelta> compareEndpoints(List<ResultBundle.EndpointStats> base,
+                                                List<ResultBundle.EndpointStats> compare,
+                                                PerformanceTestProperties.Comparison config) {
+        Map<String, ResultBundle.EndpointStats> baseByKey = new LinkedHashMap<>();
+        if (base != null) {
+            base.forEach(endpoint -> baseByKey.put(endpointKey(endpoint), endpoint));
+        }
+
+        List<EndpointDelta> deltas = new ArrayList<>();
+        if (compare == null) {
+            return deltas;
+        }
+        for (ResultBundle.EndpointStats current : compare) {
+            ResultBundle.EndpointStats previous = baseByKey.get(endpointKey(current));
+            if (previous == null) {
+                continue;
+            }
+            double baseErrorRate = errorRate(previous.getFailedRequests(), previous.getTotalRequests());
+            double compareErrorRate = errorRate(current.getFailedRequests(), current.getTotalRequests());
+            Double p95DeltaPercent = percentChange(previous.getP95ResponseTime(), current.getP95ResponseTime());
+
+            boolean latencyRegression = p95DeltaPercent != null
+                    && p95DeltaPercent >= config.getEndpointRegressionPercent()
+                    && current.getP95ResponseTime() - previous.getP95ResponseTime() >= config.getEndpointRegressionMinMs();
+            boolean errorRegression = compareErrorRate - baseErrorRate >= config.getErrorRateIncrease();
+
+            deltas.add(EndpointDelta.builder()
+                    .name(current.getName())
+                    .group(current.getGroup())
+                    .baseP95(previous.getP95ResponseTime())
+                    .compareP95(current.getP95ResponseTime())
+                    .p95DeltaPercent(p95DeltaPercent)
+                    .baseP99(previous.getP99ResponseTime())
+                    .compareP99(current.getP99ResponseTime())
+                    .p99DeltaPercent(percentChange(previous.getP99ResponseTime(), current.getP99ResponseTime()))
+                    .baseAvg(previous.getAvgResponseTime())
+                    .compareAvg(current.getAvgResponseTime())
+                    .baseErrorRate(baseErrorRate)
+                    .compareErrorRate(compareErrorRate)
+                    .regression(latencyRegression || errorRegression)
+                    .build());
+        }
+        return deltas;
+    }
+
+    /**
+     * Mann-Whitney U 검정 (정규 근사, 동순위 보정, 연속성 보정, 양측)
+     * u는 비교 실행 값이 기준 실행 값보다 큰 쌍의 수 (동률은 0.5)
+     */
+    static Significance mannWhitney(String metric, double[] base, double[] compare, double alpha) {
+        int n1 = base.length;
+        int n2 = compare.length;
+        Significance.SignificanceBuilder result = Significance.builder()
+                .metric(metric)
+                .test(MANN_WHITNEY)
+                .baseSamples(n1)
+                .compareSamples(n2)
+                .significant(false)
+                .direction("NONE");
+        if (n1 < 2 || n2 < 2) {
+            return result.build();
+        }
+
+        int n = n1 + n2;
+        double[][] pooled = new double[n][];
+        for (int i = 0; i < n1; i++) {
+            pooled[i] = new double[]{base[i], 0};
+        }
+        for (int i = 0; i < n2; i++) {
+            pooled[n1 + i] = new double[]{compare[i], 1};
+        }
+        Arrays.sort(pooled, (x, y) -> Double.compare(x[0], y[0]));
+
+        // 동순위는 평균 순위 부여
+        double compareRankSum = 0;
+        double tieSum = 0;
+        for (int i = 0; i < n; ) {
+            int j = i;
+            while (j + 1 < n && pooled[j + 1][0] == pooled[i][0]) {
+                j++;
+            }
+            double rank = (i + j) / 2.0 + 1;
+            for (int k = i; k <= j; k++) {
+                if (pooled[k][1] == 1) {
+                    compareRankSum += rank;
+                }
+            }
+            int ties = j - i + 1;
+            tieSum += (double) ties * ties * ties - ties;
+            i = j + 1;
+        }
+
+        double u = compareRankSum - n2 * (n2 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2.0;
+        double variance = n1 * (double) n2 / 12.0 * ((n + 1) - tieSum / ((double) n * (n - 1)));
+        if (variance <= 0) {
+            return result.u(u).z(0.0).pValue(1.0).build();
+        }
+
+        double diff = u - mean;
+        double z = Math.signum(diff) * Math.max(0, Math.abs(diff) - 0.5) / Math.sqrt(variance);
+        double pValue = Math.min(1.0, 2 * (1 - normalCdf(Math.abs(z))));
+        boolean significant = pValue < alpha;
+
+        return result
+                .u(u)
+                .z(round(z, 4))
+                .pValue(round(pValue, 6))
+                .significant(significant)
+                .direction(!significant ? "NONE" : z > 0 ? "HIGHER" : "LOWER")
+                .build();
+    }
+
+    /**
+     * 표준정규분포 누적분포 (Abramowitz-Stegun 7.1.26 erf 근사, 오차 1.5e-7)
+     */
+    static double normalCdf(double x) {
+        double t = 1 / (1 + 0.3275911 * Math.abs(x) / Math.sqrt(2));
+        double erf = 1 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741
+                + t * (-1.453152027 + t * 1.061405429)))) * Math.exp(-x * x / 2);
+        return x >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+
+    private static double[] series(List<TestMetrics> history, Function<TestMetrics, Double> field) {
+        if (history == null) {
+            return new double[0];
+        }
+        return history.stream().map(field).filter(v -> v != null).mapToDouble(Double::doubleValue).toArray();
+    }
+
+    private static Double peak(List<TestMetrics> history, Function<TestMetrics, Double> field) {
+        double[] values = series(history, field);
+        return values.length > 0 ? Arrays.stream(values).max().getAsDouble() : null;
+    }
+
+    private static MetricDelta delta(String metric, Double base, Double compare) {
+        return MetricDelta.builder()
+                .metric(metric)
+                .base(base)
+                .compare(compare)
+                .delta(base != null && compare != null ? round(compare - base, 2) : null)
+                .deltaPercent(base != null && compare != null ? percentChange(base, compare) : null)
+                .build();
+    }
+
+    private static Double percentChange(double base, double compare) {
+        return base == 0 ? null : round((compare - base) / base * 100, 2);
+    }
+
+    private static double errorRate(Long failed, Long total) {
+        return errorRate(failed != null ? failed : 0, total != null ? total : 0);
+    }
+
+    private static double errorRate(long failed, long total) {
+        return total > 0 ? round(failed * 100.0 / total, 4) : 0;
+    }
+
+    private static Double toDouble(Long value) {
+        return value != null ? value.doubleValue() : null;
+    }
+
+    private static String endpointKey(ResultBundle.EndpointStats endpoint) {
+        return (endpoint.getGroup() != null ? endpoint.getGroup() : "") + "\u0000" + endpoint.getName();
+    }
+
+    private static double round(double value, int scale) {
+        double factor = Math.pow(10, scale);
+        return Math.round(value * factor) / factor;
+    }
+
+    private TestComparisonResult readResult(TestComparison comparison) {
+        if (comparison.getComparisonResult() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(comparison.getComparisonResult(), TestComparisonResult.class);
+        } catch (JsonProcessingException e) {
+            log.warn("저장된 비교 결과 파싱 실패: id={} - {}", comparison.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private String writeResult(TestComparisonResult result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("비교 결과 직렬화 실패", e);
+        }
+    }
+}
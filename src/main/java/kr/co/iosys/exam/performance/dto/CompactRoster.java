@@ -0,0 +1,282 @@
+package kr.co.iosys.exam.performance.dto;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * AIDEV-NOTE: 수험자 명단 압축 저장 (API 명단 캐시와 Gatling 시뮬레이션 공용, 외부 의존성 없음)
+ * 행마다 Map을 만들지 않고 userId/accessKey는 UTF-8 바이트 배열 하나에 이어 붙여 오프셋(int[])으로, userName은 문자열 풀 번호로 저장
+ * 행은 그룹 소속 단위 (같은 사용자가 여러 그룹에 속하면 그룹마다 한 행, groupId는 long[])
+ * 레코드 Map은 꺼낼 때만 생성
+ *
+ * 스냅샷 파일: 서버가 버전(내용 CRC32)마다 한 번 쓰고 시뮬레이션이 DB 조회 없이 바로 읽음
+ * 형식: MAGIC, FORMAT_VERSION, planId, runType, role, 행 수, 바이트, 필드 끝 오프셋, 이름 풀, 이름 번호, 그룹 ID (DataOutput)
+ */
+public final class CompactRoster {
+
+    private static final int MAGIC = 0x524F5354; // "ROST"
+    private static final int FORMAT_VERSION = 2;
+    // groupId 없음
+    private static final long NO_GROUP = -1L;
+
+    private int size;
+    // userId, accessKey 순서로 이어 붙인 UTF-8 바이트와 필드별 끝 오프셋
+    private byte[] bytes;
+    private int byteLength;
+    private int[] fieldEnds;
+    // userName 문자열 풀 번호 (-1이면 null)
+    private int[] nameIds;
+    private String[] names;
+    private int nameCount;
+    private long[] groupIds;
+    // 추가 중에만 사용 (compact에서 해제)
+    private Map<String, Integer> nameIndex;
+
+    public CompactRoster() {
+        this.bytes = new byte[16 * 1024];
+        this.fieldEnds = new int[2 * 256];
+        this.nameIds = new int[256];
+        this.groupIds = new long[256];
+        this.names = new String[64];
+        this.nameIndex = new HashMap<>();
+    }
+
+    private CompactRoster(int size, byte[] bytes, int[] fieldEnds, int[] nameIds, String[] names, long[] groupIds) {
+        this.size = size;
+        this.bytes = bytes;
+        this.byteLength = bytes.length;
+        this.fieldEnds = fieldEnds;
+        this.nameIds = nameIds;
+        this.names = names;
+        this.nameCount = names.length;
+        this.groupIds = groupIds;
+    }
+
+    /**
+     * 행 추가 (compact 전까지만 가능)
+     */
+    public void add(String userId, String userName, String accessKey) {
+        add(userId, userName, accessKey, null);
+    }
+
+    public void add(String userId, String userName, String accessKey, Long groupId) {
+        if (nameIndex == null) {
+            throw new IllegalStateException("compact 이후에는 행을 추가할 수 없습니다");
+        }
+        if (size == nameIds.length) {
+            nameIds = Arrays.copyOf(nameIds, size * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, size * 4);
+            groupIds = Arrays.copyOf(groupIds, size * 2);
+        }
+        appendField(2 * size, userId);
+        appendField(2 * size + 1, accessKey);
+        nameIds[size] = nameId(userName);
+        groupIds[size] = groupId != null ? groupId : NO_GROUP;
+        size++;
+    }
+
+    /**
+     * 추가가 끝난 뒤 배열을 실제 크기로 줄이고 이름 색인 해제
+     */
+    public CompactRoster compact() {
+        bytes = Arrays.copyOf(bytes, byteLength);
+        fieldEnds = Arrays.copyOf(fieldEnds, 2 * size);
+        nameIds = Arrays.copyOf(nameIds, size);
+        groupIds = Arrays.copyOf(groupIds, size);
+        names = Arrays.copyOf(names, nameCount);
+        nameIndex = null;
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String userId(int row) {
+        return field(2 * row);
+    }
+
+    public String userName(int row) {
+        int id = nameIds[row];
+        return id >= 0 ? names[id] : null;
+    }
+
+    public String accessKey(int row) {
+        return field(2 * row + 1);
+    }
+
+    /**
+     * 소속 그룹 ID (없으면 null)
+     */
+    public Long groupId(int row) {
+        return groupIds[row] != NO_GROUP ? groupIds[row] : null;
+    }
+
+    /**
+     * 피더/API 레코드 (userId, userName, accessKey, 그룹이 있으면 groupId)
+     */
+    public Map<String, Object> record(int row) {
+        Map<String, Object> record = new HashMap<>(8);
+        record.put("userId", userId(row));
+        record.put("userName", userName(row));
+        record.put("accessKey", accessKey(row));
+        Long groupId = groupId(row);
+        if (groupId != null) {
+            record.put("groupId", groupId);
+        }
+        return record;
+    }
+
+    /**
+     * 부하 발생기 분할: 행 번호를 count로 나눈 나머지가 index인 행만 (maxRows > 0이면 그 수까지)
+     */
+    public CompactRoster stripe(int index, int count, int maxRows) {
+        if (count <= 1 && (maxRows <= 0 || maxRows >= size)) {
+            return this;
+        }
+        CompactRoster part = new CompactRoster();
+        for (int row = index; row < size && (maxRows <= 0 || part.size < maxRows); row += Math.max(1, count)) {
+            part.add(userId(row), userName(row), accessKey(row), groupId(row));
+        }
+        return part.compact();
+    }
+
+    /**
+     * 내용 버전 (행 순서 포함 CRC32, 16진수)
+     */
+    public String contentVersion() {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, byteLength);
+        for (int row = 0; row < size; row++) {
+            crc.update(intBytes(fieldEnds[2 * row]));
+            crc.update(intBytes(fieldEnds[2 * row + 1]));
+            String name = userName(row);
+            crc.update(name != null ? name.getBytes(StandardCharsets.UTF_8) : new byte[]{0});
+            crc.update(intBytes((int) (groupIds[row] >>> 32)));
+            crc.update(intBytes((int) groupIds[row]));
+        }
+        return String.format("%08x", crc.getValue());
+    }
+
+    /**
+     * 스냅샷 파일 쓰기 (임시 파일에 쓴 뒤 이동하여 읽는 쪽이 쓰는 중인 파일을 보지 않음)
+     */
+    public void writeSnapshot(Path file, long planId, String runType, String role) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(planId);
+                out.writeUTF(runType);
+                out.writeUTF(role);
+                out.writeInt(size);
+                out.writeInt(byteLength);
+                out.write(bytes, 0, byteLength);
+                for (int i = 0; i < 2 * size; i++) {
+                    out.writeInt(fieldEnds[i]);
+                }
+                out.writeInt(nameCount);
+                for (int i = 0; i < nameCount; i++) {
+                    out.writeUTF(names[i]);
+                }
+                for (int i = 0; i < size; i++) {
+                    out.writeInt(nameIds[i]);
+                }
+                for (int i = 0; i < size; i++) {
+                    out.writeLong(groupIds[i]);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 스냅샷 파일 읽기
+     *
+     * @throws IOException 형식이 다르거나 계획/실행 유형/역할이 일치하지 않는 경우
+     */
+    public static CompactRoster readSnapshot(Path file, long planId, String runType, String role) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("명단 스냅샷 형식이 아닙니다: " + file);
+            }
+            long snapshotPlanId = in.readLong();
+            String snapshotRunType = in.readUTF();
+            String snapshotRole = in.readUTF();
+            if (snapshotPlanId != planId || !snapshotRunType.equals(runType) || !snapshotRole.equals(role)) {
+                throw new IOException(String.format("명단 스냅샷 대상 불일치: %s (%d/%s/%s)",
+                        file, snapshotPlanId, snapshotRunType, snapshotRole));
+            }
+            int size = in.readInt();
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            int[] fieldEnds = new int[2 * size];
+            for (int i = 0; i < fieldEnds.length; i++) {
+                fieldEnds[i] = in.readInt();
+            }
+            String[] names = new String[in.readInt()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = in.readUTF();
+            }
+            int[] nameIds = new int[size];
+            for (int i = 0; i < size; i++) {
+                nameIds[i] = in.readInt();
+            }
+            long[] groupIds = new long[size];
+            for (int i = 0; i < size; i++) {
+                groupIds[i] = in.readLong();
+            }
+            return new CompactRoster(size, bytes, fieldEnds, nameIds, names, groupIds);
+        }
+    }
+
+    private void appendField(int field, String value) {
+        byte[] encoded = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+        if (byteLength + encoded.length > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, byteLength + encoded.length));
+        }
+        System.arraycopy(encoded, 0, bytes, byteLength, encoded.length);
+        byteLength += encoded.length;
+        fieldEnds[field] = byteLength;
+    }
+
+    private String field(int field) {
+        int start = field > 0 ? fieldEnds[field - 1] : 0;
+        return new String(bytes, start, fieldEnds[field] - start, StandardCharsets.UTF_8);
+    }
+
+    private int nameId(String name) {
+        if (name == null) {
+            return -1;
+        }
+        Integer id = nameIndex.get(name);
+        if (id == null) {
+            id = nameCount++;
+            if (id == names.length) {
+                names = Arrays.copyOf(names, id * 2);
+            }
+            names[id] = name;
+            nameIndex.put(name, id);
+        }
+        return id;
+    }
+
+    private static byte[] intBytes(int value) {
+        return new byte[]{(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+    }
+}
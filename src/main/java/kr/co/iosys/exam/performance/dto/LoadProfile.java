@@ -0,0 +1,50 @@
+package kr.co.iosys.exam.performance.dto;
+
+/**
+ * AIDEV-NOTE: 부하 모델 (ExamCenterSimulation 주입 단계 구성)
+ * maxUsers는 목표 동시 사용자 수, rampUpDurationSeconds 동안 증가 후 testDurationSeconds 동안 유지
+ * 개방형 모델은 도착률 = maxUsers / 세션 시간(test.sessionSeconds)으로 환산 (Little's law)
+ * 모델별 세부 값은 additionalConfig로 전달 (steps, spikeMultiplier, spikeSeconds, soakLoadRatio, sessionSeconds)
+ */
+public enum LoadProfile {
+
+    /**
+     * 개방형: 도착률 증가 후 일정 유지
+     */
+    RAMP_HOLD,
+
+    /**
+     * 개방형: 도착률을 steps 단계로 나누어 계단식 증가
+     */
+    STEP,
+
+    /**
+     * 개방형: 기본 도착률 유지 중 spikeSeconds 동안 spikeMultiplier배로 급증
+     */
+    SPIKE,
+
+    /**
+     * 개방형: soakLoadRatio 비율의 낮은 도착률로 장시간 유지
+     */
+    SOAK,
+
+    /**
+     * 폐쇄형: 동시 사용자 수를 maxUsers로 일정 유지 (종료된 사용자는 즉시 교체)
+     */
+    CLOSED,
+
+    /**
+     * 용량 탐색: 동시 사용자 수를 바꿔 가며 CLOSED 구간을 차례로 실행하고 SLO를 만족하는 최대 사용자 수를 찾음 (maxUsers는 탐색 상한)
+     * 시뮬레이션에는 구간마다 CLOSED로 전달 (performance-test.capacity-search)
+     */
+    CAPACITY_SEARCH;
+
+    public static boolean isValid(String name) {
+        for (LoadProfile profile : values()) {
+            if (profile.name().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
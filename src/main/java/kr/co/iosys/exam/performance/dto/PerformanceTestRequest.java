@@ -33,5 +33,10 @@ public class PerformanceTestRequest {
 
     private String scenario = "NORMAL_USER";
 
+    /**
+     * 부하 모델 (LoadProfile 이름)
+     */
+    private String loadProfile = LoadProfile.RAMP_HOLD.name();
+
     private Map<String, Object> additionalConfig;
 }
\ No newline at end of file
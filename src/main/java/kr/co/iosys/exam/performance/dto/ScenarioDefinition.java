@@ -0,0 +1,329 @@
+package kr.co.iosys.exam.performance.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * AIDEV-NOTE: 데이터 정의 시나리오 (test_scenarios.config_json, 서버 검증과 Gatling 시뮬레이션 공용)
+ * 로그인/웹소켓 연결 뒤에 실행할 단계 목록 - 시뮬레이션은 시작 시 한 번 Gatling 체인으로 컴파일하여 모든 가상 사용자가 공유
+ * <pre>
+ * {"steps": [
+ *   {"type": "status", "stageKey": "SYSTEM_CHECK", "stat": "1"},
+ *   {"type": "repeat", "times": 20, "counter": "q", "steps": [
+ *     {"type": "http", "name": "문항 조회", "method": "GET", "path": "/api/exam/questions/#{q}",
+ *      "check": {"jsonPath": "$.body.id", "saveAs": "questionId"}},
+ *     {"type": "send", "name": "답안 저장", "payload": "{\"name\":\"ANSWER\",\"from\":\"#{userId}\",\"q\":\"#{questionId}\"}",
+ *      "check": {"substring": "ANSWER_ACK"}, "timeoutSeconds": 5},
+ *     {"type": "pause", "min": 10, "max": 30}]},
+ *   {"type": "during", "seconds": 300, "steps": [{"type": "status", "stageKey": "TEST_0", "stat": "1"}, {"type": "pause", "seconds": 30}]},
+ *   {"type": "status", "stageKey": "TEST_0", "stat": "2"}]}
+ * </pre>
+ * - status: STATUS_MSG 템플릿 전송 (응답 판정은 test.wsAckMode, complete 생략 시 stat이 "2"이면 true)
+ * - send: 웹소켓 텍스트 전송, payload는 Gatling EL 템플릿 (#{userId}, #{authToken}, #{examUserId}, 저장한 값, 반복 번호)
+ *   check가 있으면 timeoutSeconds(기본 5초) 안에 일치하는 메시지를 기다림
+ * - http: 인증 헤더를 붙인 HTTP 요청 (path/body도 EL 템플릿), status 기본 200, check로 응답 값 확인/저장
+ * - pause: seconds 고정 또는 min~max 균등 분포
+ * - repeat: times회 반복 (counter 이름으로 0부터 반복 번호 저장), during: seconds 동안 반복
+ * check: jsonPath(+is 값 일치, +saveAs 저장) 또는 substring 포함 여부
+ * 버전은 정규화한 JSON의 CRC32 (공백/키 순서가 아닌 내용이 바뀌면 새 버전) - 서버 스냅샷 파일과 시뮬레이션 컴파일 캐시 키
+ */
+public final class ScenarioDefinition {
+
+    public static final List<String> HTTP_METHODS = List.of("GET", "POST", "PUT", "PATCH", "DELETE");
+
+    // 중첩 반복 최대 깊이, 전체 단계 수 상한 (정의 실수로 체인이 지나치게 커지지 않도록)
+    private static final int MAX_DEPTH = 8;
+    private static final int MAX_STEPS = 500;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public sealed interface Step permits Status, Send, Http, Pause, Repeat, During {
+    }
+
+    public record Status(String stageKey, String stat, boolean complete) implements Step {
+    }
+
+    public record Send(String name, String payload, Check check, double timeoutSeconds) implements Step {
+    }
+
+    public record Http(String name, String method, String path, String body, int status, Check check) implements Step {
+    }
+
+    public record Pause(double minSeconds, double maxSeconds) implements Step {
+    }
+
+    public record Repeat(int times, String counter, List<Step> steps) implements Step {
+    }
+
+    public record During(double seconds, List<Step> steps) implements Step {
+    }
+
+    /**
+     * 응답 확인 (jsonPath 또는 substring 중 하나, is/saveAs는 jsonPath에만)
+     */
+    public record Check(String jsonPath, String is, String substring, String saveAs) {
+    }
+
+    private final String name;
+    private final String version;
+    private final List<Step> steps;
+    private int stepCount;
+
+    private ScenarioDefinition(String name, String version) {
+        this.name = name;
+        this.version = version;
+        this.steps = new ArrayList<>();
+    }
+
+    /**
+     * 정의 해석 및 검증
+     *
+     * @param name 시나리오 이름 (test_scenarios.scenario_name)
+     * @throws IllegalArgumentException JSON 형식이나 단계 정의가 잘못된 경우
+     */
+    public static ScenarioDefinition parse(String name, String json) {
+        if (json == null || json.isBlank()) {
+            throw new IllegalArgumentException("시나리오 정의가 비어 있습니다: " + name);
+        }
+        JsonNode root;
+        try {
+            root = MAPPER.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("시나리오 정의 JSON 형식 오류 (" + name + "): " + e.getOriginalMessage());
+        }
+        if (root == null || !root.isObject()) {
+            throw new IllegalArgumentException("시나리오 정의는 JSON 객체여야 합니다: " + name);
+        }
+        ScenarioDefinition definition = new ScenarioDefinition(name, version(root));
+        definition.steps.addAll(definition.parseSteps(root.get("steps"), "steps", 0));
+        return definition;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public List<Step> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    /**
+     * 단계를 한 번 실행하는 데 걸리는 명목 시간 (pause 평균, 반복 횟수 반영, 응답 시간 제외)
+     * 시뮬레이션이 상주형 모집단의 유지 시간을 잡을 때 사용
+     */
+    public long nominalSeconds() {
+        return Math.round(nominalSeconds(steps));
+    }
+
+    private static double nominalSeconds(List<Step> steps) {
+        double seconds = 0;
+        for (Step step : steps) {
+            if (step instanceof Pause pause) {
+                seconds += (pause.minSeconds() + pause.maxSeconds()) / 2;
+            } else if (step instanceof Repeat repeat) {
+                seconds += repeat.times() * nominalSeconds(repeat.steps());
+            } else if (step instanceof During during) {
+                seconds += during.seconds();
+            }
+        }
+        return seconds;
+    }
+
+    private List<Step> parseSteps(JsonNode node, String path, int depth) {
+        if (node == null || !node.isArray() || node.isEmpty()) {
+            throw invalid(path, "단계 배열이 필요합니다");
+        }
+        if (depth > MAX_DEPTH) {
+            throw invalid(path, "반복 중첩은 " + MAX_DEPTH + "단계까지 가능합니다");
+        }
+        List<Step> parsed = new ArrayList<>(node.size());
+        for (int i = 0; i < node.size(); i++) {
+            if (++stepCount > MAX_STEPS) {
+                throw invalid(path, "단계는 모두 " + MAX_STEPS + "개까지 가능합니다");
+            }
+            parsed.add(parseStep(node.get(i), path + "[" + i + "]", depth));
+        }
+        return List.copyOf(parsed);
+    }
+
+    private Step parseStep(JsonNode node, String path, int depth) {
+        if (node == null || !node.isObject()) {
+            throw invalid(path, "단계는 JSON 객체여야 합니다");
+        }
+        String type = text(node, "type", path, true).toLowerCase(Locale.ROOT);
+        switch (type) {
+            case "status" -> {
+                allowOnly(node, path, Set.of("type", "stageKey", "stat", "complete"));
+                String stat = text(node, "stat", path, true);
+                boolean complete = node.has("complete") ? node.get("complete").asBoolean() : "2".equals(stat);
+                return new Status(text(node, "stageKey", path, true), stat, complete);
+            }
+            case "send" -> {
+                allowOnly(node, path, Set.of("type", "name", "payload", "check", "timeoutSeconds"));
+                Check check = check(node.get("check"), path + ".check", false);
+                double timeout = number(node, "timeoutSeconds", path, 5.0);
+                if (timeout <= 0) {
+                    throw invalid(path, "timeoutSeconds는 0보다 커야 합니다");
+                }
+                return new Send(text(node, "name", path, true), text(node, "payload", path, true), check, timeout);
+            }
+            case "http" -> {
+                allowOnly(node, path, Set.of("type", "name", "method", "path", "body", "status", "check"));
+                String method = text(node, "method", path, false);
+                method = method != null ? method.toUpperCase(Locale.ROOT) : "GET";
+                if (!HTTP_METHODS.contains(method)) {
+                    throw invalid(path, "method는 " + HTTP_METHODS + " 중 하나여야 합니다: " + method);
+                }
+                int status = (int) number(node, "status", path, 200);
+                if (status < 100 || status > 599) {
+                    throw invalid(path, "status가 잘못되었습니다: " + status);
+                }
+                return new Http(text(node, "name", path, true), method, text(node, "path", path, true),
+                        text(node, "body", path, false), status, check(node.get("check"), path + ".check", true));
+            }
+            case "pause" -> {
+                allowOnly(node, path, Set.of("type", "seconds", "min", "max"));
+                double min = node.has("seconds") ? number(node, "seconds", path, 0) : number(node, "min", path, -1);
+                double max = node.has("seconds") ? min : number(node, "max", path, min);
+                if (min < 0 || max < min) {
+                    throw invalid(path, "pause는 seconds 또는 0 이상인 min(~max)이 필요합니다");
+                }
+                return new Pause(min, max);
+            }
+            case "repeat" -> {
+                allowOnly(node, path, Set.of("type", "times", "counter", "steps"));
+                int times = (int) number(node, "times", path, 0);
+                if (times < 1) {
+                    throw invalid(path, "times는 1 이상이어야 합니다");
+                }
+                return new Repeat(times, text(node, "counter", path, false),
+                        parseSteps(node.get("steps"), path + ".steps", depth + 1));
+            }
+            case "during" -> {
+                allowOnly(node, path, Set.of("type", "seconds", "steps"));
+                double seconds = number(node, "seconds", path, 0);
+                if (seconds <= 0) {
+                    throw invalid(path, "seconds는 0보다 커야 합니다");
+                }
+                return new During(seconds, parseSteps(node.get("steps"), path + ".steps", depth + 1));
+            }
+            default -> throw invalid(path, "알 수 없는 단계 유형입니다 (status/send/http/pause/repeat/during): " + type);
+        }
+    }
+
+    private Check check(JsonNode node, String path, boolean allowSave) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        if (!node.isObject()) {
+            throw invalid(path, "check는 JSON 객체여야 합니다");
+        }
+        allowOnly(node, path, Set.of("jsonPath", "is", "substring", "saveAs"));
+        String jsonPath = text(node, "jsonPath", path, false);
+        String substring = text(node, "substring", path, false);
+        if ((jsonPath == null) == (substring == null)) {
+            throw invalid(path, "jsonPath 또는 substring 중 하나만 지정해야 합니다");
+        }
+        String is = text(node, "is", path, false);
+        String saveAs = text(node, "saveAs", path, false);
+        if (jsonPath == null && (is != null || saveAs != null)) {
+            throw invalid(path, "is/saveAs는 jsonPath와 함께만 쓸 수 있습니다");
+        }
+        if (saveAs != null && !allowSave) {
+            throw invalid(path, "saveAs는 http 단계에서만 쓸 수 있습니다");
+        }
+        return new Check(jsonPath, is, substring, saveAs);
+    }
+
+    private static void allowOnly(JsonNode node, String path, Set<String> fields) {
+        for (Iterator<String> names = node.fieldNames(); names.hasNext(); ) {
+            String field = names.next();
+            if (!fields.contains(field)) {
+                throw invalid(path, "알 수 없는 항목입니다: " + field);
+            }
+        }
+    }
+
+    private static String text(JsonNode node, String field, String path, boolean required) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull() || (value.isTextual() && value.asText().isBlank())) {
+            if (required) {
+                throw invalid(path, field + " 값이 필요합니다");
+            }
+            return null;
+        }
+        if (!value.isValueNode()) {
+            throw invalid(path, field + " 값은 문자열이어야 합니다");
+        }
+        return value.asText();
+    }
+
+    private static double number(JsonNode node, String field, String path, double defaultValue) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            return defaultValue;
+        }
+        if (!value.isNumber()) {
+            throw invalid(path, field + " 값은 숫자여야 합니다");
+        }
+        return value.asDouble();
+    }
+
+    private static IllegalArgumentException invalid(String path, String message) {
+        return new IllegalArgumentException("시나리오 정의 오류 (" + path + "): " + message);
+    }
+
+    /**
+     * 내용 버전 (키를 정렬한 정규화 JSON의 CRC32)
+     */
+    private static String version(JsonNode root) {
+        CRC32 crc = new CRC32();
+        crc.update(canonical(root).getBytes(StandardCharsets.UTF_8));
+        return String.format("%08x", crc.getValue());
+    }
+
+    private static String canonical(JsonNode node) {
+        if (node.isObject()) {
+            List<String> fields = new ArrayList<>();
+            node.fieldNames().forEachRemaining(fields::add);
+            Collections.sort(fields);
+            StringBuilder sb = new StringBuilder("{");
+            for (String field : fields) {
+                if (sb.length() > 1) {
+                    sb.append(',');
+                }
+                sb.append(MAPPER.getNodeFactory().textNode(field)).append(':').append(canonical(node.get(field)));
+            }
+            return sb.append('}').toString();
+        }
+        if (node.isArray()) {
+            StringBuilder sb = new StringBuilder("[");
+            for (JsonNode item : node) {
+                if (sb.length() > 1) {
+                    sb.append(',');
+                }
+                sb.append(canonical(item));
+            }
+            return sb.append(']').toString();
+        }
+        return node.toString();
+    }
+
+    @Override
+    public String toString() {
+        return name + "@" + version;
+    }
+}
@@ -0,0 +1,244 @@
+package kr.co.iosys.exam.performance.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * AIDEV-NOTE: 시나리오 구성 (요청의 scenario + additionalConfig.mix, 서버 검증과 Gatling 시뮬레이션 공용, 외부 의존성 없음)
+ * - NORMAL_USER (기본) 및 그 밖의 이름: 수험자만 (기존 동작)
+ * - PROCTOR_FANOUT: 수험자 전체 + 감독관 명단 전체 (전파 지연 측정)
+ * - EXAM_SOAK: 장시간 수험자만 (시험 시간 동안 연결을 유지하며 진행 상태 전송, 연결 끊김/지연 변화 측정)
+ * - TRACE_REPLAY: 기록된 운영 트레이스(traceFile)를 원래 시간 간격대로 재생 (사용자 수는 트레이스의 세션 수)
+ * - EXAM_HERD: 집단 시작 수험자만 (모두 접속한 뒤 같은 순간에 시험 시작, 이후 같은 순간에 제출)
+ * - RECONNECT_STORM: 재연결 폭주 수험자만 (진행 상태를 보내다가 일부 연결을 동시에 끊고 백오프로 재연결)
+ * - DEFINED: 정의 시나리오 수험자만 (test_scenarios의 additionalConfig.definition 행을 해석한 단계, ScenarioDefinition)
+ * - MIX: mix 명세의 가중치로 maxUsers를 모집단에 나눔 (mix 생략 시 DEFAULT_MIX), scenario에 명세를 직접 써도 됨
+ *
+ * mix 명세: "모집단:가중치[:부하 모델]"을 쉼표로 구분 (예: "EXAMINEE:80,LATE_JOINER:10:SPIKE,PROCTOR:5,ADMIN:5")
+ * - 도착형(수험자/지각 수험자/장시간 수험자/정의 시나리오 수험자)은 부하 모델 지정 가능
+ *   (생략 시 수험자는 요청의 부하 모델, 지각 수험자는 유지 구간 후반 도착, 장시간 수험자는 증가 구간 동안 한 번씩 접속,
+ *   정의 시나리오 수험자는 요청의 부하 모델)
+ * - 트레이스 재생은 가중치와 관계없이 트레이스의 세션 시작 시각대로 도착, 집단 시작/재연결 폭주 수험자는 증가 구간 동안 접속
+ *   (셋 다 부하 모델 지정 불가)
+ * - 상주형(감독관/관리자)은 시작 시 접속하여 부하가 끝날 때까지 유지, 가중치 0이면 명단 전체
+ */
+public final class ScenarioMix {
+
+    public static final String NORMAL_USER = "NORMAL_USER";
+    public static final String PROCTOR_FANOUT = "PROCTOR_FANOUT";
+    public static final String EXAM_SOAK = "EXAM_SOAK";
+    public static final String TRACE_REPLAY = "TRACE_REPLAY";
+    public static final String EXAM_HERD = "EXAM_HERD";
+    public static final String RECONNECT_STORM = "RECONNECT_STORM";
+    public static final String DEFINED = "DEFINED";
+    public static final String MIX = "MIX";
+    public static final String DEFAULT_MIX = "EXAMINEE:85,LATE_JOINER:5,PROCTOR:5,ADMIN:5";
+
+    public enum Population {
+        EXAMINEE("수험자", "EXAMINEE", null, "rosterSnapshot", true, true),
+        LATE_JOINER("지각 수험자", "EXAMINEE", null, "rosterSnapshot", true, true),
+        SOAK_EXAMINEE("장시간 수험자", "EXAMINEE", null, "rosterSnapshot", true, true),
+        TRACE_REPLAY("트레이스 재생", "EXAMINEE", null, "rosterSnapshot", true, false),
+        HERD_EXAMINEE("집단 시작 수험자", "EXAMINEE", null, "rosterSnapshot", true, false),
+        STORM_EXAMINEE("재연결 폭주 수험자", "EXAMINEE", null, "rosterSnapshot", true, false),
+        DEFINED("정의 시나리오 수험자", "EXAMINEE", null, "rosterSnapshot", true, true),
+        PROCTOR("감독관", "PROCTOR", "proctorRole", "proctorRosterSnapshot", false, false),
+        ADMIN("관리자", "ADMIN", "adminRole", "adminRosterSnapshot", false, false);
+
+        private final String label;
+        private final String defaultRole;
+        private final String roleKey;
+        private final String snapshotKey;
+        private final boolean arrival;
+        private final boolean profiled;
+
+        Population(String label, String defaultRole, String roleKey, String snapshotKey, boolean arrival,
+                   boolean profiled) {
+            this.label = label;
+            this.defaultRole = defaultRole;
+            this.roleKey = roleKey;
+            this.snapshotKey = snapshotKey;
+            this.arrival = arrival;
+            this.profiled = profiled;
+        }
+
+        /**
+         * 리포트 그룹 이름
+         */
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * 명단 역할 (group_role, 감독관/관리자는 설정 키 proctorRole/adminRole로 변경 가능)
+         */
+        public String role(Map<String, ?> config) {
+            Object value = roleKey != null && config != null ? config.get(roleKey) : null;
+            return value != null && !String.valueOf(value).isBlank() ? String.valueOf(value) : defaultRole;
+        }
+
+        /**
+         * 명단 스냅샷 파일 경로를 넘기는 설정 키
+         */
+        public String getSnapshotKey() {
+            return snapshotKey;
+        }
+
+        /**
+         * 도착형 여부 (false면 상주형)
+         */
+        public boolean isArrival() {
+            return arrival;
+        }
+
+        /**
+         * 부하 모델 지정 가능 여부 (트레이스 재생/집단 시작/재연결 폭주는 도착 시점이 정해져 있어 불가)
+         */
+        public boolean isProfiled() {
+            return profiled;
+        }
+    }
+
+    /**
+     * 모집단 비중 (profile은 LoadProfile 이름, 없으면 null)
+     */
+    public record Share(Population population, double weight, String profile) {
+    }
+
+    private final List<Share> shares;
+
+    private ScenarioMix(List<Share> shares) {
+        this.shares = Collections.unmodifiableList(shares);
+    }
+
+    /**
+     * 요청의 시나리오 해석
+     *
+     * @param mix additionalConfig.mix (MIX일 때만 사용, null이면 DEFAULT_MIX)
+     * @throws IllegalArgumentException 명세 형식이 잘못된 경우
+     */
+    public static ScenarioMix parse(String scenario, String mix) {
+        String name = scenario != null ? scenario.trim() : "";
+        if (name.contains(":")) {
+            return parseSpec(name);
+        }
+        return switch (name.toUpperCase(Locale.ROOT)) {
+            case MIX -> parseSpec(mix != null && !mix.isBlank() && !"null".equals(mix) ? mix : DEFAULT_MIX);
+            case PROCTOR_FANOUT -> new ScenarioMix(List.of(
+                    new Share(Population.EXAMINEE, 1.0, null), new Share(Population.PROCTOR, 0.0, null)));
+            case EXAM_SOAK -> new ScenarioMix(List.of(new Share(Population.SOAK_EXAMINEE, 1.0, null)));
+            case TRACE_REPLAY -> new ScenarioMix(List.of(new Share(Population.TRACE_REPLAY, 1.0, null)));
+            case EXAM_HERD -> new ScenarioMix(List.of(new Share(Population.HERD_EXAMINEE, 1.0, null)));
+            case RECONNECT_STORM -> new ScenarioMix(List.of(new Share(Population.STORM_EXAMINEE, 1.0, null)));
+            case DEFINED -> new ScenarioMix(List.of(new Share(Population.DEFINED, 1.0, null)));
+            default -> new ScenarioMix(List.of(new Share(Population.EXAMINEE, 1.0, null)));
+        };
+    }
+
+    private static ScenarioMix parseSpec(String spec) {
+        Map<Population, Share> shares = new EnumMap<>(Population.class);
+        for (String item : spec.split(",")) {
+            if (item.isBlank()) {
+                continue;
+            }
+            String[] parts = item.trim().split(":");
+            if (parts.length < 2 || parts.length > 3) {
+                throw new IllegalArgumentException("시나리오 구성 형식은 모집단:가중치[:부하 모델]입니다: " + item.trim());
+            }
+            Population population;
+            double weight;
+            try {
+                population = Population.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+                weight = Double.parseDouble(parts[1].trim());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("알 수 없는 모집단 또는 가중치입니다: " + item.trim());
+            }
+            if (weight < 0 || Double.isNaN(weight) || (weight == 0 && population.isArrival())) {
+                throw new IllegalArgumentException("가중치는 0보다 커야 합니다 (0은 상주형의 명단 전체): " + item.trim());
+            }
+            String profile = parts.length == 3 ? parts[2].trim().toUpperCase(Locale.ROOT) : null;
+            if (profile != null && (!population.isProfiled() || !LoadProfile.isValid(profile)
+                    || LoadProfile.CAPACITY_SEARCH.name().equals(profile))) {
+                throw new IllegalArgumentException("부하 모델은 수험자/지각 수험자/장시간 수험자/정의 시나리오 수험자에만 지정할 수 있습니다 (CAPACITY_SEARCH 제외): "
+                        + item.trim());
+            }
+            if (shares.put(population, new Share(population, weight, profile)) != null) {
+                throw new IllegalArgumentException("모집단이 중복되었습니다: " + population);
+            }
+        }
+        if (shares.values().stream().noneMatch(share -> share.population().isArrival())) {
+            throw new IllegalArgumentException("수험자 또는 지각 수험자 모집단이 하나 이상 필요합니다: " + spec);
+        }
+        return new ScenarioMix(new ArrayList<>(shares.values()));
+    }
+
+    public List<Share> getShares() {
+        return shares;
+    }
+
+    public boolean contains(Population population) {
+        return shares.stream().anyMatch(share -> share.population() == population);
+    }
+
+    /**
+     * 모집단이 둘 이상이면 리포트를 모집단별 그룹으로 나눔
+     */
+    public boolean isMixed() {
+        return shares.size() > 1;
+    }
+
+    /**
+     * 가중치로 maxUsers 배분 (최대 나머지 방식, 합계 = maxUsers, 가중치 0인 상주형은 -1 = 명단 전체)
+     */
+    public Map<Population, Integer> allocate(int maxUsers) {
+        Map<Population, Integer> users = new EnumMap<>(Population.class);
+        double total = shares.stream().mapToDouble(Share::weight).sum();
+        double[] remainders = new double[shares.size()];
+        int assigned = 0;
+        for (int i = 0; i < shares.size(); i++) {
+            Share share = shares.get(i);
+            if (share.weight() == 0) {
+                users.put(share.population(), -1);
+                remainders[i] = -1;
+                continue;
+            }
+            double exact = maxUsers * share.weight() / total;
+            users.put(share.population(), (int) Math.floor(exact));
+            remainders[i] = exact - Math.floor(exact);
+            assigned += (int) Math.floor(exact);
+        }
+        for (int left = maxUsers - assigned; left > 0; left--) {
+            int best = -1;
+            for (int i = 0; i < remainders.length; i++) {
+                if (remainders[i] >= 0 && (best < 0 || remainders[i] > remainders[best])) {
+                    best = i;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            users.merge(shares.get(best).population(), 1, Integer::sum);
+            remainders[best] = -0.5;
+        }
+        return users;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Share share : shares) {
+            if (!sb.isEmpty()) {
+                sb.append(',');
+            }
+            sb.append(share.population()).append(':').append(share.weight() == 0 ? "ALL" : share.weight());
+            if (share.profile() != null) {
+                sb.append(':').append(share.profile());
+            }
+        }
+        return sb.toString();
+    }
+}
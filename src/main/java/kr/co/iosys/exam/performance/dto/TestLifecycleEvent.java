@@ -0,0 +1,60 @@
+package kr.co.iosys.exam.performance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * AIDEV-NOTE: 테스트 생명주기 이벤트
+ * 시작/종료(완료, 실패, 중단)/결과 저장/삭제 시 ApplicationEventPublisher로 발행
+ * 대시보드 통계 등 읽기 모델은 이 이벤트로 증분 갱신
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class TestLifecycleEvent {
+
+    private final Type type;
+    private final String testId;
+
+    /**
+     * 테스트 상태 (FINISHED, DELETED에서 사용)
+     */
+    private final PerformanceTestResponse.TestStatus status;
+
+    /**
+     * 결과 요약 평균 응답시간/평균 TPS (RESULT_SAVED, DELETED에서 사용, 없으면 null)
+     */
+    private final Double avgResponseTime;
+    private final Double avgTps;
+
+    public enum Type {
+        STARTED,
+        FINISHED,
+        RESULT_SAVED,
+        DELETED
+    }
+
+    public static TestLifecycleEvent started(String testId) {
+        return new TestLifecycleEvent(Type.STARTED, testId, PerformanceTestResponse.TestStatus.PENDING, null, null);
+    }
+
+    public static TestLifecycleEvent finished(String testId, PerformanceTestResponse.TestStatus status) {
+        return new TestLifecycleEvent(Type.FINISHED, testId, status, null, null);
+    }
+
+    public static TestLifecycleEvent resultSaved(String testId, Double avgResponseTime, Double avgTps) {
+        return new TestLifecycleEvent(Type.RESULT_SAVED, testId, null, avgResponseTime, avgTps);
+    }
+
+    public static TestLifecycleEvent deleted(String testId, PerformanceTestResponse.TestStatus status,
+                                             Double avgResponseTime, Double avgTps) {
+        return new TestLifecycleEvent(Type.DELETED, testId, status, avgResponseTime, avgTps);
+    }
+
+    public static boolean isTerminal(PerformanceTestResponse.TestStatus status) {
+        return status == PerformanceTestResponse.TestStatus.COMPLETED ||
+               status == PerformanceTestResponse.TestStatus.FAILED ||
+               status == PerformanceTestResponse.TestStatus.CANCELLED;
+    }
+}
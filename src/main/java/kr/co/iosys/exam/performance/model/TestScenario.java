@@ -0,0 +1,48 @@
+package kr.co.iosys.exam.performance.model;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테스트 시나리오 정의 엔티티
+ * test_scenarios 테이블과 매핑 (config_json은 ScenarioDefinition 형식의 단계 정의)
+ */
+@Entity
+@Table(name = "test_scenarios")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestScenario {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "scenario_name", nullable = false, unique = true, length = 100)
+    private String scenarioName;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "config_json")
+    private String configJson;
+
+    @Column(name = "is_active")
+    private Boolean isActive;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
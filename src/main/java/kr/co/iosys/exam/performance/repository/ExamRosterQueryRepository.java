@@ -0,0 +1,17 @@
+package kr.co.iosys.exam.performance.repository;
+
+import java.util.function.Consumer;
+
+/**
+ * 시험 계획 명단 조회 (exam_group_members + exam_users)
+ */
+public interface ExamRosterQueryRepository {
+
+    /**
+     * 계획/실행 유형/역할의 명단을 user_id 순으로 그룹 소속마다 한 행씩 전달 (접근 키가 없는 사용자 제외)
+     * [user_id, user_name, access_key, group_id]
+     *
+     * @param fetchSize 커서 한 번에 가져올 행 수
+     */
+    void streamRoster(Long planId, String runType, String role, int fetchSize, Consumer<Object[]> consumer);
+}
@@ -0,0 +1,20 @@
+package kr.co.iosys.exam.performance.repository;
+
+import kr.co.iosys.exam.performance.model.TestScenario;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 테스트 시나리오 정의 Repository
+ * test_scenarios 테이블 접근
+ */
+@Repository
+public interface TestScenarioRepository extends JpaRepository<TestScenario, Long> {
+
+    /**
+     * 이름으로 활성 시나리오 조회
+     */
+    Optional<TestScenario> findByScenarioNameAndIsActiveTrue(String scenarioName);
+}
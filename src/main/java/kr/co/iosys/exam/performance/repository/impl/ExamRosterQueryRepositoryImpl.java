@@ -0,0 +1,54 @@
+package kr.co.iosys.exam.performance.repository.impl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import kr.co.iosys.exam.performance.repository.ExamRosterQueryRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * AIDEV-NOTE: 명단은 수만~수십만 행이라 결과 목록을 만들지 않고 스트림으로 전달
+ * 읽기 전용 트랜잭션(autoCommit=false) + fetch size 힌트로 PostgreSQL 서버 측 커서 사용 (풀의 연결 사용)
+ */
+@Repository
+public class ExamRosterQueryRepositoryImpl implements ExamRosterQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public void streamRoster(Long planId, String runType, String role, int fetchSize, Consumer<Object[]> consumer) {
+        String sql = """
+            SELECT
+                egm.user_id,
+                eu.user_name,
+                eu.access_key,
+                egm.group_id
+            FROM exam_group_members egm
+            JOIN exam_users eu ON egm.user_id = eu.user_id AND egm.plan_id = eu.plan_id
+            WHERE egm.plan_id = :planId
+                AND egm.run_type = :runType
+                AND egm.group_role = :role
+                AND eu.access_key IS NOT NULL
+            ORDER BY egm.user_id, egm.group_id
+            """;
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setParameter("planId", planId);
+        query.setParameter("runType", runType);
+        query.setParameter("role", role);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+
+        try (Stream<Object[]> rows = query.getResultStream()) {
+            rows.forEach(consumer);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package kr.co.iosys.exam.performance.service;
 
-import kr.co.iosys.exam.performance.config.PerformanceTestProperties;
+import kr.co.iosys.exam.performance.dto.CompactRoster;
 import kr.co.iosys.exam.performance.exception.PerformanceTestException;
 import kr.co.iosys.exam.performance.model.ExamPlan;
 import kr.co.iosys.exam.performance.model.ExamGroup;
@@ -10,14 +10,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -32,7 +25,7 @@ public class DatabaseService {
 
     private final ExamPlanRepository examPlanRepository;
     private final ExamGroupRepository examGroupRepository;
-    private final PerformanceTestProperties properties;
+    private final RosterCacheService rosterCacheService;
 
     /**
      * 시험 계획 목록 조회
@@ -65,57 +58,26 @@ public class DatabaseService {
     }
 
     /**
-     * 성능 테스트용 사용자 데이터 조회 (JDBC 동기 방식)
-     * AIDEV-NOTE: Gatling에서 사용하기 위해 동기식으로 구현
+     * 성능 테스트용 사용자 데이터 조회 (TEST 실행 수험자, user_id 순)
+     * AIDEV-NOTE: 명단 캐시(RosterCacheService)에서 꺼냄, 연결은 풀 사용
      */
     public List<Map<String, Object>> getTestUsers(Long planId, int limit) {
-        List<Map<String, Object>> users = new ArrayList<>();
-        
-        String sql = """
-            SELECT 
-                egm.user_id,
-                eu.user_name,
-                eu.access_key
-            FROM exam_group_members egm
-            JOIN exam_users eu ON egm.user_id = eu.user_id AND egm.plan_id = eu.plan_id
-            WHERE egm.plan_id = ? 
-                AND egm.run_type = 'TEST'
-                AND egm.group_role = 'EXAMINEE'
-                AND eu.access_key IS NOT NULL
-            ORDER BY egm.user_id
-            LIMIT ?
-            """;
-
-        PerformanceTestProperties.Database dbConfig = properties.getDatabase();
-        
-        try (Connection conn = DriverManager.getConnection(
-                dbConfig.getJdbcUrl(), 
-                dbConfig.getUsername(), 
-                dbConfig.getPassword());
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setLong(1, planId);
-            stmt.setInt(2, limit);
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    Map<String, Object> user = new HashMap<>();
-                    user.put("userId", rs.getString("user_id"));
-                    user.put("userName", rs.getString("user_name"));
-                    user.put("accessKey", rs.getString("access_key"));
-                    users.add(user);
-                }
+        try {
+            CompactRoster roster = rosterCacheService.getRoster(planId, "TEST", RosterCacheService.ROLE_EXAMINEE);
+            int count = Math.min(Math.max(0, limit), roster.size());
+            List<Map<String, Object>> users = new ArrayList<>(count);
+            for (int row = 0; row < count; row++) {
+                users.add(roster.record(row));
             }
-        } catch (SQLException e) {
+            log.info("조회된 테스트 사용자 수: {}", users.size());
+            return users;
+        } catch (Exception e) {
             log.error("테스트 사용자 데이터 조회 실패", e);
             throw new PerformanceTestException(
                     "테스트 사용자 데이터 조회 실패: " + e.getMessage(),
                     "DATABASE_ERROR",
                     e);
         }
-        
-        log.info("조회된 테스트 사용자 수: {}", users.size());
-        return users;
     }
 
     /**
@@ -3,8 +3,11 @@ package kr.co.iosys.exam.performance.service;
 import io.gatling.app.Gatling;
 import io.gatling.core.config.GatlingPropertiesBuilder;
 import kr.co.iosys.exam.performance.config.PerformanceTestProperties;
+import kr.co.iosys.exam.performance.dto.LoadProfile;
 import kr.co.iosys.exam.performance.dto.PerformanceTestRequest;
 import kr.co.iosys.exam.performance.dto.PerformanceTestResponse;
+import kr.co.iosys.exam.performance.dto.ScenarioMix;
+import kr.co.iosys.exam.performance.dto.TestLifecycleEvent;
 import kr.co.iosys.exam.performance.exception.PerformanceTestException;
 import kr.co.iosys.exam.performance.model.PerformanceTest;
 import kr.co.iosys.exam.performance.model.TestResultsSummary;
@@ -13,13 +16,18 @@ import kr.co.iosys.exam.performance.repository.TestResultsSummaryRepository;
 // import kr.co.iosys.exam.performance.simulation.DynamicExamSimulation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import kr.co.iosys.exam.performance.dashboard.dto.CapacitySearchResult;
+import kr.co.iosys.exam.performance.dashboard.dto.ResultBundle;
 import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
 import kr.co.iosys.exam.performance.dashboard.entity.TestMetricsHistory;
+import kr.co.iosys.exam.performance.dashboard.repository.LiveStateRepository;
 import kr.co.iosys.exam.performance.dashboard.repository.TestMetricsHistoryRepository;
+import kr.co.iosys.exam.performance.dashboard.service.CapacitySearchPlanner;
+import kr.co.iosys.exam.performance.dashboard.service.CapacitySearchService;
 
 import java.io.File;
 import java.io.IOException;
@@ -27,6 +35,7 @@ import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
 import java.time.LocalDateTime;
 import java.text.SimpleDateFormat;
@@ -34,6 +43,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
 
@@ -45,6 +55,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 @Service
 public class GatlingRunnerService {
 
+    // Gatling 프로세스에 -Dtest.*로 넘기지 않는 설정 키
+    private static final Set<String> FORWARD_EXCLUDED_KEYS = Set.of("dbPassword");
+
     private final PerformanceTestProperties properties;
     private final TestConfigurationService configurationService;
     private final DatabaseService databaseService;
@@ -52,8 +65,12 @@ public class GatlingRunnerService {
     private final TestResultsSummaryRepository testResultsSummaryRepository;
     private final TestMetricsHistoryRepository testMetricsHistoryRepository;
     private final ObjectMapper objectMapper;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final LiveStateRepository liveStateRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CapacitySearchService capacitySearchService;
+    private final RosterCacheService rosterCacheService;
+    private final ScenarioDefinitionService scenarioDefinitionService;
 
     // 실행 중인 테스트 추적을 위한 맵
     private final Map<String, PerformanceTestResponse> runningTests = new ConcurrentHashMap<>();
@@ -67,8 +84,12 @@ public class GatlingRunnerService {
                                PerformanceTestRepository performanceTestRepository,
                                TestResultsSummaryRepository testResultsSummaryRepository,
                                TestMetricsHistoryRepository testMetricsHistoryRepository,
-                               RedisTemplate<String, Object> redisTemplate,
-                               SimpMessagingTemplate messagingTemplate) {
+                               LiveStateRepository liveStateRepository,
+                               SimpMessagingTemplate messagingTemplate,
+                               ApplicationEventPublisher eventPublisher,
+                               CapacitySearchService capacitySearchService,
+                               RosterCacheService rosterCacheService,
+                               ScenarioDefinitionService scenarioDefinitionService) {
         this.properties = properties;
         this.configurationService = configurationService;
         this.databaseService = databaseService;
@@ -76,8 +97,12 @@ public class GatlingRunnerService {
         this.testResultsSummaryRepository = testResultsSummaryRepository;
         this.testMetricsHistoryRepository = testMetricsHistoryRepository;
         this.objectMapper = new ObjectMapper();
-        this.redisTemplate = redisTemplate;
+        this.liveStateRepository = liveStateRepository;
         this.messagingTemplate = messagingTemplate;
+        this.eventPublisher = eventPublisher;
+        this.capacitySearchService = capacitySearchService;
+        this.rosterCacheService = rosterCacheService;
+        this.scenarioDefinitionService = scenarioDefinitionService;
         this.executorService = Executors.newFixedThreadPool(
                 properties.getGatling().getMaxConcurrentTests());
     }
@@ -93,6 +118,32 @@ public class GatlingRunnerService {
                     "CONCURRENT_LIMIT_EXCEEDED");
         }
 
+        if (request.getLoadProfile() != null && !LoadProfile.isValid(request.getLoadProfile())) {
+            throw new PerformanceTestException(
+                    "알 수 없는 부하 모델입니다: " + request.getLoadProfile(), "INVALID_LOAD_PROFILE");
+        }
+        ScenarioMix mix;
+        try {
+            mix = scenarioMix(request);
+        } catch (IllegalArgumentException e) {
+            throw new PerformanceTestException(e.getMessage(), "INVALID_SCENARIO");
+        }
+        if (mix.contains(ScenarioMix.Population.TRACE_REPLAY)) {
+            // 트레이스 파일은 발생기가 읽으므로 시작 전에 존재만 확인 (형식/정렬은 시뮬레이션이 훑으면서 검증)
+            Object traceFile = request.getAdditionalConfig() != null ? request.getAdditionalConfig().get("traceFile") : null;
+            if (traceFile == null || !Files.isRegularFile(Paths.get(String.valueOf(traceFile)))) {
+                throw new PerformanceTestException("재생할 트레이스 파일이 없습니다: " + traceFile, "INVALID_SCENARIO");
+            }
+        }
+        if (mix.contains(ScenarioMix.Population.DEFINED)) {
+            // 정의 시나리오는 시작 전에 해석/검증 (잘못된 정의로 발생기를 띄우지 않도록)
+            try {
+                scenarioDefinitionService.getDefinition(definitionName(request));
+            } catch (IllegalArgumentException e) {
+                throw new PerformanceTestException(e.getMessage(), "INVALID_SCENARIO");
+            }
+        }
+
         String testId = configurationService.generateTestId(request);
         
         // 초기 응답 생성
@@ -113,11 +164,12 @@ public class GatlingRunnerService {
         
         // DB에 테스트 정보 저장
         saveTestToDatabase(testId, request, response);
+        eventPublisher.publishEvent(TestLifecycleEvent.started(testId));
         
-        // Redis에 활성 테스트 추가 (즉시 반영되도록 동기로 실행)
+        // 활성 테스트 추가 (즉시 반영되도록 동기로 실행)
         try {
-            redisTemplate.opsForSet().add("tests:active", testId);
-            log.info("Redis에 활성 테스트 추가: {}", testId);
+            liveStateRepository.addActiveTest(testId);
+            log.info("활성 테스트 추가: {}", testId);
             
             // 초기 메트릭 생성 및 저장
             TestMetrics initialMetrics = TestMetrics.builder()
@@ -134,11 +186,10 @@ public class GatlingRunnerService {
                     .progress(0.0)
                     .build();
             
-            String metricsKey = String.format("metrics:current:%s", testId);
-            redisTemplate.opsForValue().set(metricsKey, objectMapper.writeValueAsString(initialMetrics));
+            liveStateRepository.saveCurrentMetrics(testId, initialMetrics, null);
             log.info("초기 메트릭 생성: {}", testId);
         } catch (Exception e) {
-            log.error("Redis에 활성 테스트 추가 실패: {}", e.getMessage());
+            log.error("활성 테스트 추가 실패: {}", e.getMessage());
         }
 
         // WebSocket으로 테스트 시작 이벤트 전송
@@ -191,6 +242,8 @@ public class GatlingRunnerService {
             
             response.setStatus(PerformanceTestResponse.TestStatus.CANCELLED);
             response.setEndTime(LocalDateTime.now());
+            eventPublisher.publishEvent(
+                    TestLifecycleEvent.finished(testId, PerformanceTestResponse.TestStatus.CANCELLED));
             log.info("성능 테스트 중단 완료: {}", testId);
         }
 
@@ -237,8 +290,59 @@ public class GatlingRunnerService {
                 throw new PerformanceTestException("테스트 설정이 유효하지 않습니다");
             }
 
+            // 시나리오 구성의 모집단별 명단 스냅샷 (시뮬레이션이 DB 대신 읽음, 없으면 시뮬레이션이 직접 조회)
+            String runType = request.getRunType() != null ? request.getRunType() : "TEST";
+            ScenarioMix mix = scenarioMix(request);
+            for (ScenarioMix.Share share : mix.getShares()) {
+                String snapshotKey = share.population().getSnapshotKey();
+                if (testConfig.containsKey(snapshotKey)) {
+                    continue;
+                }
+                Path snapshot = rosterCacheService.findSnapshot(request.getPlanId(), runType,
+                        share.population().role(testConfig));
+                if (snapshot != null) {
+                    testConfig.put(snapshotKey, snapshot.toString());
+                }
+            }
+            // 정의 시나리오 수험자가 있으면 버전별 정의 스냅샷 경로 전달 (시뮬레이션이 버전마다 한 번 컴파일)
+            if (mix.contains(ScenarioMix.Population.DEFINED)) {
+                Path definition = scenarioDefinitionService.findSnapshot(definitionName(request));
+                if (definition == null) {
+                    throw new PerformanceTestException("시나리오 정의 스냅샷을 만들 수 없습니다: " + definitionName(request));
+                }
+                testConfig.put("scenarioDefinition", definition.toString());
+            }
+            // 감독관이 있으면 시뮬레이션이 전파 지연을 측정
+            boolean proctorFanout = mix.contains(ScenarioMix.Population.PROCTOR);
+            // 장시간 수험자가 있으면 연결 끊김률과 지연 변화를 측정
+            boolean soak = mix.contains(ScenarioMix.Population.SOAK_EXAMINEE);
+            // 집단 시작 수험자가 있으면 시작/제출 배리어별 집단 구간 지표를 측정
+            boolean herd = mix.contains(ScenarioMix.Population.HERD_EXAMINEE);
+            // 재연결 폭주 수험자가 있으면 재연결 성공률/회복 시간/지연 급증을 측정
+            boolean storm = mix.contains(ScenarioMix.Population.STORM_EXAMINEE);
+
             // 결과 디렉토리 준비
             String resultDir = configurationService.prepareResultDirectory((String) testConfig.get("resultDirectory"));
+            Path propagationReport = Paths.get(resultDir, ResultBundle.PropagationStats.FILE_NAME);
+            if (proctorFanout) {
+                Files.deleteIfExists(propagationReport);
+                testConfig.put("propagationReport", propagationReport.toString());
+            }
+            Path soakReport = Paths.get(resultDir, ResultBundle.SoakStats.FILE_NAME);
+            if (soak) {
+                Files.deleteIfExists(soakReport);
+                testConfig.put("soakReport", soakReport.toString());
+            }
+            Path herdReport = Paths.get(resultDir, ResultBundle.HerdStats.FILE_NAME);
+            if (herd) {
+                Files.deleteIfExists(herdReport);
+                testConfig.put("herdReport", herdReport.toString());
+            }
+            Path stormReport = Paths.get(resultDir, ResultBundle.StormStats.FILE_NAME);
+            if (storm) {
+                Files.deleteIfExists(stormReport);
+                testConfig.put("stormReport", stormReport.toString());
+            }
 
             // 시스템 속성으로 설정 전달
             testConfig.forEach((key, value) -> {
@@ -250,56 +354,20 @@ public class GatlingRunnerService {
             System.setProperty("run_type", request.getRunType() != null ? request.getRunType() : "TEST");
             System.setProperty("user_count", String.valueOf(request.getMaxUsers()));
 
+            if (LoadProfile.CAPACITY_SEARCH.name().equals(testConfig.get("loadProfile"))) {
+                executeCapacitySearch(testId, request, testConfig, resultDir);
+                return;
+            }
+
             // Gradle을 통해 Gatling 실행
-            // 테스트별 고유한 결과 디렉토리명 생성
-            String timestamp = new SimpleDateFormat("yyyyMMddHHmmss").format(new Date());
-            String outputDirName = String.format("test-%s-%s", testId.replace("_", ""), timestamp);
-            
-            ProcessBuilder processBuilder = new ProcessBuilder(
-                "./gradlew", "gatlingRun",
-                "-Dgatling.simulationClass=kr.co.iosys.exam.performance.simulation.ExamCenterSimulation",
-                "-Dplan_id=" + request.getPlanId(),
-                "-Drun_type=" + (request.getRunType() != null ? request.getRunType() : "TEST"),
-                "-Duser_count=" + request.getMaxUsers(),
-                "-Dgatling.core.outputDirectoryBaseName=" + outputDirName
-            );
-            
-            processBuilder.redirectErrorStream(true);
-            Process process = processBuilder.start();
-            
-            // 프로세스를 맵에 저장
-            runningProcesses.put(testId, process);
-            
-            // 프로세스 출력 로깅 및 메트릭 파싱
-            try (var reader = new java.io.BufferedReader(
-                    new java.io.InputStreamReader(process.getInputStream()))) {
-                String line;
-                long startTime = System.currentTimeMillis();
-                
-                while ((line = reader.readLine()) != null) {
-                    log.info("Gatling: {}", line);
-                    
-                    // Gatling 출력에서 메트릭 파싱
-                    parseAndStoreMetrics(testId, line, startTime);
-                    
-                    // 중단 요청 확인
-                    PerformanceTestResponse currentStatus = runningTests.get(testId);
-                    if (currentStatus != null && 
-                        currentStatus.getStatus() == PerformanceTestResponse.TestStatus.CANCELLED) {
-                        log.info("테스트 중단 요청 감지: {}", testId);
-                        process.destroyForcibly();
-                        return;
-                    }
-                }
+            Integer exitCode = runGatlingProcess(testId, request, request.getMaxUsers(), testConfig,
+                    outputDirName(testId, null));
+            if (exitCode == null) {
+                return;
             }
             
-            int exitCode = process.waitFor();
-            
-            // 프로세스 맵에서 제거
-            runningProcesses.remove(testId);
-            
-            // Redis에서 활성 테스트 제거
-            redisTemplate.opsForSet().remove("tests:active", testId);
+            // 활성 테스트 제거
+            liveStateRepository.removeActiveTest(testId);
 
             // AIDEV-NOTE: Exit code와 관계없이 결과 저장 시도
             if (exitCode == 0) {
@@ -317,6 +385,18 @@ public class GatlingRunnerService {
                 String actualResultDir = findLatestGatlingResult(testId);
                 if (actualResultDir != null) {
                     log.info("Gatling 실제 결과 디렉토리: {}", actualResultDir);
+                    if (proctorFanout) {
+                        attachReport(propagationReport, Paths.get(actualResultDir));
+                    }
+                    if (soak) {
+                        attachReport(soakReport, Paths.get(actualResultDir));
+                    }
+                    if (herd) {
+                        attachReport(herdReport, Paths.get(actualResultDir));
+                    }
+                    if (storm) {
+                        attachReport(stormReport, Paths.get(actualResultDir));
+                    }
                     parseAndStoreResults(testId, actualResultDir);
                 } else {
                     log.warn("Gatling 결과 디렉토리를 찾을 수 없음. 설정된 디렉토리 시도: {}", resultDir);
@@ -335,27 +415,222 @@ public class GatlingRunnerService {
             if (currentStatus != null && currentStatus.getStatus() == PerformanceTestResponse.TestStatus.RUNNING) {
                 updateTestStatus(testId, PerformanceTestResponse.TestStatus.FAILED, e.getMessage());
             }
-            // Redis 작업은 try-catch로 보호
+            // 실시간 상태 저장소 작업은 try-catch로 보호
             try {
-                redisTemplate.opsForSet().remove("tests:active", testId);
-            } catch (Exception redisEx) {
-                log.warn("Redis에서 활성 테스트 제거 실패: {}", testId, redisEx.getMessage());
+                liveStateRepository.removeActiveTest(testId);
+            } catch (Exception storeEx) {
+                log.warn("활성 테스트 제거 실패: {}", testId, storeEx.getMessage());
             }
         } finally {
-            // 테스트 종료 시 Redis 정리 (에러 무시)
+            // 테스트 종료 시 현재 메트릭 정리 (에러 무시)
             try {
-                redisTemplate.delete("metrics:current:" + testId);
-            } catch (Exception redisEx) {
-                log.warn("Redis 메트릭 정리 실패: {}", testId, redisEx.getMessage());
+                liveStateRepository.deleteCurrentMetrics(testId);
+            } catch (Exception storeEx) {
+                log.warn("현재 메트릭 정리 실패: {}", testId, storeEx.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 요청의 시나리오 구성 (scenario + additionalConfig.mix)
+     *
+     * @throws IllegalArgumentException 구성 명세가 잘못된 경우
+     */
+    private static ScenarioMix scenarioMix(PerformanceTestRequest request) {
+        Object mix = request.getAdditionalConfig() != null ? request.getAdditionalConfig().get("mix") : null;
+        return ScenarioMix.parse(request.getScenario(), mix != null ? String.valueOf(mix) : null);
+    }
+
+    /**
+     * 정의 시나리오 이름 (additionalConfig.definition, test_scenarios.scenario_name)
+     */
+    private static String definitionName(PerformanceTestRequest request) {
+        Object definition = request.getAdditionalConfig() != null ? request.getAdditionalConfig().get("definition") : null;
+        return definition != null ? String.valueOf(definition) : null;
+    }
+
+    /**
+     * 시뮬레이션이 쓴 부가 지표 파일(전파 지연, 장시간 연결 유지, 집단 동시 이벤트)을 Gatling 결과 디렉토리(stats.json 옆)로 이동
+     * (결과 번들이 리포트 경로에서 읽음)
+     */
+    private void attachReport(Path report, Path gatlingResultDir) {
+        if (!Files.exists(report)) {
+            log.warn("부가 지표 결과 파일 없음: {}", report);
+            return;
+        }
+        try {
+            Files.move(report, gatlingResultDir.resolve(report.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("부가 지표 결과 이동 실패: {} → {} ({})", report, gatlingResultDir, e.getMessage());
+        }
+    }
+
+    /**
+     * Gatling 프로세스 한 번 실행 (출력 로깅 및 실시간 메트릭 파싱)
+     *
+     * @param userCount 시뮬레이션에 넘길 동시 사용자 수
+     * @return 종료 코드, 실행 중 중단 요청으로 종료했으면 null
+     */
+    private Integer runGatlingProcess(String testId, PerformanceTestRequest request, int userCount,
+                                      Map<String, Object> testConfig, String outputDirName)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of(
+            "./gradlew", "gatlingRun",
+            "-Dgatling.simulationClass=kr.co.iosys.exam.performance.simulation.ExamCenterSimulation",
+            "-Dplan_id=" + request.getPlanId(),
+            "-Drun_type=" + (request.getRunType() != null ? request.getRunType() : "TEST"),
+            "-Duser_count=" + userCount,
+            "-Dgatling.core.outputDirectoryBaseName=" + outputDirName
+        ));
+        // AIDEV-NOTE: 시뮬레이션은 별도 프로세스라 test.* 설정을 -D로 넘겨야 부하 모델에 반영됨 (DB 비밀번호 제외)
+        testConfig.forEach((key, value) -> {
+            if (value != null && !FORWARD_EXCLUDED_KEYS.contains(key)) {
+                command.add("-Dtest." + key + "=" + value);
+            }
+        });
+        
+        ProcessBuilder processBuilder = new ProcessBuilder(command);
+        // DB 비밀번호는 명령줄(-D) 대신 환경 변수로 전달 (시뮬레이션의 수험자 명단 조회용)
+        processBuilder.environment().put("POSTGRES_PASSWORD", properties.getDatabase().getPassword());
+        
+        processBuilder.redirectErrorStream(true);
+        Process process = processBuilder.start();
+        
+        // 프로세스를 맵에 저장
+        runningProcesses.put(testId, process);
+        
+        // 프로세스 출력 로깅 및 메트릭 파싱
+        try (var reader = new java.io.BufferedReader(
+                new java.io.InputStreamReader(process.getInputStream()))) {
+            String line;
+            long startTime = System.currentTimeMillis();
+            
+            while ((line = reader.readLine()) != null) {
+                log.info("Gatling: {}", line);
+                
+                // Gatling 출력에서 메트릭 파싱
+                parseAndStoreMetrics(testId, line, startTime);
+                
+                // 중단 요청 확인
+                if (isCancelled(testId)) {
+                    log.info("테스트 중단 요청 감지: {}", testId);
+                    process.destroyForcibly();
+                    return null;
+                }
+            }
+        }
+        
+        int exitCode = process.waitFor();
+        
+        // 프로세스 맵에서 제거
+        runningProcesses.remove(testId);
+        return exitCode;
+    }
+
+    /**
+     * 용량 탐색 실행
+     * AIDEV-NOTE: 구간마다 CLOSED 부하로 Gatling을 한 번씩 실행하고, 구간 simulation.log의 유지 구간 요청만으로 SLO 판정
+     * 취소는 구간을 시작하기 전에도 확인 (구간 사이 취소 시 다음 Gatling 프로세스를 띄우지 않음)
+     * 실시간 출력에는 백분위 응답 시간이 없어 구간 종료 후 판정함 (구간 사이에 Gradle 기동 시간만큼 공백)
+     * 테스트 결과 요약은 지속 가능 구간(없으면 마지막 구간) 리포트로 저장
+     */
+    private void executeCapacitySearch(String testId, PerformanceTestRequest request,
+                                       Map<String, Object> testConfig, String resultDir)
+            throws IOException, InterruptedException {
+        CapacitySearchResult search = capacitySearchService.start(testId, request.getMaxUsers(), testConfig);
+        CapacitySearchPlanner planner = CapacitySearchPlanner.of(search);
+
+        try {
+            Integer users;
+            while ((users = planner.nextUsers()) != null) {
+                if (isCancelled(testId)) {
+                    capacitySearchService.finish(search, CapacitySearchResult.Status.CANCELLED);
+                    return;
+                }
+                int index = search.getPlateaus().size() + 1;
+                Map<String, Object> plateauConfig = new HashMap<>(testConfig);
+                plateauConfig.put("loadProfile", LoadProfile.CLOSED.name());
+                plateauConfig.put("maxUsers", users);
+                plateauConfig.put("rampUpDurationSeconds", search.getPlateauRampSeconds());
+                plateauConfig.put("testDurationSeconds", search.getPlateauSeconds());
+
+                String plateauOutput = outputDirName(testId, "p" + index);
+                long plateauStarted = System.currentTimeMillis();
+                Integer exitCode = runGatlingProcess(testId, request, users, plateauConfig, plateauOutput);
+                if (exitCode == null || isCancelled(testId)) {
+                    capacitySearchService.finish(search, CapacitySearchResult.Status.CANCELLED);
+                    return;
+                }
+                if (exitCode != 0) {
+                    // SLO 판정은 통계로 하므로 Gatling assertion 실패(exit code 1)는 계속 진행
+                    log.warn("용량 탐색 구간 {} Gatling exit code: {} for testId: {}", index, exitCode, testId);
+                }
+
+                // 이 구간의 출력 디렉토리만 사용 (리포트를 못 쓰고 죽은 구간은 통계 없음 = 실패, 이전 구간으로 대체하지 않음)
+                String plateauDir = findGatlingResult(plateauOutput, plateauStarted);
+                JsonNode stats = plateauDir != null
+                        ? CapacitySearchService.holdStats(Paths.get(plateauDir, "simulation.log"), search.getPlateauRampSeconds())
+                        : null;
+                CapacitySearchResult.Plateau plateau =
+                        CapacitySearchService.evaluate(search, index, users, stats, plateauDir);
+                planner.record(users, plateau.isPassed());
+                capacitySearchService.record(search, plateau);
             }
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            capacitySearchService.finish(search, CapacitySearchResult.Status.FAILED);
+            throw e;
+        }
+
+        liveStateRepository.removeActiveTest(testId);
+        capacitySearchService.finish(search, CapacitySearchResult.Status.COMPLETED);
+        updateTestStatus(testId, PerformanceTestResponse.TestStatus.COMPLETED, null);
+
+        String summaryDir = search.getPlateaus().stream()
+                .filter(p -> p.isPassed() && Objects.equals(p.getUsers(), search.getSustainableUsers()))
+                .map(CapacitySearchResult.Plateau::getResultDirectory)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElseGet(() -> search.getPlateaus().isEmpty() ? null
+                        : search.getPlateaus().get(search.getPlateaus().size() - 1).getResultDirectory());
+        try {
+            parseAndStoreResults(testId, summaryDir != null ? summaryDir : resultDir);
+        } catch (Exception e) {
+            log.error("테스트 결과 저장 실패: {}", testId, e);
+            saveMinimalResults(testId, resultDir, e.getMessage());
         }
     }
 
+    /**
+     * 용량 탐색 결과 조회
+     *
+     * @throws IllegalArgumentException 용량 탐색으로 실행한 테스트가 아닌 경우
+     */
+    public CapacitySearchResult getCapacitySearch(String testId) {
+        return capacitySearchService.getResult(testId);
+    }
+
+    /**
+     * 테스트별 고유한 Gatling 결과 디렉토리명 (용량 탐색은 구간 표시 포함)
+     */
+    private static String outputDirName(String testId, String suffix) {
+        String timestamp = new SimpleDateFormat("yyyyMMddHHmmss").format(new Date());
+        return suffix != null
+                ? String.format("test-%s-%s-%s", testId.replace("_", ""), suffix, timestamp)
+                : String.format("test-%s-%s", testId.replace("_", ""), timestamp);
+    }
+
+    private boolean isCancelled(String testId) {
+        PerformanceTestResponse currentStatus = runningTests.get(testId);
+        return currentStatus != null
+                && currentStatus.getStatus() == PerformanceTestResponse.TestStatus.CANCELLED;
+    }
+
     /**
      * 테스트 상태 업데이트
      */
     private void updateTestStatus(String testId, PerformanceTestResponse.TestStatus status, String errorMessage) {
         PerformanceTestResponse response = runningTests.get(testId);
+        PerformanceTestResponse.TestStatus previousStatus = response != null ? response.getStatus() : null;
         if (response != null) {
             response.setStatus(status);
             if (errorMessage != null) {
@@ -368,11 +643,16 @@ public class GatlingRunnerService {
             }
         }
         
-        // Redis 상태 업데이트
-        updateTestStatusInRedis(testId, status, errorMessage);
+        // 실시간 상태 업데이트
+        updateLiveTestStatus(testId, status, errorMessage);
         
         // DB에도 상태 업데이트
         updateTestInDatabase(testId, status, errorMessage);
+        
+        // 종료 전이는 테스트당 한 번만 발행 (중단 후 프로세스 종료로 인한 FAILED 등은 제외)
+        if (TestLifecycleEvent.isTerminal(status) && !TestLifecycleEvent.isTerminal(previousStatus)) {
+            eventPublisher.publishEvent(TestLifecycleEvent.finished(testId, status));
+        }
     }
 
     /**
@@ -401,16 +681,15 @@ public class GatlingRunnerService {
     }
     
     /**
-     * 테스트 상태를 Redis에 업데이트
-     * AIDEV-NOTE: 테스트 완료/실패 시 Redis 상태도 업데이트하여 대시보드에서 정확한 상태 표시
+     * 테스트 상태를 실시간 상태 저장소에 업데이트
+     * AIDEV-NOTE: 테스트 완료/실패 시 실시간 상태도 업데이트하여 대시보드에서 정확한 상태 표시
      */
-    private void updateTestStatusInRedis(String testId, PerformanceTestResponse.TestStatus status, String errorMessage) {
+    private void updateLiveTestStatus(String testId, PerformanceTestResponse.TestStatus status, String errorMessage) {
         try {
-            String statusKey = String.format("test:status:%s", testId);
-            String statusJson = (String) redisTemplate.opsForValue().get(statusKey);
+            Map<String, Object> statusMap = liveStateRepository.findStatus(testId);
             
-            if (statusJson != null) {
-                Map<String, Object> statusMap = objectMapper.readValue(statusJson, Map.class);
+            if (statusMap != null) {
+                statusMap = new HashMap<>(statusMap);
                 statusMap.put("status", status.toString());
                 statusMap.put("updatedAt", System.currentTimeMillis());
                 
@@ -425,13 +704,12 @@ public class GatlingRunnerService {
                     statusMap.put("progress", 100.0);
                 }
                 
-                String updatedJson = objectMapper.writeValueAsString(statusMap);
-                redisTemplate.opsForValue().set(statusKey, updatedJson, java.time.Duration.ofHours(1));
+                liveStateRepository.saveStatus(testId, statusMap, java.time.Duration.ofHours(1));
                 
-                log.debug("Redis 테스트 상태 업데이트: {} -> {}", testId, status);
+                log.debug("실시간 테스트 상태 업데이트: {} -> {}", testId, status);
             }
         } catch (Exception e) {
-            log.error("Redis 테스트 상태 업데이트 실패: {}", testId, e);
+            log.error("실시간 테스트 상태 업데이트 실패: {}", testId, e);
         }
     }
     
@@ -459,8 +737,8 @@ public class GatlingRunnerService {
     }
     
     /**
-     * Gatling 출력에서 메트릭 파싱 및 Redis 저장
-     * AIDEV-NOTE: 실시간 메트릭을 파싱하여 Redis에 저장, WebSocket으로 브로드캐스트
+     * Gatling 출력에서 메트릭 파싱 및 실시간 상태 저장
+     * AIDEV-NOTE: 실시간 메트릭을 파싱하여 실시간 상태 저장소에 저장, WebSocket으로 브로드캐스트
      */
     private void parseAndStoreMetrics(String testId, String line, long startTime) {
         try {
@@ -492,9 +770,8 @@ public class GatlingRunnerService {
                                     currentMetrics.setProgress((double)progress);
                                 }
                                 
-                                // Redis에 저장
-                                String metricsKey = String.format("metrics:current:%s", testId);
-                                redisTemplate.opsForValue().set(metricsKey, objectMapper.writeValueAsString(currentMetrics));
+                                // 실시간 상태 저장소에 저장
+                                liveStateRepository.saveCurrentMetrics(testId, currentMetrics, null);
                             }
                         } catch (NumberFormatException ex) {
                             // 파싱 실패 무시
@@ -577,9 +854,8 @@ public class GatlingRunnerService {
                             }
                             currentMetrics.setActiveUsers(activeUsers);
                             
-                            // Redis에 저장
-                            String metricsKey = String.format("metrics:current:%s", testId);
-                            redisTemplate.opsForValue().set(metricsKey, objectMapper.writeValueAsString(currentMetrics));
+                            // 실시간 상태 저장소에 저장
+                            liveStateRepository.saveCurrentMetrics(testId, currentMetrics, null);
                             
                             log.debug("활성 사용자 업데이트: testId={}, activeUsers={}", testId, activeUsers);
                         } catch (NumberFormatException e) {
@@ -598,11 +874,7 @@ public class GatlingRunnerService {
      */
     private TestMetrics getCurrentMetrics(String testId) {
         try {
-            String metricsKey = String.format("metrics:current:%s", testId);
-            Object data = redisTemplate.opsForValue().get(metricsKey);
-            if (data != null) {
-                return objectMapper.readValue(data.toString(), TestMetrics.class);
-            }
+            return liveStateRepository.findCurrentMetrics(testId);
         } catch (Exception e) {
             log.error("현재 메트릭 조회 실패: {}", e.getMessage());
         }
@@ -626,9 +898,8 @@ public class GatlingRunnerService {
                 }
             }
             
-            // Redis에 저장
-            String metricsKey = String.format("metrics:current:%s", testId);
-            redisTemplate.opsForValue().set(metricsKey, objectMapper.writeValueAsString(metrics));
+            // 실시간 상태 저장소에 저장
+            liveStateRepository.saveCurrentMetrics(testId, metrics, null);
         } catch (Exception e) {
             log.error("메트릭 저장 실패: {}", e.getMessage());
         }
@@ -682,24 +953,11 @@ public class GatlingRunnerService {
                 return;
             }
             
-            // js 디렉토리에서 stats.json 파일 찾기
-            Path jsPath = resultsPath.resolve("js");
-            File[] jsonFiles = null;
+            File statsFile = findStatsFile(resultsPath);
             
-            if (Files.exists(jsPath)) {
-                jsonFiles = jsPath.toFile().listFiles((dir, name) -> 
-                    name.endsWith("stats.json") || name.contains("global_stats"));
-            }
-            
-            // js 디렉토리에서 못 찾으면 루트 디렉토리에서 찾기
-            if (jsonFiles == null || jsonFiles.length == 0) {
-                jsonFiles = resultsPath.toFile().listFiles((dir, name) -> 
-                    name.endsWith("stats.json") || name.contains("global_stats"));
-            }
-            
-            if (jsonFiles != null && jsonFiles.length > 0) {
+            if (statsFile != null) {
                 // JSON 결과 파일 파싱
-                String jsonContent = Files.readString(jsonFiles[0].toPath());
+                String jsonContent = Files.readString(statsFile.toPath());
                 JsonNode rootNode = objectMapper.readTree(jsonContent);
                 
                 // 결과 요약 정보 추출 및 저장
@@ -723,6 +981,9 @@ public class GatlingRunnerService {
                 // simulation.log 파일에서 메트릭 히스토리 추출
                 parseAndSaveMetricsHistory(testId, resultsPath);
                 
+                // 결과 경로/히스토리까지 저장된 뒤 발행 (캐시 무효화 시점)
+                publishResultSaved(summary);
+                
                 // PerformanceTestResponse에 결과 설정 (성공 케이스)
                 PerformanceTestResponse response = runningTests.get(testId);
                 if (response != null) {
@@ -769,6 +1030,56 @@ public class GatlingRunnerService {
         }
     }
     
+    /**
+     * Gatling 결과 디렉토리의 stats.json 찾기 (js 디렉토리 우선, 없으면 루트)
+     */
+    private File findStatsFile(Path resultsPath) {
+        Path jsPath = resultsPath.resolve("js");
+        File[] jsonFiles = null;
+        
+        if (Files.exists(jsPath)) {
+            jsonFiles = jsPath.toFile().listFiles((dir, name) -> 
+                name.endsWith("stats.json") || name.contains("global_stats"));
+        }
+        
+        if (jsonFiles == null || jsonFiles.length == 0) {
+            jsonFiles = resultsPath.toFile().listFiles((dir, name) -> 
+                name.endsWith("stats.json") || name.contains("global_stats"));
+        }
+        return jsonFiles != null && jsonFiles.length > 0 ? jsonFiles[0] : null;
+    }
+    
+    /**
+     * 출력 디렉토리명으로 실행한 Gatling 결과 디렉토리 (Gatling이 "출력 디렉토리명-시작 시각"으로 만듦)
+     *
+     * @param startedAt 실행 시작 시각 (이전에 수정된 디렉토리는 오래된 결과로 보고 제외)
+     * @return 없으면 null
+     */
+    private String findGatlingResult(String outputDirName, long startedAt) {
+        Path gatlingReportsPath = Paths.get("build/reports/gatling");
+        if (!Files.exists(gatlingReportsPath)) {
+            return null;
+        }
+        String prefix = outputDirName.toLowerCase(Locale.ROOT) + "-";
+        try (Stream<Path> dirs = Files.list(gatlingReportsPath)) {
+            return dirs.filter(Files::isDirectory)
+                .filter(path -> path.getFileName().toString().toLowerCase(Locale.ROOT).startsWith(prefix))
+                .filter(path -> {
+                    try {
+                        return Files.getLastModifiedTime(path).toMillis() >= startedAt;
+                    } catch (IOException e) {
+                        return false;
+                    }
+                })
+                .findFirst()
+                .map(Path::toString)
+                .orElse(null);
+        } catch (IOException e) {
+            log.error("Gatling 결과 디렉토리 검색 실패: {}", outputDirName, e);
+            return null;
+        }
+    }
+
     /**
      * Gatling 실제 결과 디렉토리 찾기
      * AIDEV-NOTE: build/reports/gatling에서 testId를 포함한 가장 최근 디렉토리 찾기
@@ -867,6 +1178,15 @@ public class GatlingRunnerService {
                 .build();
     }
     
+    /**
+     * 결과 저장 이벤트 발행
+     */
+    private void publishResultSaved(TestResultsSummary summary) {
+        eventPublisher.publishEvent(TestLifecycleEvent.resultSaved(summary.getTestId(),
+                summary.getAvgResponseTime() != null ? summary.getAvgResponseTime().doubleValue() : null,
+                summary.getAvgTps() != null ? summary.getAvgTps().doubleValue() : null));
+    }
+    
     /**
      * 최소한의 결과 저장 (파싱 실패 시)
      * AIDEV-NOTE: 정상 파싱이 실패해도 기본 정보를 DB에 저장
@@ -914,6 +1234,7 @@ public class GatlingRunnerService {
                 test.setResultPath(resultDir);
                 performanceTestRepository.save(test);
             });
+            publishResultSaved(summary);
             
         } catch (Exception e) {
             log.error("최소 결과 저장도 실패: {}", testId, e);
@@ -957,6 +1278,7 @@ public class GatlingRunnerService {
                         .build();
                 
                 testResultsSummaryRepository.save(summary);
+                publishResultSaved(summary);
                 log.info("CSV 결과에서 기본 통계 저장 완료: {}", testId);
             }
         } catch (IOException e) {
@@ -0,0 +1,138 @@
+package kr.co.iosys.exam.performance.service;
+
+import kr.co.iosys.exam.performance.config.PerformanceTestProperties;
+import kr.co.iosys.exam.performance.dto.CompactRoster;
+import kr.co.iosys.exam.performance.repository.ExamRosterQueryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * AIDEV-NOTE: 수험자 명단 캐시 (계획/실행 유형/역할별)
+ * 풀의 연결로 한 번 조회하여 CompactRoster로 보관, API(DatabaseService)와 Gatling 실행이 함께 사용
+ * - 내용 버전(CRC32)마다 스냅샷 파일을 한 번만 쓰고, 시뮬레이션은 -Dtest.rosterSnapshot으로 받은 파일을 바로 읽음
+ * - 캐시 만료 후 다시 조회해도 내용이 같으면 기존 스냅샷을 그대로 사용, 바뀌면 새 버전을 쓰고 이전 버전 파일 삭제
+ * - 적중/실패 메트릭: /actuator/metrics/cache.gets?tag=cache:examinee-roster
+ */
+@Slf4j
+@Service
+public class RosterCacheService {
+
+    public static final String ROLE_EXAMINEE = "EXAMINEE";
+
+    private final ExamRosterQueryRepository rosterRepository;
+    private final PerformanceTestProperties properties;
+    private final Cache<RosterKey, CachedRoster> cache;
+
+    public RosterCacheService(ExamRosterQueryRepository rosterRepository,
+                              PerformanceTestProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.rosterRepository = rosterRepository;
+        this.properties = properties;
+        PerformanceTestProperties.Roster config = properties.getRoster();
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(config.getCacheTtl())
+                .maximumSize(config.getMaximumSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "examinee-roster");
+    }
+
+    /**
+     * 명단 조회 (캐시에 없으면 DB에서 읽고 스냅샷 파일 생성)
+     */
+    public CompactRoster getRoster(Long planId, String runType, String role) {
+        return get(planId, runType, role).roster();
+    }
+
+    /**
+     * 시뮬레이션용 스냅샷 파일 (만들지 못했으면 null, 시뮬레이션이 DB에서 직접 조회)
+     */
+    public Path findSnapshot(Long planId, String runType, String role) {
+        try {
+            return get(planId, runType, role).snapshot();
+        } catch (Exception e) {
+            log.warn("명단 스냅샷 준비 실패: plan={}, runType={}, role={} ({})", planId, runType, role, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 계획/실행 유형의 캐시 항목 무효화 (스냅샷 파일은 다음 조회 시 내용 버전으로 정리)
+     */
+    public void invalidate(Long planId, String runType) {
+        cache.asMap().keySet().removeIf(key -> key.planId().equals(planId) && key.runType().equals(runType));
+    }
+
+    private CachedRoster get(Long planId, String runType, String role) {
+        return cache.get(new RosterKey(planId, runType, role), this::load);
+    }
+
+    private CachedRoster load(RosterKey key) {
+        long started = System.nanoTime();
+        CompactRoster roster = new CompactRoster();
+        rosterRepository.streamRoster(key.planId(), key.runType(), key.role(), properties.getRoster().getFetchSize(),
+                row -> roster.add(Objects.toString(row[0], null), Objects.toString(row[1], null),
+                        Objects.toString(row[2], null), row[3] instanceof Number group ? group.longValue() : null));
+        roster.compact();
+
+        String version = roster.contentVersion();
+        Path snapshot = writeSnapshot(key, roster, version);
+        log.info("명단 캐시 적재: plan={}, runType={}, role={}, {}명, 버전 {} ({}ms)", key.planId(), key.runType(),
+                key.role(), roster.size(), version, (System.nanoTime() - started) / 1_000_000);
+        return new CachedRoster(roster, version, snapshot);
+    }
+
+    /**
+     * 버전별 스냅샷 파일 쓰기 (이미 있으면 재사용), 같은 명단의 이전 버전 파일 삭제
+     */
+    private Path writeSnapshot(RosterKey key, CompactRoster roster, String version) {
+        Path directory = Paths.get(properties.getRoster().getSnapshotDirectory()).toAbsolutePath().normalize();
+        String prefix = String.format("roster-%d-%s-%s-", key.planId(), safeName(key.runType()), safeName(key.role()));
+        Path snapshot = directory.resolve(prefix + version + ".bin");
+        try {
+            if (!Files.exists(snapshot)) {
+                roster.writeSnapshot(snapshot, key.planId(), key.runType(), key.role());
+                log.info("명단 스냅샷 생성: {}", snapshot);
+            }
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(file -> file.getFileName().toString().startsWith(prefix) && !file.equals(snapshot))
+                        .forEach(RosterCacheService::deleteQuietly);
+            }
+            return snapshot;
+        } catch (IOException e) {
+            log.warn("명단 스냅샷 쓰기 실패: {} ({})", snapshot, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("이전 명단 스냅샷 삭제 실패: {}", file);
+        }
+    }
+
+    private static String safeName(String value) {
+        return value.replaceAll("[^A-Za-z0-9_]", "_");
+    }
+
+    private record RosterKey(Long planId, String runType, String role) {
+    }
+
+    private record CachedRoster(CompactRoster roster, String version, Path snapshot) {
+    }
+}
@@ -0,0 +1,134 @@
+package kr.co.iosys.exam.performance.service;
+
+import kr.co.iosys.exam.performance.config.PerformanceTestProperties;
+import kr.co.iosys.exam.performance.dto.ScenarioDefinition;
+import kr.co.iosys.exam.performance.model.TestScenario;
+import kr.co.iosys.exam.performance.repository.TestScenarioRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.stream.Stream;
+
+/**
+ * AIDEV-NOTE: 데이터 정의 시나리오 (test_scenarios) 해석/스냅샷
+ * 테스트 시작마다 행 하나만 읽고, config_json이 캐시와 같으면 해석/검증 결과와 스냅샷 파일을 그대로 사용
+ * - 내용 버전(ScenarioDefinition.getVersion)마다 스냅샷 파일을 한 번만 쓰고 이전 버전 파일 삭제
+ *   파일명은 scenario-{test_scenarios.id}-{버전}.json (한글 이름끼리 겹치지 않도록 이름 대신 id)
+ * - 시뮬레이션은 -Dtest.scenarioDefinition으로 받은 파일을 읽어 버전별로 한 번만 체인으로 컴파일
+ * 정의를 고쳐도 시뮬레이션을 다시 컴파일할 필요 없음 (다음 테스트부터 새 버전 사용)
+ */
+@Slf4j
+@Service
+public class ScenarioDefinitionService {
+
+    private final TestScenarioRepository scenarioRepository;
+    private final PerformanceTestProperties properties;
+    private final Cache<String, CachedDefinition> cache;
+
+    public ScenarioDefinitionService(TestScenarioRepository scenarioRepository,
+                                     PerformanceTestProperties properties) {
+        this.scenarioRepository = scenarioRepository;
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getScenarios().getMaximumSize())
+                .build();
+    }
+
+    /**
+     * 활성 시나리오 정의 조회 및 검증
+     *
+     * @throws IllegalArgumentException 이름이 없거나, 활성 시나리오가 없거나, 정의가 잘못된 경우
+     */
+    public ScenarioDefinition getDefinition(String name) {
+        return get(name).definition();
+    }
+
+    /**
+     * 시뮬레이션용 스냅샷 파일 (만들지 못했으면 null)
+     *
+     * @throws IllegalArgumentException 정의를 찾을 수 없거나 잘못된 경우
+     */
+    public Path findSnapshot(String name) {
+        CachedDefinition cached = get(name);
+        if (cached.snapshot() != null) {
+            return cached.snapshot();
+        }
+        Path snapshot = writeSnapshot(cached.id(), cached.definition(), cached.configJson());
+        if (snapshot != null) {
+            cache.put(cached.definition().getName(),
+                    new CachedDefinition(cached.id(), cached.configJson(), cached.definition(), snapshot));
+        }
+        return snapshot;
+    }
+
+    private CachedDefinition get(String name) {
+        if (name == null || name.isBlank() || "null".equals(name)) {
+            throw new IllegalArgumentException("정의 시나리오 이름(additionalConfig.definition)이 필요합니다");
+        }
+        TestScenario scenario = scenarioRepository.findByScenarioNameAndIsActiveTrue(name.trim())
+                .orElseThrow(() -> new IllegalArgumentException("활성 시나리오 정의가 없습니다: " + name));
+        CachedDefinition cached = cache.getIfPresent(scenario.getScenarioName());
+        if (cached != null && cached.id().equals(scenario.getId()) && cached.configJson().equals(scenario.getConfigJson())) {
+            return cached;
+        }
+        ScenarioDefinition definition = ScenarioDefinition.parse(scenario.getScenarioName(), scenario.getConfigJson());
+        cached = new CachedDefinition(scenario.getId(), scenario.getConfigJson(), definition, null);
+        cache.put(scenario.getScenarioName(), cached);
+        log.info("시나리오 정의 적재: {} ({}개 단계)", definition, definition.getSteps().size());
+        return cached;
+    }
+
+    /**
+     * 버전별 스냅샷 파일 쓰기 (이미 있으면 재사용, 임시 파일에 쓴 뒤 이동), 같은 시나리오(id)의 이전 버전 파일 삭제
+     */
+    private Path writeSnapshot(Long id, ScenarioDefinition definition, String configJson) {
+        Path directory = Paths.get(properties.getScenarios().getSnapshotDirectory()).toAbsolutePath().normalize();
+        String prefix = "scenario-" + id + "-";
+        Path snapshot = directory.resolve(prefix + definition.getVersion() + ".json");
+        try {
+            if (!Files.exists(snapshot)) {
+                Files.createDirectories(directory);
+                Path temp = Files.createTempFile(directory, prefix, ".tmp");
+                Files.writeString(temp, configJson, StandardCharsets.UTF_8);
+                Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                log.info("시나리오 정의 스냅샷 생성: {}", snapshot);
+            }
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(file -> isVersionOf(file, prefix) && !file.equals(snapshot))
+                        .forEach(ScenarioDefinitionService::deleteQuietly);
+            }
+            return snapshot;
+        } catch (IOException e) {
+            log.warn("시나리오 정의 스냅샷 쓰기 실패: {} ({})", snapshot, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("이전 시나리오 정의 스냅샷 삭제 실패: {}", file);
+        }
+    }
+
+    /**
+     * 같은 시나리오의 버전 파일 (접두어 뒤가 8자리 버전 + .json인 것만, 쓰는 중인 임시 파일 제외)
+     */
+    private static boolean isVersionOf(Path file, String prefix) {
+        String name = file.getFileName().toString();
+        return name.startsWith(prefix) && name.substring(prefix.length()).matches("[0-9a-f]{8}\\.json");
+    }
+
+    private record CachedDefinition(Long id, String configJson, ScenarioDefinition definition, Path snapshot) {
+    }
+}
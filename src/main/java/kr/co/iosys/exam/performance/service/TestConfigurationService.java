@@ -1,6 +1,7 @@
 package kr.co.iosys.exam.performance.service;
 
 import kr.co.iosys.exam.performance.config.PerformanceTestProperties;
+import kr.co.iosys.exam.performance.dto.LoadProfile;
 import kr.co.iosys.exam.performance.dto.PerformanceTestRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,6 +41,7 @@ public class TestConfigurationService {
             config.put("testDurationSeconds", request.getTestDurationSeconds());
             config.put("runType", request.getRunType());
             config.put("scenario", request.getScenario());
+            config.put("loadProfile", request.getLoadProfile() != null ? request.getLoadProfile() : LoadProfile.RAMP_HOLD.name());
             
             // 타겟 서버 설정
             config.put("baseUrl", properties.getGatling().getTarget().getBaseUrl());
@@ -132,6 +134,13 @@ public class TestConfigurationService {
                 return false;
             }
             
+            // 부하 모델 검증
+            Object loadProfile = config.get("loadProfile");
+            if (loadProfile != null && !LoadProfile.isValid(String.valueOf(loadProfile))) {
+                log.error("알 수 없는 부하 모델: {}", loadProfile);
+                return false;
+            }
+            
             log.info("설정 유효성 검증 통과");
             return true;
         } catch (Exception e) {
@@ -0,0 +1,73 @@
+package kr.co.iosys.exam.performance.config;
+
+import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AIDEV-NOTE: 실시간 값 쓰기 형식(JSON/CBOR)별 인코딩+디코딩 시간과 바이트 크기 비교
+ * 기본 테스트에서는 제외 (benchmark 태그), ./gradlew benchmark로 실행하여 표준 출력으로 확인
+ * JSON은 이전 노드와 같은 이중 인코딩 경로 (직렬화 후 convert로 한 번 더 파싱)
+ */
+@Tag("benchmark")
+class LiveDataRedisSerializerBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final TestMetrics metrics = TestMetrics.builder()
+            .testId("TestWithGradle_1_20250828183842")
+            .timestamp(1706430000000L)
+            .activeUsers(85)
+            .tps(1250.5)
+            .avgResponseTime(245.3)
+            .minResponseTime(12.0)
+            .maxResponseTime(1890.0)
+            .successCount(12500L)
+            .errorCount(3L)
+            .errorRate(0.024)
+            .progress(65.5)
+            .build();
+
+    @Test
+    void compareWriteFormats() throws Exception {
+        Result json = measure(new LiveDataRedisSerializer(LiveDataRedisSerializer.WriteFormat.JSON));
+        Result cbor = measure(new LiveDataRedisSerializer(LiveDataRedisSerializer.WriteFormat.CBOR));
+
+        System.out.printf("TestMetrics JSON(이중 인코딩): %d B, %.2f us/op%n", json.bytes, json.micros);
+        System.out.printf("TestMetrics CBOR(버전 헤더):   %d B, %.2f us/op%n", cbor.bytes, cbor.micros);
+        System.out.printf("크기 %.1f%% 절감, 시간 %.1f%% 절감%n",
+                100.0 * (json.bytes - cbor.bytes) / json.bytes, 100.0 * (json.micros - cbor.micros) / json.micros);
+
+        assertTrue(cbor.bytes < json.bytes);
+    }
+
+    private Result measure(LiveDataRedisSerializer serializer) throws Exception {
+        byte[] bytes = serializer.serialize(metrics);
+        assertEquals(metrics, roundTrip(serializer));
+
+        for (int i = 0; i < WARMUP; i++) {
+            roundTrip(serializer);
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            roundTrip(serializer);
+        }
+        return new Result(bytes.length, (System.nanoTime() - started) / 1000.0 / ITERATIONS);
+    }
+
+    private TestMetrics roundTrip(LiveDataRedisSerializer serializer) throws Exception {
+        return LiveDataRedisSerializer.convert(serializer.deserialize(serializer.serialize(metrics)),
+                TestMetrics.class, objectMapper);
+    }
+
+    private record Result(int bytes, double micros) {
+    }
+}
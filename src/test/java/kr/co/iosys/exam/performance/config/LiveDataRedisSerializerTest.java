@@ -0,0 +1,124 @@
+package kr.co.iosys.exam.performance.config;
+
+import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
+import kr.co.iosys.exam.performance.dashboard.service.RealtimeMonitoringService;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AIDEV-NOTE: 실시간 데이터 바이너리 직렬화, 이전 JSON 값 읽기 호환, 기본 JSON 쓰기의 이전 노드 호환, 기존 이중 JSON 방식 대비 크기 검증
+ * 인코딩/디코딩 속도 비교는 LiveDataRedisSerializerBenchmark (./gradlew benchmark)
+ */
+class LiveDataRedisSerializerTest {
+
+    private final LiveDataRedisSerializer serializer =
+            new LiveDataRedisSerializer(LiveDataRedisSerializer.WriteFormat.CBOR);
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private TestMetrics sampleMetrics() {
+        return TestMetrics.builder()
+                .testId("TestWithGradle_1_20250828183842")
+                .timestamp(1706430000000L)
+                .activeUsers(85)
+                .tps(1250.5)
+                .avgResponseTime(245.3)
+                .minResponseTime(12.0)
+                .maxResponseTime(1890.0)
+                .successCount(12500L)
+                .errorCount(3L)
+                .errorRate(0.024)
+                .progress(65.5)
+                .build();
+    }
+
+    @Test
+    void roundTripsLiveDataTypes() {
+        TestMetrics metrics = sampleMetrics();
+        assertEquals(metrics, serializer.deserialize(serializer.serialize(metrics)));
+
+        Map<String, Object> status = new HashMap<>();
+        status.put("testId", metrics.getTestId());
+        status.put("status", "RUNNING");
+        status.put("startTime", 1706430000000L);
+        assertEquals(status, serializer.deserialize(serializer.serialize(new LiveDataRedisSerializer.StatusPayload(status))));
+
+        RealtimeMonitoringService.LogEntry logEntry =
+                new RealtimeMonitoringService.LogEntry(1706430000000L, "INFO", "User 1 connected");
+        RealtimeMonitoringService.LogEntry decoded = (RealtimeMonitoringService.LogEntry)
+                serializer.deserialize(serializer.serialize(logEntry));
+        assertEquals(logEntry.getMessage(), decoded.getMessage());
+        assertEquals(logEntry.getTimestamp(), decoded.getTimestamp());
+
+        // 대상이 아닌 값은 JSON 위임
+        assertEquals("test-id", serializer.deserialize(serializer.serialize("test-id")));
+    }
+
+    @Test
+    void readsLegacyDoubleEncodedJson() throws Exception {
+        TestMetrics metrics = sampleMetrics();
+        byte[] legacy = jsonSerializer.serialize(objectMapper.writeValueAsString(metrics));
+
+        Object data = serializer.deserialize(legacy);
+        assertEquals(metrics, LiveDataRedisSerializer.convert(data, TestMetrics.class, objectMapper));
+    }
+
+    @Test
+    void defaultJsonWritesAreReadableByLegacyNodes() throws Exception {
+        LiveDataRedisSerializer jsonWriter = new LiveDataRedisSerializer();
+        TestMetrics metrics = sampleMetrics();
+        byte[] written = jsonWriter.serialize(metrics);
+
+        // 이전 노드의 읽기 방식: JSON 직렬화기로 문자열을 꺼낸 뒤 다시 파싱
+        assertEquals(jsonSerializer.serialize(objectMapper.writeValueAsString(metrics)).length, written.length);
+        Object legacyRead = jsonSerializer.deserialize(written);
+        assertEquals(metrics, objectMapper.readValue((String) legacyRead, TestMetrics.class));
+
+        Map<String, Object> status = Map.of("status", "RUNNING");
+        Object statusRead = jsonSerializer.deserialize(jsonWriter.serialize(new LiveDataRedisSerializer.StatusPayload(status)));
+        assertEquals(status, objectMapper.readValue((String) statusRead, Map.class));
+
+        // 새 노드는 쓰기 형식과 관계없이 읽음
+        assertEquals(metrics, LiveDataRedisSerializer.convert(serializer.deserialize(written), TestMetrics.class, objectMapper));
+    }
+
+    @Test
+    void readsLegacyPlainJsonStatus() throws Exception {
+        // 타입 정보 없이 JSON 객체로 쓴 상태 값도 첫 바이트('{')로 판별하여 Map으로 읽음
+        byte[] legacy = "{\"testId\":\"t-1\",\"status\":\"RUNNING\"}".getBytes(StandardCharsets.UTF_8);
+
+        Map<String, Object> status = LiveDataRedisSerializer.convertStatus(serializer.deserialize(legacy), objectMapper);
+        assertEquals("RUNNING", status.get("status"));
+    }
+
+    @Test
+    void onlyStatusPayloadUsesStatusType() {
+        Map<String, Object> fields = Map.of("status", "RUNNING");
+        assertEquals(LiveDataRedisSerializer.TYPE_STATUS,
+                serializer.serialize(new LiveDataRedisSerializer.StatusPayload(fields))[2]);
+
+        // 일반 Map은 상태로 보지 않고 JSON 위임
+        byte[] plain = serializer.serialize(new HashMap<>(fields));
+        assertNotEquals(LiveDataRedisSerializer.MAGIC, plain[0]);
+        assertEquals(fields, serializer.deserialize(plain));
+    }
+
+    @Test
+    void binaryIsSmallerThanDoubleJson() throws Exception {
+        TestMetrics metrics = sampleMetrics();
+        byte[] binary = serializer.serialize(metrics);
+        byte[] legacy = jsonSerializer.serialize(objectMapper.writeValueAsString(metrics));
+
+        assertTrue(binary.length < legacy.length);
+        assertEquals(metrics, serializer.deserialize(binary));
+    }
+}
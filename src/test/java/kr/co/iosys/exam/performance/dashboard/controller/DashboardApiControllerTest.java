@@ -0,0 +1,34 @@
+package kr.co.iosys.exam.performance.dashboard.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AIDEV-NOTE: 결과 번들 API의 내용 인코딩별 ETag와 Accept-Encoding q 값 해석 검증
+ */
+class DashboardApiControllerTest {
+
+    @Test
+    void gzipBodyHasDistinctEtagAndBothFormsMatch() {
+        assertEquals("abc", DashboardApiController.encodedEtag("abc", false));
+        assertEquals("abc-gz", DashboardApiController.encodedEtag("abc", true));
+
+        assertTrue(DashboardApiController.etagMatches("\"abc\"", "abc"));
+        assertTrue(DashboardApiController.etagMatches("W/\"x\", \"abc-gz\"", "abc"));
+        assertFalse(DashboardApiController.etagMatches("\"abd-gz\"", "abc"));
+    }
+
+    @Test
+    void parsesAcceptEncodingQualityValues() {
+        assertTrue(DashboardApiController.acceptsGzip("gzip, deflate, br"));
+        assertTrue(DashboardApiController.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(DashboardApiController.acceptsGzip("*"));
+
+        assertFalse(DashboardApiController.acceptsGzip(null));
+        assertFalse(DashboardApiController.acceptsGzip("gzip;q=0"));
+        assertFalse(DashboardApiController.acceptsGzip("gzip; q=0.000, *"));
+        assertFalse(DashboardApiController.acceptsGzip("identity, *;q=0"));
+        assertFalse(DashboardApiController.acceptsGzip("deflate"));
+    }
+}
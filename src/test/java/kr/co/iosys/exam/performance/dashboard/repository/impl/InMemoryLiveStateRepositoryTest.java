@@ -0,0 +1,102 @@
+package kr.co.iosys.exam.performance.dashboard.repository.impl;
+
+import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
+import kr.co.iosys.exam.performance.dashboard.repository.LiveStateRepository.TimelineEntry;
+import kr.co.iosys.exam.performance.dashboard.service.RealtimeMonitoringService.LogEntry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AIDEV-NOTE: 프로세스 내 실시간 상태 저장소의 TTL/트리밍 동작 검증 (Redis 구현과 동일해야 함)
+ */
+class InMemoryLiveStateRepositoryTest {
+
+    private final InMemoryLiveStateRepository repository = new InMemoryLiveStateRepository();
+
+    @Test
+    void expiresValuesAfterTtl() throws Exception {
+        TestMetrics metrics = TestMetrics.createWithCurrentTime("test-1");
+        repository.saveCurrentMetrics("test-1", metrics, Duration.ofMillis(20));
+        assertEquals(metrics, repository.findCurrentMetrics("test-1"));
+
+        Thread.sleep(40);
+        assertNull(repository.findCurrentMetrics("test-1"));
+
+        // ttl이 null이면 만료 없음
+        repository.saveCurrentMetrics("test-1", metrics, null);
+        assertNotNull(repository.findCurrentMetrics("test-1"));
+    }
+
+    @Test
+    void returnsCopiesOfStoredValues() {
+        TestMetrics metrics = TestMetrics.createWithCurrentTime("test-1");
+        repository.saveCurrentMetrics("test-1", metrics, null);
+        metrics.setActiveUsers(999);
+        assertNotEquals(999, repository.findCurrentMetrics("test-1").getActiveUsers());
+
+        Map<String, Object> status = new HashMap<>();
+        status.put("status", "RUNNING");
+        repository.saveStatus("test-1", status, Duration.ofHours(1));
+        repository.findStatus("test-1").put("status", "FAILED");
+        assertEquals("RUNNING", repository.findStatus("test-1").get("status"));
+    }
+
+    @Test
+    void trimsTimelineAndLogs() {
+        for (int i = 0; i < 10; i++) {
+            repository.appendTimeline("test-1", Map.of("tps", String.valueOf(i)), 5, Duration.ofHours(1));
+            repository.pushLog("test-1", new LogEntry((long) i, "INFO", "log " + i), 3, Duration.ofHours(1));
+        }
+
+        List<TimelineEntry> timeline = repository.findTimeline("test-1", 0, Long.MAX_VALUE);
+        assertEquals(5, timeline.size());
+        assertEquals("5", timeline.get(0).getFields().get("tps"));
+        assertEquals("9", timeline.get(4).getFields().get("tps"));
+
+        List<LogEntry> logs = repository.findRecentLogs("test-1", 10);
+        assertEquals(3, logs.size());
+        assertEquals("log 9", logs.get(0).getMessage());
+    }
+
+    @Test
+    void expireTimelineFollowsRedisTtlSemantics() throws Exception {
+        // 종료 시 줄인 TTL은 이후 기록이 다시 늘리지 않음
+        repository.appendTimeline("test-1", Map.of("tps", "1"), 5, Duration.ofHours(1));
+        repository.expireTimeline("test-1", Duration.ofMillis(20));
+        repository.appendTimeline("test-1", Map.of("tps", "2"), 5, Duration.ofHours(1));
+        assertEquals(2, repository.findTimeline("test-1", 0, Long.MAX_VALUE).size());
+
+        Thread.sleep(40);
+        assertTrue(repository.findTimeline("test-1", 0, Long.MAX_VALUE).isEmpty());
+
+        // 만료된 시계열은 expireTimeline으로 되살아나지 않음
+        repository.expireTimeline("test-1", Duration.ofHours(1));
+        assertTrue(repository.findTimeline("test-1", 0, Long.MAX_VALUE).isEmpty());
+
+        // 만료 후 새로 기록하면 새 TTL로 다시 생성
+        repository.appendTimeline("test-1", Map.of("tps", "3"), 5, Duration.ofHours(1));
+        List<TimelineEntry> timeline = repository.findTimeline("test-1", 0, Long.MAX_VALUE);
+        assertEquals(1, timeline.size());
+        assertEquals("3", timeline.get(0).getFields().get("tps"));
+    }
+
+    @Test
+    void deletesAllTestData() {
+        repository.addActiveTest("test-1");
+        repository.saveCurrentMetrics("test-1", TestMetrics.createWithCurrentTime("test-1"), null);
+        repository.appendTimeline("test-1", Map.of("tps", "1"), 5, Duration.ofHours(1));
+
+        repository.deleteTestData("test-1");
+
+        assertTrue(repository.findActiveTestIds().isEmpty());
+        assertNull(repository.findCurrentMetrics("test-1"));
+        assertTrue(repository.findTimeline("test-1", 0, Long.MAX_VALUE).isEmpty());
+    }
+}
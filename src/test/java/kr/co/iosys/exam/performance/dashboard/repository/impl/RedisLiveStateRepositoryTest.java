@@ -0,0 +1,59 @@
+package kr.co.iosys.exam.performance.dashboard.repository.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AIDEV-NOTE: 시계열 기록이 틱당 한 번의 Redis 호출(XADD + TTL 스크립트)로 끝나는지 검증
+ */
+class RedisLiveStateRepositoryTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    private final RedisLiveStateRepository repository = new RedisLiveStateRepository(redisTemplate, new ObjectMapper());
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void appendsTimelineWithSingleScriptCall() {
+        GenericJackson2JsonRedisSerializer valueSerializer = new GenericJackson2JsonRedisSerializer();
+        doReturn(new StringRedisSerializer()).when(redisTemplate).getHashKeySerializer();
+        doReturn(valueSerializer).when(redisTemplate).getHashValueSerializer();
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("ts", "1706430000000");
+        fields.put("tps", "1250.5");
+        repository.appendTimeline("test-1", fields, 86400, Duration.ofHours(24));
+
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(any(RedisScript.class), any(RedisSerializer.class), isNull(),
+                eq(List.of("timeline:test-1")), args.capture());
+        verify(redisTemplate, never()).getExpire(anyString());
+        verify(redisTemplate, never()).expire(anyString(), any(Duration.class));
+        verify(redisTemplate, never()).opsForStream();
+
+        Object[] values = args.getValue();
+        assertEquals(6, values.length);
+        assertEquals("86400", new String((byte[]) values[0], StandardCharsets.UTF_8));
+        assertEquals("86400", new String((byte[]) values[1], StandardCharsets.UTF_8));
+        assertEquals("ts", new String((byte[]) values[2], StandardCharsets.UTF_8));
+        // 값은 기존 XADD와 같은 해시 값 직렬화기로 인코딩
+        assertArrayEquals(valueSerializer.serialize("1250.5"), (byte[]) values[5]);
+    }
+}
@@ -0,0 +1,151 @@
+package kr.co.iosys.exam.performance.dashboard.service;
+
+import kr.co.iosys.exam.performance.config.PerformanceTestProperties;
+import kr.co.iosys.exam.performance.dashboard.dto.CapacitySearchResult;
+import kr.co.iosys.exam.performance.dashboard.dto.CapacitySearchResult.Plateau;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AIDEV-NOTE: 용량 탐색 구간 계획(증가 후 이분 탐색), 유지 구간 통계, 구간 SLO 판정, 처리량 꺾임 지점 검증
+ */
+class CapacitySearchServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void growsThenBisectsToResolution() {
+        // 실제 한계 130명: 10 → 20 → 40 → 80 → 160(실패) → 120 → 140(실패) → 130 → 135(실패), 간격 5 이하에서 종료
+        CapacitySearchPlanner planner = new CapacitySearchPlanner(10, 500, 2.0, 5, 20);
+        List<Integer> visited = new ArrayList<>();
+        Integer users;
+        while ((users = planner.nextUsers()) != null) {
+            visited.add(users);
+            planner.record(users, users <= 130);
+        }
+
+        assertEquals(List.of(10, 20, 40, 80, 160, 120, 140, 130, 135), visited);
+        assertEquals(130, planner.sustainableUsers());
+    }
+
+    @Test
+    void stopsAtMaxUsersAndPlateauLimit() {
+        CapacitySearchPlanner unbounded = new CapacitySearchPlanner(50, 150, 2.0, 10, 20);
+        assertEquals(50, unbounded.nextUsers());
+        unbounded.record(50, true);
+        assertEquals(100, unbounded.nextUsers());
+        unbounded.record(100, true);
+        assertEquals(150, unbounded.nextUsers());
+        unbounded.record(150, true);
+        assertNull(unbounded.nextUsers());
+
+        CapacitySearchPlanner limited = new CapacitySearchPlanner(10, 1000, 2.0, 1, 2);
+        limited.record(limited.nextUsers(), false);
+        limited.record(limited.nextUsers(), false);
+        assertNull(limited.nextUsers());
+        assertNull(limited.sustainableUsers());
+    }
+
+    @Test
+    void evaluatesPlateauAgainstSlo() throws Exception {
+        CapacitySearchResult search = CapacitySearchService.newSearch("t-1", 200,
+                Map.of("sloP95Ms", "500", "startUsers", 20), new PerformanceTestProperties.CapacitySearch());
+        assertEquals(20, search.getStartUsers());
+        assertEquals(500.0, search.getSloP95Ms());
+        assertEquals(1.0, search.getSloErrorRate());
+
+        Plateau passed = CapacitySearchService.evaluate(search, 1, 20, stats(1000, 5, 420, 40.0), "dir-1");
+        assertTrue(passed.isPassed());
+        assertEquals(0.5, passed.getErrorRate(), 1e-9);
+        assertEquals(40.0, passed.getTps(), 1e-9);
+
+        Plateau failed = CapacitySearchService.evaluate(search, 2, 40, stats(1000, 30, 650, 60.0), "dir-2");
+        assertFalse(failed.isPassed());
+        assertTrue(failed.getViolation().contains("p95"));
+        assertTrue(failed.getViolation().contains("에러율"));
+
+        Plateau missing = CapacitySearchService.evaluate(search, 3, 30, null, null);
+        assertFalse(missing.isPassed());
+    }
+
+    @Test
+    void findsThroughputKnee() {
+        CapacitySearchResult search = CapacitySearchResult.builder().maxUsers(160).build();
+        search.getPlateaus().add(plateau(1, 10, 20.0, true));
+        search.getPlateaus().add(plateau(2, 20, 40.0, true));
+        search.getPlateaus().add(plateau(3, 40, 78.0, true));
+        search.getPlateaus().add(plateau(4, 80, 90.0, true));
+        search.getPlateaus().add(plateau(5, 160, 92.0, false));
+        search.getPlateaus().add(plateau(6, 120, 91.0, false));
+
+        CapacitySearchService.summarize(search);
+
+        assertEquals(List.of(10, 20, 40, 80, 120, 160), search.getCurve().stream().map(Plateau::getUsers).toList());
+        assertEquals(80, search.getSustainableUsers());
+        assertFalse(search.isLimitReached());
+        assertEquals(40, search.getKneeUsers());
+
+        // 처리량이 사용자 수에 비례하면 꺾임 없음
+        assertNull(CapacitySearchService.findKnee(List.of(
+                plateau(1, 10, 10.0, true), plateau(2, 20, 20.0, true), plateau(3, 30, 30.0, true))));
+    }
+
+    @Test
+    void judgesOnlyTheHoldWindow(@TempDir Path dir) throws Exception {
+        // 증가 10초 동안은 빠르고 성공, 유지 구간(10초 이후 시작)은 느리고 일부 실패
+        StringBuilder log = new StringBuilder("RUN\tExamCenterSimulation\tsim\t1000\t \t3.10.5\n");
+        log.append("USER\t수험자\tSTART\t1000\t\n");
+        for (int i = 0; i < 90; i++) {
+            long start = 1000 + i * 100;
+            log.append("REQUEST\t\t문항 조회\t").append(start).append('\t').append(start + 10).append("\tOK\t \n");
+        }
+        for (int i = 0; i < 10; i++) {
+            long start = 11_000 + i * 100;
+            String status = i < 2 ? "KO" : "OK";
+            log.append("REQUEST\t\t문항 조회\t").append(start).append('\t').append(start + 900).append('\t')
+                    .append(status).append("\t \n");
+        }
+        Path simulationLog = dir.resolve("simulation.log");
+        Files.writeString(simulationLog, log.toString());
+
+        JsonNode stats = CapacitySearchService.holdStats(simulationLog, 10);
+        assertEquals(10, stats.path("numberOfRequests").path("total").asLong());
+        assertEquals(2, stats.path("numberOfRequests").path("ko").asLong());
+        assertEquals(900, stats.path("percentiles3").path("total").asDouble(), 1e-9);
+
+        CapacitySearchResult search = CapacitySearchService.newSearch("t-1", 200,
+                Map.of("sloP95Ms", "500"), new PerformanceTestProperties.CapacitySearch());
+        Plateau plateau = CapacitySearchService.evaluate(search, 1, 20, stats, dir.toString());
+        assertFalse(plateau.isPassed());
+        assertEquals(20.0, plateau.getErrorRate(), 1e-9);
+
+        // 유지 구간 요청이 없거나 로그가 없으면 통계 없음
+        assertNull(CapacitySearchService.holdStats(simulationLog, 60));
+        assertNull(CapacitySearchService.holdStats(dir.resolve("missing.log"), 10));
+    }
+
+    private JsonNode stats(long total, long ko, double p95, double tps) throws Exception {
+        return objectMapper.readTree(String.format(
+                "{\"numberOfRequests\":{\"total\":%d,\"ok\":%d,\"ko\":%d},"
+                        + "\"meanResponseTime\":{\"total\":100},"
+                        + "\"percentiles3\":{\"total\":%s},\"percentiles4\":{\"total\":%s},"
+                        + "\"meanNumberOfRequestsPerSecond\":{\"total\":%s}}",
+                total, total - ko, ko, p95, p95 * 1.5, tps));
+    }
+
+    private static Plateau plateau(int index, int users, double tps, boolean passed) {
+        return Plateau.builder().index(index).users(users).totalRequests(1000).tps(tps).passed(passed).build();
+    }
+}
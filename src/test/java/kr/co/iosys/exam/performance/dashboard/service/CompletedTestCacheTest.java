@@ -0,0 +1,104 @@
+package kr.co.iosys.exam.performance.dashboard.service;
+
+import kr.co.iosys.exam.performance.config.PerformanceTestProperties;
+import kr.co.iosys.exam.performance.dashboard.dto.TestResult;
+import kr.co.iosys.exam.performance.dto.PerformanceTestResponse.TestStatus;
+import kr.co.iosys.exam.performance.dto.TestLifecycleEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AIDEV-NOTE: 완료된 테스트만 캐시하고 생명주기 이벤트로 무효화되는지 검증
+ */
+class CompletedTestCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CompletedTestCache cache = new CompletedTestCache(new PerformanceTestProperties(), meterRegistry);
+
+    @Test
+    void cachesOnlyCompletedResults() {
+        assertNotNull(cache.getResult("running", () -> TestResult.builder().testId("running").status("RUNNING").build()));
+        assertNull(cache.getResult("running"));
+
+        cache.getResult("done", () -> TestResult.builder().testId("done").status("COMPLETED").build());
+        assertNotNull(cache.getResult("done"));
+    }
+
+    @Test
+    void invalidationDuringLoadDoesNotRestoreStaleResult() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread reader = new Thread(() -> cache.getResult("done", () -> {
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return TestResult.builder().testId("done").status("COMPLETED").build();
+        }));
+        reader.start();
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // 조회 중 삭제 - 무효화는 진행 중인 로드를 기다렸다가 적용되어야 함
+        Thread deleter = new Thread(() ->
+                cache.onLifecycleEvent(TestLifecycleEvent.deleted("done", TestStatus.COMPLETED, null, null)));
+        deleter.start();
+        Thread.State state = awaitParkedOrTerminated(deleter);
+        assertNotEquals(Thread.State.TERMINATED, state, "무효화가 로드 완료를 기다리지 않음");
+
+        release.countDown();
+        reader.join(5000);
+        deleter.join(5000);
+
+        assertNull(cache.getResult("done"));
+    }
+
+    /**
+     * 스레드가 잠금 대기에 들어가거나 끝날 때까지 대기
+     */
+    private static Thread.State awaitParkedOrTerminated(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            Thread.State state = thread.getState();
+            if (state == Thread.State.BLOCKED || state == Thread.State.WAITING
+                    || state == Thread.State.TIMED_WAITING || state == Thread.State.TERMINATED) {
+                return state;
+            }
+            Thread.sleep(1);
+        }
+        return thread.getState();
+    }
+
+    @Test
+    void loadsOnceAndInvalidatesOnLifecycleEvents() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            Integer value = cache.get("done", CompletedTestCache.Kind.MAX_USERS, () -> {
+                loads.incrementAndGet();
+                return null;
+            });
+            assertNull(value);
+        }
+        assertEquals(1, loads.get());
+
+        cache.onLifecycleEvent(TestLifecycleEvent.deleted("done", TestStatus.COMPLETED, null, null));
+        cache.get("done", CompletedTestCache.Kind.MAX_USERS, () -> {
+            loads.incrementAndGet();
+            return 100;
+        });
+        assertEquals(2, loads.get());
+
+        assertTrue(meterRegistry.get("cache.gets").tag("cache", "completed-tests").tag("result", "hit")
+                .functionCounter().count() >= 2);
+    }
+}
@@ -0,0 +1,117 @@
+package kr.co.iosys.exam.performance.dashboard.service;
+
+import kr.co.iosys.exam.performance.dashboard.repository.LiveStateRepository;
+import kr.co.iosys.exam.performance.dashboard.repository.TestResultQueryRepository;
+import kr.co.iosys.exam.performance.dto.PerformanceTestResponse.TestStatus;
+import kr.co.iosys.exam.performance.dto.TestLifecycleEvent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AIDEV-NOTE: 생명주기 이벤트에 따른 대시보드 통계 증분 갱신 검증
+ */
+class DashboardStatsServiceTest {
+
+    private final TestResultQueryRepository testResultRepository = mock(TestResultQueryRepository.class);
+    private final LiveStateRepository liveStateRepository = mock(LiveStateRepository.class);
+    private final DashboardStatsService service = new DashboardStatsService(testResultRepository, liveStateRepository);
+
+    @Test
+    void seedsFromDatabaseAndAppliesLifecycleEvents() {
+        when(testResultRepository.findFinishedStatusAggregates()).thenReturn(List.of(
+                new Object[]{"COMPLETED", 3L, 3L, 300.0, 3L, 30.0},
+                new Object[]{"FAILED", 1L, 0L, 0.0, 0L, 0.0}));
+        when(liveStateRepository.findActiveTestIds()).thenReturn(Set.of("running-1"));
+        service.initialize();
+
+        Map<String, Object> stats = service.getStats();
+        assertEquals(1L, stats.get("activeTests"));
+        assertEquals(4L, stats.get("completedTests"));
+        assertEquals(75.0, stats.get("successRate"));
+        assertEquals(100.0, stats.get("avgResponseTime"));
+
+        service.onLifecycleEvent(TestLifecycleEvent.started("t-1"));
+        service.onLifecycleEvent(TestLifecycleEvent.finished("t-1", TestStatus.COMPLETED));
+        service.onLifecycleEvent(TestLifecycleEvent.resultSaved("t-1", 200.0, 20.0));
+
+        stats = service.getStats();
+        assertEquals(1L, stats.get("activeTests"));
+        assertEquals(5L, stats.get("completedTests"));
+        assertEquals(80.0, stats.get("successRate"));
+        assertEquals(125.0, stats.get("avgResponseTime"));
+        assertEquals(12.5, stats.get("avgTps"));
+
+        service.onLifecycleEvent(TestLifecycleEvent.deleted("t-1", TestStatus.COMPLETED, 200.0, 20.0));
+
+        stats = service.getStats();
+        assertEquals(4L, stats.get("completedTests"));
+        assertEquals(100.0, stats.get("avgResponseTime"));
+
+        // 통계 조회는 DB를 다시 읽지 않음
+        verify(testResultRepository, times(1)).findFinishedStatusAggregates();
+    }
+
+    @Test
+    void deletingRunningTestReleasesActiveCount() {
+        when(testResultRepository.findFinishedStatusAggregates()).thenReturn(List.of());
+        when(liveStateRepository.findActiveTestIds()).thenReturn(Set.of());
+        service.initialize();
+
+        service.onLifecycleEvent(TestLifecycleEvent.started("t-1"));
+        assertEquals(1L, service.getStats().get("activeTests"));
+
+        service.onLifecycleEvent(TestLifecycleEvent.deleted("t-1", TestStatus.RUNNING, null, null));
+        Map<String, Object> stats = service.getStats();
+        assertEquals(0L, stats.get("activeTests"));
+        assertEquals(0L, stats.get("totalTests"));
+
+        // 삭제 후 프로세스가 끝나며 오는 종료/결과 이벤트는 반영하지 않음
+        service.onLifecycleEvent(TestLifecycleEvent.started("t-2"));
+        service.onLifecycleEvent(TestLifecycleEvent.finished("t-1", TestStatus.FAILED));
+        service.onLifecycleEvent(TestLifecycleEvent.resultSaved("t-1", 100.0, 10.0));
+        stats = service.getStats();
+        assertEquals(1L, stats.get("activeTests"));
+        assertEquals(0L, stats.get("completedTests"));
+        assertEquals(1L, stats.get("totalTests"));
+        assertEquals(0, service.deletedWhileActiveCount());
+    }
+
+    @Test
+    void cancelledDeletedTestIsForgottenOnFinish() {
+        when(testResultRepository.findFinishedStatusAggregates()).thenReturn(List.of());
+        when(liveStateRepository.findActiveTestIds()).thenReturn(Set.of());
+        service.initialize();
+
+        service.onLifecycleEvent(TestLifecycleEvent.started("t-1"));
+        service.onLifecycleEvent(TestLifecycleEvent.deleted("t-1", TestStatus.RUNNING, null, null));
+        assertEquals(1, service.deletedWhileActiveCount());
+
+        // 취소 종료 뒤에는 결과 저장 이벤트가 오지 않으므로 기록을 바로 제거
+        service.onLifecycleEvent(TestLifecycleEvent.finished("t-1", TestStatus.CANCELLED));
+        assertEquals(0, service.deletedWhileActiveCount());
+        Map<String, Object> stats = service.getStats();
+        assertEquals(0L, stats.get("totalTests"));
+    }
+
+    @Test
+    void retriesInitializationAfterFailure() {
+        when(testResultRepository.findFinishedStatusAggregates())
+                .thenThrow(new RuntimeException("db down"))
+                .thenReturn(List.of());
+        when(liveStateRepository.findActiveTestIds()).thenReturn(Set.of());
+
+        service.initialize();
+        // 초기화 전 이벤트는 무시 (이후 DB 집계에 포함)
+        service.onLifecycleEvent(TestLifecycleEvent.started("t-1"));
+
+        assertEquals(0L, service.getStats().get("totalTests"));
+        verify(testResultRepository, times(2)).findFinishedStatusAggregates();
+    }
+}
@@ -0,0 +1,75 @@
+package kr.co.iosys.exam.performance.dashboard.service;
+
+import kr.co.iosys.exam.performance.config.PerformanceTestProperties;
+import kr.co.iosys.exam.performance.dashboard.dto.PlanTrend.RunPoint;
+import kr.co.iosys.exam.performance.dashboard.dto.PlanTrend.WeeklyPoint;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AIDEV-NOTE: 계획 추이 행 변환(직전 대비 변화율, 이전 실행 분포 대비 표준점수, 이상 실행) 검증
+ */
+class PlanTrendServiceTest {
+
+    private final PerformanceTestProperties.Trend config = new PerformanceTestProperties.Trend();
+
+    @Test
+    void flagsRunFarOutsidePriorDistribution() {
+        LocalDateTime start = LocalDateTime.of(2026, 10, 5, 9, 0);
+        RunPoint point = PlanTrendService.toRunPoint(new Object[]{
+                "t-6", Timestamp.valueOf(start), "TEST", 500,
+                new BigDecimal("260.00"), 400.0, 100.0, 120.0, 0.2, 0.5,
+                210.0, 0.2, 0.4,
+                200.0, 10.0, 0.2, 0.0, 5L,
+                200.0, 0.25}, config);
+
+        assertEquals(start, point.getStartTime());
+        assertEquals(500, point.getMaxUsers());
+        assertEquals(30.0, point.getP95ChangePercent(), 1e-9);
+        assertEquals(-20.0, point.getTpsPerUserChangePercent(), 1e-9);
+        // (260 - 200) / 10 = 6 >= 3, 사용자당 TPS는 이전 편차가 0이라 표준점수 없음
+        assertEquals(6.0, point.getP95ZScore(), 1e-9);
+        assertNull(point.getTpsPerUserZScore());
+        assertTrue(point.isAnomaly());
+    }
+
+    @Test
+    void skipsZScoreWithoutEnoughPriorRuns() {
+        RunPoint first = PlanTrendService.toRunPoint(new Object[]{
+                "t-1", LocalDateTime.of(2026, 10, 1, 9, 0), null, 100,
+                200.0, 300.0, 50.0, 60.0, 0.5, 0.0,
+                200.0, 0.5, 0.0,
+                null, null, null, null, 0L,
+                null, null}, config);
+        assertNull(first.getP95ChangePercent());
+        assertNull(first.getP95ZScore());
+        assertFalse(first.isAnomaly());
+
+        RunPoint third = PlanTrendService.toRunPoint(new Object[]{
+                "t-3", LocalDateTime.of(2026, 10, 3, 9, 0), null, 100,
+                900.0, 1000.0, 50.0, 60.0, 0.5, 0.0,
+                400.0, 0.5, 0.0,
+                200.0, 1.0, 0.5, 0.01, 2L,
+                200.0, 0.5}, config);
+        assertNull(third.getP95ZScore());
+        assertFalse(third.isAnomaly());
+    }
+
+    @Test
+    void weeklyChangeAgainstPreviousWeek() {
+        WeeklyPoint week = PlanTrendService.toWeeklyPoint(new Object[]{
+                Timestamp.valueOf(LocalDateTime.of(2026, 10, 12, 0, 0)), 500, 4L,
+                220.0, 215.0, 0.3, 0.1, 200.0, 0.4});
+
+        assertEquals(4, week.getRuns());
+        assertEquals(10.0, week.getP95ChangePercent(), 1e-9);
+        assertEquals(-25.0, week.getTpsPerUserChangePercent(), 1e-9);
+        assertNull(PlanTrendService.changePercent(0.0, 1.0));
+    }
+}
@@ -0,0 +1,110 @@
+package kr.co.iosys.exam.performance.dashboard.service;
+
+import kr.co.iosys.exam.performance.config.PerformanceTestProperties;
+import kr.co.iosys.exam.performance.dashboard.dto.RegressionThresholds;
+import kr.co.iosys.exam.performance.dashboard.dto.RegressionVerdict.Violation;
+import kr.co.iosys.exam.performance.dashboard.dto.TestComparisonResult;
+import kr.co.iosys.exam.performance.dashboard.dto.TestComparisonResult.EndpointDelta;
+import kr.co.iosys.exam.performance.dashboard.dto.TestComparisonResult.MetricDelta;
+import kr.co.iosys.exam.performance.dashboard.entity.TestRegressionVerdict;
+import kr.co.iosys.exam.performance.dashboard.repository.TestBaselineRepository;
+import kr.co.iosys.exam.performance.dashboard.repository.TestRegressionVerdictRepository;
+import kr.co.iosys.exam.performance.dto.PerformanceTestResponse.TestStatus;
+import kr.co.iosys.exam.performance.dto.TestLifecycleEvent;
+import kr.co.iosys.exam.performance.model.PerformanceTest;
+import kr.co.iosys.exam.performance.repository.PerformanceTestRepository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * AIDEV-NOTE: 기준 대비 회귀 판정 임계값 적용과 생명주기 이벤트별 판정 시점 검증
+ */
+class RegressionGateServiceTest {
+
+    private final PerformanceTestProperties.RegressionGate defaults = new PerformanceTestProperties.RegressionGate();
+
+    @Test
+    void reportsTestAndEndpointViolations() {
+        TestComparisonResult comparison = TestComparisonResult.builder()
+                .latency(List.of(
+                        new MetricDelta("p95ResponseTime", 200.0, 240.0, 40.0, 20.0),
+                        new MetricDelta("p99ResponseTime", 300.0, 330.0, 30.0, 10.0)))
+                .throughput(List.of(
+                        new MetricDelta("peakTps", 100.0, 80.0, -20.0, -20.0),
+                        new MetricDelta("errorRate", 0.5, 1.0, 0.5, 100.0)))
+                .endpoints(List.of(
+                        EndpointDelta.builder().name("login").baseP95(10).compareP95(14).p95DeltaPercent(40.0)
+                                .baseP99(20).compareP99(22).p99DeltaPercent(10.0).build(),
+                        EndpointDelta.builder().name("submit").group("exam").baseP95(100).compareP95(105).p95DeltaPercent(5.0)
+                                .baseP99(100).compareP99(130).p99DeltaPercent(30.0)
+                                .baseErrorRate(0).compareErrorRate(3).build()))
+                .build();
+
+        List<Violation> violations = RegressionGateService.findViolations(comparison,
+                RegressionGateService.merge(null, defaults));
+
+        // 전체 p95(20% > 10%), 최대 TPS(20% 감소 > 10%), submit p99(30% > 15%), submit 에러율(+3%p > 1%p)
+        // login p95는 증가량 4ms가 최소 증가량 5ms 미만이라 허용
+        assertEquals(4, violations.size());
+        assertTrue(violations.stream().anyMatch(v -> v.getScope().equals("TEST") && v.getMetric().equals("p95ResponseTime")));
+        assertTrue(violations.stream().anyMatch(v -> v.getScope().equals("TEST") && v.getMetric().equals("peakTps")));
+        assertTrue(violations.stream().anyMatch(v -> v.getScope().equals("exam / submit") && v.getMetric().equals("p99ResponseTime")));
+        assertTrue(violations.stream().anyMatch(v -> v.getScope().equals("exam / submit") && v.getMetric().equals("errorRate")));
+    }
+
+    @Test
+    void failedRunWithoutResultsIsJudgedOnFinish() {
+        TestBaselineRepository baselineRepository = mock(TestBaselineRepository.class);
+        TestRegressionVerdictRepository verdictRepository = mock(TestRegressionVerdictRepository.class);
+        PerformanceTestRepository performanceTestRepository = mock(PerformanceTestRepository.class);
+        RegressionGateService service = new RegressionGateService(baselineRepository, verdictRepository,
+                performanceTestRepository, mock(TestComparisonService.class), new PerformanceTestProperties(),
+                new ObjectMapper());
+        // DB 상태는 아직 RUNNING (종료 이벤트가 상태 갱신보다 먼저 올 수 있음)
+        when(performanceTestRepository.findById("t-1")).thenReturn(Optional.of(
+                PerformanceTest.builder().testId("t-1").planId(1L).runType("TEST").status("RUNNING").build()));
+        when(baselineRepository.findByPlanIdAndRunType(1L, "TEST")).thenReturn(Optional.empty());
+        when(verdictRepository.save(any(TestRegressionVerdict.class))).thenAnswer(returnsFirstArg());
+
+        // 시뮬레이션 시작 전 실패 - RESULT_SAVED 없이 FINISHED(FAILED)만 발행
+        service.onLifecycleEvent(TestLifecycleEvent.finished("t-1", TestStatus.FAILED));
+
+        verify(verdictRepository).save(argThat(verdict -> "FAILED".equals(verdict.getVerdict())));
+
+        // 결과가 늦게 저장돼도 종료 시 판정을 덮어쓰지 않음
+        when(verdictRepository.existsById("t-1")).thenReturn(true);
+        service.onLifecycleEvent(TestLifecycleEvent.resultSaved("t-1", 100.0, 10.0));
+        verify(verdictRepository, times(1)).save(any(TestRegressionVerdict.class));
+
+        // 정상 완료는 종료 시가 아닌 결과 저장 시 판정
+        service.onLifecycleEvent(TestLifecycleEvent.finished("t-2", TestStatus.COMPLETED));
+        verify(performanceTestRepository, never()).findById("t-2");
+    }
+
+    @Test
+    void baselineThresholdsOverrideDefaults() {
+        RegressionThresholds merged = RegressionGateService.merge(
+                RegressionThresholds.builder().p95IncreasePercent(25.0).perEndpoint(false).build(), defaults);
+
+        assertEquals(25.0, merged.getP95IncreasePercent());
+        assertEquals(defaults.getP99IncreasePercent(), merged.getP99IncreasePercent());
+        assertFalse(merged.getPerEndpoint());
+
+        TestComparisonResult comparison = TestComparisonResult.builder()
+                .latency(List.of(new MetricDelta("p95ResponseTime", 200.0, 240.0, 40.0, 20.0)))
+                .throughput(List.of())
+                .endpoints(List.of(EndpointDelta.builder().name("login").baseErrorRate(0).compareErrorRate(50).build()))
+                .build();
+        assertTrue(RegressionGateService.findViolations(comparison, merged).isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+package kr.co.iosys.exam.performance.dashboard.service;
+
+import kr.co.iosys.exam.performance.dashboard.dto.ResultBundle;
+import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AIDEV-NOTE: 결과 번들 조립 로직(히스토리 축약, 엔드포인트/모집단 통계 추출, 압축) 검증
+ */
+class ResultBundleServiceTest {
+
+    @Test
+    void downsamplesWholeHistoryIntoBuckets() {
+        List<TestMetrics> history = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            history.add(TestMetrics.builder()
+                    .timestamp(i * 1000L)
+                    .activeUsers(i)
+                    .tps(10.0)
+                    .avgResponseTime(100.0)
+                    .p95ResponseTime((double) i)
+                    .successCount(9L)
+                    .errorCount(1L)
+                    .build());
+        }
+
+        List<TestMetrics> sampled = ResultBundleService.downsample(history, 300);
+
+        assertEquals(250, sampled.size());
+        // 최근 구간만 자르지 않고 처음부터 끝까지 포함
+        assertEquals(0L, sampled.get(0).getTimestamp());
+        assertEquals(999, sampled.get(sampled.size() - 1).getActiveUsers());
+        assertEquals(3.0, sampled.get(0).getP95ResponseTime());
+        assertEquals(10.0, sampled.get(0).getTps());
+        assertEquals(36L, sampled.get(0).getSuccessCount());
+        assertEquals(10.0, sampled.get(0).getErrorRate());
+
+        assertEquals(10, ResultBundleService.downsample(history.subList(0, 10), 300).size());
+    }
+
+    @Test
+    void collectsEndpointStatsFromNestedGroups() throws Exception {
+        String json = "{\"type\":\"GROUP\",\"name\":\"All Requests\",\"contents\":{"
+                + "\"req_login\":{\"type\":\"REQUEST\",\"name\":\"login\",\"stats\":{"
+                + "\"numberOfRequests\":{\"total\":10,\"ok\":9,\"ko\":1},"
+                + "\"meanResponseTime\":{\"total\":120},\"percentiles3\":{\"total\":300}}},"
+                + "\"group_exam\":{\"type\":\"GROUP\",\"name\":\"exam\",\"contents\":{"
+                + "\"req_submit\":{\"type\":\"REQUEST\",\"name\":\"submit\",\"stats\":{"
+                + "\"numberOfRequests\":{\"total\":5,\"ok\":5,\"ko\":0}}}}}}}";
+
+        List<ResultBundle.EndpointStats> endpoints = new ArrayList<>();
+        ResultBundleService.collectEndpointStats(new ObjectMapper().readTree(json), null, endpoints);
+
+        assertEquals(2, endpoints.size());
+        assertEquals("login", endpoints.get(0).getName());
+        assertNull(endpoints.get(0).getGroup());
+        assertEquals(1, endpoints.get(0).getFailedRequests());
+        assertEquals(300.0, endpoints.get(0).getP95ResponseTime());
+        assertEquals("exam", endpoints.get(1).getGroup());
+        assertEquals(5, endpoints.get(1).getTotalRequests());
+
+        List<ResultBundle.PopulationStats> populations =
+                ResultBundleService.summarizePopulations(new ObjectMapper().readTree(json), endpoints);
+        assertEquals(1, populations.size());
+        assertEquals("exam", populations.get(0).getName());
+        assertEquals(5, populations.get(0).getTotalRequests());
+        assertEquals(0.0, populations.get(0).getErrorRate());
+
+        byte[] raw = json.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = ResultBundleService.gzip(raw);
+        assertArrayEquals(raw, ResultBundleService.gunzip(compressed));
+    }
+}
@@ -0,0 +1,109 @@
+package kr.co.iosys.exam.performance.dashboard.service;
+
+import kr.co.iosys.exam.performance.config.PerformanceTestProperties;
+import kr.co.iosys.exam.performance.dashboard.dto.ResultBundle;
+import kr.co.iosys.exam.performance.dashboard.dto.TestComparisonResult;
+import kr.co.iosys.exam.performance.dashboard.dto.TestMetrics;
+import kr.co.iosys.exam.performance.dashboard.dto.TestResult;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AIDEV-NOTE: 결과 번들 기반 실행 비교(백분위 변화, 엔드포인트 회귀, Mann-Whitney U) 검증
+ */
+class TestComparisonServiceTest {
+
+    private final PerformanceTestProperties.Comparison config = new PerformanceTestProperties.Comparison();
+
+    @Test
+    void detectsSlowerRunAndEndpointRegression() {
+        ResultBundle base = bundle("base", 100.0, 200.0, 100,
+                endpoint("login", 200, 0), endpoint("submit", 300, 0));
+        ResultBundle compare = bundle("compare", 150.0, 260.0, 100,
+                endpoint("login", 204, 0), endpoint("submit", 400, 5), endpoint("new", 50, 0));
+
+        TestComparisonResult result = TestComparisonService.compute(base, compare, config);
+
+        TestComparisonResult.MetricDelta p95 = result.getLatency().stream()
+                .filter(d -> d.getMetric().equals("p95ResponseTime")).findFirst().orElseThrow();
+        assertEquals(60.0, p95.getDelta());
+        assertEquals(30.0, p95.getDeltaPercent());
+
+        // 양쪽에 모두 있는 엔드포인트만 비교, login은 증가폭이 작아 회귀 아님
+        assertEquals(2, result.getEndpoints().size());
+        assertFalse(result.getEndpoints().get(0).isRegression());
+        assertTrue(result.getEndpoints().get(1).isRegression());
+        assertEquals(1, result.getRegressedEndpoints());
+
+        assertTrue(result.getResponseTimeSignificance().isSignificant());
+        assertEquals("HIGHER", result.getResponseTimeSignificance().getDirection());
+        assertFalse(result.getTpsSignificance().isSignificant());
+    }
+
+    @Test
+    void mannWhitneyHandlesTiesAndSmallSamples() {
+        TestComparisonResult.Significance identical = TestComparisonService.mannWhitney("x",
+                new double[]{1, 1, 1, 1}, new double[]{1, 1, 1, 1}, 0.05);
+        assertEquals(1.0, identical.getPValue());
+        assertFalse(identical.isSignificant());
+
+        TestComparisonResult.Significance tooSmall = TestComparisonService.mannWhitney("x",
+                new double[]{1}, new double[]{2, 3}, 0.05);
+        assertNull(tooSmall.getPValue());
+
+        // 완전히 분리된 두 표본 (n=10, 10): 정확 검정 p ≈ 0.00018, 정규 근사도 0.001 미만
+        double[] low = new double[10];
+        double[] high = new double[10];
+        for (int i = 0; i < 10; i++) {
+            low[i] = i;
+            high[i] = 100 + i;
+        }
+        TestComparisonResult.Significance separated = TestComparisonService.mannWhitney("x", low, high, 0.05);
+        assertEquals(100.0, separated.getU());
+        assertTrue(separated.getPValue() < 0.001);
+        assertEquals("HIGHER", separated.getDirection());
+
+        assertEquals(0.975, TestComparisonService.normalCdf(1.959964), 1e-4);
+    }
+
+    private static ResultBundle bundle(String testId, double responseTime, double p95, int seconds,
+                                       ResultBundle.EndpointStats... endpoints) {
+        List<TestMetrics> history = new ArrayList<>();
+        for (int i = 0; i < seconds; i++) {
+            history.add(TestMetrics.builder()
+                    .timestamp(i * 1000L)
+                    .avgResponseTime(responseTime + (i % 10))
+                    .tps(50.0 + (i % 5))
+                    .build());
+        }
+        return ResultBundle.builder()
+                .testId(testId)
+                .summary(TestResult.builder()
+                        .testId(testId)
+                        .status("COMPLETED")
+                        .avgResponseTime(responseTime)
+                        .p95ResponseTime(p95)
+                        .totalRequests(5000L)
+                        .failedRequests(0L)
+                        .avgTps(50.0)
+                        .build())
+                .history(history)
+                .endpoints(List.of(endpoints))
+                .build();
+    }
+
+    private static ResultBundle.EndpointStats endpoint(String name, double p95, long failed) {
+        return ResultBundle.EndpointStats.builder()
+                .name(name)
+                .totalRequests(100)
+                .successfulRequests(100 - failed)
+                .failedRequests(failed)
+                .p95ResponseTime(p95)
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package kr.co.iosys.exam.performance.dto;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AIDEV-NOTE: 명단 압축 저장, 스냅샷 왕복(그룹 ID 포함), 발생기 분할, 내용 버전 검증
+ */
+class CompactRosterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void snapshotRoundTripKeepsRowsAndNames() throws IOException {
+        CompactRoster roster = roster(1000);
+        Path file = tempDir.resolve("roster.bin");
+        roster.writeSnapshot(file, 7L, "TEST", "EXAMINEE");
+
+        CompactRoster read = CompactRoster.readSnapshot(file, 7L, "TEST", "EXAMINEE");
+        assertEquals(1000, read.size());
+        assertEquals("u0999", read.userId(999));
+        assertEquals("수험자3", read.userName(3));
+        assertNull(read.userName(5));
+        assertEquals("key-999", read.accessKey(999));
+        assertEquals(102L, read.groupId(998));
+        assertNull(read.groupId(7));
+        assertEquals(102L, read.record(998).get("groupId"));
+        assertEquals(roster.contentVersion(), read.contentVersion());
+
+        assertThrows(IOException.class, () -> CompactRoster.readSnapshot(file, 7L, "PRACTICE", "EXAMINEE"));
+    }
+
+    @Test
+    void stripesWithoutOverlap() {
+        CompactRoster roster = roster(10);
+        CompactRoster first = roster.stripe(0, 3, 0);
+        CompactRoster second = roster.stripe(1, 3, 0);
+        CompactRoster third = roster.stripe(2, 3, 2);
+
+        assertEquals(4, first.size());
+        assertEquals("u0003", first.userId(1));
+        assertEquals(3, second.size());
+        assertEquals("u0001", second.userId(0));
+        assertEquals(2, third.size());
+        assertEquals("u0005", third.userId(1));
+        assertEquals(102L, third.groupId(0));
+        assertSame(roster, roster.stripe(0, 1, 0));
+    }
+
+    @Test
+    void contentVersionChangesWithContent() {
+        CompactRoster changed = new CompactRoster();
+        changed.add("u0000", "수험자0", "other-key");
+        CompactRoster original = new CompactRoster();
+        original.add("u0000", null, "key-0");
+
+        assertEquals(roster(1).contentVersion(), original.compact().contentVersion());
+        assertNotEquals(original.contentVersion(), changed.compact().contentVersion());
+    }
+
+    private static CompactRoster roster(int size) {
+        CompactRoster roster = new CompactRoster();
+        for (int i = 0; i < size; i++) {
+            roster.add(String.format("u%04d", i), i % 5 == 0 ? null : "수험자" + (i % 4), "key-" + i,
+                    i % 7 == 0 ? null : 100L + i % 3);
+        }
+        return roster.compact();
+    }
+}
@@ -0,0 +1,74 @@
+package kr.co.iosys.exam.performance.dto;
+
+import kr.co.iosys.exam.performance.dto.ScenarioDefinition.Http;
+import kr.co.iosys.exam.performance.dto.ScenarioDefinition.Pause;
+import kr.co.iosys.exam.performance.dto.ScenarioDefinition.Repeat;
+import kr.co.iosys.exam.performance.dto.ScenarioDefinition.Send;
+import kr.co.iosys.exam.performance.dto.ScenarioDefinition.Status;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AIDEV-NOTE: 데이터 정의 시나리오 해석(단계 유형, 기본값, 내용 버전)과 잘못된 정의 검증
+ */
+class ScenarioDefinitionTest {
+
+    private static final String DEFINITION = """
+            {"steps": [
+              {"type": "status", "stageKey": "SYSTEM_CHECK", "stat": "1"},
+              {"type": "repeat", "times": 3, "counter": "q", "steps": [
+                {"type": "http", "name": "문항 조회", "path": "/api/exam/questions/#{q}",
+                 "check": {"jsonPath": "$.body.id", "saveAs": "questionId"}},
+                {"type": "send", "name": "답안 저장", "payload": "{\\"q\\":\\"#{questionId}\\"}", "check": {"substring": "ACK"}},
+                {"type": "pause", "min": 10, "max": 30}]},
+              {"type": "during", "seconds": 60, "steps": [{"type": "pause", "seconds": 5}]},
+              {"type": "status", "stageKey": "TEST_0", "stat": "2"}]}
+            """;
+
+    @Test
+    void parsesStepsWithDefaults() {
+        ScenarioDefinition definition = ScenarioDefinition.parse("answer-flow", DEFINITION);
+        assertEquals(4, definition.getSteps().size());
+        assertFalse(((Status) definition.getSteps().get(0)).complete());
+        assertTrue(((Status) definition.getSteps().get(3)).complete());
+
+        Repeat repeat = (Repeat) definition.getSteps().get(1);
+        assertEquals("q", repeat.counter());
+        Http http = (Http) repeat.steps().get(0);
+        assertEquals("GET", http.method());
+        assertEquals(200, http.status());
+        assertEquals("questionId", http.check().saveAs());
+        assertEquals(5.0, ((Send) repeat.steps().get(1)).timeoutSeconds());
+        assertEquals(new Pause(10, 30), repeat.steps().get(2));
+
+        // 반복 3회 × 평균 20초 + during 60초
+        assertEquals(120, definition.nominalSeconds());
+    }
+
+    @Test
+    void versionFollowsContentNotFormatting() {
+        String version = ScenarioDefinition.parse("a", "{\"steps\":[{\"type\":\"pause\",\"seconds\":1}]}").getVersion();
+        assertEquals(version, ScenarioDefinition.parse("b", "{ \"steps\": [ {\"seconds\": 1, \"type\": \"pause\"} ] }").getVersion());
+        assertNotEquals(version, ScenarioDefinition.parse("a", "{\"steps\":[{\"type\":\"pause\",\"seconds\":2}]}").getVersion());
+    }
+
+    @Test
+    void rejectsInvalidDefinitions() {
+        assertThrows(IllegalArgumentException.class, () -> ScenarioDefinition.parse("x", null));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioDefinition.parse("x", "{\"steps\": ["));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioDefinition.parse("x", "{\"steps\": []}"));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioDefinition.parse("x",
+                "{\"steps\": [{\"type\": \"sleep\", \"seconds\": 1}]}"));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioDefinition.parse("x",
+                "{\"steps\": [{\"type\": \"pause\", \"min\": 5, \"max\": 1}]}"));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioDefinition.parse("x",
+                "{\"steps\": [{\"type\": \"http\", \"name\": \"a\", \"method\": \"TRACE\", \"path\": \"/\"}]}"));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioDefinition.parse("x",
+                "{\"steps\": [{\"type\": \"repeat\", \"times\": 0, \"steps\": [{\"type\": \"pause\", \"seconds\": 1}]}]}"));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioDefinition.parse("x",
+                "{\"steps\": [{\"type\": \"send\", \"name\": \"a\", \"payload\": \"p\", \"check\": {\"substring\": \"A\", \"saveAs\": \"b\"}}]}"));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioDefinition.parse("x",
+                "{\"steps\": [{\"type\": \"status\", \"stageKey\": \"TEST_0\", \"stat\": \"1\", \"extra\": true}]}"));
+    }
+}
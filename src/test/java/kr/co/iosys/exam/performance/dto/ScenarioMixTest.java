@@ -0,0 +1,55 @@
+package kr.co.iosys.exam.performance.dto;
+
+import kr.co.iosys.exam.performance.dto.ScenarioMix.Population;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AIDEV-NOTE: 시나리오 구성 해석(기존 시나리오 이름 호환, mix 명세 검증)과 가중치 배분 검증
+ */
+class ScenarioMixTest {
+
+    @Test
+    void namedScenariosKeepPreviousPopulations() {
+        ScenarioMix normal = ScenarioMix.parse(null, null);
+        assertFalse(normal.isMixed());
+        assertEquals(Map.of(Population.EXAMINEE, 10), normal.allocate(10));
+
+        ScenarioMix fanout = ScenarioMix.parse("PROCTOR_FANOUT", "EXAMINEE:1");
+        assertTrue(fanout.contains(Population.PROCTOR));
+        Map<Population, Integer> users = fanout.allocate(10);
+        assertEquals(10, users.get(Population.EXAMINEE));
+        assertEquals(-1, users.get(Population.PROCTOR));
+
+        assertEquals(Map.of(Population.SOAK_EXAMINEE, 10), ScenarioMix.parse("exam_soak", null).allocate(10));
+        assertEquals(Map.of(Population.STORM_EXAMINEE, 10), ScenarioMix.parse("RECONNECT_STORM", null).allocate(10));
+        assertEquals(Map.of(Population.DEFINED, 10), ScenarioMix.parse("defined", null).allocate(10));
+        assertEquals(4, ScenarioMix.parse("MIX", null).getShares().size());
+    }
+
+    @Test
+    void allocatesByLargestRemainder() {
+        ScenarioMix mix = ScenarioMix.parse("MIX", "EXAMINEE:80,LATE_JOINER:10:SPIKE,PROCTOR:5,ADMIN:5");
+        Map<Population, Integer> users = mix.allocate(101);
+        assertEquals(101, users.values().stream().mapToInt(Integer::intValue).sum());
+        assertEquals(81, users.get(Population.EXAMINEE));
+        assertEquals(10, users.get(Population.LATE_JOINER));
+        assertEquals("SPIKE", mix.getShares().get(1).profile());
+    }
+
+    @Test
+    void rejectsInvalidSpecs() {
+        assertThrows(IllegalArgumentException.class, () -> ScenarioMix.parse("MIX", "EXAMINEE"));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioMix.parse("MIX", "STUDENT:10"));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioMix.parse("MIX", "EXAMINEE:0"));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioMix.parse("MIX", "PROCTOR:5,ADMIN:5"));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioMix.parse("MIX", "EXAMINEE:9,PROCTOR:1:SPIKE"));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioMix.parse("MIX", "EXAMINEE:9:CAPACITY_SEARCH"));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioMix.parse("MIX", "EXAMINEE:9,HERD_EXAMINEE:1:SPIKE"));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioMix.parse("MIX", "EXAMINEE:9,STORM_EXAMINEE:1:SPIKE"));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioMix.parse("EXAMINEE:5,EXAMINEE:5", null));
+    }
+}
@@ -0,0 +1,55 @@
+package kr.co.iosys.exam.performance.service;
+
+import kr.co.iosys.exam.performance.config.PerformanceTestProperties;
+import kr.co.iosys.exam.performance.model.TestScenario;
+import kr.co.iosys.exam.performance.repository.TestScenarioRepository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AIDEV-NOTE: 정의 시나리오 스냅샷 파일이 시나리오(id)별로 분리되고, 같은 시나리오의 이전 버전만 정리되는지 검증
+ */
+class ScenarioDefinitionServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private final TestScenarioRepository repository = mock(TestScenarioRepository.class);
+
+    @Test
+    void koreanNamesDoNotShareSnapshots() {
+        PerformanceTestProperties properties = new PerformanceTestProperties();
+        properties.getScenarios().setSnapshotDirectory(directory.toString());
+        ScenarioDefinitionService service = new ScenarioDefinitionService(repository, properties);
+
+        stub(1L, "중간고사", "{\"steps\":[{\"type\":\"pause\",\"seconds\":1}]}");
+        stub(2L, "기말고사", "{\"steps\":[{\"type\":\"pause\",\"seconds\":2}]}");
+        Path midterm = service.findSnapshot("중간고사");
+        Path finalExam = service.findSnapshot("기말고사");
+
+        assertNotEquals(midterm, finalExam);
+        assertTrue(Files.exists(midterm));
+        assertTrue(Files.exists(finalExam));
+
+        // 정의가 바뀌면 같은 시나리오의 이전 버전만 삭제
+        stub(1L, "중간고사", "{\"steps\":[{\"type\":\"pause\",\"seconds\":3}]}");
+        Path updated = service.findSnapshot("중간고사");
+        assertNotEquals(midterm, updated);
+        assertFalse(Files.exists(midterm));
+        assertTrue(Files.exists(updated));
+        assertTrue(Files.exists(finalExam));
+    }
+
+    private void stub(Long id, String name, String configJson) {
+        when(repository.findByScenarioNameAndIsActiveTrue(name)).thenReturn(Optional.of(
+                TestScenario.builder().id(id).scenarioName(name).configJson(configJson).isActive(true).build()));
+    }
+}